@@ -0,0 +1,202 @@
+package org.dromara.pdf.fop.support.barcode;
+
+import lombok.SneakyThrows;
+import org.dromara.pdf.pdfbox.support.LruCache;
+
+import java.awt.image.BufferedImage;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+
+/**
+ * 条形码图像缓存（进程级）
+ * <p>注：线程安全且容量有限，按最近最少使用淘汰；同一键并发未命中时只创建一次图像，其他线程等待结果，不同键互不阻塞</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-fop is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class BarcodeImageCache {
+
+    /**
+     * 默认最大容量
+     */
+    public static final int DEFAULT_MAX_SIZE = 512;
+    /**
+     * 全局缓存
+     */
+    private static volatile BarcodeImageCache globalCache;
+
+    /**
+     * 缓存（值为创建任务，完成前即写入，用于合并并发创建）
+     */
+    private final LruCache<String, FutureTask<BufferedImage>> cache;
+
+    /**
+     * 无参构造
+     */
+    public BarcodeImageCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * 有参构造
+     *
+     * @param maxSize 最大容量（0为不缓存）
+     */
+    public BarcodeImageCache(int maxSize) {
+        this.cache = new LruCache<>(maxSize);
+    }
+
+    /**
+     * 获取全局缓存
+     *
+     * @return 返回全局缓存
+     */
+    public static BarcodeImageCache getGlobalCache() {
+        if (Objects.isNull(globalCache)) {
+            synchronized (BarcodeImageCache.class) {
+                if (Objects.isNull(globalCache)) {
+                    globalCache = new BarcodeImageCache();
+                }
+            }
+        }
+        return globalCache;
+    }
+
+    /**
+     * 设置全局缓存
+     * <p>注：可替换为不同容量的缓存，容量为0时关闭全局缓存</p>
+     *
+     * @param cache 缓存
+     */
+    public static void setGlobalCache(BarcodeImageCache cache) {
+        Objects.requireNonNull(cache, "the cache can not be null");
+        synchronized (BarcodeImageCache.class) {
+            globalCache = cache;
+        }
+    }
+
+    /**
+     * 获取图像
+     * <p>注：未命中时在当前线程创建图像，同一键的其他线程等待该结果；创建失败时移除该键，异常抛给所有等待线程</p>
+     *
+     * @param key     缓存键
+     * @param creator 图像创建函数
+     * @return 返回图像
+     */
+    @SneakyThrows
+    public BufferedImage getImage(String key, Supplier<BufferedImage> creator) {
+        Objects.requireNonNull(key, "the key can not be null");
+        Objects.requireNonNull(creator, "the creator can not be null");
+        // 获取或登记创建任务（容量为0时返回新任务）
+        FutureTask<BufferedImage> task = this.cache.computeIfAbsent(key, k -> new FutureTask<>(creator::get));
+        // 执行任务（已执行或执行中的任务直接返回）
+        task.run();
+        try {
+            // 等待结果
+            return task.get();
+        } catch (ExecutionException e) {
+            // 移除失败的任务，允许重试
+            this.cache.remove(key, task);
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 清理缓存
+     */
+    public void clear() {
+        this.cache.clear();
+    }
+
+    /**
+     * 获取缓存数量
+     *
+     * @return 返回缓存数量
+     */
+    public int size() {
+        return this.cache.size();
+    }
+
+    /**
+     * 获取最大容量
+     *
+     * @return 返回最大容量
+     */
+    public int getMaxSize() {
+        return this.cache.getMaxSize();
+    }
+
+    /**
+     * 获取命中次数
+     *
+     * @return 返回命中次数
+     */
+    public long getHitCount() {
+        return this.cache.getHitCount();
+    }
+
+    /**
+     * 获取未命中次数
+     *
+     * @return 返回未命中次数
+     */
+    public long getMissCount() {
+        return this.cache.getMissCount();
+    }
+
+    /**
+     * 获取淘汰次数
+     *
+     * @return 返回淘汰次数
+     */
+    public long getEvictionCount() {
+        return this.cache.getEvictionCount();
+    }
+
+    /**
+     * 获取命中率
+     *
+     * @return 返回命中率（0~1）
+     */
+    public double getHitRate() {
+        return this.cache.getHitRate();
+    }
+
+    /**
+     * 重置统计
+     */
+    public void resetStats() {
+        this.cache.resetStats();
+    }
+
+    /**
+     * 字符串
+     *
+     * @return 返回字符串
+     */
+    @Override
+    public String toString() {
+        return "BarcodeImageCache{" +
+                "size=" + this.size() +
+                ", maxSize=" + this.getMaxSize() +
+                ", hitCount=" + this.getHitCount() +
+                ", missCount=" + this.getMissCount() +
+                ", evictionCount=" + this.getEvictionCount() +
+                ", hitRate=" + this.getHitRate() +
+                '}';
+    }
+}
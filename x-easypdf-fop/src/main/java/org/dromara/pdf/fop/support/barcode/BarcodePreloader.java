@@ -15,10 +15,8 @@ import javax.xml.transform.Source;
 import javax.xml.transform.dom.DOMSource;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * 条形码预加载器
@@ -41,22 +39,14 @@ import java.util.concurrent.locks.ReentrantLock;
 public class BarcodePreloader extends AbstractImagePreloader {
 
     /**
-     * 图像缓存
+     * md5（MessageDigest非线程安全，每个线程独立持有）
      */
-    private static final Map<String, BufferedImage> CACHE = new HashMap<>(10);
-    /**
-     * 缓存锁
-     */
-    private static final ReentrantLock LOCK = new ReentrantLock();
-    /**
-     * md5
-     */
-    private static final MessageDigest MD5 = initMD5();
+    private static final ThreadLocal<MessageDigest> MD5 = ThreadLocal.withInitial(BarcodePreloader::initMD5);
 
     /**
      * 初始化
      *
-     * @return
+     * @return 返回md5
      */
     @SneakyThrows
     private static MessageDigest initMD5() {
@@ -85,12 +75,14 @@ public class BarcodePreloader extends AbstractImagePreloader {
             if (barcode != null && BarcodeImageHandler.IMAGE_TYPE.equals(barcode.getLocalName())) {
                 // 初始化条形码配置
                 BarCodeConfig config = BarCodeConfig.init(barcode.getAttributes());
+                // 获取配置字符串
+                String key = config.toString();
                 // 生成条形码uri
-                String uri = new String(MD5.digest(config.toString().getBytes())).intern();
+                String uri = this.createUri(key);
                 // 创建图像信息
                 ImageInfo imageInfo = new ImageInfo(uri, BarcodeImageHandler.MIME_TYPE);
                 // 添加条形码图像
-                imageInfo.getCustomObjects().put(BarcodeImageHandler.IMAGE_TYPE, this.getImage(uri, config));
+                imageInfo.getCustomObjects().put(BarcodeImageHandler.IMAGE_TYPE, this.getImage(key, config));
                 // 返回图像信息
                 return imageInfo;
             }
@@ -99,39 +91,37 @@ public class BarcodePreloader extends AbstractImagePreloader {
         return null;
     }
 
+    /**
+     * 生成条形码uri
+     *
+     * @param key 配置字符串
+     * @return 返回条形码uri（md5十六进制字符串）
+     */
+    private String createUri(String key) {
+        // 计算摘要
+        byte[] digest = MD5.get().digest(key.getBytes(StandardCharsets.UTF_8));
+        // 定义构建器
+        StringBuilder builder = new StringBuilder(digest.length * 2);
+        // 转为十六进制
+        for (byte b : digest) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        // 返回uri
+        return builder.toString();
+    }
+
     /**
      * 获取图像
      *
-     * @param uri    图像路径
+     * @param key    配置字符串（缓存键）
      * @param config 条形码配置
      * @return 返回图像
      */
-    private BufferedImage getImage(String uri, BarCodeConfig config) {
+    private BufferedImage getImage(String key, BarCodeConfig config) {
         // 是否缓存
         if (config.getIsCache()) {
-            // 获取图像
-            BufferedImage barcodeImage = CACHE.get(uri);
-            // 如果图像为空，则创建图像
-            if (barcodeImage == null) {
-                try {
-                    // 加锁
-                    LOCK.lock();
-                    // 再次获取图像
-                    barcodeImage = CACHE.get(uri);
-                    // 如果图像为空，则创建图像
-                    if (barcodeImage == null) {
-                        // 创建图像
-                        barcodeImage = this.createBarCodeImage(config);
-                        // 添加缓存
-                        CACHE.put(uri, barcodeImage);
-                    }
-                } finally {
-                    // 解锁
-                    LOCK.unlock();
-                }
-            }
-            // 返回图像
-            return barcodeImage;
+            // 从全局缓存获取图像（同一配置并发时只创建一次）
+            return BarcodeImageCache.getGlobalCache().getImage(key, () -> this.createBarCodeImage(config));
         }
         // 返回图像
         return this.createBarCodeImage(config);
@@ -5,6 +5,7 @@ import org.dromara.pdf.fop.core.doc.Document;
 import org.dromara.pdf.fop.core.doc.component.barcode.Barcode;
 import org.dromara.pdf.fop.core.doc.page.Page;
 import org.dromara.pdf.fop.handler.TemplateHandler;
+import org.dromara.pdf.fop.support.barcode.BarcodeImageCache;
 import org.junit.Test;
 
 import java.util.ArrayList;
@@ -88,6 +89,36 @@ public class BarcodeTest extends BaseTest {
         });
     }
 
+    @Test
+    public void barcodeForXMLTest4() {
+        this.test(() -> {
+            // 定义xsl-fo模板路径（条形码开启缓存）
+            String templatePath = "src/test/resources/org/dromara/pdf/fop/barcode/barcode2.fo";
+            // 定义pdf输出路径
+            String outputPath = "E:\\PDF\\fop\\barcode\\";
+            // 定义任务列表
+            List<CompletableFuture<Void>> tasks = new ArrayList<>(20);
+            // 循环添加任务
+            for (int i = 0; i < 10; i++) {
+                // 定义索引
+                int index = i;
+                // 添加任务
+                tasks.add(
+                        CompletableFuture.runAsync(
+                                // 构建pdf模板
+                                () -> TemplateHandler.Template.build()
+                                        .setDataSource(TemplateHandler.DataSource.Thymeleaf.build().setTemplatePath(templatePath))
+                                        .transform(outputPath + "barcodeCache" + index + ".pdf")
+                        )
+                );
+            }
+            // 执行任务
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+            // 打印缓存统计
+            log.info(BarcodeImageCache.getGlobalCache());
+        });
+    }
+
     @Test
     public void barcodeForDocumentTest() {
         this.test(() -> {
@@ -1,15 +1,21 @@
 package org.dromara.pdf.pdfbox.core.base;
 
 import lombok.Data;
+import lombok.SneakyThrows;
 import org.dromara.pdf.pdfbox.core.component.BorderInfo;
 import org.dromara.pdf.pdfbox.core.enums.ComponentType;
+import org.dromara.pdf.pdfbox.core.enums.ContentMode;
 import org.dromara.pdf.pdfbox.core.ext.handler.AbstractTextHandler;
 import org.dromara.pdf.pdfbox.core.ext.handler.TextHandler;
 import org.dromara.pdf.pdfbox.core.info.CatalogInfo;
 import org.dromara.pdf.pdfbox.handler.PdfHandler;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDDocument;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPage;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPageContentStream;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.font.PDFont;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.font.PDFontDescriptor;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.font.PDType0Font;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.graphics.form.PDFormXObject;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
 
 import java.util.*;
@@ -115,6 +121,14 @@ public class Context {
      * 图像缓存
      */
     protected Map<String, PDImageXObject> imageCache;
+    /**
+     * 表单缓存（svg矢量图像）
+     */
+    protected Map<String, PDFormXObject> formCache;
+    /**
+     * 页面内容写入器
+     */
+    protected PageContentWriter contentWriter;
 
     /**
      * 有参构造
@@ -133,6 +147,8 @@ public class Context {
         this.customInfo = new HashMap<>(16);
         this.fontMap = new HashMap<>(16);
         this.imageCache = new HashMap<>(64);
+        this.formCache = new HashMap<>(16);
+        this.contentWriter = new PageContentWriter();
     }
 
     /**
@@ -172,6 +188,56 @@ public class Context {
         return this.addFontCache(fontName);
     }
 
+    /**
+     * 获取内容流（当前页面）
+     * <p>注：使用完毕后需调用{@link #closeContentStream(PDPageContentStream)}</p>
+     *
+     * @param mode                 内容模式
+     * @param isResetContentStream 是否重置内容流
+     * @return 返回内容流
+     */
+    public PDPageContentStream getContentStream(ContentMode mode, boolean isResetContentStream) {
+        return this.getContentStream(this.getTargetPage(), mode, isResetContentStream);
+    }
+
+    /**
+     * 获取内容流
+     * <p>注：使用完毕后需调用{@link #closeContentStream(PDPageContentStream)}</p>
+     *
+     * @param page                 pdfbox页面
+     * @param mode                 内容模式
+     * @param isResetContentStream 是否重置内容流
+     * @return 返回内容流
+     */
+    public PDPageContentStream getContentStream(PDPage page, ContentMode mode, boolean isResetContentStream) {
+        return this.contentWriter.open(this.getTargetDocument(), page, mode, isResetContentStream);
+    }
+
+    /**
+     * 关闭内容流
+     *
+     * @param stream 内容流
+     */
+    public void closeContentStream(PDPageContentStream stream) {
+        this.contentWriter.close(stream);
+    }
+
+    /**
+     * 刷新内容流
+     */
+    public void flushContentStreams() {
+        this.contentWriter.flush();
+    }
+
+    /**
+     * 刷新页面内容流
+     *
+     * @param page pdfbox页面
+     */
+    public void flushContentStream(PDPage page) {
+        this.contentWriter.flush(page);
+    }
+
     /**
      * 是否相同组件
      *
@@ -267,6 +333,49 @@ public class Context {
         }
     }
 
+    /**
+     * 字体子集化
+     * <p>注：对已加载的待子集化字体执行子集化（与保存时一致），用于不经{@link PDDocument#save(java.io.OutputStream)}写入文档的场景</p>
+     */
+    @SneakyThrows
+    public void subsetFonts() {
+        for (PDFont font : this.fontMap.values()) {
+            if (font.willBeSubset()) {
+                font.subset();
+            }
+        }
+    }
+
+    /**
+     * 是否有待子集化字体
+     * <p>注：待子集化字体在子集化（保存）前未嵌入字体文件，此时文档仍处于编辑状态</p>
+     *
+     * @return 返回布尔值，true为是，false为否
+     */
+    public boolean hasPendingSubsetFonts() {
+        return !this.getPendingSubsetFonts().isEmpty();
+    }
+
+    /**
+     * 获取待子集化字体
+     * <p>注：待子集化字体在子集化（保存）前未嵌入字体文件</p>
+     *
+     * @return 返回字体字典（字体名称：字体）
+     */
+    public Map<String, PDFont> getPendingSubsetFonts() {
+        Map<String, PDFont> fonts = new HashMap<>(this.fontMap.size());
+        for (Map.Entry<String, PDFont> entry : this.fontMap.entrySet()) {
+            PDFont font = entry.getValue();
+            if (font.willBeSubset()) {
+                PDFontDescriptor descriptor = font instanceof PDType0Font ? ((PDType0Font) font).getDescendantFont().getFontDescriptor() : font.getFontDescriptor();
+                if (Objects.isNull(descriptor) || (Objects.isNull(descriptor.getFontFile()) && Objects.isNull(descriptor.getFontFile2()) && Objects.isNull(descriptor.getFontFile3()))) {
+                    fonts.put(entry.getKey(), font);
+                }
+            }
+        }
+        return fonts;
+    }
+
     /**
      * 重置
      *
@@ -436,9 +545,13 @@ public class Context {
         this.pageFooter = null;
         // 重置边框信息
         this.borderInfo = null;
+        // 刷新内容流
+        this.contentWriter.flush();
         // 清理字体
         this.fontMap.clear();
         // 清理图像
         this.imageCache.clear();
+        // 清理表单
+        this.formCache.clear();
     }
 }
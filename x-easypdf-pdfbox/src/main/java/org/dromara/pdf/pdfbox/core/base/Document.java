@@ -13,13 +13,14 @@ import org.dromara.pdf.pdfbox.core.ext.processor.MetadataProcessor;
 import org.dromara.pdf.pdfbox.core.ext.processor.PageProcessor;
 import org.dromara.pdf.pdfbox.core.info.CatalogInfo;
 import org.dromara.pdf.pdfbox.support.Constants;
+import org.dromara.pdf.pdfbox.support.DefaultResourceCache;
+import org.dromara.pdf.pdfbox.support.TextLayoutCache;
 import org.dromara.pdf.pdfbox.util.CommonUtil;
 import org.dromara.pdf.pdfbox.util.FileUtil;
 import org.dromara.pdf.pdfbox.util.IdUtil;
 import org.dromara.pdf.pdfbox.util.ImageUtil;
 import org.dromara.pdf.shade.org.apache.pdfbox.Loader;
 import org.dromara.pdf.shade.org.apache.pdfbox.io.RandomAccessReadBuffer;
-import org.dromara.pdf.shade.org.apache.pdfbox.pdfwriter.compress.CompressParameters;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDDocument;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPageTree;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.ResourceCache;
@@ -102,6 +103,10 @@ public class Document extends AbstractBase implements Closeable {
      * 是否刷新元数据
      */
     protected Boolean isFlushMetadata;
+    /**
+     * 文本布局缓存
+     */
+    protected TextLayoutCache textLayoutCache;
 
     /**
      * 无参构造
@@ -194,6 +199,15 @@ public class Document extends AbstractBase implements Closeable {
         this.target.setResourceCache(cache);
     }
 
+    /**
+     * 获取缓存
+     *
+     * @return 返回缓存
+     */
+    public ResourceCache getResourceCache() {
+        return this.target.getResourceCache();
+    }
+
     /**
      * 设置是否刷新元数据
      *
@@ -203,6 +217,25 @@ public class Document extends AbstractBase implements Closeable {
         this.isFlushMetadata = isFlushMetadata;
     }
 
+    /**
+     * 设置是否合并内容流
+     * <p>注：开启后同一页面的组件共用一个内容流，可减少内容流数量与文件体积，适用于大量单元格的表格</p>
+     *
+     * @param isMergeContentStream 是否合并内容流
+     */
+    public void setIsMergeContentStream(boolean isMergeContentStream) {
+        this.getContext().getContentWriter().setIsEnabled(isMergeContentStream);
+    }
+
+    /**
+     * 获取是否合并内容流
+     *
+     * @return 返回是否合并内容流
+     */
+    public Boolean getIsMergeContentStream() {
+        return this.getContext().getContentWriter().isEnabled();
+    }
+
     /**
      * 设置边距（上下左右）
      *
@@ -536,7 +569,7 @@ public class Document extends AbstractBase implements Closeable {
     @SneakyThrows
     public void setBackgroundImage(byte[] bytes) {
         if (Objects.nonNull(bytes)) {
-            this.backgroundImage = CommonUtil.createImage(this.getTarget(), bytes);
+            this.backgroundImage = CommonUtil.createImage(this.getTarget(), bytes, CommonUtil.getImageDigest(bytes));
         } else {
             this.backgroundImage =  null;
         }
@@ -716,9 +749,19 @@ public class Document extends AbstractBase implements Closeable {
      * @param file 文件
      */
     public void save(File file) {
+        this.save(file, SaveOptions.defaults());
+    }
+
+    /**
+     * 保存文档
+     *
+     * @param file    文件
+     * @param options 保存选项
+     */
+    public void save(File file, SaveOptions options) {
         // 参数校验
         Objects.requireNonNull(file, "the file can not be null");
-        this.save(file.getAbsolutePath());
+        this.save(file.getAbsolutePath(), options);
     }
 
     /**
@@ -727,9 +770,19 @@ public class Document extends AbstractBase implements Closeable {
      * @param file 文件
      */
     public void saveAndClose(File file) {
+        this.saveAndClose(file, SaveOptions.defaults());
+    }
+
+    /**
+     * 保存关闭文档
+     *
+     * @param file    文件
+     * @param options 保存选项
+     */
+    public void saveAndClose(File file, SaveOptions options) {
         // 参数校验
         Objects.requireNonNull(file, "the file can not be null");
-        this.saveAndClose(file.getAbsolutePath());
+        this.saveAndClose(file.getAbsolutePath(), options);
     }
 
     /**
@@ -737,12 +790,22 @@ public class Document extends AbstractBase implements Closeable {
      *
      * @param path 路径
      */
-    @SneakyThrows
     public void save(String path) {
+        this.save(path, SaveOptions.defaults());
+    }
+
+    /**
+     * 保存文档
+     *
+     * @param path    路径
+     * @param options 保存选项
+     */
+    @SneakyThrows
+    public void save(String path, SaveOptions options) {
         // 参数校验
         Objects.requireNonNull(path, "the path can not be null");
         try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(FileUtil.createDirectories(Paths.get(path))))) {
-            this.save(outputStream);
+            this.save(outputStream, options);
         }
     }
 
@@ -751,12 +814,22 @@ public class Document extends AbstractBase implements Closeable {
      *
      * @param path 路径
      */
-    @SneakyThrows
     public void saveAndClose(String path) {
+        this.saveAndClose(path, SaveOptions.defaults());
+    }
+
+    /**
+     * 保存关闭文档
+     *
+     * @param path    路径
+     * @param options 保存选项
+     */
+    @SneakyThrows
+    public void saveAndClose(String path, SaveOptions options) {
         // 参数校验
         Objects.requireNonNull(path, "the path can not be null");
         try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(FileUtil.createDirectories(Paths.get(path))))) {
-            this.saveAndClose(outputStream);
+            this.saveAndClose(outputStream, options);
         }
     }
 
@@ -765,16 +838,30 @@ public class Document extends AbstractBase implements Closeable {
      *
      * @param outputStream 输出流
      */
-    @SneakyThrows
     public void save(OutputStream outputStream) {
+        this.save(outputStream, SaveOptions.defaults());
+    }
+
+    /**
+     * 保存文档
+     * <p>注：开启流压缩阶段时，保存前并行压缩独立的流，加密文档随后由pdfbox在序列化时加密（压缩后的）流数据</p>
+     *
+     * @param outputStream 输出流
+     * @param options      保存选项
+     */
+    @SneakyThrows
+    public void save(OutputStream outputStream, SaveOptions options) {
         // 参数校验
         Objects.requireNonNull(outputStream, "the output stream can not be null");
+        Objects.requireNonNull(options, "the options can not be null");
         // 获取页面数
         int number = this.getTarget().getNumberOfPages();
         // 检查页面
         if (number == 0) {
             log.error("the document has no page, please add a page before saving");
         }
+        // 刷新内容流
+        this.getContext().flushContentStreams();
         // 设置文档版本
         this.getTarget().setVersion(this.getVersion());
         // 刷新元数据
@@ -782,8 +869,24 @@ public class Document extends AbstractBase implements Closeable {
             MetadataProcessor processor = new MetadataProcessor(this);
             processor.flush();
         }
+        // 压缩流
+        if (options.isStreamStageEnabled()) {
+            new StreamCompressor(options).compress(this.getTarget());
+        }
         // 保存文档
-        this.getTarget().save(outputStream, new CompressParameters(300));
+        this.getTarget().save(outputStream, options.createCompressParameters());
+    }
+
+    /**
+     * 创建渐进式写入器
+     * <p>注：构建过程中可调用{@link ProgressiveWriter#flushCompletedPages()}提前写出已完成页面，最后调用{@link ProgressiveWriter#finish()}完成保存</p>
+     * <p>注：仅支持新建且未加密的文档（加载的文档或已设置加密的文档抛出{@link IllegalArgumentException}，请使用保存方法）；创建后不能再设置加密，否则写入时抛出{@link IllegalStateException}</p>
+     *
+     * @param outputStream 输出流
+     * @return 返回渐进式写入器
+     */
+    public ProgressiveWriter createProgressiveWriter(OutputStream outputStream) {
+        return new ProgressiveWriter(this, outputStream);
     }
 
     /**
@@ -791,9 +894,18 @@ public class Document extends AbstractBase implements Closeable {
      *
      * @param outputStream 输出流
      */
-    @SneakyThrows
     public void saveAndClose(OutputStream outputStream) {
-        this.save(outputStream);
+        this.saveAndClose(outputStream, SaveOptions.defaults());
+    }
+
+    /**
+     * 保存关闭文档
+     *
+     * @param outputStream 输出流
+     * @param options      保存选项
+     */
+    public void saveAndClose(OutputStream outputStream, SaveOptions options) {
+        this.save(outputStream, options);
         this.close();
     }
 
@@ -802,10 +914,20 @@ public class Document extends AbstractBase implements Closeable {
      */
     @Override
     public void close() {
-        // 关闭页面
-        this.getPages().forEach(Page::close);
+        // 刷新内容流
+        this.getContext().flushContentStreams();
+        // 关闭页面（延迟页面列表仅关闭已创建的页面）
+        if (this.getPages() instanceof LazyPageList) {
+            ((LazyPageList) this.getPages()).forEachCreated(Page::close);
+        } else {
+            this.getPages().forEach(Page::close);
+        }
         // 清理上下文
         this.getContext().clear();
+        // 清理资源缓存
+        if (this.getResourceCache() instanceof DefaultResourceCache) {
+            ((DefaultResourceCache) this.getResourceCache()).clear();
+        }
         try {
             // 关闭任务文档
             this.getTarget().close();
@@ -840,7 +962,7 @@ public class Document extends AbstractBase implements Closeable {
         // 初始化版本
         this.target.getDocument().setVersion(Constants.DEFAULT_VERSION);
         // 初始化资源缓存
-        // this.target.setResourceCache(new DefaultResourceCache());
+        this.initResourceCache(policy);
         // 初始化基础参数
         this.initBase();
         // 初始化页面
@@ -862,6 +984,8 @@ public class Document extends AbstractBase implements Closeable {
         Objects.requireNonNull(policy, "the policy can not be null");
         // 初始化任务文档
         this.target = Loader.loadPDF(file, password, keyStore, alias, policy.getSetting().streamCache);
+        // 初始化资源缓存
+        this.initResourceCache(policy);
         // 初始化加载
         this.initLoad();
     }
@@ -909,6 +1033,8 @@ public class Document extends AbstractBase implements Closeable {
         Objects.requireNonNull(policy, "the policy can not be null");
         // 初始化任务文档
         this.target = Loader.loadPDF(buffer, password, keyStore, alias, policy.getSetting().streamCache);
+        // 初始化资源缓存
+        this.initResourceCache(policy);
         // 初始化加载
         this.initLoad();
     }
@@ -917,29 +1043,45 @@ public class Document extends AbstractBase implements Closeable {
      * 初始化加载
      */
     protected void initLoad() {
-        // 初始化资源缓存
-        // this.target.setResourceCache(new DefaultResourceCache());
         // 初始化基础参数
         this.initBase();
         // 初始化页面
         this.initPages();
     }
 
+    /**
+     * 初始化资源缓存
+     *
+     * @param policy 内存策略
+     */
+    protected void initResourceCache(MemoryPolicy policy) {
+        // 创建资源缓存
+        ResourceCache cache = policy.createResourceCache();
+        // 开启资源缓存
+        if (Objects.nonNull(cache)) {
+            this.target.setResourceCache(cache);
+        }
+        // 创建文本布局缓存
+        this.textLayoutCache = policy.createTextLayoutCache();
+    }
+
     /**
      * 初始化页面列表
+     * <p>注：页面包装延迟创建，仅创建最后一页作为当前页面</p>
      */
     protected void initPages() {
         // 获取总页数
         int count = this.getTarget().getNumberOfPages();
         // 初始化页面列表
-        this.pages = new ArrayList<>(this.getTarget().getNumberOfPages());
-        // 获取页面树
-        PDPageTree pageTree = this.getTarget().getPages();
-        // // 遍历页面树
-        for (int i = 0; i < count; i++) {
-            // 添加页面
-            this.pages.add(new Page(this, pageTree.get(i)));
+        LazyPageList pages = new LazyPageList(this);
+        // 创建最后一页（重置上下文）
+        if (count > 0) {
+            // 累计前序页面数量
+            this.getContext().setPageCount(count - 1);
+            // 设置最后一页
+            pages.set(count - 1, new Page(this, pages.getTarget(count - 1)));
         }
+        this.pages = pages;
     }
 
     /**
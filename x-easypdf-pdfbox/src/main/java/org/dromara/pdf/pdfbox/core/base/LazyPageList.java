@@ -0,0 +1,289 @@
+package org.dromara.pdf.pdfbox.core.base;
+
+import org.dromara.pdf.pdfbox.core.base.config.FontConfiguration;
+import org.dromara.pdf.pdfbox.core.base.config.MarginConfiguration;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPage;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPageTree;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 延迟页面列表
+ * <p>注：加载文档时仅记录页数，页面首次访问时才创建页面包装；任务页面按索引沿页面树（按子节点页数）查找，列表结构变化后改用缓存的查找表</p>
+ * <p>注：延迟创建的页面使用加载时的文档边距与字体配置，不重置上下文</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class LazyPageList extends AbstractList<Page> implements RandomAccess {
+
+    /**
+     * 文档
+     */
+    protected final Document document;
+    /**
+     * 页面树
+     */
+    protected final PDPageTree pageTree;
+    /**
+     * 边距配置
+     */
+    protected final MarginConfiguration marginConfiguration;
+    /**
+     * 字体配置
+     */
+    protected final FontConfiguration fontConfiguration;
+    /**
+     * 页面列表（未创建为null）
+     */
+    protected final List<Page> pages;
+    /**
+     * 任务页面查找表（列表结构变化时创建）
+     */
+    protected List<PDPage> targets;
+
+    /**
+     * 有参构造
+     *
+     * @param document 文档
+     */
+    public LazyPageList(Document document) {
+        Objects.requireNonNull(document, "the document can not be null");
+        this.document = document;
+        this.pageTree = document.getTarget().getPages();
+        this.marginConfiguration = new MarginConfiguration(document.getMarginConfiguration());
+        this.fontConfiguration = new FontConfiguration(document.getFontConfiguration());
+        this.pages = new ArrayList<>(Collections.nCopies(this.pageTree.getCount(), null));
+    }
+
+    /**
+     * 获取页面（首次访问时创建）
+     *
+     * @param index 页面索引
+     * @return 返回页面
+     */
+    @Override
+    public Page get(int index) {
+        Page page = this.pages.get(index);
+        if (Objects.isNull(page)) {
+            page = new Page(this.document, this.findTarget(index), index, this.marginConfiguration, this.fontConfiguration);
+            this.pages.set(index, page);
+        }
+        return page;
+    }
+
+    /**
+     * 获取已创建的页面
+     *
+     * @param index 页面索引
+     * @return 返回页面，未创建时返回null
+     */
+    public Page getIfCreated(int index) {
+        return this.pages.get(index);
+    }
+
+    /**
+     * 获取任务页面（不创建页面）
+     *
+     * @param index 页面索引
+     * @return 返回任务页面
+     */
+    public PDPage getTarget(int index) {
+        Page page = this.pages.get(index);
+        if (Objects.nonNull(page)) {
+            return page.getTarget();
+        }
+        return this.findTarget(index);
+    }
+
+    /**
+     * 遍历已创建的页面
+     *
+     * @param action 操作
+     */
+    public void forEachCreated(Consumer<Page> action) {
+        Objects.requireNonNull(action, "the action can not be null");
+        for (Page page : this.pages) {
+            if (Objects.nonNull(page)) {
+                action.accept(page);
+            }
+        }
+    }
+
+    /**
+     * 获取已创建的页面数量
+     *
+     * @return 返回已创建的页面数量
+     */
+    public int getCreatedCount() {
+        int count = 0;
+        for (Page page : this.pages) {
+            if (Objects.nonNull(page)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 获取页面数量
+     *
+     * @return 返回页面数量
+     */
+    @Override
+    public int size() {
+        return this.pages.size();
+    }
+
+    /**
+     * 设置页面
+     *
+     * @param index 页面索引
+     * @param page  页面
+     * @return 返回原页面
+     */
+    @Override
+    public Page set(int index, Page page) {
+        Objects.requireNonNull(page, "the page can not be null");
+        Page old = this.get(index);
+        this.pages.set(index, page);
+        if (Objects.nonNull(this.targets)) {
+            this.targets.set(index, page.getTarget());
+        }
+        return old;
+    }
+
+    /**
+     * 添加页面
+     *
+     * @param index 页面索引
+     * @param page  页面
+     */
+    @Override
+    public void add(int index, Page page) {
+        Objects.requireNonNull(page, "the page can not be null");
+        // 结构变化前创建查找表，保证索引对应
+        this.getTargets().add(index, page.getTarget());
+        this.pages.add(index, page);
+        this.modCount++;
+    }
+
+    /**
+     * 移除页面
+     *
+     * @param index 页面索引
+     * @return 返回页面
+     */
+    @Override
+    public Page remove(int index) {
+        Page old = this.get(index);
+        this.getTargets().remove(index);
+        this.pages.remove(index);
+        this.modCount++;
+        return old;
+    }
+
+    /**
+     * 移除页面
+     *
+     * @param o 页面
+     * @return 返回布尔值，true为是，false为否
+     */
+    @Override
+    public boolean remove(Object o) {
+        int index = this.indexOf(o);
+        if (index < 0) {
+            return false;
+        }
+        this.remove(index);
+        return true;
+    }
+
+    /**
+     * 获取页面索引（未创建的页面不可能与已有页面相等，不会被创建）
+     *
+     * @param o 页面
+     * @return 返回页面索引，不存在时返回-1
+     */
+    @Override
+    public int indexOf(Object o) {
+        if (Objects.nonNull(o)) {
+            for (int i = 0; i < this.pages.size(); i++) {
+                if (o.equals(this.pages.get(i))) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 获取页面最后索引（未创建的页面不可能与已有页面相等，不会被创建）
+     *
+     * @param o 页面
+     * @return 返回页面索引，不存在时返回-1
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        if (Objects.nonNull(o)) {
+            for (int i = this.pages.size() - 1; i >= 0; i--) {
+                if (o.equals(this.pages.get(i))) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 清空
+     */
+    @Override
+    public void clear() {
+        this.pages.clear();
+        this.targets = new ArrayList<>(0);
+        this.modCount++;
+    }
+
+    /**
+     * 查找任务页面
+     *
+     * @param index 页面索引
+     * @return 返回任务页面
+     */
+    protected PDPage findTarget(int index) {
+        if (Objects.nonNull(this.targets)) {
+            return this.targets.get(index);
+        }
+        return this.pageTree.get(index);
+    }
+
+    /**
+     * 获取任务页面查找表
+     *
+     * @return 返回任务页面查找表
+     */
+    protected List<PDPage> getTargets() {
+        if (Objects.isNull(this.targets)) {
+            List<PDPage> list = new ArrayList<>(this.pages.size());
+            for (PDPage page : this.pageTree) {
+                list.add(page);
+            }
+            this.targets = list;
+        }
+        return this.targets;
+    }
+}
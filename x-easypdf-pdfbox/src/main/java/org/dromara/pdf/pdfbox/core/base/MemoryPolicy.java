@@ -1,7 +1,10 @@
 package org.dromara.pdf.pdfbox.core.base;
 
 import org.dromara.pdf.pdfbox.support.Constants;
+import org.dromara.pdf.pdfbox.support.DefaultResourceCache;
+import org.dromara.pdf.pdfbox.support.TextLayoutCache;
 import org.dromara.pdf.shade.org.apache.pdfbox.io.MemoryUsageSetting;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.ResourceCache;
 
 import java.nio.file.Paths;
 
@@ -29,6 +32,34 @@ public class MemoryPolicy {
      * pdfbox内存使用设置
      */
     private final MemoryUsageSetting setting;
+    /**
+     * 是否开启资源缓存
+     */
+    private boolean isEnableResourceCache;
+    /**
+     * 字体缓存容量
+     */
+    private int fontCacheSize = DefaultResourceCache.DEFAULT_FONT_SIZE;
+    /**
+     * XObject缓存容量
+     */
+    private int xObjectCacheSize = DefaultResourceCache.DEFAULT_XOBJECT_SIZE;
+    /**
+     * 其他资源缓存容量
+     */
+    private int otherCacheSize = DefaultResourceCache.DEFAULT_OTHER_SIZE;
+    /**
+     * 是否开启文本布局缓存
+     */
+    private boolean isEnableTextLayoutCache;
+    /**
+     * 是否共享文本布局缓存（全局）
+     */
+    private boolean isShareTextLayoutCache;
+    /**
+     * 文本布局缓存容量
+     */
+    private int textLayoutCacheSize = TextLayoutCache.DEFAULT_MAX_SIZE;
 
     /**
      * 有参构造
@@ -87,6 +118,99 @@ public class MemoryPolicy {
         return new MemoryPolicy(MemoryUsageSetting.setupMainMemoryOnly(maxMemoryBytes).setTempDir(Paths.get(tempPath).toFile()));
     }
 
+    /**
+     * 开启资源缓存
+     * <p>注：渲染、提取、分析时复用已解析的字体、颜色空间、XObject等资源</p>
+     *
+     * @return 返回内存策略
+     */
+    public MemoryPolicy enableResourceCache() {
+        this.isEnableResourceCache = true;
+        return this;
+    }
+
+    /**
+     * 开启资源缓存
+     *
+     * @param fontCacheSize    字体缓存容量
+     * @param xObjectCacheSize XObject缓存容量
+     * @param otherCacheSize   其他资源缓存容量
+     * @return 返回内存策略
+     */
+    public MemoryPolicy enableResourceCache(int fontCacheSize, int xObjectCacheSize, int otherCacheSize) {
+        if (fontCacheSize < 0 || xObjectCacheSize < 0 || otherCacheSize < 0) {
+            throw new IllegalArgumentException("the cache size can not be less than 0");
+        }
+        this.fontCacheSize = fontCacheSize;
+        this.xObjectCacheSize = xObjectCacheSize;
+        this.otherCacheSize = otherCacheSize;
+        return this.enableResourceCache();
+    }
+
+    /**
+     * 开启文本布局缓存（文档独立）
+     * <p>注：相同字体配置、行宽与文本的拆分结果直接复用，适用于大量重复内容的表格</p>
+     *
+     * @return 返回内存策略
+     */
+    public MemoryPolicy enableTextLayoutCache() {
+        this.isEnableTextLayoutCache = true;
+        this.isShareTextLayoutCache = false;
+        return this;
+    }
+
+    /**
+     * 开启文本布局缓存（文档独立）
+     *
+     * @param textLayoutCacheSize 文本布局缓存容量
+     * @return 返回内存策略
+     */
+    public MemoryPolicy enableTextLayoutCache(int textLayoutCacheSize) {
+        if (textLayoutCacheSize < 0) {
+            throw new IllegalArgumentException("the cache size can not be less than 0");
+        }
+        this.textLayoutCacheSize = textLayoutCacheSize;
+        return this.enableTextLayoutCache();
+    }
+
+    /**
+     * 开启文本布局缓存（全局共享）
+     * <p>注：使用{@link TextLayoutCache#getGlobalCache()}，多个文档共用</p>
+     *
+     * @return 返回内存策略
+     */
+    public MemoryPolicy enableGlobalTextLayoutCache() {
+        this.isEnableTextLayoutCache = true;
+        this.isShareTextLayoutCache = true;
+        return this;
+    }
+
+    /**
+     * 创建资源缓存
+     * <p>注：每个文档独立创建，未开启时返回null</p>
+     *
+     * @return 返回资源缓存
+     */
+    ResourceCache createResourceCache() {
+        if (this.isEnableResourceCache) {
+            return new DefaultResourceCache(this.fontCacheSize, this.xObjectCacheSize, this.otherCacheSize);
+        }
+        return null;
+    }
+
+    /**
+     * 创建文本布局缓存
+     * <p>注：未开启时返回null</p>
+     *
+     * @return 返回文本布局缓存
+     */
+    TextLayoutCache createTextLayoutCache() {
+        if (this.isEnableTextLayoutCache) {
+            return this.isShareTextLayoutCache ? TextLayoutCache.getGlobalCache() : new TextLayoutCache(this.textLayoutCacheSize);
+        }
+        return null;
+    }
+
     /**
      * 获取设置
      *
@@ -157,6 +157,20 @@ public class Page extends AbstractBase implements Closeable {
         page.setSubPage(this);
     }
 
+    /**
+     * 有参构造（延迟创建，不重置上下文）
+     *
+     * @param document            文档
+     * @param target              任务页面
+     * @param index               页面索引
+     * @param marginConfiguration 边距配置
+     * @param fontConfiguration   字体配置
+     */
+    protected Page(Document document, PDPage target, int index, MarginConfiguration marginConfiguration, FontConfiguration fontConfiguration) {
+        this.initBase(target, document, marginConfiguration, fontConfiguration, Color.WHITE, null);
+        this.index = index;
+    }
+
     /**
      * 设置边距（上下左右）
      *
@@ -234,7 +248,7 @@ public class Page extends AbstractBase implements Closeable {
     @SneakyThrows
     public void setBackgroundImage(byte[] bytes) {
         if (Objects.nonNull(bytes)) {
-            this.backgroundImage = CommonUtil.createImage(this.getContext().getTargetDocument(), bytes);
+            this.backgroundImage = CommonUtil.createImage(this.getContext().getTargetDocument(), bytes, CommonUtil.getImageDigest(bytes));
         } else {
             this.backgroundImage =  null;
         }
@@ -783,28 +797,8 @@ public class Page extends AbstractBase implements Closeable {
      * @param backgroundImage     背景图片
      */
     protected void init(PDPage target, AbstractBase base, MarginConfiguration marginConfiguration, FontConfiguration fontConfiguration, Color backgroundColor, PDImageXObject backgroundImage) {
-        // 初始化id
-        this.id = IdUtil.get();
-        // 初始化任务页面
-        this.target = target;
-        // 初始化页面尺寸
-        this.pageSize = new PageSize(target.getCropBox());
-        // 初始化边距配置
-        this.marginConfiguration = new MarginConfiguration(marginConfiguration);
-        // 初始化字体配置
-        this.fontConfiguration = new FontConfiguration(fontConfiguration);
-        // 初始化背景颜色
-        this.backgroundColor = backgroundColor;
-        // 初始化背景图片
-        this.backgroundImage = backgroundImage;
-        // 初始化水平对齐方式
-        this.horizontalAlignment = HorizontalAlignment.LEFT;
-        // 初始化垂直对齐方式
-        this.verticalAlignment = VerticalAlignment.TOP;
-        // 初始化是否开启内容边框
-        this.isContentBorder = Boolean.FALSE;
-        // 父类初始化
-        super.init(base);
+        // 初始化基础参数
+        this.initBase(target, base, marginConfiguration, fontConfiguration, backgroundColor, backgroundImage);
         // 获取上下文
         Context context = this.getContext();
         // 重置上下文
@@ -835,19 +829,49 @@ public class Page extends AbstractBase implements Closeable {
         }
     }
 
+    /**
+     * 初始化基础参数
+     * <p>注：不重置上下文</p>
+     *
+     * @param target              任务页面
+     * @param base                基础类
+     * @param marginConfiguration 边距配置
+     * @param fontConfiguration   字体配置
+     * @param backgroundColor     背景颜色
+     * @param backgroundImage     背景图片
+     */
+    protected void initBase(PDPage target, AbstractBase base, MarginConfiguration marginConfiguration, FontConfiguration fontConfiguration, Color backgroundColor, PDImageXObject backgroundImage) {
+        // 初始化id
+        this.id = IdUtil.get();
+        // 初始化任务页面
+        this.target = target;
+        // 初始化页面尺寸
+        this.pageSize = new PageSize(target.getCropBox());
+        // 初始化边距配置
+        this.marginConfiguration = new MarginConfiguration(marginConfiguration);
+        // 初始化字体配置
+        this.fontConfiguration = new FontConfiguration(fontConfiguration);
+        // 初始化背景颜色
+        this.backgroundColor = backgroundColor;
+        // 初始化背景图片
+        this.backgroundImage = backgroundImage;
+        // 初始化水平对齐方式
+        this.horizontalAlignment = HorizontalAlignment.LEFT;
+        // 初始化垂直对齐方式
+        this.verticalAlignment = VerticalAlignment.TOP;
+        // 初始化是否开启内容边框
+        this.isContentBorder = Boolean.FALSE;
+        // 父类初始化
+        super.init(base);
+    }
+
     /**
      * 初始化背景颜色
      */
     @SneakyThrows
     protected void initBackgroundColor() {
         // 新建内容流
-        PDPageContentStream contentStream = new PDPageContentStream(
-                this.getContext().getTargetDocument(),
-                this.getTarget(),
-                PDPageContentStream.AppendMode.APPEND,
-                true,
-                this.getIsResetContentStream()
-        );
+        PDPageContentStream contentStream = this.getContext().getContentStream(this.getTarget(), ContentMode.APPEND, this.getIsResetContentStream());
         // 绘制矩形（背景矩形）
         contentStream.addRect(0, 0, this.getWidth(), this.getHeight());
         // 设置矩形颜色（背景颜色）
@@ -855,7 +879,7 @@ public class Page extends AbstractBase implements Closeable {
         // 填充矩形（背景矩形）
         contentStream.fill();
         // 关闭内容流
-        contentStream.close();
+        this.getContext().closeContentStream(contentStream);
     }
 
     /**
@@ -874,17 +898,11 @@ public class Page extends AbstractBase implements Closeable {
         // Y轴坐标
         float y = Math.max(this.getMarginBottom(), (this.getWithoutMarginHeight() - height) / 2);
         // 新建内容流
-        PDPageContentStream contentStream = new PDPageContentStream(
-                this.getContext().getTargetDocument(),
-                this.getTarget(),
-                PDPageContentStream.AppendMode.APPEND,
-                true,
-                this.getIsResetContentStream()
-        );
+        PDPageContentStream contentStream = this.getContext().getContentStream(this.getTarget(), ContentMode.APPEND, this.getIsResetContentStream());
         // 添加图像
         contentStream.drawImage(image, x, y, width, height);
         // 关闭内容流
-        contentStream.close();
+        this.getContext().closeContentStream(contentStream);
     }
 
     /**
@@ -893,13 +911,7 @@ public class Page extends AbstractBase implements Closeable {
     @SneakyThrows
     protected void initContentBorder() {
         // 新建内容流
-        PDPageContentStream contentStream = new PDPageContentStream(
-                this.getContext().getTargetDocument(),
-                this.getTarget(),
-                PDPageContentStream.AppendMode.APPEND,
-                true,
-                false
-        );
+        PDPageContentStream contentStream = this.getContext().getContentStream(this.getTarget(), ContentMode.APPEND, false);
         // 绘制矩形（背景矩形）
         contentStream.addRect(this.getMarginLeft(), this.getMarginBottom(), this.getWithoutMarginWidth(), this.getWithoutMarginHeight());
         // 设置矩形颜色（背景颜色）
@@ -907,7 +919,7 @@ public class Page extends AbstractBase implements Closeable {
         // 填充矩形（背景矩形）
         contentStream.stroke();
         // 关闭内容流
-        contentStream.close();
+        this.getContext().closeContentStream(contentStream);
     }
 
     /**
@@ -0,0 +1,204 @@
+package org.dromara.pdf.pdfbox.core.base;
+
+import lombok.SneakyThrows;
+import org.dromara.pdf.pdfbox.core.enums.ContentMode;
+import org.dromara.pdf.shade.org.apache.pdfbox.cos.COSDictionary;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDDocument;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPage;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPageContentStream;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 页面内容写入器
+ * <p>注：开启合并后，同一页面的追加内容共用一个内容流，每个组件以“q/Q”包裹，在换页或保存时统一关闭</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class PageContentWriter {
+
+    /**
+     * 页面内容字典（页面字典 -> 共享内容）
+     */
+    protected final Map<COSDictionary, SharedContent> pageMap = new IdentityHashMap<>(4);
+    /**
+     * 内容流字典（内容流 -> 共享内容）
+     */
+    protected final Map<PDPageContentStream, SharedContent> streamMap = new IdentityHashMap<>(4);
+    /**
+     * 是否开启合并
+     */
+    protected boolean isEnabled;
+
+    /**
+     * 设置是否开启合并
+     *
+     * @param isEnabled 是否开启合并
+     */
+    public void setIsEnabled(boolean isEnabled) {
+        if (!isEnabled) {
+            this.flush();
+        }
+        this.isEnabled = isEnabled;
+    }
+
+    /**
+     * 是否开启合并
+     *
+     * @return 返回布尔值，true为是，false为否
+     */
+    public boolean isEnabled() {
+        return this.isEnabled;
+    }
+
+    /**
+     * 打开内容流
+     *
+     * @param document             pdfbox文档
+     * @param page                 pdfbox页面
+     * @param mode                 内容模式
+     * @param isResetContentStream 是否重置内容流
+     * @return 返回内容流
+     */
+    @SneakyThrows
+    public PDPageContentStream open(PDDocument document, PDPage page, ContentMode mode, boolean isResetContentStream) {
+        // 未开启合并或非追加模式
+        if (!this.isEnabled || mode != ContentMode.APPEND) {
+            // 关闭当前页面共享内容流，保证内容顺序
+            this.flush(page);
+            // 返回独立内容流
+            return new PDPageContentStream(document, page, mode.getMode(), true, isResetContentStream);
+        }
+        // 换页时关闭其他页面的共享内容流
+        this.flushOthers(page);
+        // 获取共享内容
+        SharedContent content = this.pageMap.get(page.getCOSObject());
+        // 共享内容不存在
+        if (Objects.isNull(content)) {
+            // 创建共享内容
+            content = new SharedContent(new PDPageContentStream(document, page, mode.getMode(), true, isResetContentStream));
+            // 添加共享内容
+            this.pageMap.put(page.getCOSObject(), content);
+            this.streamMap.put(content.stream, content);
+        }
+        // 保存图形状态
+        content.stream.saveGraphicsState();
+        // 累计引用
+        content.depth++;
+        // 返回内容流
+        return content.stream;
+    }
+
+    /**
+     * 关闭内容流
+     * <p>注：共享内容流仅恢复图形状态，独立内容流直接关闭</p>
+     *
+     * @param stream 内容流
+     */
+    @SneakyThrows
+    public void close(PDPageContentStream stream) {
+        // 获取共享内容
+        SharedContent content = this.streamMap.get(stream);
+        // 独立内容流
+        if (Objects.isNull(content)) {
+            // 关闭内容流
+            stream.close();
+        } else {
+            // 恢复图形状态
+            stream.restoreGraphicsState();
+            // 减少引用
+            content.depth--;
+        }
+    }
+
+    /**
+     * 刷新全部共享内容流
+     */
+    public void flush() {
+        Iterator<SharedContent> iterator = this.pageMap.values().iterator();
+        while (iterator.hasNext()) {
+            this.closeSharedContent(iterator.next());
+            iterator.remove();
+        }
+    }
+
+    /**
+     * 刷新页面共享内容流
+     *
+     * @param page pdfbox页面
+     */
+    public void flush(PDPage page) {
+        SharedContent content = this.pageMap.get(page.getCOSObject());
+        if (Objects.nonNull(content) && content.depth == 0) {
+            this.closeSharedContent(content);
+            this.pageMap.remove(page.getCOSObject());
+        }
+    }
+
+    /**
+     * 刷新其他页面共享内容流
+     * <p>注：仍在写入中的内容流保持打开</p>
+     *
+     * @param page 当前pdfbox页面
+     */
+    protected void flushOthers(PDPage page) {
+        Iterator<Map.Entry<COSDictionary, SharedContent>> iterator = this.pageMap.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<COSDictionary, SharedContent> entry = iterator.next();
+            if (entry.getKey() != page.getCOSObject() && entry.getValue().depth == 0) {
+                this.closeSharedContent(entry.getValue());
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * 关闭共享内容
+     *
+     * @param content 共享内容
+     */
+    @SneakyThrows
+    protected void closeSharedContent(SharedContent content) {
+        this.streamMap.remove(content.stream);
+        content.stream.close();
+    }
+
+    /**
+     * 共享内容
+     */
+    protected static class SharedContent {
+        /**
+         * 内容流
+         */
+        protected final PDPageContentStream stream;
+        /**
+         * 引用深度
+         */
+        protected int depth;
+
+        /**
+         * 有参构造
+         *
+         * @param stream 内容流
+         */
+        protected SharedContent(PDPageContentStream stream) {
+            this.stream = stream;
+        }
+    }
+}
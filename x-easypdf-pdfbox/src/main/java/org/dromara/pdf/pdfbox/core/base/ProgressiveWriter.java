@@ -0,0 +1,331 @@
+package org.dromara.pdf.pdfbox.core.base;
+
+import lombok.SneakyThrows;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.dromara.pdf.pdfbox.core.ext.processor.MetadataProcessor;
+import org.dromara.pdf.shade.org.apache.pdfbox.cos.COSBase;
+import org.dromara.pdf.shade.org.apache.pdfbox.cos.COSDictionary;
+import org.dromara.pdf.shade.org.apache.pdfbox.cos.COSDocument;
+import org.dromara.pdf.shade.org.apache.pdfbox.cos.COSName;
+import org.dromara.pdf.shade.org.apache.pdfbox.cos.COSObjectKey;
+import org.dromara.pdf.shade.org.apache.pdfbox.cos.COSStream;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdfwriter.COSWriter;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDDocument;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPage;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.common.PDStream;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * 渐进式写入器
+ * <p>注：构建过程中将已完成页面的内容流与图像直接写入输出流并释放内存，字体等共享资源在结束时统一写入（仅写入一次），最后写入交叉引用表与尾部</p>
+ * <p>注：仅支持新建且未加密的文档；已写入的页面不可再修改内容，结束后文档不可再次保存</p>
+ * <p>注：结束时仅子集化文档上下文中的字体（组件使用的字体），处理器（如表单、注释）直接加载的字体需使用保存方法写入</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class ProgressiveWriter implements Closeable {
+
+    /**
+     * 日志
+     */
+    protected final Log log = LogFactory.getLog(this.getClass());
+    /**
+     * 文档
+     */
+    protected final Document document;
+    /**
+     * 输出流
+     */
+    protected final OutputStream outputStream;
+    /**
+     * 写入器
+     */
+    protected final Writer writer;
+    /**
+     * 已写入页面数量
+     */
+    protected int flushedPageCount;
+    /**
+     * 是否已结束
+     */
+    protected boolean isFinished;
+
+    /**
+     * 有参构造
+     * <p>注：仅支持新建且未加密的文档，加载的文档或已设置加密的文档抛出{@link IllegalArgumentException}</p>
+     *
+     * @param document     文档
+     * @param outputStream 输出流
+     */
+    @SneakyThrows
+    public ProgressiveWriter(Document document, OutputStream outputStream) {
+        Objects.requireNonNull(document, "the document can not be null");
+        Objects.requireNonNull(outputStream, "the output stream can not be null");
+        PDDocument target = document.getTarget();
+        if (target.getDocument().getHighestXRefObjectNumber() > 0) {
+            throw new IllegalArgumentException("the progressive writer only supports new documents, the loaded document must be saved by the save method");
+        }
+        if (isEncrypted(target)) {
+            throw new IllegalArgumentException("the progressive writer does not support encrypted documents, the encrypted document must be saved by the save method");
+        }
+        this.document = document;
+        this.outputStream = outputStream;
+        this.writer = new Writer(outputStream);
+        // 设置文档版本并写入文件头
+        target.setVersion(document.getVersion());
+        this.writer.writeHeader(target.getDocument());
+    }
+
+    /**
+     * 写入已完成页面（除最后一页外的全部页面）
+     */
+    public void flushCompletedPages() {
+        this.flushPages(this.document.getTarget().getNumberOfPages() - 1);
+    }
+
+    /**
+     * 写入页面
+     * <p>注：写入索引小于结束索引且尚未写入的页面</p>
+     *
+     * @param endIndex 结束索引（不包含）
+     */
+    public void flushPages(int endIndex) {
+        // 检查状态
+        this.checkFinished();
+        // 检查加密
+        this.checkEncryption(this.document.getTarget());
+        // 获取结束索引
+        int end = Math.min(endIndex, this.document.getTarget().getNumberOfPages());
+        // 遍历页面
+        for (int i = this.flushedPageCount; i < end; i++) {
+            this.writePage(this.document.getTarget().getPage(i));
+        }
+        // 重置已写入页面数量
+        this.flushedPageCount = Math.max(this.flushedPageCount, end);
+    }
+
+    /**
+     * 获取已写入页面数量
+     *
+     * @return 返回已写入页面数量
+     */
+    public int getFlushedPageCount() {
+        return this.flushedPageCount;
+    }
+
+    /**
+     * 结束写入
+     * <p>注：写入剩余页面、共享资源、交叉引用表与尾部</p>
+     */
+    @SneakyThrows
+    public void finish() {
+        // 检查状态
+        this.checkFinished();
+        // 获取任务文档
+        PDDocument target = this.document.getTarget();
+        // 检查加密
+        this.checkEncryption(target);
+        // 检查页面
+        if (target.getNumberOfPages() == 0) {
+            this.log.error("the document has no page, please add a page before saving");
+        }
+        // 写入剩余页面
+        this.flushPages(target.getNumberOfPages());
+        // 刷新元数据
+        if (this.document.getIsFlushMetadata()) {
+            MetadataProcessor processor = new MetadataProcessor(this.document);
+            processor.flush();
+        }
+        // 字体子集化
+        this.document.getContext().subsetFonts();
+        // 保留已分配的对象编号
+        target.getDocument().setHighestXRefObjectNumber(this.writer.getHighestObjectNumber());
+        // 写入剩余对象、交叉引用表与尾部
+        this.writer.write(target);
+        // 刷新输出流
+        this.outputStream.flush();
+        // 重置状态
+        this.isFinished = true;
+    }
+
+    /**
+     * 是否已结束
+     *
+     * @return 返回布尔值，true为是，false为否
+     */
+    public boolean isFinished() {
+        return this.isFinished;
+    }
+
+    /**
+     * 关闭（未结束时结束写入，不关闭输出流）
+     */
+    @Override
+    public void close() {
+        if (!this.isFinished) {
+            this.finish();
+        }
+    }
+
+    /**
+     * 写入页面
+     *
+     * @param page pdfbox页面
+     */
+    @SneakyThrows
+    protected void writePage(PDPage page) {
+        // 关闭页面共享内容流
+        this.document.getContext().flushContentStream(page);
+        // 写入内容流
+        Iterator<PDStream> iterator = page.getContentStreams();
+        while (iterator.hasNext()) {
+            this.writeStream(iterator.next().getCOSObject());
+        }
+        // 写入图像
+        COSDictionary resources = page.getCOSObject().getCOSDictionary(COSName.RESOURCES);
+        if (Objects.nonNull(resources)) {
+            COSDictionary xObjects = resources.getCOSDictionary(COSName.XOBJECT);
+            if (Objects.nonNull(xObjects)) {
+                for (COSName name : xObjects.keySet()) {
+                    COSBase xObject = xObjects.getDictionaryObject(name);
+                    if (xObject instanceof COSStream && COSName.IMAGE.equals(((COSStream) xObject).getCOSName(COSName.SUBTYPE))) {
+                        this.writeImage((COSStream) xObject);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 写入图像
+     *
+     * @param image 图像
+     */
+    protected void writeImage(COSStream image) {
+        // 写入软蒙版
+        COSBase mask = image.getDictionaryObject(COSName.SMASK);
+        if (mask instanceof COSStream) {
+            this.writeStream((COSStream) mask);
+        }
+        // 写入图像
+        this.writeStream(image);
+    }
+
+    /**
+     * 写入流并释放数据
+     *
+     * @param stream 流
+     */
+    @SneakyThrows
+    protected void writeStream(COSStream stream) {
+        if (!stream.isWritten()) {
+            this.writer.doWriteObject(stream);
+            stream.close();
+        }
+    }
+
+    /**
+     * 检查加密
+     * <p>注：创建写入器后设置加密时，已写入的页面无法加密</p>
+     *
+     * @param target 任务文档
+     */
+    protected void checkEncryption(PDDocument target) {
+        if (isEncrypted(target)) {
+            throw new IllegalStateException("the document has been encrypted after the progressive writer was created");
+        }
+    }
+
+    /**
+     * 是否加密
+     *
+     * @param target 任务文档
+     * @return 返回布尔值，true为是，false为否
+     */
+    protected static boolean isEncrypted(PDDocument target) {
+        return target.isEncrypted() || Objects.nonNull(target.getEncryption());
+    }
+
+    /**
+     * 检查状态
+     */
+    protected void checkFinished() {
+        if (this.isFinished) {
+            throw new IllegalStateException("the progressive writer has been finished");
+        }
+    }
+
+    /**
+     * 写入器
+     */
+    protected static class Writer extends COSWriter {
+
+        /**
+         * 是否已写入文件头
+         */
+        protected boolean isHeaderWritten;
+
+        /**
+         * 有参构造
+         *
+         * @param outputStream 输出流
+         */
+        protected Writer(OutputStream outputStream) {
+            super(outputStream);
+        }
+
+        /**
+         * 写入文件头
+         *
+         * @param document pdfbox文档
+         */
+        protected void writeHeader(COSDocument document) throws IOException {
+            this.doWriteHeader(document);
+            this.isHeaderWritten = true;
+        }
+
+        /**
+         * 写入文件头（仅写入一次）
+         *
+         * @param document pdfbox文档
+         */
+        @Override
+        protected void doWriteHeader(COSDocument document) throws IOException {
+            if (!this.isHeaderWritten) {
+                super.doWriteHeader(document);
+            }
+        }
+
+        /**
+         * 获取已分配的最大对象编号
+         *
+         * @return 返回最大对象编号
+         */
+        protected long getHighestObjectNumber() {
+            long number = 0L;
+            for (COSObjectKey key : this.objectKeys.values()) {
+                number = Math.max(number, key.getNumber());
+            }
+            return number;
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package org.dromara.pdf.pdfbox.core.base;
+
+import org.dromara.pdf.shade.org.apache.pdfbox.pdfwriter.compress.CompressParameters;
+
+import java.util.zip.Deflater;
+
+/**
+ * 保存选项
+ * <p>注：控制对象流大小，以及保存前的流压缩阶段（压缩未过滤的流、按指定级别重新压缩flate流，可并行执行）</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class SaveOptions {
+
+    /**
+     * 默认对象流大小
+     */
+    public static final int DEFAULT_OBJECT_STREAM_SIZE = 300;
+    /**
+     * 默认最小流长度
+     */
+    public static final int DEFAULT_MIN_STREAM_LENGTH = 256;
+
+    /**
+     * 对象流大小（每个对象流包含的对象数量，0为不使用对象流）
+     */
+    private int objectStreamSize = DEFAULT_OBJECT_STREAM_SIZE;
+    /**
+     * 压缩级别（0~9，-1为默认）
+     */
+    private int deflateLevel = Deflater.DEFAULT_COMPRESSION;
+    /**
+     * 是否压缩未过滤的流
+     */
+    private boolean isCompressStreams;
+    /**
+     * 是否重新压缩flate流
+     */
+    private boolean isRecompressStreams;
+    /**
+     * 最小流长度（小于该长度的流不处理）
+     */
+    private int minStreamLength = DEFAULT_MIN_STREAM_LENGTH;
+    /**
+     * 并行数量（工作线程数量）
+     */
+    private int parallelism = 1;
+
+    /**
+     * 无参构造
+     */
+    private SaveOptions() {
+    }
+
+    /**
+     * 默认选项
+     * <p>注：与{@link Document#save(java.io.OutputStream)}一致，对象流大小为300，不执行流压缩阶段</p>
+     *
+     * @return 返回保存选项
+     */
+    public static SaveOptions defaults() {
+        return new SaveOptions();
+    }
+
+    /**
+     * 紧凑选项
+     * <p>注：全部对象写入对象流，压缩未过滤的流，并以最高级别重新压缩flate流</p>
+     *
+     * @return 返回保存选项
+     */
+    public static SaveOptions compact() {
+        return new SaveOptions()
+                .setObjectStreamSize(Integer.MAX_VALUE)
+                .setDeflateLevel(Deflater.BEST_COMPRESSION)
+                .enableStreamCompression()
+                .enableStreamRecompression();
+    }
+
+    /**
+     * 设置对象流大小
+     *
+     * @param objectStreamSize 对象流大小（每个对象流包含的对象数量，0为不使用对象流）
+     * @return 返回保存选项
+     */
+    public SaveOptions setObjectStreamSize(int objectStreamSize) {
+        if (objectStreamSize < 0) {
+            throw new IllegalArgumentException("the object stream size can not be less than 0");
+        }
+        this.objectStreamSize = objectStreamSize;
+        return this;
+    }
+
+    /**
+     * 设置压缩级别
+     * <p>注：作用于流压缩阶段处理的流，对象流使用pdfbox全局压缩级别</p>
+     *
+     * @param deflateLevel 压缩级别（0~9，-1为默认）
+     * @return 返回保存选项
+     */
+    public SaveOptions setDeflateLevel(int deflateLevel) {
+        if (deflateLevel < Deflater.DEFAULT_COMPRESSION || deflateLevel > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("the deflate level must be between -1 and 9");
+        }
+        this.deflateLevel = deflateLevel;
+        return this;
+    }
+
+    /**
+     * 开启流压缩
+     * <p>注：保存前以flate压缩未过滤的流（元数据流除外），压缩后未变小的流保持不变</p>
+     *
+     * @return 返回保存选项
+     */
+    public SaveOptions enableStreamCompression() {
+        this.isCompressStreams = true;
+        return this;
+    }
+
+    /**
+     * 开启流重新压缩
+     * <p>注：保存前以指定级别重新压缩仅使用flate过滤器且无解码参数的流，已压缩的图像（DCT/JPX/CCITT/JBIG2）等其他过滤器的流不处理</p>
+     *
+     * @return 返回保存选项
+     */
+    public SaveOptions enableStreamRecompression() {
+        this.isRecompressStreams = true;
+        return this;
+    }
+
+    /**
+     * 设置最小流长度
+     *
+     * @param minStreamLength 最小流长度（小于该长度的流不处理）
+     * @return 返回保存选项
+     */
+    public SaveOptions setMinStreamLength(int minStreamLength) {
+        if (minStreamLength < 0) {
+            throw new IllegalArgumentException("the min stream length can not be less than 0");
+        }
+        this.minStreamLength = minStreamLength;
+        return this;
+    }
+
+    /**
+     * 设置并行数量
+     * <p>注：大于1时由工作线程并行压缩流（流数据在调用线程中读取并写回），同时存活的流数据不超过并行数量</p>
+     *
+     * @param parallelism 并行数量（工作线程数量）
+     * @return 返回保存选项
+     */
+    public SaveOptions setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("the parallelism must be greater than 0");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * 是否开启流压缩阶段
+     *
+     * @return 返回布尔值，true为是，false为否
+     */
+    boolean isStreamStageEnabled() {
+        return this.isCompressStreams || this.isRecompressStreams;
+    }
+
+    /**
+     * 是否压缩未过滤的流
+     *
+     * @return 返回布尔值，true为是，false为否
+     */
+    boolean isCompressStreams() {
+        return this.isCompressStreams;
+    }
+
+    /**
+     * 是否重新压缩flate流
+     *
+     * @return 返回布尔值，true为是，false为否
+     */
+    boolean isRecompressStreams() {
+        return this.isRecompressStreams;
+    }
+
+    /**
+     * 获取压缩级别
+     *
+     * @return 返回压缩级别
+     */
+    int getDeflateLevel() {
+        return this.deflateLevel;
+    }
+
+    /**
+     * 获取最小流长度
+     *
+     * @return 返回最小流长度
+     */
+    int getMinStreamLength() {
+        return this.minStreamLength;
+    }
+
+    /**
+     * 获取并行数量
+     *
+     * @return 返回并行数量
+     */
+    int getParallelism() {
+        return this.parallelism;
+    }
+
+    /**
+     * 创建pdfbox压缩参数
+     *
+     * @return 返回压缩参数
+     */
+    CompressParameters createCompressParameters() {
+        return this.objectStreamSize == 0 ? CompressParameters.NO_COMPRESSION : new CompressParameters(this.objectStreamSize);
+    }
+}
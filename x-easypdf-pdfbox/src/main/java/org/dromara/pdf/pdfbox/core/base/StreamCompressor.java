@@ -0,0 +1,311 @@
+package org.dromara.pdf.pdfbox.core.base;
+
+import lombok.SneakyThrows;
+import org.dromara.pdf.pdfbox.support.OrderedExecutor;
+import org.dromara.pdf.shade.org.apache.pdfbox.cos.*;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDDocument;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 流压缩器（保存前的流压缩阶段）
+ * <p>注：在调用线程中遍历文档对象并读取流数据，由工作线程并行压缩，压缩结果在调用线程中写回，同时存活的流数据不超过并行数量</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+class StreamCompressor {
+
+    /**
+     * 不处理的流类型
+     */
+    protected static final Set<COSName> EXCLUDED_TYPES = new HashSet<>(
+            Arrays.asList(COSName.METADATA, COSName.XREF, COSName.OBJ_STM)
+    );
+
+    /**
+     * 保存选项
+     */
+    protected final SaveOptions options;
+
+    /**
+     * 有参构造
+     *
+     * @param options 保存选项
+     */
+    StreamCompressor(SaveOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * 压缩文档流
+     *
+     * @param document pdfbox文档
+     * @return 返回替换的流数量
+     */
+    @SneakyThrows
+    int compress(PDDocument document) {
+        // 收集流
+        List<COSStream> streams = this.collect(document.getDocument().getTrailer());
+        // 定义替换数量
+        AtomicInteger count = new AtomicInteger();
+        // 压缩流（限制同时存活的流数据数量）
+        try (OrderedExecutor executor = new OrderedExecutor("compress", this.options.getParallelism())) {
+            executor.execute(
+                    streams.size(),
+                    index -> this.createTask(streams.get(index)),
+                    (index, compressed) -> count.addAndGet(this.writeBack(compressed))
+            );
+        }
+        return count.get();
+    }
+
+    /**
+     * 收集待压缩的流
+     * <p>注：从文件尾字典开始遍历，加密字典不遍历</p>
+     *
+     * @param trailer 文件尾字典
+     * @return 返回流列表
+     */
+    protected List<COSStream> collect(COSDictionary trailer) {
+        List<COSStream> streams = new ArrayList<>();
+        Set<COSBase> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<COSBase> stack = new ArrayDeque<>();
+        for (Map.Entry<COSName, COSBase> entry : trailer.entrySet()) {
+            if (!COSName.ENCRYPT.equals(entry.getKey())) {
+                stack.push(entry.getValue());
+            }
+        }
+        while (!stack.isEmpty()) {
+            COSBase base = stack.pop();
+            if (base instanceof COSObject) {
+                base = ((COSObject) base).getObject();
+            }
+            if (Objects.isNull(base) || !visited.add(base)) {
+                continue;
+            }
+            if (base instanceof COSDictionary) {
+                if (base instanceof COSStream && this.isCompressible((COSStream) base)) {
+                    streams.add((COSStream) base);
+                }
+                for (COSBase value : ((COSDictionary) base).getValues()) {
+                    stack.push(value);
+                }
+            } else if (base instanceof COSArray) {
+                for (COSBase value : (COSArray) base) {
+                    stack.push(value);
+                }
+            }
+        }
+        return streams;
+    }
+
+    /**
+     * 是否可压缩
+     *
+     * @param stream 流
+     * @return 返回布尔值，true为是，false为否
+     */
+    protected boolean isCompressible(COSStream stream) {
+        if (EXCLUDED_TYPES.contains(stream.getCOSName(COSName.TYPE)) || stream.getLength() < this.options.getMinStreamLength()) {
+            return false;
+        }
+        COSBase filter = stream.getDictionaryObject(COSName.FILTER);
+        if (Objects.isNull(filter)) {
+            return this.options.isCompressStreams();
+        }
+        return this.options.isRecompressStreams() && this.isFlateOnly(filter) && Objects.isNull(stream.getDictionaryObject(COSName.DECODE_PARMS, COSName.DP));
+    }
+
+    /**
+     * 是否仅使用flate过滤器
+     *
+     * @param filter 过滤器
+     * @return 返回布尔值，true为是，false为否
+     */
+    protected boolean isFlateOnly(COSBase filter) {
+        if (filter instanceof COSArray) {
+            COSArray array = (COSArray) filter;
+            return array.size() == 1 && this.isFlateOnly(array.getObject(0));
+        }
+        return COSName.FLATE_DECODE.equals(filter) || COSName.FLATE_DECODE_ABBREVIATION.equals(filter);
+    }
+
+    /**
+     * 创建压缩任务
+     *
+     * @param stream 流
+     * @return 返回压缩任务
+     */
+    @SneakyThrows
+    protected CompressTask createTask(COSStream stream) {
+        try (InputStream inputStream = stream.createRawInputStream()) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream((int) Math.min(Integer.MAX_VALUE - 8, stream.getLength()));
+            byte[] buffer = new byte[8192];
+            int length;
+            while ((length = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, length);
+            }
+            return new CompressTask(stream, outputStream.toByteArray(), stream.containsKey(COSName.FILTER), this.options.getDeflateLevel());
+        }
+    }
+
+    /**
+     * 写回压缩数据
+     *
+     * @param compressed 压缩结果
+     * @return 返回替换数量
+     */
+    @SneakyThrows
+    protected int writeBack(CompressedStream compressed) {
+        if (Objects.isNull(compressed.data)) {
+            return 0;
+        }
+        try (OutputStream outputStream = compressed.stream.createRawOutputStream()) {
+            outputStream.write(compressed.data);
+        }
+        compressed.stream.setItem(COSName.FILTER, COSName.FLATE_DECODE);
+        return 1;
+    }
+
+    /**
+     * 压缩任务（不访问文档）
+     */
+    protected static class CompressTask implements Callable<CompressedStream> {
+
+        /**
+         * 流
+         */
+        protected final COSStream stream;
+        /**
+         * 原始数据
+         */
+        protected final byte[] raw;
+        /**
+         * 是否flate数据
+         */
+        protected final boolean isFlate;
+        /**
+         * 压缩级别
+         */
+        protected final int level;
+
+        /**
+         * 有参构造
+         *
+         * @param stream  流
+         * @param raw     原始数据
+         * @param isFlate 是否flate数据
+         * @param level   压缩级别
+         */
+        protected CompressTask(COSStream stream, byte[] raw, boolean isFlate, int level) {
+            this.stream = stream;
+            this.raw = raw;
+            this.isFlate = isFlate;
+            this.level = level;
+        }
+
+        /**
+         * 执行任务
+         *
+         * @return 返回压缩结果（数据为空时保持不变）
+         */
+        @Override
+        public CompressedStream call() {
+            byte[] data;
+            try {
+                data = this.isFlate ? this.inflate(this.raw) : this.raw;
+            } catch (IOException e) {
+                // 无法解压的数据保持不变
+                return new CompressedStream(this.stream, null);
+            }
+            byte[] compressed = this.deflate(data);
+            return new CompressedStream(this.stream, compressed.length < this.raw.length ? compressed : null);
+        }
+
+        /**
+         * 解压数据
+         *
+         * @param data 数据
+         * @return 返回解压数据
+         * @throws IOException IO异常
+         */
+        protected byte[] inflate(byte[] data) throws IOException {
+            Inflater inflater = new Inflater();
+            try (InputStream inputStream = new InflaterInputStream(new ByteArrayInputStream(data), inflater, 8192)) {
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream(data.length * 4);
+                byte[] buffer = new byte[8192];
+                int length;
+                while ((length = inputStream.read(buffer)) != -1) {
+                    outputStream.write(buffer, 0, length);
+                }
+                return outputStream.toByteArray();
+            } finally {
+                inflater.end();
+            }
+        }
+
+        /**
+         * 压缩数据
+         *
+         * @param data 数据
+         * @return 返回压缩数据
+         */
+        @SneakyThrows
+        protected byte[] deflate(byte[] data) {
+            Deflater deflater = new Deflater(this.level);
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(Math.max(64, data.length / 2));
+            try (DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(outputStream, deflater, 8192)) {
+                deflaterOutputStream.write(data);
+            } finally {
+                deflater.end();
+            }
+            return outputStream.toByteArray();
+        }
+    }
+
+    /**
+     * 压缩结果
+     */
+    protected static class CompressedStream {
+
+        /**
+         * 流
+         */
+        protected final COSStream stream;
+        /**
+         * 压缩数据（为空时保持不变）
+         */
+        protected final byte[] data;
+
+        /**
+         * 有参构造
+         *
+         * @param stream 流
+         * @param data   压缩数据
+         */
+        protected CompressedStream(COSStream stream, byte[] data) {
+            this.stream = stream;
+            this.data = data;
+        }
+    }
+}
@@ -599,6 +599,10 @@ public abstract class AbstractPageHeaderOrFooter extends AbstractBase {
      * @param component 组件
      */
     public void renderComponent(Component component) {
+        // 检查嵌套表格（流式表格不能嵌套）
+        if (component instanceof Table) {
+            ((Table) component).checkStreaming();
+        }
         // 初始化类型
         component.getContext().setExecutingComponentType(this.getType());
         // 初始化X轴换行起始坐标
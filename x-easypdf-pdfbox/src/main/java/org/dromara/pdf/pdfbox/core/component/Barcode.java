@@ -14,11 +14,22 @@ import org.dromara.pdf.pdfbox.core.base.BorderData;
 import org.dromara.pdf.pdfbox.core.base.Page;
 import org.dromara.pdf.pdfbox.core.enums.*;
 import org.dromara.pdf.pdfbox.handler.FontHandler;
+import org.dromara.pdf.pdfbox.support.BarcodeMatrixCache;
+import org.dromara.pdf.pdfbox.support.Constants;
+import org.dromara.pdf.pdfbox.support.ImageXObjectCache;
 import org.dromara.pdf.pdfbox.util.BorderUtil;
 import org.dromara.pdf.pdfbox.util.CommonUtil;
 import org.dromara.pdf.pdfbox.util.ImageUtil;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDDocument;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDResources;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.font.PDFont;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.graphics.form.PDFormXObject;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.graphics.state.RenderingMode;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.interactive.annotation.PDAppearanceStream;
+import org.dromara.pdf.shade.org.apache.pdfbox.util.Matrix;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
@@ -135,6 +146,10 @@ public class Barcode extends AbstractComponent {
      * 是否缓存
      */
     protected Boolean isCache;
+    /**
+     * 是否矢量（以矩形绘制模块，文字以真实文本写入）
+     */
+    protected Boolean isVector;
 
     /**
      * 有参构造
@@ -326,6 +341,10 @@ public class Barcode extends AbstractComponent {
         if (Objects.isNull(this.isCache)) {
             this.isCache = Boolean.FALSE;
         }
+        // 初始化是否矢量
+        if (Objects.isNull(this.isVector)) {
+            this.isVector = Boolean.FALSE;
+        }
         // 初始化起始XY轴坐标
         this.initBeginXY(this.width, this.height);
     }
@@ -392,21 +411,31 @@ public class Barcode extends AbstractComponent {
     protected void writeContents() {
         if (!this.getContext().getIsVirtualRender()) {
             // 新建内容流
-            PDPageContentStream contentStream = new PDPageContentStream(
-                    this.getContext().getTargetDocument(),
-                    this.getContext().getTargetPage(),
-                    this.getContentMode().getMode(),
-                    true,
-                    this.getIsResetContentStream()
-            );
+            PDPageContentStream contentStream = this.getContext().getContentStream(this.getContentMode(), this.getIsResetContentStream());
             // 初始化矩阵
             CommonUtil.initMatrix(contentStream, this.getBeginX(), this.getBeginY(), this.getRelativeBeginX(), this.getRelativeBeginY(), this.getWidth(), this.getHeight(), this.getAngle(), this.getAlpha());
-            // 添加图像
-            contentStream.drawImage(this.getImageXObject(), 0, 0, this.getWidth(), this.getHeight());
+            // 矢量
+            if (this.isVector) {
+                // 获取表单对象
+                PDFormXObject form = this.getFormXObject();
+                // 保存图形状态
+                contentStream.saveGraphicsState();
+                // 缩放至目标尺寸
+                contentStream.transform(Matrix.getScaleInstance(this.getWidth() / form.getBBox().getWidth(), this.getHeight() / form.getBBox().getHeight()));
+                // 添加表单
+                contentStream.drawForm(form);
+                // 恢复图形状态
+                contentStream.restoreGraphicsState();
+            } else {
+                // 添加图像
+                contentStream.drawImage(this.getImageXObject(), 0, 0, this.getWidth(), this.getHeight());
+            }
             // 添加边框
             BorderUtil.drawNormalBorder(contentStream, CommonUtil.getRectangle(this.getWidth(), this.getHeight()), BorderData.create(this, this.getBorderConfiguration()), this.getPage().getBackgroundColor());
+            // 恢复图形状态
+            contentStream.restoreGraphicsState();
             // 关闭内容流
-            contentStream.close();
+            this.getContext().closeContentStream(contentStream);
         }
     }
 
@@ -433,12 +462,28 @@ public class Barcode extends AbstractComponent {
         if (this.isCache) {
             return this.getContext().getImageCache().computeIfAbsent(
                     this.cacheKey(),
-                    key -> CommonUtil.createImage(this.getContext().getTargetDocument(), ImageUtil.toBytes(this.createBarcodeImage(), ImageType.JPEG.getType()))
+                    key -> ImageXObjectCache.getGlobalCache().getImage(
+                            this.getContext().getTargetDocument(),
+                            key,
+                            () -> ImageUtil.toBytes(this.createBarcodeImage(), ImageType.JPEG.getType())
+                    )
             );
         }
         return CommonUtil.createImage(this.getContext().getTargetDocument(), ImageUtil.toBytes(this.createBarcodeImage(), ImageType.JPEG.getType()));
     }
 
+    /**
+     * 获取表单对象
+     *
+     * @return 返回表单对象
+     */
+    protected PDFormXObject getFormXObject() {
+        if (this.isCache) {
+            return this.getContext().getFormCache().computeIfAbsent(this.cacheKey(), key -> this.createBarcodeForm());
+        }
+        return this.createBarcodeForm();
+    }
+
     /**
      * 获取条形码图像
      *
@@ -460,15 +505,7 @@ public class Barcode extends AbstractComponent {
         // 初始化宽高
         this.initWidthAndHeight();
         // 获取图像
-        BufferedImage bufferedImage = this.toBufferedImage(
-                new MultiFormatWriter().encode(
-                        this.getContent(),
-                        this.getCodeType().getCodeFormat(),
-                        this.getImageWidth(),
-                        this.getImageHeight(),
-                        this.getEncodeHints()
-                )
-        );
+        BufferedImage bufferedImage = this.toBufferedImage(this.createBitMatrix());
         // 如果显示文字，则添加图像文字
         if (Optional.ofNullable(this.getIsShowWords()).orElse(Boolean.FALSE)) {
             // 添加图像文字
@@ -478,6 +515,201 @@ public class Barcode extends AbstractComponent {
         return bufferedImage;
     }
 
+    /**
+     * 创建条形码表单
+     * <p>注：表单尺寸与条形码图像一致，模块以合并后的矩形绘制，文字以真实文本写入</p>
+     *
+     * @return 返回条形码表单
+     */
+    @SneakyThrows
+    protected PDFormXObject createBarcodeForm() {
+        // 初始化宽高
+        this.initWidthAndHeight();
+        // 获取位矩阵
+        BitMatrix matrix = this.createBitMatrix();
+        // 移除白边
+        if (Optional.ofNullable(this.getIsNoWhiteBorder()).orElse(Boolean.FALSE)) {
+            matrix = this.removeWhiteBorder(matrix);
+        }
+        // 获取是否显示文字
+        boolean isShowWords = Optional.ofNullable(this.getIsShowWords()).orElse(Boolean.FALSE);
+        // 获取宽度
+        float width = matrix.getWidth();
+        // 获取条形码高度
+        float codeHeight = matrix.getHeight();
+        // 获取总高度
+        float height = isShowWords ? codeHeight + Optional.ofNullable(this.getWordsSize()).orElse(10) : codeHeight;
+        // 获取文档
+        PDDocument document = this.getContext().getTargetDocument();
+        // 创建表单（外观流即表单对象，可使用文档上下文写入子集字体）
+        PDAppearanceStream form = new PDAppearanceStream(document);
+        // 设置边界
+        form.setBBox(new PDRectangle(width, height));
+        // 设置资源
+        form.setResources(new PDResources());
+        // 创建表单内容流
+        try (PDPageContentStream stream = new PDPageContentStream(document, form)) {
+            // 填充文字背景
+            if (isShowWords) {
+                stream.setNonStrokingColor(Color.WHITE);
+                stream.addRect(0, 0, width, height);
+                stream.fill();
+            }
+            // 填充背景
+            stream.setNonStrokingColor(Optional.ofNullable(this.getOffColor()).orElse(this.getPage().getBackgroundColor()));
+            stream.addRect(0, height - codeHeight, width, codeHeight);
+            stream.fill();
+            // 添加模块
+            stream.setNonStrokingColor(Optional.ofNullable(this.getOnColor()).orElse(Color.BLACK));
+            if (this.addModules(stream, matrix, height)) {
+                stream.fill();
+            }
+            // 添加文字
+            if (isShowWords) {
+                this.addFormWords(stream, width, codeHeight, height);
+            }
+        }
+        // 返回表单
+        return form;
+    }
+
+    /**
+     * 添加模块
+     * <p>注：每行中连续的模块合并为一个矩形，相同的相邻行合并为一组</p>
+     *
+     * @param stream 表单内容流
+     * @param matrix 位矩阵
+     * @param top    顶部Y轴坐标
+     * @return 返回是否添加
+     */
+    @SneakyThrows
+    protected boolean addModules(PDPageContentStream stream, BitMatrix matrix, float top) {
+        // 获取宽度
+        int width = matrix.getWidth();
+        // 获取高度
+        int height = matrix.getHeight();
+        // 定义是否添加
+        boolean isAdded = false;
+        // 定义当前行
+        BitArray row = new BitArray(width);
+        // 定义分组首行
+        BitArray groupRow = null;
+        // 定义分组起始行
+        int groupBegin = 0;
+        // 循环高度
+        for (int y = 0; y <= height; y++) {
+            // 获取位数组
+            if (y < height) {
+                row = matrix.getRow(y, row);
+                // 与分组首行相同，则合并
+                if (Objects.nonNull(groupRow) && groupRow.equals(row)) {
+                    continue;
+                }
+            }
+            // 添加分组
+            if (Objects.nonNull(groupRow)) {
+                // 分组行数
+                int rows = y - groupBegin;
+                // 获取起始模块
+                int x = groupRow.getNextSet(0);
+                // 循环模块
+                while (x < width) {
+                    // 获取结束模块
+                    int end = groupRow.getNextUnset(x);
+                    // 添加矩形
+                    stream.addRect(x, top - groupBegin - rows, end - x, rows);
+                    // 重置是否添加
+                    isAdded = true;
+                    // 获取下一个起始模块
+                    x = groupRow.getNextSet(end);
+                }
+            }
+            // 开始新分组
+            if (y < height) {
+                groupRow = row.clone();
+                groupBegin = y;
+            }
+        }
+        return isAdded;
+    }
+
+    /**
+     * 添加表单文字
+     *
+     * @param stream     表单内容流
+     * @param width      宽度
+     * @param codeHeight 条形码高度
+     * @param height     总高度
+     */
+    @SneakyThrows
+    protected void addFormWords(PDPageContentStream stream, float width, float codeHeight, float height) {
+        // 获取文字
+        String words = Optional.ofNullable(this.getWords()).orElse(this.getContent());
+        // 获取字体
+        PDFont font = this.getContext().getFont(Optional.ofNullable(this.getWordsFontName()).orElse(this.getPage().getFontName()));
+        // 获取文字颜色
+        Color wordsColor = Optional.ofNullable(this.getWordsColor()).orElse(Color.BLACK);
+        // 获取文字大小
+        int wordsSize = Optional.ofNullable(this.getWordsSize()).orElse(10);
+        // 获取文字样式
+        BarcodeWordsStyle wordsStyle = Optional.ofNullable(this.getWordsStyle()).orElse(BarcodeWordsStyle.NORMAL);
+        // 文字长度
+        float strWidth = font.getStringWidth(words) / 1000F * wordsSize;
+        // 定义X轴开始坐标（居中显示）
+        float beginX = (width - strWidth) / 2 + Optional.ofNullable(this.getWordsOffsetX()).orElse(0);
+        // 定义Y轴开始坐标
+        float beginY = height - codeHeight - Optional.ofNullable(this.getWordsOffsetY()).orElse(0);
+        // 定义倾斜度
+        float slope = (wordsStyle.getStyle() & Font.ITALIC) != 0 ? Constants.DEFAULT_FONT_ITALIC_SLOPE : 0F;
+        // 开启文本输入
+        stream.beginText();
+        // 设置字体
+        stream.setFont(font, wordsSize);
+        // 设置文字颜色
+        stream.setNonStrokingColor(wordsColor);
+        // 加粗
+        if ((wordsStyle.getStyle() & Font.BOLD) != 0) {
+            stream.setRenderingMode(RenderingMode.FILL_STROKE);
+            stream.setStrokingColor(wordsColor);
+            stream.setLineWidth(CommonUtil.initLineWidth(FontStyle.BOLD));
+        }
+        // 设置文本矩阵
+        stream.setTextMatrix(new Matrix(1, 0, slope, 1, beginX, beginY));
+        // 添加文字
+        stream.showText(words);
+        // 结束文本写入
+        stream.endText();
+    }
+
+    /**
+     * 创建位矩阵
+     * <p>注：开启缓存时使用全局位矩阵缓存，返回的位矩阵不可修改</p>
+     *
+     * @return 返回位矩阵
+     */
+    protected BitMatrix createBitMatrix() {
+        if (Optional.ofNullable(this.getIsCache()).orElse(Boolean.FALSE)) {
+            return BarcodeMatrixCache.getGlobalCache().getMatrix(this.matrixKey(), this::encodeBitMatrix);
+        }
+        return this.encodeBitMatrix();
+    }
+
+    /**
+     * 编码位矩阵
+     *
+     * @return 返回位矩阵
+     */
+    @SneakyThrows
+    protected BitMatrix encodeBitMatrix() {
+        return new MultiFormatWriter().encode(
+                this.getContent(),
+                this.getCodeType().getCodeFormat(),
+                this.getImageWidth(),
+                this.getImageHeight(),
+                this.getEncodeHints()
+        );
+    }
+
     /**
      * 转图像
      *
@@ -612,11 +844,12 @@ public class Barcode extends AbstractComponent {
 
     /**
      * 缓存key
+     * <p>注：包含全部影响输出的配置，不同配置不会产生相同的键</p>
      *
      * @return 返回缓存key
      */
     protected String cacheKey() {
-        return Long.toHexString(Objects.hash(
+        return BarcodeMatrixCache.createKey(
                 this.encodeHints,
                 this.width,
                 this.height,
@@ -634,7 +867,24 @@ public class Barcode extends AbstractComponent {
                 this.wordsOffsetX,
                 this.wordsOffsetY,
                 this.isShowWords,
-                this.isNoWhiteBorder
-        ));
+                this.isNoWhiteBorder,
+                this.isVector
+        );
+    }
+
+    /**
+     * 位矩阵缓存key
+     * <p>注：仅包含影响编码的配置（类型、内容、编码提示、图像尺寸）</p>
+     *
+     * @return 返回位矩阵缓存key
+     */
+    protected String matrixKey() {
+        return BarcodeMatrixCache.createKey(
+                this.codeType,
+                this.content,
+                this.encodeHints,
+                this.imageWidth,
+                this.imageHeight
+        );
     }
 }
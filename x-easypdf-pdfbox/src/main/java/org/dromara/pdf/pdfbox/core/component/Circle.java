@@ -198,13 +198,7 @@ public class Circle extends AbstractComponent {
     protected void writeContents() {
         if (!this.getContext().getIsVirtualRender()) {
             // 新建内容流
-            PDPageContentStream contentStream = new PDPageContentStream(
-                    this.getContext().getTargetDocument(),
-                    this.getContext().getTargetPage(),
-                    this.getContentMode().getMode(),
-                    true,
-                    this.getIsResetContentStream()
-            );
+            PDPageContentStream contentStream = this.getContext().getContentStream(this.getContentMode(), this.getIsResetContentStream());
             // 设置背景颜色
             contentStream.setNonStrokingColor(this.getBackgroundColor());
             // 设置边框颜色
@@ -212,7 +206,7 @@ public class Circle extends AbstractComponent {
             // 绘制边框圆形
             this.renderCircle(contentStream, this.getRadius());
             // 关闭内容流
-            contentStream.close();
+            this.getContext().closeContentStream(contentStream);
         }
     }
 
@@ -155,8 +155,10 @@ public class DiagonalLine extends AbstractComponent {
         stream.lineTo(width, height);
         // 结束
         stream.stroke();
+        // 恢复图形状态
+        stream.restoreGraphicsState();
         // 关闭内容流
-        stream.close();
+        this.getContext().closeContentStream(stream);
     }
 
     /**
@@ -173,7 +175,7 @@ public class DiagonalLine extends AbstractComponent {
         // 结束
         stream.stroke();
         // 关闭内容流
-        stream.close();
+        this.getContext().closeContentStream(stream);
     }
 
     /**
@@ -193,13 +195,7 @@ public class DiagonalLine extends AbstractComponent {
     @SneakyThrows
     protected PDPageContentStream initContentStream() {
         // 创建内容流
-        PDPageContentStream stream = new PDPageContentStream(
-                this.getContext().getTargetDocument(),
-                this.getContext().getTargetPage(),
-                this.getContentMode().getMode(),
-                true,
-                this.getIsResetContentStream()
-        );
+        PDPageContentStream stream = this.getContext().getContentStream(this.getContentMode(), this.getIsResetContentStream());
         // 设置线宽
         stream.setLineWidth(this.getLineWidth());
         // 设置颜色
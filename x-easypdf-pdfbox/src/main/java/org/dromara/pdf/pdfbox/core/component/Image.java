@@ -8,11 +8,15 @@ import org.dromara.pdf.pdfbox.core.base.BorderData;
 import org.dromara.pdf.pdfbox.core.base.Page;
 import org.dromara.pdf.pdfbox.core.enums.ComponentType;
 import org.dromara.pdf.pdfbox.core.enums.ImageType;
+import org.dromara.pdf.pdfbox.support.ImageTranscoder;
 import org.dromara.pdf.pdfbox.util.BorderUtil;
 import org.dromara.pdf.pdfbox.util.CommonUtil;
 import org.dromara.pdf.pdfbox.util.ImageUtil;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.graphics.form.PDFormXObject;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.dromara.pdf.shade.org.apache.pdfbox.util.Matrix;
 
 import java.awt.image.BufferedImage;
 import java.io.File;
@@ -46,6 +50,10 @@ public class Image extends AbstractComponent {
      * pdfbox图像对象
      */
     protected PDImageXObject image;
+    /**
+     * pdfbox表单对象（svg矢量图像）
+     */
+    protected PDFormXObject form;
     /**
      * 宽度
      */
@@ -142,7 +150,39 @@ public class Image extends AbstractComponent {
     @SneakyThrows
     public void setImage(byte[] bytes) {
         Objects.requireNonNull(bytes, "the image bytes can not be null");
-        this.image = this.getContext().getImageCache().computeIfAbsent(CommonUtil.getImageDigest(bytes), key -> CommonUtil.createImage(this.getContext().getTargetDocument(), bytes));
+        this.image = this.getContext().getImageCache().computeIfAbsent(CommonUtil.getImageDigest(bytes), key -> CommonUtil.createImage(this.getContext().getTargetDocument(), bytes, key));
+        this.form = null;
+    }
+
+    /**
+     * 设置矢量图片
+     *
+     * @param file svg文件
+     */
+    @SneakyThrows
+    public void setVectorImage(File file) {
+        Objects.requireNonNull(file, "the image file can not be null");
+        this.setVectorImage(Files.readAllBytes(file.toPath()));
+    }
+
+    /**
+     * 设置矢量图片
+     * <p>注：svg以矢量绘制指令（表单对象）写入，包含渐变、滤镜、遮罩、文本等无法转换的内容时，转码为png图像</p>
+     *
+     * @param bytes svg字节数组
+     */
+    public void setVectorImage(byte[] bytes) {
+        Objects.requireNonNull(bytes, "the image bytes can not be null");
+        PDFormXObject form = this.getContext().getFormCache().computeIfAbsent(
+                CommonUtil.getImageDigest(bytes),
+                key -> ImageTranscoder.getGlobalTranscoder().createForm(this.getContext().getTargetDocument(), bytes)
+        );
+        if (Objects.isNull(form)) {
+            this.setImage(bytes);
+        } else {
+            this.form = form;
+            this.image = null;
+        }
     }
 
     /**
@@ -161,7 +201,9 @@ public class Image extends AbstractComponent {
     @Override
     protected void init() {
         // 校验图片
-        Objects.requireNonNull(this.getImage(), "the image can not be null");
+        if (Objects.isNull(this.getForm())) {
+            Objects.requireNonNull(this.getImage(), "the image can not be null");
+        }
         // 初始化
         super.init();
         // 初始化宽度与高度
@@ -190,12 +232,12 @@ public class Image extends AbstractComponent {
         // 初始化宽度
         if (Objects.isNull(this.width)) {
             // 初始化宽度
-            this.width = (int) (this.image.getWidth() * this.scale);
+            this.width = (int) ((Objects.nonNull(this.form) ? this.form.getBBox().getWidth() : this.image.getWidth()) * this.scale);
         }
         // 初始化高度
         if (Objects.isNull(this.height)) {
             // 初始化高度
-            this.height = (int) (this.image.getHeight() * this.scale);
+            this.height = (int) ((Objects.nonNull(this.form) ? this.form.getBBox().getHeight() : this.image.getHeight()) * this.scale);
         }
         // 重置宽度
         this.width = (int) Math.min(this.width, this.getPage().getWithoutMarginWidth());
@@ -247,21 +289,30 @@ public class Image extends AbstractComponent {
     protected void writeContents() {
         if (!this.getContext().getIsVirtualRender()) {
             // 新建内容流
-            PDPageContentStream contentStream = new PDPageContentStream(
-                    this.getContext().getTargetDocument(),
-                    this.getContext().getTargetPage(),
-                    this.getContentMode().getMode(),
-                    true,
-                    this.getIsResetContentStream()
-            );
+            PDPageContentStream contentStream = this.getContext().getContentStream(this.getContentMode(), this.getIsResetContentStream());
             // 初始化矩阵
             CommonUtil.initMatrix(contentStream, this.getBeginX(), this.getBeginY(), this.getRelativeBeginX(), this.getRelativeBeginY(), this.getWidth(), this.getHeight(), this.getAngle(), this.getAlpha());
-            // 添加图像
-            contentStream.drawImage(this.getImage(), 0, 0, this.getWidth(), this.getHeight());
+            // 添加表单
+            if (Objects.nonNull(this.getForm())) {
+                // 保存图形状态
+                contentStream.saveGraphicsState();
+                // 缩放至目标尺寸
+                PDRectangle box = this.getForm().getBBox();
+                contentStream.transform(Matrix.getScaleInstance(this.getWidth() / box.getWidth(), this.getHeight() / box.getHeight()));
+                // 添加表单
+                contentStream.drawForm(this.getForm());
+                // 恢复图形状态
+                contentStream.restoreGraphicsState();
+            } else {
+                // 添加图像
+                contentStream.drawImage(this.getImage(), 0, 0, this.getWidth(), this.getHeight());
+            }
             // 添加边框
             BorderUtil.drawNormalBorder(contentStream, CommonUtil.getRectangle(this.getWidth(), this.getHeight()), BorderData.create(this, this.getBorderConfiguration()), this.getPage().getBackgroundColor());
+            // 恢复图形状态
+            contentStream.restoreGraphicsState();
             // 关闭内容流
-            contentStream.close();
+            this.getContext().closeContentStream(contentStream);
         }
     }
 
@@ -159,7 +159,7 @@ public class ImageWatermark extends AbstractBase implements Watermark {
     @SneakyThrows
     public void setImage(byte[] bytes) {
         Objects.requireNonNull(bytes, "the image bytes can not be null");
-        this.image = this.getContext().getImageCache().computeIfAbsent(CommonUtil.getImageDigest(bytes), key -> CommonUtil.createImage(this.getContext().getTargetDocument(), bytes));
+        this.image = this.getContext().getImageCache().computeIfAbsent(CommonUtil.getImageDigest(bytes), key -> CommonUtil.createImage(this.getContext().getTargetDocument(), bytes, key));
     }
 
     /**
@@ -291,13 +291,7 @@ public class ImageWatermark extends AbstractBase implements Watermark {
     @SneakyThrows
     protected void writeImage(Page page, float beginX, float beginY) {
         // 初始化内容流
-        PDPageContentStream stream = new PDPageContentStream(
-                this.getContext().getTargetDocument(),
-                page.getTarget(),
-                this.getContentMode().getMode(),
-                true,
-                this.getIsResetContentStream()
-        );
+        PDPageContentStream stream = this.getContext().getContentStream(page.getTarget(), this.getContentMode(), this.getIsResetContentStream());
         // 创建扩展图形状态
         PDExtendedGraphicsState state = new PDExtendedGraphicsState();
         // 设置透明度
@@ -307,6 +301,6 @@ public class ImageWatermark extends AbstractBase implements Watermark {
         // 添加图片
         stream.drawImage(this.getImage(), beginX, beginY, this.getWidth(), this.getHeight());
         // 关闭流
-        stream.close();
+        this.getContext().closeContentStream(stream);
     }
 }
@@ -184,8 +184,10 @@ public class Line extends AbstractComponent {
         }
         // 描边
         stream.stroke();
+        // 恢复图形状态
+        stream.restoreGraphicsState();
         // 关闭内容流
-        stream.close();
+        this.getContext().closeContentStream(stream);
     }
 
     /**
@@ -209,13 +211,7 @@ public class Line extends AbstractComponent {
     @SneakyThrows
     protected PDPageContentStream initContentStream() {
         // 创建内容流
-        PDPageContentStream stream = new PDPageContentStream(
-                this.getContext().getTargetDocument(),
-                this.getContext().getTargetPage(),
-                this.getContentMode().getMode(),
-                true,
-                this.getIsResetContentStream()
-        );
+        PDPageContentStream stream = this.getContext().getContentStream(this.getContentMode(), this.getIsResetContentStream());
         // 设置线宽
         stream.setLineWidth(this.getLineWidth());
         // 设置颜色
@@ -147,13 +147,7 @@ public class Rectangle extends AbstractComponent {
     protected void writeContents() {
         if (!this.getContext().getIsVirtualRender()) {
             // 新建内容流
-            PDPageContentStream contentStream = new PDPageContentStream(
-                    this.getContext().getTargetDocument(),
-                    this.getContext().getTargetPage(),
-                    this.getContentMode().getMode(),
-                    true,
-                    this.getIsResetContentStream()
-            );
+            PDPageContentStream contentStream = this.getContext().getContentStream(this.getContentMode(), this.getIsResetContentStream());
             // 创建矩形
             PDRectangle rectangle = CommonUtil.getRectangle(this.getWidth(), this.getHeight());
             // 初始化矩阵
@@ -170,7 +164,7 @@ public class Rectangle extends AbstractComponent {
             // 恢复图形状态
             contentStream.restoreGraphicsState();
             // 关闭内容流
-            contentStream.close();
+            this.getContext().closeContentStream(contentStream);
         }
     }
 
@@ -12,6 +12,7 @@ import org.dromara.pdf.pdfbox.util.CommonUtil;
 import java.awt.*;
 import java.util.*;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * 表格组件
@@ -47,6 +48,10 @@ public class Table extends AbstractComponent {
      * 行列表
      */
     protected List<TableRow> rows;
+    /**
+     * 行流（流式模式，优先于行列表）
+     */
+    protected TableRowStream rowStream;
     /**
      * 表尾
      */
@@ -200,6 +205,51 @@ public class Table extends AbstractComponent {
         }
     }
 
+    /**
+     * 设置行迭代器（流式模式）
+     * <p>注：渲染时逐行拉取、布局并释放，不再持有全部行；行流只能遍历一次，不支持按总高度居中或底部对齐</p>
+     * <p>注：流式表格不能虚拟渲染，也不能嵌套在单元格、页眉或页脚中（需预先测量高度），否则抛出{@link IllegalStateException}</p>
+     *
+     * @param iterator 行迭代器
+     */
+    public void setRowIterator(Iterator<TableRow> iterator) {
+        this.rowStream = Objects.isNull(iterator) ? null : new TableRowStream(iterator);
+    }
+
+    /**
+     * 设置行映射（流式模式）
+     * <p>注：渲染时逐条数据映射为行</p>
+     *
+     * @param data   数据
+     * @param mapper 行映射函数
+     * @param <T>    数据类型
+     */
+    public <T> void setRowMapper(Iterator<T> data, Function<T, TableRow> mapper) {
+        this.rowStream = TableRowStream.of(data, mapper);
+    }
+
+    /**
+     * 设置行映射（流式模式）
+     * <p>注：渲染时逐条数据映射为行</p>
+     *
+     * @param data   数据
+     * @param mapper 行映射函数
+     * @param <T>    数据类型
+     */
+    public <T> void setRowMapper(Iterable<T> data, Function<T, TableRow> mapper) {
+        Objects.requireNonNull(data, "the data can not be null");
+        this.setRowMapper(data.iterator(), mapper);
+    }
+
+    /**
+     * 是否流式模式
+     *
+     * @return 返回布尔值，true为是，false为否
+     */
+    public boolean isStreaming() {
+        return Objects.nonNull(this.rowStream);
+    }
+
     /**
      * 获取宽度
      *
@@ -214,11 +264,12 @@ public class Table extends AbstractComponent {
 
     /**
      * 获取高度
+     * <p>注：流式模式下总高度未知，返回0</p>
      *
      * @return 返回高度
      */
     public Float getHeight() {
-        if (Objects.isNull(this.rows)) {
+        if (Objects.isNull(this.rows) || this.isStreaming()) {
             return 0F;
         }
         return (float) this.rows.stream().mapToDouble(TableRow::getHeight).sum();
@@ -234,6 +285,28 @@ public class Table extends AbstractComponent {
         return ComponentType.TABLE;
     }
 
+    /**
+     * 虚拟渲染
+     * <p>注：流式模式不支持虚拟渲染（行流只能遍历一次，且总高度未知）</p>
+     */
+    @Override
+    public void virtualRender() {
+        // 检查流式模式
+        this.checkStreaming();
+        // 虚拟渲染
+        super.virtualRender();
+    }
+
+    /**
+     * 检查流式模式
+     * <p>注：虚拟渲染（含嵌套在单元格、页眉或页脚中的测量）需要完整遍历行并获取总高度，流式模式无法支持</p>
+     */
+    protected void checkStreaming() {
+        if (this.isStreaming()) {
+            throw new IllegalStateException("the streaming table can not be virtual rendered or nested in a table cell, page header or page footer, please use the rows instead");
+        }
+    }
+
     /**
      * 初始化
      */
@@ -314,8 +387,8 @@ public class Table extends AbstractComponent {
      * 初始化行
      */
     protected void initRows() {
-        // 判断行是否为空
-        if (Objects.nonNull(this.rows)) {
+        // 判断行是否为空（流式模式由行流初始化）
+        if (Objects.nonNull(this.rows) && !this.isStreaming()) {
             CommonUtil.initTableRows(this.rows);
         }
     }
@@ -352,12 +425,14 @@ public class Table extends AbstractComponent {
             // 渲染表头并重置起始Y轴坐标
             beginY = this.getHeader().render(page, beginX, beginY);
         }
-        // 获取行
-        List<TableRow> rows = this.getRows();
+        // 获取行迭代器
+        Iterator<TableRow> rows = this.getRowIterator();
         // 判断是否有行
         if (Objects.nonNull(rows)) {
             // 遍历行
-            for (TableRow tableRow : rows) {
+            while (rows.hasNext()) {
+                // 获取行
+                TableRow tableRow = rows.next();
                 // 判断是否为虚拟渲染
                 if (this.getContext().getIsVirtualRender()) {
                     // 虚拟渲染
@@ -396,6 +471,18 @@ public class Table extends AbstractComponent {
         this.reset(beginX, beginY);
     }
 
+    /**
+     * 获取行迭代器
+     *
+     * @return 返回行迭代器
+     */
+    protected Iterator<TableRow> getRowIterator() {
+        if (this.isStreaming()) {
+            return this.rowStream;
+        }
+        return Optional.ofNullable(this.rows).map(List::iterator).orElse(null);
+    }
+
     /**
      * 执行分页
      */
@@ -433,6 +520,9 @@ public class Table extends AbstractComponent {
         if (Objects.nonNull(this.header)) {
             return this.header.getHeight();
         }
+        if (this.isStreaming()) {
+            return Optional.ofNullable(this.rowStream.peek()).map(TableRow::getHeight).orElse(0F);
+        }
         return Optional.ofNullable(this.rows).map(rows -> rows.get(0).getHeight()).orElse(0F);
     }
 
@@ -313,6 +313,14 @@ public class TableCell extends BorderData {
         if (Objects.isNull(this.backgroundColor)) {
             this.backgroundColor = this.row.getBackgroundColor();
         }
+        // 检查嵌套表格（流式表格不能嵌套）
+        if (Objects.nonNull(this.components)) {
+            for (Component component : this.components) {
+                if (component instanceof Table) {
+                    ((Table) component).checkStreaming();
+                }
+            }
+        }
         // 初始化内容上边距
         if (Objects.isNull(this.contentMarginTop)) {
             this.contentMarginTop = this.row.getContentMarginTop();
@@ -548,13 +556,7 @@ public class TableCell extends BorderData {
         // 非圆角边框，非页面背景颜色
         if (info.getBorderLineCapStyle() != LineCapStyle.ROUND && !Objects.equals(info.getBackgroundColor(), context.getPage().getBackgroundColor())) {
             // 初始化内容流
-            PDPageContentStream stream = new PDPageContentStream(
-                    this.getContext().getTargetDocument(),
-                    this.getContext().getTargetPage(),
-                    info.getContentMode().getMode(),
-                    true,
-                    info.getIsResetContentStream()
-            );
+            PDPageContentStream stream = this.getContext().getContentStream(info.getContentMode(), info.getIsResetContentStream());
             // 设置背景颜色
             stream.setNonStrokingColor(info.getBackgroundColor());
             // 添加矩形
@@ -562,7 +564,7 @@ public class TableCell extends BorderData {
             // 填充
             stream.fill();
             // 关闭
-            stream.close();
+            this.getContext().closeContentStream(stream);
         }
     }
 }
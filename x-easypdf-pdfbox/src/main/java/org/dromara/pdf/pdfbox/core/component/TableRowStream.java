@@ -0,0 +1,184 @@
+package org.dromara.pdf.pdfbox.core.component;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 表格行流
+ * <p>注：按需拉取行并设置索引与前后行关系，仅预读跨行所需的后续行，已消费的行不再被引用，可被回收</p>
+ * <p>注：行流只能遍历一次</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class TableRowStream implements Iterator<TableRow> {
+
+    /**
+     * 行来源
+     */
+    protected final Iterator<TableRow> source;
+    /**
+     * 预读行
+     */
+    protected final LinkedList<TableRow> buffer = new LinkedList<>();
+    /**
+     * 最后拉取的行
+     */
+    protected TableRow lastFetched;
+    /**
+     * 最后返回的行
+     */
+    protected TableRow lastReturned;
+    /**
+     * 行索引
+     */
+    protected int index;
+
+    /**
+     * 有参构造
+     *
+     * @param source 行来源
+     */
+    public TableRowStream(Iterator<TableRow> source) {
+        this.source = Objects.requireNonNull(source, "the source can not be null");
+    }
+
+    /**
+     * 创建行流
+     *
+     * @param data   数据
+     * @param mapper 行映射函数
+     * @param <T>    数据类型
+     * @return 返回行流
+     */
+    public static <T> TableRowStream of(Iterator<T> data, Function<T, TableRow> mapper) {
+        Objects.requireNonNull(data, "the data can not be null");
+        Objects.requireNonNull(mapper, "the mapper can not be null");
+        return new TableRowStream(
+                new Iterator<TableRow>() {
+                    @Override
+                    public boolean hasNext() {
+                        return data.hasNext();
+                    }
+
+                    @Override
+                    public TableRow next() {
+                        return mapper.apply(data.next());
+                    }
+                }
+        );
+    }
+
+    /**
+     * 查看下一行（不消费）
+     *
+     * @return 返回下一行，无行时返回null
+     */
+    public TableRow peek() {
+        return this.fill(1) ? this.buffer.getFirst() : null;
+    }
+
+    /**
+     * 是否有下一行
+     *
+     * @return 返回布尔值，true为是，false为否
+     */
+    @Override
+    public boolean hasNext() {
+        return this.fill(1);
+    }
+
+    /**
+     * 获取下一行
+     *
+     * @return 返回下一行
+     */
+    @Override
+    public TableRow next() {
+        // 检查行
+        if (!this.fill(1)) {
+            throw new NoSuchElementException("no more rows");
+        }
+        // 获取行
+        TableRow row = this.buffer.removeFirst();
+        // 预读跨行所需的后续行
+        this.fill(this.getMaxRowspan(row));
+        // 断开已消费行的前行引用
+        if (Objects.nonNull(this.lastReturned)) {
+            this.lastReturned.setPrevious(null);
+        }
+        // 重置最后返回的行
+        this.lastReturned = row;
+        // 返回行
+        return row;
+    }
+
+    /**
+     * 获取已拉取行数
+     *
+     * @return 返回已拉取行数
+     */
+    public int getFetchedCount() {
+        return this.index;
+    }
+
+    /**
+     * 填充预读行
+     *
+     * @param count 预读数量
+     * @return 返回布尔值，true为预读数量已满足，false为行来源已耗尽
+     */
+    protected boolean fill(int count) {
+        while (this.buffer.size() < count) {
+            // 行来源已耗尽
+            if (!this.source.hasNext()) {
+                return false;
+            }
+            // 获取行
+            TableRow row = Objects.requireNonNull(this.source.next(), "the row can not be null");
+            // 设置索引
+            row.setIndex(this.index++);
+            // 设置前后行关系
+            if (Objects.nonNull(this.lastFetched)) {
+                row.setPrevious(this.lastFetched);
+                this.lastFetched.setNext(row);
+            }
+            // 重置最后拉取的行
+            this.lastFetched = row;
+            // 添加预读行
+            this.buffer.add(row);
+        }
+        return true;
+    }
+
+    /**
+     * 获取最大跨行数
+     *
+     * @param row 行
+     * @return 返回最大跨行数
+     */
+    protected int getMaxRowspan(TableRow row) {
+        int max = 0;
+        if (Objects.nonNull(row.getCells())) {
+            for (TableCell cell : row.getCells()) {
+                max = Math.max(max, cell.getRowspan());
+            }
+        }
+        return max;
+    }
+}
@@ -83,6 +83,10 @@ public class Textarea extends AbstractComponent {
      * 文本行列表
      */
     protected List<TextLineInfo> infoList;
+    /**
+     * 文本布局（虚拟渲染与实际渲染间复用）
+     */
+    protected TextLayout textLayout;
     /**
      * 上升值
      */
@@ -562,10 +566,10 @@ public class Textarea extends AbstractComponent {
      * @param tempTextList 临时文本列表
      */
     protected void initTextList(List<String> tempTextList) {
-        // 重置文本列表
-        this.infoList = new LinkedList<>();
         // 临时文本列表无内容
         if (tempTextList.isEmpty()) {
+            // 重置文本列表
+            this.infoList = new LinkedList<>();
             // 返回
             return;
         }
@@ -577,6 +581,22 @@ public class Textarea extends AbstractComponent {
         float firstWidth = context.getWrapWidth() + context.getWrapBeginX() - this.getBeginX();
         // 获取新行宽度
         float newWidth = context.getWrapWidth();
+        // 布局输入未变化（如虚拟渲染后实际渲染），复用已拆分的文本行
+        if (Objects.nonNull(this.textLayout) && this.textLayout.isMatch(tempTextList, font, this.getFontConfiguration(), this.textHandler.getTokenizer(), firstWidth, newWidth)) {
+            // 首行需换行
+            if (this.textLayout.isWrapFirstLine) {
+                // 重置起始坐标
+                this.wrapFirstLine();
+            }
+            // 复用文本列表
+            this.infoList = this.textLayout.infoList;
+            // 返回
+            return;
+        }
+        // 重置文本列表
+        this.infoList = new LinkedList<>();
+        // 定义首行是否换行
+        boolean isWrapFirstLine = false;
         // 获取首行文本
         String text = tempTextList.get(0);
         // 首行文本不为空
@@ -585,10 +605,10 @@ public class Textarea extends AbstractComponent {
             TextLineInfo firstContent = this.textHandler.splitText(this.getFontConfiguration(), font, text, firstWidth);
             // 首行内容为空
             if (Objects.isNull(firstContent)) {
-                // 重置起始X轴坐标
-                this.setBeginX(this.getContext().getWrapBeginX());
-                // 重置起始Y轴坐标
-                this.setBeginY(this.getContext().getCursor().getY() - this.getFontSize() - this.getLeading());
+                // 首行换行
+                isWrapFirstLine = true;
+                // 重置起始坐标
+                this.wrapFirstLine();
                 // 添加文本
                 this.infoList.addAll(this.textHandler.splitLines(this.getFontConfiguration(), font, text, newWidth));
             } else {
@@ -608,6 +628,19 @@ public class Textarea extends AbstractComponent {
                 this.infoList.addAll(this.textHandler.splitLines(this.getFontConfiguration(), font, str, newWidth));
             }
         }
+        // 记录文本布局
+        this.textLayout = new TextLayout(tempTextList, font, this.getFontConfiguration(), this.textHandler.getTokenizer(), firstWidth, newWidth, isWrapFirstLine, this.infoList);
+    }
+
+    /**
+     * 首行换行
+     * <p>注：首行放不下任何字符时，从下一行起始位置开始</p>
+     */
+    protected void wrapFirstLine() {
+        // 重置起始X轴坐标
+        this.setBeginX(this.getContext().getWrapBeginX());
+        // 重置起始Y轴坐标
+        this.setBeginY(this.getContext().getCursor().getY() - this.getFontSize() - this.getLeading());
     }
 
     /**
@@ -721,7 +754,7 @@ public class Textarea extends AbstractComponent {
                 }
             }
             // 关闭内容流
-            contentStream.close();
+            this.getContext().closeContentStream(contentStream);
             // 重置页面位置坐标
             this.resetPagePosition(position, textWidth);
         }
@@ -805,7 +838,7 @@ public class Textarea extends AbstractComponent {
             if (position.getY() > 0) {
                 this.initAfterPagingPosition(position);
                 // 关闭内容流
-                contentStream.close();
+                this.getContext().closeContentStream(contentStream);
                 // 重置内容流
                 return this.initContentStream();
             } else {
@@ -1056,13 +1089,7 @@ public class Textarea extends AbstractComponent {
         // 获取上下文
         Context context = this.getContext();
         // 初始化内容流
-        PDPageContentStream contentStream = new PDPageContentStream(
-                context.getTargetDocument(),
-                context.getTargetPage(),
-                this.getContentMode().getMode(),
-                true,
-                this.getIsResetContentStream()
-        );
+        PDPageContentStream contentStream = context.getContentStream(this.getContentMode(), this.getIsResetContentStream());
         // 初始化字体
         contentStream.setFont(this.getFont(), this.getFontSize());
         // 初始化渲染模式
@@ -1183,4 +1210,106 @@ public class Textarea extends AbstractComponent {
             this.getCatalog().setEndY(position.getY());
         }
     }
+
+    /**
+     * 文本布局
+     * <p>注：记录拆分文本行的全部输入，输入一致时直接复用拆分结果</p>
+     */
+    protected static class TextLayout {
+        /**
+         * 文本列表
+         */
+        protected final List<String> textList;
+        /**
+         * 字体
+         */
+        protected final PDFont font;
+        /**
+         * 字体配置
+         */
+        protected final FontConfiguration fontConfiguration;
+        /**
+         * 分词器
+         */
+        protected final AbstractTokenizer tokenizer;
+        /**
+         * 首行宽度
+         */
+        protected final float firstWidth;
+        /**
+         * 新行宽度
+         */
+        protected final float newWidth;
+        /**
+         * 首行是否换行
+         */
+        protected final boolean isWrapFirstLine;
+        /**
+         * 文本行列表
+         */
+        protected final List<TextLineInfo> infoList;
+
+        /**
+         * 有参构造
+         *
+         * @param textList          文本列表
+         * @param font              字体
+         * @param fontConfiguration 字体配置
+         * @param tokenizer         分词器
+         * @param firstWidth        首行宽度
+         * @param newWidth          新行宽度
+         * @param isWrapFirstLine   首行是否换行
+         * @param infoList          文本行列表
+         */
+        protected TextLayout(
+                List<String> textList,
+                PDFont font,
+                FontConfiguration fontConfiguration,
+                AbstractTokenizer tokenizer,
+                float firstWidth,
+                float newWidth,
+                boolean isWrapFirstLine,
+                List<TextLineInfo> infoList
+        ) {
+            this.textList = textList;
+            this.font = font;
+            this.fontConfiguration = new FontConfiguration(fontConfiguration);
+            // 特殊字体名称为共享列表，需固定副本
+            if (Objects.nonNull(fontConfiguration.getSpecialFontNames())) {
+                this.fontConfiguration.setSpecialFontNames(new ArrayList<>(fontConfiguration.getSpecialFontNames()));
+            }
+            this.tokenizer = tokenizer;
+            this.firstWidth = firstWidth;
+            this.newWidth = newWidth;
+            this.isWrapFirstLine = isWrapFirstLine;
+            this.infoList = infoList;
+        }
+
+        /**
+         * 是否匹配
+         *
+         * @param textList          文本列表
+         * @param font              字体
+         * @param fontConfiguration 字体配置
+         * @param tokenizer         分词器
+         * @param firstWidth        首行宽度
+         * @param newWidth          新行宽度
+         * @return 返回布尔值，true为是，false为否
+         */
+        protected boolean isMatch(
+                List<String> textList,
+                PDFont font,
+                FontConfiguration fontConfiguration,
+                AbstractTokenizer tokenizer,
+                float firstWidth,
+                float newWidth
+        ) {
+            return this.font == font &&
+                    this.tokenizer == tokenizer &&
+                    Float.compare(this.firstWidth, firstWidth) == 0 &&
+                    Float.compare(this.newWidth, newWidth) == 0 &&
+                    this.textList.equals(textList) &&
+                    this.fontConfiguration.equals(fontConfiguration);
+        }
+    }
 }
@@ -515,7 +515,7 @@ public class TextareaWatermark extends AbstractBase implements Watermark {
             beginY = beginY - this.getLeading();
         }
         // 关闭流
-        stream.close();
+        this.getContext().closeContentStream(stream);
     }
 
     /**
@@ -529,13 +529,7 @@ public class TextareaWatermark extends AbstractBase implements Watermark {
         // 获取上下文
         Context context = this.getContext();
         // 初始化内容流
-        PDPageContentStream contentStream = new PDPageContentStream(
-                context.getTargetDocument(),
-                page.getTarget(),
-                this.getContentMode().getMode(),
-                true,
-                this.getIsResetContentStream()
-        );
+        PDPageContentStream contentStream = context.getContentStream(page.getTarget(), this.getContentMode(), this.getIsResetContentStream());
         // 初始化字体
         contentStream.setFont(this.getFont(), this.getFontSize());
         // 初始化渲染模式
@@ -0,0 +1,63 @@
+package org.dromara.pdf.pdfbox.core.enums;
+
+import lombok.Getter;
+
+/**
+ * PNG过滤类型
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+@Getter
+public enum PngFilterType {
+    /**
+     * 无过滤（速度最快）
+     */
+    NONE(0),
+    /**
+     * 左侧差值
+     */
+    SUB(1),
+    /**
+     * 上方差值
+     */
+    UP(2),
+    /**
+     * 平均值差值
+     */
+    AVERAGE(3),
+    /**
+     * paeth预测差值
+     */
+    PAETH(4),
+    /**
+     * 自适应（逐行选择绝对值之和最小的过滤方式，压缩率最高）
+     */
+    ADAPTIVE(-1);
+
+    /**
+     * 类型
+     */
+    private final int type;
+
+    /**
+     * 有参构造
+     *
+     * @param type 类型
+     */
+    PngFilterType(int type) {
+        this.type = type;
+    }
+}
@@ -6,6 +6,8 @@ import org.dromara.pdf.pdfbox.core.base.Context;
 import org.dromara.pdf.pdfbox.core.base.Document;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDDocument;
 
+import java.util.Objects;
+
 /**
  * 抽象扩展器
  *
@@ -61,6 +63,16 @@ public abstract class AbstractExpander {
         return this.document.getTarget();
     }
 
+    /**
+     * 刷新内容流
+     * <p>注：读取或修改页面内容前，关闭尚未写入的共享内容流</p>
+     */
+    protected void flushContentStreams() {
+        if (Objects.nonNull(this.document) && Objects.nonNull(this.document.getContext())) {
+            this.document.getContext().flushContentStreams();
+        }
+    }
+
     /**
      * 获取上下文
      *
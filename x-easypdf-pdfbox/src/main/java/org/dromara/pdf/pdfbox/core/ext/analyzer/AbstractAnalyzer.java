@@ -30,6 +30,7 @@ public abstract class AbstractAnalyzer extends AbstractExpander {
      */
     public AbstractAnalyzer(Document document) {
         super(document);
+        this.flushContentStreams();
     }
     
     /**
@@ -30,5 +30,6 @@ public abstract class AbstractComparator extends AbstractExpander {
      */
     public AbstractComparator(Document document) {
         super(document);
+        this.flushContentStreams();
     }
 }
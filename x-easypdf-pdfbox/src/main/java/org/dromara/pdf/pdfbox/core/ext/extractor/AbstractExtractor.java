@@ -30,5 +30,6 @@ public abstract class AbstractExtractor extends AbstractExpander {
      */
     public AbstractExtractor(Document document) {
         super(document);
+        this.flushContentStreams();
     }
 }
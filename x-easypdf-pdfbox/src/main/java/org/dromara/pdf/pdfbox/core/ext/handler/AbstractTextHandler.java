@@ -7,11 +7,14 @@ import org.dromara.pdf.pdfbox.core.base.config.FontConfiguration;
 import org.dromara.pdf.pdfbox.core.component.TextLineInfo;
 import org.dromara.pdf.pdfbox.core.ext.AbstractExpander;
 import org.dromara.pdf.pdfbox.core.ext.handler.tokenizer.AbstractTokenizer;
+import org.dromara.pdf.pdfbox.core.ext.handler.tokenizer.LineBreaks;
+import org.dromara.pdf.pdfbox.support.TextLayoutCache;
 import org.dromara.pdf.pdfbox.util.TextUtil;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPageContentStream;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.font.PDFont;
 
 import java.util.List;
+import java.util.Objects;
 
 /**
  * 抽象文本助手
@@ -68,7 +71,15 @@ public abstract class AbstractTextHandler extends AbstractExpander {
      * @return 返回文本
      */
     public TextLineInfo splitText(FontConfiguration fontConfiguration, PDFont font, String text, float lineWidth) {
-        return this.tokenizer.splitText(fontConfiguration, font, text, lineWidth);
+        // 获取文本布局缓存
+        TextLayoutCache cache = this.getTextLayoutCache();
+        // 未开启缓存
+        if (Objects.isNull(cache) || Objects.isNull(text)) {
+            // 返回文本
+            return this.tokenizer.splitText(fontConfiguration, font, text, lineWidth);
+        }
+        // 返回缓存文本
+        return cache.getLine(this.tokenizer, fontConfiguration, font, text, lineWidth, () -> this.tokenizer.splitText(fontConfiguration, font, text, lineWidth));
     }
 
     /**
@@ -81,7 +92,49 @@ public abstract class AbstractTextHandler extends AbstractExpander {
      * @return 返回文本列表
      */
     public List<TextLineInfo> splitLines(FontConfiguration fontConfiguration, PDFont font, String text, float lineWidth) {
-        return this.tokenizer.splitLines(fontConfiguration, font, text, lineWidth);
+        // 获取文本布局缓存
+        TextLayoutCache cache = this.getTextLayoutCache();
+        // 未开启缓存
+        if (Objects.isNull(cache) || Objects.isNull(text)) {
+            // 返回文本列表
+            return this.tokenizer.splitLines(fontConfiguration, font, text, lineWidth);
+        }
+        // 返回缓存文本列表
+        return cache.getLines(this.tokenizer, fontConfiguration, font, text, lineWidth, () -> this.tokenizer.splitLines(fontConfiguration, font, text, lineWidth));
+    }
+
+    /**
+     * 断行（单行）
+     * <p>注：仅返回行起止索引与宽度，不生成中间字符串</p>
+     *
+     * @param fontConfiguration 字体配置
+     * @param font              字体
+     * @param text              文本
+     * @param beginIndex        起始索引（包含）
+     * @param endIndex          结束索引（不包含）
+     * @param lineWidth         行宽
+     * @param breaks            断行结果（追加）
+     * @return 返回断行结果
+     */
+    public LineBreaks breakText(FontConfiguration fontConfiguration, PDFont font, CharSequence text, int beginIndex, int endIndex, float lineWidth, LineBreaks breaks) {
+        return this.tokenizer.breakText(fontConfiguration, font, text, beginIndex, endIndex, lineWidth, breaks);
+    }
+
+    /**
+     * 断行（多行）
+     * <p>注：仅返回各行起止索引与宽度，不生成中间字符串</p>
+     *
+     * @param fontConfiguration 字体配置
+     * @param font              字体
+     * @param text              文本
+     * @param beginIndex        起始索引（包含）
+     * @param endIndex          结束索引（不包含）
+     * @param lineWidth         行宽
+     * @param breaks            断行结果（追加）
+     * @return 返回断行结果
+     */
+    public LineBreaks breakLines(FontConfiguration fontConfiguration, PDFont font, CharSequence text, int beginIndex, int endIndex, float lineWidth, LineBreaks breaks) {
+        return this.tokenizer.breakLines(fontConfiguration, font, text, beginIndex, endIndex, lineWidth, breaks);
     }
 
     /**
@@ -96,6 +149,18 @@ public abstract class AbstractTextHandler extends AbstractExpander {
         return TextUtil.getTextWidth(text, this.getContext(), font, fontConfiguration.getSpecialFontNames(), fontConfiguration.getFontSize(), fontConfiguration.getCharacterSpacing());
     }
 
+    /**
+     * 获取文本布局缓存
+     *
+     * @return 返回文本布局缓存，未开启或分词器不可缓存时返回null
+     */
+    protected TextLayoutCache getTextLayoutCache() {
+        if (Objects.isNull(this.document) || !this.tokenizer.isCacheable()) {
+            return null;
+        }
+        return this.document.getTextLayoutCache();
+    }
+
     /**
      * 获取文本高度
      *
@@ -6,6 +6,7 @@ import org.dromara.pdf.pdfbox.core.base.config.FontConfiguration;
 import org.dromara.pdf.pdfbox.core.component.TextLineInfo;
 import org.dromara.pdf.pdfbox.core.ext.handler.tokenizer.StandardTokenizer;
 import org.dromara.pdf.pdfbox.support.Constants;
+import org.dromara.pdf.pdfbox.support.GlyphWidthTable;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPageContentStream;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.font.PDFont;
 
@@ -65,36 +66,64 @@ public class TextHandler extends AbstractTextHandler {
         for (int i = 0; i < content.length(); i++) {
             // 获取字符
             char character = content.charAt(i);
-            try {
+            // 字体包含字形
+            if (GlyphWidthTable.contains(font, character)) {
                 // 写入文本
                 contentStream.showCharacter(character);
-            } catch (Exception e) {
-                // 处理单字符
-                boolean flag = this.processSingle(contentStream, character, specialFontNames, font, fontSize);
+            } else {
+                // 处理缺失字形
+                i = this.processMissing(contentStream, content, i, specialFontNames, font, fontSize);
+            }
+        }
+    }
+
+    /**
+     * 处理缺失字形
+     *
+     * @param contentStream    内容流
+     * @param content          文本内容
+     * @param index            字符索引
+     * @param specialFontNames 特殊字体名称
+     * @param font             字体
+     * @param fontSize         字体大小
+     * @return 返回已处理的字符索引
+     */
+    @SneakyThrows
+    protected int processMissing(
+            PDPageContentStream contentStream,
+            String content,
+            int index,
+            List<String> specialFontNames,
+            PDFont font,
+            Float fontSize
+    ) {
+        // 获取字符
+        char character = content.charAt(index);
+        // 处理单字符
+        boolean flag = this.processSingle(contentStream, character, specialFontNames, font, fontSize);
+        // 未解析成功
+        if (flag) {
+            // 还有下一个字符
+            if (index + 1 < content.length()) {
+                // 获取下一个字符
+                char next = content.charAt(index + 1);
+                // 处理双字符
+                flag = this.processDouble(contentStream, character, next, specialFontNames, font, fontSize);
                 // 未解析成功
                 if (flag) {
-                    // 还有下一个字符
-                    if (i + 1 < content.length()) {
-                        // 获取下一个字符
-                        char next = content.charAt(i + 1);
-                        // 处理双字符
-                        flag = this.processDouble(contentStream, character, next, specialFontNames, font, fontSize);
-                        // 未解析成功
-                        if (flag) {
-                            // 重置字体
-                            contentStream.setFont(this.getContext().getFont(Constants.DEFAULT_FONT_NAME), fontSize);
-                            // 写入未知字符
-                            contentStream.showCharacter(Constants.DEFAULT_UNKNOWN_CHARACTER);
-                            // 重置字体
-                            contentStream.setFont(font, fontSize);
-                        } else {
-                            // 跳过下一个
-                            i++;
-                        }
-                    }
+                    // 重置字体
+                    contentStream.setFont(this.getContext().getFont(Constants.DEFAULT_FONT_NAME), fontSize);
+                    // 写入未知字符
+                    contentStream.showCharacter(Constants.DEFAULT_UNKNOWN_CHARACTER);
+                    // 重置字体
+                    contentStream.setFont(font, fontSize);
+                } else {
+                    // 跳过下一个
+                    return index + 1;
                 }
             }
         }
+        return index;
     }
 
     /**
@@ -121,17 +150,18 @@ public class TextHandler extends AbstractTextHandler {
         if (Objects.nonNull(specialFontNames)) {
             // 遍历特殊字体
             for (String specialFontName : specialFontNames) {
-                try {
+                // 获取特殊字体
+                PDFont specialFont = this.getContext().getFont(specialFontName);
+                // 特殊字体包含字形
+                if (GlyphWidthTable.contains(specialFont, character)) {
                     // 设置字体
-                    contentStream.setFont(this.getContext().getFont(specialFontName), fontSize);
+                    contentStream.setFont(specialFont, fontSize);
                     // 写入文本
                     contentStream.showCharacter(character);
                     // 重置标记
                     flag = false;
                     // 跳出循环
                     break;
-                } catch (Exception ignore) {
-                    // ignore
                 }
             }
             // 重置字体
@@ -163,8 +193,8 @@ public class TextHandler extends AbstractTextHandler {
     ) {
         // 定义标记
         boolean flag = true;
-        // 特殊字体不为空
-        if (Objects.nonNull(specialFontNames)) {
+        // 特殊字体不为空且为代理对
+        if (Objects.nonNull(specialFontNames) && Character.isHighSurrogate(character)) {
             // 获取拼接文本
             String joinStr = String.valueOf(new char[]{character, next});
             // 遍历特殊字体
@@ -8,7 +8,9 @@ import org.dromara.pdf.pdfbox.core.component.TextLineInfo;
 import org.dromara.pdf.pdfbox.util.TextUtil;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.font.PDFont;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * 抽象分词器
@@ -58,6 +60,109 @@ public abstract class AbstractTokenizer {
      */
     public abstract List<TextLineInfo> splitLines(FontConfiguration fontConfiguration, PDFont font, String text, float lineWidth);
 
+    /**
+     * 是否可缓存
+     * <p>注：拆分结果仅取决于字体配置、字体、文本与行宽时可缓存，自定义分词器默认不缓存</p>
+     *
+     * @return 返回布尔值，true为是，false为否
+     */
+    public boolean isCacheable() {
+        return false;
+    }
+
+    /**
+     * 断行（单行）
+     * <p>注：仅计算[beginIndex, endIndex)范围内首行的起止索引与宽度，并追加至断行结果，无结果时不追加</p>
+     * <p>注：默认基于{@link #splitText(FontConfiguration, PDFont, String, float)}回推索引，内置分词器均已直接实现</p>
+     *
+     * @param fontConfiguration 字体配置
+     * @param font              字体
+     * @param text              文本
+     * @param beginIndex        起始索引（包含）
+     * @param endIndex          结束索引（不包含）
+     * @param lineWidth         行宽
+     * @param breaks            断行结果
+     * @return 返回断行结果
+     */
+    public LineBreaks breakText(FontConfiguration fontConfiguration, PDFont font, CharSequence text, int beginIndex, int endIndex, float lineWidth, LineBreaks breaks) {
+        // 文本为空
+        if (Objects.isNull(text) || beginIndex >= endIndex) {
+            // 返回断行结果
+            return breaks;
+        }
+        // 拆分文本
+        TextLineInfo info = this.splitText(fontConfiguration, font, text.subSequence(beginIndex, endIndex).toString(), lineWidth);
+        // 拆分结果非空
+        if (Objects.nonNull(info)) {
+            // 添加行
+            breaks.add(beginIndex, beginIndex + info.getText().length(), info.getWidth());
+        }
+        // 返回断行结果
+        return breaks;
+    }
+
+    /**
+     * 断行（多行）
+     * <p>注：仅计算[beginIndex, endIndex)范围内各行的起止索引与宽度，并追加至断行结果</p>
+     * <p>注：默认基于{@link #splitLines(FontConfiguration, PDFont, String, float)}回推索引，内置分词器均已直接实现</p>
+     *
+     * @param fontConfiguration 字体配置
+     * @param font              字体
+     * @param text              文本
+     * @param beginIndex        起始索引（包含）
+     * @param endIndex          结束索引（不包含）
+     * @param lineWidth         行宽
+     * @param breaks            断行结果
+     * @return 返回断行结果
+     */
+    public LineBreaks breakLines(FontConfiguration fontConfiguration, PDFont font, CharSequence text, int beginIndex, int endIndex, float lineWidth, LineBreaks breaks) {
+        // 文本为空
+        if (Objects.isNull(text) || beginIndex >= endIndex) {
+            // 返回断行结果
+            return breaks;
+        }
+        // 获取文本
+        String str = text.subSequence(beginIndex, endIndex).toString();
+        // 定义查找索引
+        int fromIndex = 0;
+        // 遍历拆分结果
+        for (TextLineInfo info : this.splitLines(fontConfiguration, font, str, lineWidth)) {
+            // 查找行索引
+            int index = str.indexOf(info.getText(), fromIndex);
+            // 未找到
+            if (index < 0) {
+                throw new IllegalStateException("the line can not be located in text, please override the breakLines method");
+            }
+            // 重置查找索引
+            fromIndex = index + info.getText().length();
+            // 添加行
+            breaks.add(beginIndex + index, beginIndex + fromIndex, info.getWidth());
+        }
+        // 返回断行结果
+        return breaks;
+    }
+
+    /**
+     * 断行（多行）
+     *
+     * @param fontConfiguration 字体配置
+     * @param font              字体
+     * @param text              文本
+     * @param lineWidth         行宽
+     * @return 返回断行结果
+     */
+    public LineBreaks breakLines(FontConfiguration fontConfiguration, PDFont font, CharSequence text, float lineWidth) {
+        // 定义断行结果
+        LineBreaks breaks = new LineBreaks();
+        // 文本为空
+        if (Objects.isNull(text)) {
+            // 返回断行结果
+            return breaks;
+        }
+        // 返回断行结果
+        return this.breakLines(fontConfiguration, font, text, 0, text.length(), lineWidth, breaks);
+    }
+
     /**
      * 获取字符宽度
      *
@@ -86,6 +191,61 @@ public abstract class AbstractTokenizer {
         return TextUtil.getTextWidth(text, this.context, font, fontConfiguration.getSpecialFontNames(), fontConfiguration.getFontSize(), fontConfiguration.getCharacterSpacing());
     }
 
+    /**
+     * 获取文本宽度（指定范围）
+     *
+     * @param fontConfiguration 字体配置
+     * @param font              字体
+     * @param text              文本
+     * @param beginIndex        起始索引（包含）
+     * @param endIndex          结束索引（不包含）
+     * @return 返回文本宽度
+     */
+    public float getTextWidth(FontConfiguration fontConfiguration, PDFont font, CharSequence text, int beginIndex, int endIndex) {
+        // 返回真实文本宽度
+        return TextUtil.getTextWidth(text, beginIndex, endIndex, this.context, font, fontConfiguration.getSpecialFontNames(), fontConfiguration.getFontSize(), fontConfiguration.getCharacterSpacing());
+    }
+
+    /**
+     * 基于断行拆分文本（单行）
+     *
+     * @param fontConfiguration 字体配置
+     * @param font              字体
+     * @param text              文本
+     * @param lineWidth         行宽
+     * @return 返回文本
+     */
+    protected TextLineInfo splitTextByBreaks(FontConfiguration fontConfiguration, PDFont font, String text, float lineWidth) {
+        // 文本为空
+        if (Objects.isNull(text)) {
+            // 返回空
+            return null;
+        }
+        // 断行
+        LineBreaks breaks = this.breakText(fontConfiguration, font, text, 0, text.length(), lineWidth, new LineBreaks(1));
+        // 返回文本
+        return breaks.isEmpty() ? null : breaks.toTextLineInfo(text, 0);
+    }
+
+    /**
+     * 基于断行拆分文本段落（多行）
+     *
+     * @param fontConfiguration 字体配置
+     * @param font              字体
+     * @param text              文本
+     * @param lineWidth         行宽
+     * @return 返回文本列表
+     */
+    protected List<TextLineInfo> splitLinesByBreaks(FontConfiguration fontConfiguration, PDFont font, String text, float lineWidth) {
+        // 文本为空
+        if (Objects.isNull(text)) {
+            // 返回空列表
+            return new ArrayList<>(0);
+        }
+        // 返回文本列表
+        return this.breakLines(fontConfiguration, font, text, lineWidth).toTextLineInfos(text);
+    }
+
     /**
      * 获取空格宽度
      *
@@ -4,8 +4,6 @@ import org.dromara.pdf.pdfbox.core.base.config.FontConfiguration;
 import org.dromara.pdf.pdfbox.core.component.TextLineInfo;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.font.PDFont;
 
-import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 
@@ -29,6 +27,16 @@ import java.util.Objects;
  */
 public class CharacterTokenizer extends AbstractTokenizer {
 
+    /**
+     * 是否可缓存
+     *
+     * @return 返回布尔值，true为是，false为否
+     */
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     /**
      * 拆分文本（单行）
      *
@@ -40,106 +48,132 @@ public class CharacterTokenizer extends AbstractTokenizer {
      */
     @Override
     public TextLineInfo splitText(FontConfiguration fontConfiguration, PDFont font, String text, float lineWidth) {
-        // 如果待输入文本为空，或文本长度为0，或字符宽度大于行宽，则直接返回空
-        if (Objects.isNull(text) || text.isEmpty() || this.getCharacterWidth(fontConfiguration, font, text.charAt(0)) > lineWidth) {
-            // 返回空字符串
-            return null;
+        return this.splitTextByBreaks(fontConfiguration, font, text, lineWidth);
+    }
+
+    /**
+     * 拆分文本段落（多行）
+     *
+     * @param fontConfiguration 字体配置
+     * @param font              字体
+     * @param text              文本
+     * @param lineWidth         行宽
+     * @return 返回文本列表
+     */
+    @Override
+    public List<TextLineInfo> splitLines(FontConfiguration fontConfiguration, PDFont font, String text, float lineWidth) {
+        return this.splitLinesByBreaks(fontConfiguration, font, text, lineWidth);
+    }
+
+    /**
+     * 断行（单行）
+     *
+     * @param fontConfiguration 字体配置
+     * @param font              字体
+     * @param text              文本
+     * @param beginIndex        起始索引（包含）
+     * @param endIndex          结束索引（不包含）
+     * @param lineWidth         行宽
+     * @param breaks            断行结果
+     * @return 返回断行结果
+     */
+    @Override
+    public LineBreaks breakText(FontConfiguration fontConfiguration, PDFont font, CharSequence text, int beginIndex, int endIndex, float lineWidth, LineBreaks breaks) {
+        // 如果待输入文本为空，或文本长度为0，或字符宽度大于行宽，则直接返回
+        if (Objects.isNull(text) || beginIndex >= endIndex || this.getCharacterWidth(fontConfiguration, font, text.charAt(beginIndex)) > lineWidth) {
+            // 返回断行结果
+            return breaks;
         }
-        // 定义临时文本
-        String tempText;
         // 定义前一次宽度
         float lastWidth = 0F;
         // 定义宽度
         float width = 0F;
         // 每行字数（估计）
         int fontCount = Math.max(1, (int) (lineWidth / (fontConfiguration.getFontSize() + fontConfiguration.getCharacterSpacing())));
-        // 定义开始索引
-        int beginIndex = 0;
         // 遍历文本
-        for (int i = fontCount, len = text.length(); i <= len; i++) {
-            // 截取临时文本
-            tempText = text.substring(beginIndex, i);
+        for (int i = beginIndex + fontCount; i <= endIndex; i++) {
             // 计算当前文本真实宽度
-            width = this.getTextWidth(fontConfiguration, font, tempText);
+            width = this.getTextWidth(fontConfiguration, font, text, beginIndex, i);
             // 如果真实宽度大于行宽度，则减少一个字符
             if (width > lineWidth) {
-                // 返回截取字符串
-                return new TextLineInfo(text.substring(beginIndex, i - 1), lastWidth);
+                // 添加行
+                breaks.add(beginIndex, i - 1, lastWidth);
+                // 返回断行结果
+                return breaks;
             } else {
                 lastWidth = width;
             }
         }
         // 计算当前文本真实宽度
         if (width == 0F) {
-            width = this.getTextWidth(fontConfiguration, font, text);
+            width = this.getTextWidth(fontConfiguration, font, text, beginIndex, endIndex);
         }
-        // 返回文本
-        return new TextLineInfo(text, width);
+        // 添加行
+        breaks.add(beginIndex, endIndex, width);
+        // 返回断行结果
+        return breaks;
     }
 
     /**
-     * 拆分文本段落（多行）
+     * 断行（多行）
      *
      * @param fontConfiguration 字体配置
      * @param font              字体
      * @param text              文本
+     * @param beginIndex        起始索引（包含）
+     * @param endIndex          结束索引（不包含）
      * @param lineWidth         行宽
-     * @return 返回文本列表
+     * @param breaks            断行结果
+     * @return 返回断行结果
      */
     @Override
-    public List<TextLineInfo> splitLines(FontConfiguration fontConfiguration, PDFont font, String text, float lineWidth) {
-        // 如果待输入文本为空，或文本长度为0，或字符宽度大于行宽，则直接返回空列表
-        if (Objects.isNull(text) || text.isEmpty() || this.getCharacterWidth(fontConfiguration, font, text.charAt(0)) > lineWidth) {
-            // 返回空列表
-            return new ArrayList<>(0);
+    public LineBreaks breakLines(FontConfiguration fontConfiguration, PDFont font, CharSequence text, int beginIndex, int endIndex, float lineWidth, LineBreaks breaks) {
+        // 如果待输入文本为空，或文本长度为0，或字符宽度大于行宽，则直接返回
+        if (Objects.isNull(text) || beginIndex >= endIndex || this.getCharacterWidth(fontConfiguration, font, text.charAt(beginIndex)) > lineWidth) {
+            // 返回断行结果
+            return breaks;
         }
-        // 定义文本列表
-        List<TextLineInfo> lineList = new LinkedList<>();
-        // 定义临时文本
-        String tempText;
+        // 获取原有行数
+        int size = breaks.size();
         // 定义前一次宽度
         float lastWidth = 0F;
         // 定义宽度
         float width = 0F;
         // 每行字数（估计）
         int fontCount = Math.max(1, (int) (lineWidth / (fontConfiguration.getFontSize() + fontConfiguration.getCharacterSpacing())));
-        // 定义开始索引
-        int beginIndex = 0;
+        // 定义行起始索引
+        int lineIndex = beginIndex;
         // 遍历文本
-        for (int i = fontCount, len = text.length(); i <= len; i++) {
-            // 截取临时文本
-            tempText = text.substring(beginIndex, i);
+        for (int i = beginIndex + fontCount; i <= endIndex; i++) {
             // 计算当前文本真实宽度
-            width = this.getTextWidth(fontConfiguration, font, tempText);
+            width = this.getTextWidth(fontConfiguration, font, text, lineIndex, i);
             // 如果真实宽度大于行宽度，则减少一个字符
             if (width > lineWidth) {
-                // 加入文本列表
-                lineList.add(new TextLineInfo(text.substring(beginIndex, i - 1), lastWidth));
-                // 重置开始索引
-                beginIndex = i - 1;
+                // 添加行
+                breaks.add(lineIndex, i - 1, lastWidth);
+                // 重置行起始索引
+                lineIndex = i - 1;
                 // 重置文本索引
                 i = i + fontCount - 1;
-                // 如果文本索引大于或等于文本长度，则为最后一行，加入文本列表
-                if (i >= len) {
-                    // 加入文本列表
-                    lineList.add(new TextLineInfo(text.substring(beginIndex), width));
+                // 如果文本索引大于或等于文本长度，则为最后一行，加入断行结果
+                if (i >= endIndex) {
+                    // 添加行
+                    breaks.add(lineIndex, endIndex, width);
                 }
             } else {
                 lastWidth = width;
             }
         }
-        // 如果开始索引加每行字数小于文本长度，则为最后一行，加入文本列表
-        if (beginIndex + fontCount < text.length() || lineList.isEmpty()) {
-            // 截取临时文本
-            tempText = text.substring(beginIndex);
+        // 如果行起始索引加每行字数小于结束索引，则为最后一行，加入断行结果
+        if (lineIndex + fontCount < endIndex || breaks.size() == size) {
             // 计算当前文本真实宽度
             if (width == 0F) {
-                width = this.getTextWidth(fontConfiguration, font, tempText);
+                width = this.getTextWidth(fontConfiguration, font, text, lineIndex, endIndex);
             }
-            // 加入文本列表
-            lineList.add(new TextLineInfo(tempText, width));
+            // 添加行
+            breaks.add(lineIndex, endIndex, width);
         }
-        // 返回文本列表
-        return lineList;
+        // 返回断行结果
+        return breaks;
     }
 }
@@ -0,0 +1,193 @@
+package org.dromara.pdf.pdfbox.core.ext.handler.tokenizer;
+
+import org.dromara.pdf.pdfbox.core.component.TextLineInfo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 断行结果
+ * <p>注：仅记录每行在原文本中的起止索引与宽度，不生成中间字符串，可通过{@link #clear()}重复使用</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class LineBreaks {
+
+    /**
+     * 索引列表（起始索引与结束索引交替存放）
+     */
+    protected int[] offsets;
+    /**
+     * 宽度列表
+     */
+    protected float[] widths;
+    /**
+     * 行数
+     */
+    protected int size;
+
+    /**
+     * 无参构造
+     */
+    public LineBreaks() {
+        this(8);
+    }
+
+    /**
+     * 有参构造
+     *
+     * @param capacity 初始行数
+     */
+    public LineBreaks(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("the capacity can not be less than 0");
+        }
+        this.offsets = new int[capacity << 1];
+        this.widths = new float[capacity];
+    }
+
+    /**
+     * 添加行
+     *
+     * @param beginIndex 起始索引（包含）
+     * @param endIndex   结束索引（不包含）
+     * @param width      宽度
+     */
+    public void add(int beginIndex, int endIndex, float width) {
+        if (this.size == this.widths.length) {
+            int capacity = Math.max(8, this.size << 1);
+            this.offsets = Arrays.copyOf(this.offsets, capacity << 1);
+            this.widths = Arrays.copyOf(this.widths, capacity);
+        }
+        this.offsets[this.size << 1] = beginIndex;
+        this.offsets[(this.size << 1) + 1] = endIndex;
+        this.widths[this.size] = width;
+        this.size++;
+    }
+
+    /**
+     * 清空
+     */
+    public void clear() {
+        this.size = 0;
+    }
+
+    /**
+     * 获取行数
+     *
+     * @return 返回行数
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * 是否为空
+     *
+     * @return 返回布尔值，true为是，false为否
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * 获取起始索引
+     *
+     * @param line 行索引
+     * @return 返回起始索引（包含）
+     */
+    public int getBeginIndex(int line) {
+        return this.offsets[this.checkLine(line) << 1];
+    }
+
+    /**
+     * 获取结束索引
+     *
+     * @param line 行索引
+     * @return 返回结束索引（不包含）
+     */
+    public int getEndIndex(int line) {
+        return this.offsets[(this.checkLine(line) << 1) + 1];
+    }
+
+    /**
+     * 获取宽度
+     *
+     * @param line 行索引
+     * @return 返回宽度
+     */
+    public float getWidth(int line) {
+        return this.widths[this.checkLine(line)];
+    }
+
+    /**
+     * 转为文本行信息
+     *
+     * @param text 原文本
+     * @param line 行索引
+     * @return 返回文本行信息
+     */
+    public TextLineInfo toTextLineInfo(CharSequence text, int line) {
+        Objects.requireNonNull(text, "the text can not be null");
+        return new TextLineInfo(text.subSequence(this.getBeginIndex(line), this.getEndIndex(line)).toString(), this.getWidth(line));
+    }
+
+    /**
+     * 转为文本行信息列表
+     *
+     * @param text 原文本
+     * @return 返回文本行信息列表
+     */
+    public List<TextLineInfo> toTextLineInfos(CharSequence text) {
+        List<TextLineInfo> list = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            list.add(this.toTextLineInfo(text, i));
+        }
+        return list;
+    }
+
+    /**
+     * 检查行索引
+     *
+     * @param line 行索引
+     * @return 返回行索引
+     */
+    protected int checkLine(int line) {
+        if (line < 0 || line >= this.size) {
+            throw new IndexOutOfBoundsException("the line index[" + line + "] is out of range[0, " + this.size + ")");
+        }
+        return line;
+    }
+
+    /**
+     * 字符串
+     *
+     * @return 返回字符串
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("LineBreaks{");
+        for (int i = 0; i < this.size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append('[').append(this.offsets[i << 1]).append(", ").append(this.offsets[(i << 1) + 1]).append(")=").append(this.widths[i]);
+        }
+        return builder.append('}').toString();
+    }
+}
@@ -2,12 +2,9 @@ package org.dromara.pdf.pdfbox.core.ext.handler.tokenizer;
 
 import org.dromara.pdf.pdfbox.core.base.config.FontConfiguration;
 import org.dromara.pdf.pdfbox.core.component.TextLineInfo;
-import org.dromara.pdf.pdfbox.util.CommonUtil;
 import org.dromara.pdf.pdfbox.util.TextUtil;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.font.PDFont;
 
-import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 
@@ -31,6 +28,16 @@ import java.util.Objects;
  */
 public class StandardTokenizer extends AbstractTokenizer {
 
+    /**
+     * 是否可缓存
+     *
+     * @return 返回布尔值，true为是，false为否
+     */
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     /**
      * 拆分文本（单行）
      *
@@ -42,164 +49,188 @@ public class StandardTokenizer extends AbstractTokenizer {
      */
     @Override
     public TextLineInfo splitText(FontConfiguration fontConfiguration, PDFont font, String text, float lineWidth) {
-        // 如果待输入文本为空，或文本长度为0，或字符宽度大于行宽，则直接返回空
-        if (Objects.isNull(text) || text.isEmpty() || this.getCharacterWidth(fontConfiguration, font, text.charAt(0)) > lineWidth) {
-            // 返回空字符串
-            return null;
+        return this.splitTextByBreaks(fontConfiguration, font, text, lineWidth);
+    }
+
+    /**
+     * 拆分文本段落（多行）
+     *
+     * @param fontConfiguration 字体配置
+     * @param font              字体
+     * @param text              文本
+     * @param lineWidth         行宽
+     * @return 返回文本列表
+     */
+    @Override
+    public List<TextLineInfo> splitLines(FontConfiguration fontConfiguration, PDFont font, String text, float lineWidth) {
+        return this.splitLinesByBreaks(fontConfiguration, font, text, lineWidth);
+    }
+
+    /**
+     * 断行（单行）
+     *
+     * @param fontConfiguration 字体配置
+     * @param font              字体
+     * @param text              文本
+     * @param beginIndex        起始索引（包含）
+     * @param endIndex          结束索引（不包含）
+     * @param lineWidth         行宽
+     * @param breaks            断行结果
+     * @return 返回断行结果
+     */
+    @Override
+    public LineBreaks breakText(FontConfiguration fontConfiguration, PDFont font, CharSequence text, int beginIndex, int endIndex, float lineWidth, LineBreaks breaks) {
+        // 如果待输入文本为空，或文本长度为0，或字符宽度大于行宽，则直接返回
+        if (Objects.isNull(text) || beginIndex >= endIndex || this.getCharacterWidth(fontConfiguration, font, text.charAt(beginIndex)) > lineWidth) {
+            // 返回断行结果
+            return breaks;
         }
-        // 定义临时文本
-        StringBuilder tempText = new StringBuilder();
+        // 获取字符间距
+        float characterSpacing = fontConfiguration.getCharacterSpacing();
         // 定义前一次宽度
         float lastWidth = 0F;
         // 定义宽度
         float width = 0F;
-        // 获取文本长度
-        int length = text.length();
-        // 定义词组
-        List<Character> words = new ArrayList<>();
+        // 定义词组起始索引（-1为无词组）
+        int wordIndex = -1;
         // 遍历文本
-        for (int i = 0; i < length; i++) {
+        for (int i = beginIndex; i < endIndex; i++) {
             // 获取字符
-            Character character = text.charAt(i);
+            char character = text.charAt(i);
             // 英文字符
             if (TextUtil.isEnglishCharacter(character)) {
-                // 添加字符
-                words.add(character);
+                // 记录词组起始索引
+                if (wordIndex < 0) {
+                    wordIndex = i;
+                }
             } else {
                 // 词组非空
-                if (!words.isEmpty()) {
+                if (wordIndex >= 0) {
                     // 计算当前文本真实宽度
-                    width += this.getTextWidth(fontConfiguration, font, new String(CommonUtil.toCharacterArray(words)));
+                    width += this.getTextWidth(fontConfiguration, font, text, wordIndex, i);
                     // 如果真实宽度大于行宽度，则减少一个字符
                     if (width > lineWidth) {
-                        // 获取字符串
-                        String temp = tempText.toString();
-                        // 空字符串
-                        if (temp.isEmpty()) {
-                            return null;
+                        // 非空文本
+                        if (wordIndex > beginIndex) {
+                            // 添加行
+                            breaks.add(beginIndex, wordIndex, lastWidth);
                         }
-                        // 返回截取字符串
-                        return new TextLineInfo(temp, lastWidth);
+                        // 返回断行结果
+                        return breaks;
                     } else {
                         // 重置前一次宽度
                         lastWidth = width;
                     }
-                    // 添加字符
-                    words.forEach(tempText::append);
                     // 重置词组
-                    words = new ArrayList<>();
+                    wordIndex = -1;
                 }
                 // 计算当前文本真实宽度
-                width += this.getCharacterWidth(fontConfiguration, font, character) + fontConfiguration.getCharacterSpacing();
+                width += this.getCharacterWidth(fontConfiguration, font, character) + characterSpacing;
                 // 如果真实宽度大于行宽度，则减少一个字符
                 if (width > lineWidth) {
-                    // 返回截取字符串
-                    return new TextLineInfo(tempText.toString(), lastWidth);
+                    // 添加行
+                    breaks.add(beginIndex, i, lastWidth);
+                    // 返回断行结果
+                    return breaks;
                 } else {
                     // 重置前一次宽度
                     lastWidth = width;
-                    // 添加字符
-                    tempText.append(character);
                 }
             }
         }
         // 重置宽度
-        width += words.isEmpty()? 0 : this.getTextWidth(fontConfiguration, font, new String(CommonUtil.toCharacterArray(words)));
-        // 返回文本
-        return new TextLineInfo(text, width);
+        width += wordIndex < 0 ? 0 : this.getTextWidth(fontConfiguration, font, text, wordIndex, endIndex);
+        // 添加行
+        breaks.add(beginIndex, endIndex, width);
+        // 返回断行结果
+        return breaks;
     }
 
     /**
-     * 拆分文本段落（多行）
+     * 断行（多行）
      *
      * @param fontConfiguration 字体配置
      * @param font              字体
      * @param text              文本
+     * @param beginIndex        起始索引（包含）
+     * @param endIndex          结束索引（不包含）
      * @param lineWidth         行宽
-     * @return 返回文本列表
+     * @param breaks            断行结果
+     * @return 返回断行结果
      */
     @Override
-    public List<TextLineInfo> splitLines(FontConfiguration fontConfiguration, PDFont font, String text, float lineWidth) {
-        // 如果待输入文本为空，或文本长度为0，或字符宽度大于行宽，则直接返回空列表
-        if (Objects.isNull(text) || text.isEmpty() || this.getCharacterWidth(fontConfiguration, font, text.charAt(0)) > lineWidth) {
-            // 返回空列表
-            return new ArrayList<>(0);
+    public LineBreaks breakLines(FontConfiguration fontConfiguration, PDFont font, CharSequence text, int beginIndex, int endIndex, float lineWidth, LineBreaks breaks) {
+        // 如果待输入文本为空，或文本长度为0，或字符宽度大于行宽，则直接返回
+        if (Objects.isNull(text) || beginIndex >= endIndex || this.getCharacterWidth(fontConfiguration, font, text.charAt(beginIndex)) > lineWidth) {
+            // 返回断行结果
+            return breaks;
         }
-        // 定义文本列表
-        List<TextLineInfo> lineList = new LinkedList<>();
-        // 定义临时文本
-        StringBuilder tempText = new StringBuilder();
+        // 获取字符间距
+        float characterSpacing = fontConfiguration.getCharacterSpacing();
+        // 定义行起始索引
+        int lineIndex = beginIndex;
         // 定义前一次宽度
         float lastWidth = 0F;
         // 定义宽度
         float width = 0F;
-        // 获取文本长度
-        int length = text.length();
-        // 定义词组
-        List<Character> words = new ArrayList<>();
+        // 定义词组起始索引（-1为无词组）
+        int wordIndex = -1;
         // 遍历文本
-        for (int i = 0; i < length; i++) {
+        for (int i = beginIndex; i < endIndex; i++) {
             // 获取字符
-            Character character = text.charAt(i);
+            char character = text.charAt(i);
             // 英文字符
             if (TextUtil.isEnglishCharacter(character)) {
-                // 添加字符
-                words.add(character);
+                // 记录词组起始索引
+                if (wordIndex < 0) {
+                    wordIndex = i;
+                }
             } else {
                 // 词组非空
-                if (!words.isEmpty()) {
+                if (wordIndex >= 0) {
                     // 计算词组宽度
-                    float wordsWidth = this.getTextWidth(fontConfiguration, font, new String(CommonUtil.toCharacterArray(words)));
+                    float wordsWidth = this.getTextWidth(fontConfiguration, font, text, wordIndex, i);
                     // 计算当前文本真实宽度
                     width += wordsWidth;
                     // 如果真实宽度大于行宽度，则减少一个字符
                     if (width > lineWidth) {
-                        // 添加字符串
-                        lineList.add(new TextLineInfo(tempText.toString(), lastWidth));
-                        // 重置临时文本
-                        tempText.setLength(0);
+                        // 添加行
+                        breaks.add(lineIndex, wordIndex, lastWidth);
+                        // 重置行起始索引
+                        lineIndex = wordIndex;
                         // 重置宽度
                         width = wordsWidth;
                     } else {
                         // 重置前一次宽度
                         lastWidth = width;
                     }
-                    // 添加字符
-                    words.forEach(tempText::append);
                     // 重置词组
-                    words = new ArrayList<>();
+                    wordIndex = -1;
                 }
                 // 计算字符宽度
-                float charWidth = this.getCharacterWidth(fontConfiguration, font, character) + fontConfiguration.getCharacterSpacing();
+                float charWidth = this.getCharacterWidth(fontConfiguration, font, character) + characterSpacing;
                 // 计算当前文本真实宽度
                 width += charWidth;
                 // 如果真实宽度大于行宽度，则减少一个字符
                 if (width > lineWidth) {
-                    // 添加字符串
-                    lineList.add(new TextLineInfo(tempText.toString(), lastWidth));
-                    // 重置临时文本
-                    tempText.setLength(0);
+                    // 添加行
+                    breaks.add(lineIndex, i, lastWidth);
+                    // 重置行起始索引
+                    lineIndex = i;
                     // 重置宽度
                     width = charWidth;
                 } else {
                     // 重置前一次宽度
                     lastWidth = width;
                 }
-                // 添加字符
-                tempText.append(character);
             }
         }
-        // 词组非空
-        if (!words.isEmpty()) {
-            // 添加字符
-            words.forEach(tempText::append);
-        }
-        // 最后一行，加入文本列表
-        if (tempText.length() > 0) {
-            // 加入文本列表
-            lineList.add(new TextLineInfo(tempText.toString(), width));
+        // 最后一行，加入断行结果
+        if (lineIndex < endIndex) {
+            // 添加行
+            breaks.add(lineIndex, endIndex, width);
         }
-        // 返回文本列表
-        return lineList;
+        // 返回断行结果
+        return breaks;
     }
 }
@@ -27,6 +27,16 @@ import java.util.*;
  */
 public class WordsTokenizer extends AbstractTokenizer {
 
+    /**
+     * 是否可缓存
+     *
+     * @return 返回布尔值，true为是，false为否
+     */
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     /**
      * 拆分文本（单行）
      *
@@ -38,17 +48,51 @@ public class WordsTokenizer extends AbstractTokenizer {
      */
     @Override
     public TextLineInfo splitText(FontConfiguration fontConfiguration, PDFont font, String text, float lineWidth) {
+        return this.splitTextByBreaks(fontConfiguration, font, text, lineWidth);
+    }
+
+    /**
+     * 拆分文本段落（多行）
+     *
+     * @param fontConfiguration 字体配置
+     * @param font              字体
+     * @param text              文本
+     * @param lineWidth         行宽
+     * @return 返回文本列表
+     */
+    @Override
+    public List<TextLineInfo> splitLines(FontConfiguration fontConfiguration, PDFont font, String text, float lineWidth) {
+        return this.splitLinesByBreaks(fontConfiguration, font, text, lineWidth);
+    }
+
+    /**
+     * 断行（单行）
+     *
+     * @param fontConfiguration 字体配置
+     * @param font              字体
+     * @param text              文本
+     * @param beginIndex        起始索引（包含）
+     * @param endIndex          结束索引（不包含）
+     * @param lineWidth         行宽
+     * @param breaks            断行结果
+     * @return 返回断行结果
+     */
+    @Override
+    public LineBreaks breakText(FontConfiguration fontConfiguration, PDFont font, CharSequence text, int beginIndex, int endIndex, float lineWidth, LineBreaks breaks) {
         // 如果待输入文本为空，或文本长度为0
-        if (Objects.isNull(text) || text.isEmpty()) {
-            // 返回空字符串
-            return null;
+        if (Objects.isNull(text) || beginIndex >= endIndex) {
+            // 返回断行结果
+            return breaks;
+        }
+        // 忽略末尾空格（与按空格拆分一致）
+        int wordsEndIndex = endIndex;
+        while (wordsEndIndex > beginIndex && text.charAt(wordsEndIndex - 1) == ' ') {
+            wordsEndIndex--;
         }
-        // 拆分文本
-        String[] words = text.split(" ");
-        // 字符宽度大于行宽
-        if (this.getTextWidth(fontConfiguration, font, words[0]) > lineWidth) {
-            // 返回空字符串
-            return null;
+        // 无单词或首个单词宽度大于行宽
+        if (wordsEndIndex == beginIndex || this.getTextWidth(fontConfiguration, font, text, beginIndex, indexOfBlank(text, beginIndex, wordsEndIndex)) > lineWidth) {
+            // 返回断行结果
+            return breaks;
         }
         // 定义宽度
         float width = 0F;
@@ -56,76 +100,90 @@ public class WordsTokenizer extends AbstractTokenizer {
         float lastWidth = 0F;
         // 获取空白宽度
         float blankWidth = this.getBlankWidth(fontConfiguration, font);
-        // 定义连接器
-        StringJoiner joiner = new StringJoiner(" ");
-        // 遍历词组
-        for (String word : words) {
-            // 计算当前词组宽度
-            float wordWidth = this.getTextWidth(fontConfiguration, font, word);
+        // 定义行结束索引
+        int lineEndIndex = beginIndex;
+        // 遍历单词
+        for (int wordIndex = beginIndex; wordIndex <= wordsEndIndex; wordIndex = lineEndIndex + 1) {
+            // 获取单词结束索引
+            int wordEndIndex = indexOfBlank(text, wordIndex, wordsEndIndex);
             // 计算当前文本真实宽度
-            width += wordWidth;
+            width += this.getTextWidth(fontConfiguration, font, text, wordIndex, wordEndIndex);
             // 真实宽度大于行宽度
             if (width > lineWidth) {
-                // 返回字符串
-                return new TextLineInfo(joiner.toString(), lastWidth);
+                // 添加行
+                breaks.add(beginIndex, lineEndIndex, lastWidth);
+                // 返回断行结果
+                return breaks;
             } else {
                 // 重置前一次宽度
                 lastWidth = width;
                 // 计算空白宽度
                 width += blankWidth;
             }
-            // 添加单词
-            joiner.add(word);
+            // 重置行结束索引
+            lineEndIndex = wordEndIndex;
         }
-        // 返回文本
-        return new TextLineInfo(text, width);
+        // 添加行
+        breaks.add(beginIndex, endIndex, width);
+        // 返回断行结果
+        return breaks;
     }
 
     /**
-     * 拆分文本段落（多行）
+     * 断行（多行）
      *
      * @param fontConfiguration 字体配置
      * @param font              字体
      * @param text              文本
+     * @param beginIndex        起始索引（包含）
+     * @param endIndex          结束索引（不包含）
      * @param lineWidth         行宽
-     * @return 返回文本列表
+     * @param breaks            断行结果
+     * @return 返回断行结果
      */
     @Override
-    public List<TextLineInfo> splitLines(FontConfiguration fontConfiguration, PDFont font, String text, float lineWidth) {
+    public LineBreaks breakLines(FontConfiguration fontConfiguration, PDFont font, CharSequence text, int beginIndex, int endIndex, float lineWidth, LineBreaks breaks) {
         // 如果待输入文本为空，或文本长度为0
-        if (Objects.isNull(text) || text.isEmpty()) {
-            // 返回空列表
-            return new ArrayList<>();
+        if (Objects.isNull(text) || beginIndex >= endIndex) {
+            // 返回断行结果
+            return breaks;
+        }
+        // 去除首尾空白（与trim一致）
+        while (beginIndex < endIndex && text.charAt(beginIndex) <= ' ') {
+            beginIndex++;
+        }
+        while (endIndex > beginIndex && text.charAt(endIndex - 1) <= ' ') {
+            endIndex--;
         }
-        // 拆分文本
-        String[] words = text.trim().split(" ");
-        // 字符宽度大于行宽
-        if (this.getTextWidth(fontConfiguration, font, words[0]) > lineWidth) {
-            // 返回空列表
-            return new ArrayList<>();
+        // 首个单词宽度大于行宽
+        if (this.getTextWidth(fontConfiguration, font, text, beginIndex, indexOfBlank(text, beginIndex, endIndex)) > lineWidth) {
+            // 返回断行结果
+            return breaks;
         }
-        // 定义文本列表
-        List<TextLineInfo> lineList = new LinkedList<>();
         // 定义前一次宽度
         float lastWidth = 0F;
         // 定义宽度
         float width = 0F;
         // 获取空白宽度
         float blankWidth = this.getBlankWidth(fontConfiguration, font);
-        // 定义连接器
-        StringJoiner joiner = new StringJoiner(" ");
-        // 遍历词组
-        for (String word : words) {
-            // 计算当前词组宽度
-            float wordWidth = this.getTextWidth(fontConfiguration, font, word);
+        // 定义行起始索引
+        int lineIndex = beginIndex;
+        // 定义行结束索引
+        int lineEndIndex = beginIndex;
+        // 遍历单词
+        for (int wordIndex = beginIndex; wordIndex <= endIndex; wordIndex = lineEndIndex + 1) {
+            // 获取单词结束索引
+            int wordEndIndex = indexOfBlank(text, wordIndex, endIndex);
+            // 计算当前单词宽度
+            float wordWidth = this.getTextWidth(fontConfiguration, font, text, wordIndex, wordEndIndex);
             // 计算当前文本真实宽度
             width += wordWidth;
             // 真实宽度大于行宽度
             if (width > lineWidth) {
-                // 加入文本列表
-                lineList.add(new TextLineInfo(joiner.toString(), lastWidth));
-                // 重置连接器
-                joiner = new StringJoiner(" ");
+                // 添加行
+                breaks.add(lineIndex, lineEndIndex, lastWidth);
+                // 重置行起始索引
+                lineIndex = wordIndex;
                 // 重置宽度
                 width = wordWidth;
             } else {
@@ -134,15 +192,32 @@ public class WordsTokenizer extends AbstractTokenizer {
                 // 计算空白宽度
                 width += blankWidth;
             }
-            // 添加单词
-            joiner.add(word);
+            // 重置行结束索引
+            lineEndIndex = wordEndIndex;
         }
-        // 如果连接器文本长度大于1，则为最后一行，加入文本列表
-        if (joiner.length() > 1) {
-            // 加入文本列表
-            lineList.add(new TextLineInfo(joiner.toString(), width));
+        // 如果行文本长度大于1，则为最后一行，加入断行结果
+        if (lineEndIndex - lineIndex > 1) {
+            // 添加行
+            breaks.add(lineIndex, lineEndIndex, width);
+        }
+        // 返回断行结果
+        return breaks;
+    }
+
+    /**
+     * 查找空格索引
+     *
+     * @param text       文本
+     * @param beginIndex 起始索引（包含）
+     * @param endIndex   结束索引（不包含）
+     * @return 返回空格索引，未找到时返回结束索引
+     */
+    protected static int indexOfBlank(CharSequence text, int beginIndex, int endIndex) {
+        for (int i = beginIndex; i < endIndex; i++) {
+            if (text.charAt(i) == ' ') {
+                return i;
+            }
         }
-        // 返回文本列表
-        return lineList;
+        return endIndex;
     }
 }
@@ -30,5 +30,6 @@ public abstract class AbstractParser extends AbstractExpander {
      */
     public AbstractParser(Document document) {
         super(document);
+        this.flushContentStreams();
     }
 }
\ No newline at end of file
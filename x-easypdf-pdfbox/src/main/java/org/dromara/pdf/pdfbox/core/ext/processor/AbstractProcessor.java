@@ -30,5 +30,6 @@ public abstract class AbstractProcessor extends AbstractExpander {
      */
     public AbstractProcessor(Document document) {
         super(document);
+        this.flushContentStreams();
     }
 }
@@ -53,6 +53,24 @@ public class DocumentProcessor extends AbstractProcessor {
         return new SplitProcessor(this.document);
     }
 
+    /**
+     * 获取优化处理器
+     *
+     * @return 返回优化处理器
+     */
+    public OptimizeProcessor getOptimizeProcessor() {
+        return new OptimizeProcessor(this.document);
+    }
+
+    /**
+     * 获取资源处理器
+     *
+     * @return 返回资源处理器
+     */
+    public ResourceProcessor getResourceProcessor() {
+        return new ResourceProcessor(this.document);
+    }
+
     /**
      * 获取渲染处理器
      *
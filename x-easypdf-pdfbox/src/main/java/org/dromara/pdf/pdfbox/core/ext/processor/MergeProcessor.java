@@ -8,11 +8,16 @@ import org.dromara.pdf.pdfbox.core.base.Page;
 import org.dromara.pdf.pdfbox.handler.PdfHandler;
 import org.dromara.pdf.pdfbox.support.Constants;
 import org.dromara.pdf.pdfbox.util.IdUtil;
+import org.dromara.pdf.shade.org.apache.pdfbox.cos.COSDictionary;
+import org.dromara.pdf.shade.org.apache.pdfbox.cos.COSName;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDDocument;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDDocumentInformation;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPage;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPageTree;
 
 import java.io.File;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -38,6 +43,11 @@ import java.util.Objects;
 @EqualsAndHashCode(callSuper = true)
 public class MergeProcessor extends AbstractProcessor {
 
+    /**
+     * 资源去重器（未开启时为空）
+     */
+    protected ResourceDeduplicator deduplicator;
+
     /**
      * 有参构造
      *
@@ -47,6 +57,16 @@ public class MergeProcessor extends AbstractProcessor {
         super(document);
     }
 
+    /**
+     * 开启资源去重
+     * <p>注：合并后相同的字体、字体文件与图像替换为同一对象，保存时仅写入一次</p>
+     */
+    public void enableResourceDeduplication() {
+        if (Objects.isNull(this.deduplicator)) {
+            this.deduplicator = new ResourceDeduplicator();
+        }
+    }
+
     /**
      * 合并文档
      *
@@ -69,6 +89,8 @@ public class MergeProcessor extends AbstractProcessor {
             // 导入页面
             this.importPage(this.getDocument(), document.getTarget());
         }
+        // 资源去重
+        this.deduplicate();
     }
 
     /**
@@ -100,16 +122,78 @@ public class MergeProcessor extends AbstractProcessor {
             // 添加文档
             tempDocuments.add(document);
         }
+        // 资源去重
+        this.deduplicate();
         // 保存临时文件
         this.getDocument().save(temp);
         // 关闭文档
         this.document.close();
         // 重置文档
         this.document = PdfHandler.getDocumentHandler().load(temp, MemoryPolicy.setupTempFileOnly());
+        // 重置资源去重器（文档已重新加载，原规范对象不可再引用）
+        if (Objects.nonNull(this.deduplicator)) {
+            this.deduplicator = new ResourceDeduplicator();
+        }
         // 关闭临时文档
         tempDocuments.forEach(Document::close);
-        // 删除临时文件
-        temp.deleteOnExit();
+        // 删除临时文件（已打开的文件无法删除时，退出时删除）
+        if (!temp.delete()) {
+            temp.deleteOnExit();
+        }
+    }
+
+    /**
+     * 合并文档（流式）
+     * <p>注：依次写入当前文档页面与文件页面，逐个加载并在写入后立即关闭源文档，内存占用与文件数量无关，不产生临时文件</p>
+     * <p>注：仅合并页面，目录级别内容（书签、表单等）不保留，当前文档从快照写入，不会被修改（仅刷新内容流）</p>
+     *
+     * @param outputStream 输出流
+     * @param files        文件列表
+     */
+    @SneakyThrows
+    public void mergeTo(OutputStream outputStream, File... files) {
+        // 检查参数
+        Objects.requireNonNull(outputStream, "the output stream can not be null");
+        Objects.requireNonNull(files, "the files can not be null");
+        // 创建流式合并写入器
+        StreamingMergeWriter writer = new StreamingMergeWriter(outputStream, this.document.getVersion(), MemoryPolicy.setupTempFileOnly());
+        // 开启资源去重
+        if (Objects.nonNull(this.deduplicator)) {
+            writer.enableResourceDeduplication();
+        }
+        // 设置文档信息
+        COSDictionary info = this.getDocument().getDocument().getTrailer().getCOSDictionary(COSName.INFO);
+        if (Objects.nonNull(info)) {
+            writer.setDocumentInformation(new PDDocumentInformation(info));
+        }
+        // 写入当前文档页面
+        if (this.getDocument().getNumberOfPages() > 0) {
+            writer.append(this.document);
+        }
+        // 遍历文件列表
+        for (File file : files) {
+            // 写入文件页面
+            writer.append(file);
+        }
+        // 结束写入
+        writer.finish();
+    }
+
+    /**
+     * 合并文档（流式）
+     *
+     * @param output 输出文件
+     * @param files  文件列表
+     */
+    @SneakyThrows
+    public void mergeTo(File output, File... files) {
+        // 检查参数
+        Objects.requireNonNull(output, "the output file can not be null");
+        // 创建输出流
+        try (OutputStream outputStream = Files.newOutputStream(output.toPath())) {
+            // 合并文档
+            this.mergeTo(outputStream, files);
+        }
     }
 
     /**
@@ -121,6 +205,15 @@ public class MergeProcessor extends AbstractProcessor {
         return this.document;
     }
 
+    /**
+     * 资源去重（未开启时忽略）
+     */
+    protected void deduplicate() {
+        if (Objects.nonNull(this.deduplicator)) {
+            this.deduplicator.deduplicate(this.getDocument());
+        }
+    }
+
     /**
      * 导入页面
      *
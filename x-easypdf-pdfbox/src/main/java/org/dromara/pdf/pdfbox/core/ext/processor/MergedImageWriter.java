@@ -0,0 +1,546 @@
+package org.dromara.pdf.pdfbox.core.ext.processor;
+
+import lombok.SneakyThrows;
+import org.dromara.pdf.pdfbox.core.enums.ImageType;
+import org.dromara.pdf.pdfbox.support.ImageEncoder;
+import org.dromara.pdf.pdfbox.support.PngEncoder;
+import org.dromara.pdf.pdfbox.support.TiffEncoder;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPage;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.common.PDRectangle;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.Raster;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 合并图像写入器
+ * <p>注：按页面顺序逐页写入，垂直合并时页面按行直接写入编码器；水平合并时页面按列写入磁盘行缓冲，结束时按行写入编码器，内存中仅保留一个页面图像</p>
+ * <p>注：合并规则与{@link org.dromara.pdf.pdfbox.util.ImageUtil#joinForVertical(java.util.List)}一致（以首页宽度或高度为准，超出部分裁剪，不足部分为0值像素）</p>
+ * <p>注：支持PNG与TIFF（无压缩条带）格式</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class MergedImageWriter implements Closeable {
+
+    /**
+     * 是否垂直合并
+     */
+    protected final boolean isVertical;
+    /**
+     * 页面尺寸（宽度，高度）
+     */
+    protected final int[][] pageSizes;
+    /**
+     * 图像宽度
+     */
+    protected final int width;
+    /**
+     * 图像高度
+     */
+    protected final int height;
+    /**
+     * 每像素样本数
+     */
+    protected final int bands;
+    /**
+     * 行编码器
+     */
+    protected final RowEncoder encoder;
+    /**
+     * 行样本缓冲
+     */
+    protected final byte[] row;
+    /**
+     * 像素样本缓冲
+     */
+    protected int[] pixels;
+    /**
+     * 已写入页面数量
+     */
+    protected int pageCount;
+    /**
+     * 当前偏移（垂直合并为y轴，水平合并为x轴）
+     */
+    protected int offset;
+    /**
+     * 行缓冲文件（水平合并）
+     */
+    protected Path bufferFile;
+    /**
+     * 行缓冲通道（水平合并）
+     */
+    protected FileChannel bufferChannel;
+    /**
+     * 是否已结束
+     */
+    protected boolean isFinished;
+
+    /**
+     * 有参构造
+     *
+     * @param outputStream 输出流
+     * @param imageType    图像类型
+     * @param colorType    颜色类型
+     * @param isVertical   是否垂直合并
+     * @param pageSizes    页面图像尺寸（宽度，高度），参考{@link #getImageSize(PDPage, float)}
+     * @param dpi          图像DPI
+     */
+    public MergedImageWriter(
+            OutputStream outputStream,
+            ImageType imageType,
+            org.dromara.pdf.shade.org.apache.pdfbox.rendering.ImageType colorType,
+            boolean isVertical,
+            int[][] pageSizes,
+            float dpi
+    ) {
+        this(outputStream, imageType, colorType, isVertical, pageSizes, dpi, null);
+    }
+
+    /**
+     * 有参构造
+     *
+     * @param outputStream 输出流
+     * @param imageType    图像类型
+     * @param colorType    颜色类型
+     * @param isVertical   是否垂直合并
+     * @param pageSizes    页面图像尺寸（宽度，高度），参考{@link #getImageSize(PDPage, float)}
+     * @param dpi          图像DPI
+     * @param imageEncoder 图像编码器（为空时使用默认PNG编码参数）
+     */
+    @SneakyThrows
+    public MergedImageWriter(
+            OutputStream outputStream,
+            ImageType imageType,
+            org.dromara.pdf.shade.org.apache.pdfbox.rendering.ImageType colorType,
+            boolean isVertical,
+            int[][] pageSizes,
+            float dpi,
+            ImageEncoder imageEncoder
+    ) {
+        Objects.requireNonNull(outputStream, "the output stream can not be null");
+        Objects.requireNonNull(imageType, "the image type can not be null");
+        Objects.requireNonNull(colorType, "the color type can not be null");
+        Objects.requireNonNull(pageSizes, "the page sizes can not be null");
+        if (!isSupported(imageType)) {
+            throw new IllegalArgumentException("the image type['" + imageType + "'] is not supported");
+        }
+        if (pageSizes.length == 0) {
+            throw new IllegalArgumentException("the page sizes can not be empty");
+        }
+        this.isVertical = isVertical;
+        this.pageSizes = pageSizes;
+        // 计算图像尺寸
+        long width = pageSizes[0][0];
+        long height = pageSizes[0][1];
+        for (int i = 1; i < pageSizes.length; i++) {
+            if (isVertical) {
+                height = height + pageSizes[i][1];
+            } else {
+                width = width + pageSizes[i][0];
+            }
+        }
+        if (width > Integer.MAX_VALUE || height > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("the merged image is too large: " + width + " * " + height);
+        }
+        this.width = (int) width;
+        this.height = (int) height;
+        // 初始化样本格式
+        int bitDepth = 8;
+        switch (colorType) {
+            case ARGB:
+                this.bands = 4;
+                break;
+            case GRAY:
+                this.bands = 1;
+                break;
+            case BINARY:
+                this.bands = 1;
+                bitDepth = 1;
+                break;
+            default:
+                this.bands = 3;
+        }
+        this.row = new byte[this.width * this.bands];
+        // 初始化编码器
+        if (imageType == ImageType.PNG) {
+            PngEncoder pngEncoder = Objects.nonNull(imageEncoder) ? imageEncoder.getPngEncoder() : ImageEncoder.DEFAULT.getPngEncoder();
+            this.encoder = new PngRowEncoder(outputStream, this.width, this.height, this.bands, bitDepth, dpi, pngEncoder);
+        } else {
+            this.encoder = new TiffRowEncoder(outputStream, this.width, this.height, this.bands, bitDepth, dpi);
+        }
+        // 初始化行缓冲（水平合并）
+        if (!isVertical) {
+            this.bufferFile = Files.createTempFile("x-easypdf-merge", ".raw");
+            this.bufferChannel = FileChannel.open(this.bufferFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+    }
+
+    /**
+     * 是否支持图像类型
+     *
+     * @param imageType 图像类型
+     * @return 返回布尔值，true为是，false为否
+     */
+    public static boolean isSupported(ImageType imageType) {
+        return imageType == ImageType.PNG || imageType == ImageType.TIFF;
+    }
+
+    /**
+     * 获取页面图像尺寸
+     * <p>注：与pdfbox渲染器计算方式一致</p>
+     *
+     * @param page pdfbox页面
+     * @param dpi  图像DPI
+     * @return 返回图像尺寸（宽度，高度）
+     */
+    public static int[] getImageSize(PDPage page, float dpi) {
+        Objects.requireNonNull(page, "the page can not be null");
+        float scale = dpi / 72F;
+        PDRectangle box = page.getCropBox();
+        int width = (int) Math.max(Math.floor(box.getWidth() * scale), 1);
+        int height = (int) Math.max(Math.floor(box.getHeight() * scale), 1);
+        int rotation = page.getRotation();
+        if (rotation == 90 || rotation == 270) {
+            return new int[]{height, width};
+        }
+        return new int[]{width, height};
+    }
+
+    /**
+     * 写入页面图像（按页面顺序）
+     *
+     * @param image 页面图像
+     */
+    @SneakyThrows
+    public void write(BufferedImage image) {
+        Objects.requireNonNull(image, "the image can not be null");
+        if (this.isFinished || this.pageCount >= this.pageSizes.length) {
+            throw new IllegalStateException("all pages have been written");
+        }
+        int[] size = this.pageSizes[this.pageCount++];
+        if (this.isVertical) {
+            this.writeVertical(image, size[1]);
+        } else {
+            this.writeHorizontal(image, size[0]);
+        }
+        image.flush();
+    }
+
+    /**
+     * 结束写入
+     */
+    @SneakyThrows
+    public void finish() {
+        if (this.isFinished) {
+            return;
+        }
+        if (this.pageCount != this.pageSizes.length) {
+            throw new IllegalStateException("the page count is not matched, expected " + this.pageSizes.length + " but " + this.pageCount);
+        }
+        // 水平合并时按行写入编码器
+        if (!this.isVertical) {
+            ByteBuffer buffer = ByteBuffer.wrap(this.row);
+            for (int y = 0; y < this.height; y++) {
+                buffer.clear();
+                long position = (long) y * this.row.length;
+                while (buffer.hasRemaining()) {
+                    if (this.bufferChannel.read(buffer, position + buffer.position()) < 0) {
+                        Arrays.fill(this.row, buffer.position(), this.row.length, (byte) 0);
+                        break;
+                    }
+                }
+                this.encoder.writeRow(this.row);
+            }
+        }
+        this.encoder.finish();
+        this.isFinished = true;
+    }
+
+    /**
+     * 关闭（释放行缓冲，不关闭输出流）
+     */
+    @Override
+    public void close() throws IOException {
+        if (Objects.nonNull(this.bufferChannel)) {
+            this.bufferChannel.close();
+            this.bufferChannel = null;
+        }
+        if (Objects.nonNull(this.bufferFile)) {
+            Files.deleteIfExists(this.bufferFile);
+            this.bufferFile = null;
+        }
+    }
+
+    /**
+     * 写入页面图像（垂直合并）
+     *
+     * @param image  页面图像
+     * @param height 页面高度
+     */
+    protected void writeVertical(BufferedImage image, int height) throws IOException {
+        for (int y = 0; y < height; y++) {
+            Arrays.fill(this.row, (byte) 0);
+            this.readRow(image, y, this.row, 0, this.width);
+            this.encoder.writeRow(this.row);
+        }
+        this.offset = this.offset + height;
+    }
+
+    /**
+     * 写入页面图像（水平合并）
+     *
+     * @param image 页面图像
+     * @param width 页面宽度
+     */
+    protected void writeHorizontal(BufferedImage image, int width) throws IOException {
+        byte[] segment = new byte[width * this.bands];
+        ByteBuffer buffer = ByteBuffer.wrap(segment);
+        for (int y = 0; y < this.height; y++) {
+            Arrays.fill(segment, (byte) 0);
+            this.readRow(image, y, segment, 0, width);
+            buffer.clear();
+            long position = ((long) y * this.width + this.offset) * this.bands;
+            while (buffer.hasRemaining()) {
+                this.bufferChannel.write(buffer, position + buffer.position());
+            }
+        }
+        this.offset = this.offset + width;
+    }
+
+    /**
+     * 读取图像行样本
+     *
+     * @param image  图像
+     * @param y      行索引
+     * @param target 目标样本
+     * @param x      目标起始像素
+     * @param width  最大像素数量
+     */
+    protected void readRow(BufferedImage image, int y, byte[] target, int x, int width) {
+        if (y >= image.getHeight()) {
+            return;
+        }
+        Raster raster = image.getRaster();
+        int count = Math.min(width, image.getWidth());
+        int length = count * this.bands;
+        if (Objects.isNull(this.pixels) || this.pixels.length < length) {
+            this.pixels = new int[length];
+        }
+        raster.getPixels(0, y, count, 1, this.pixels);
+        int begin = x * this.bands;
+        for (int i = 0; i < length; i++) {
+            target[begin + i] = (byte) this.pixels[i];
+        }
+    }
+
+    /**
+     * 行编码器
+     */
+    protected abstract static class RowEncoder {
+
+        /**
+         * 输出流
+         */
+        protected final OutputStream outputStream;
+        /**
+         * 图像宽度
+         */
+        protected final int width;
+        /**
+         * 图像高度
+         */
+        protected final int height;
+        /**
+         * 每像素样本数
+         */
+        protected final int bands;
+        /**
+         * 样本位数（8或1）
+         */
+        protected final int bitDepth;
+        /**
+         * 图像DPI
+         */
+        protected final float dpi;
+        /**
+         * 行字节数
+         */
+        protected final int rowBytes;
+
+        /**
+         * 有参构造
+         *
+         * @param outputStream 输出流
+         * @param width        图像宽度
+         * @param height       图像高度
+         * @param bands        每像素样本数
+         * @param bitDepth     样本位数
+         * @param dpi          图像DPI
+         */
+        protected RowEncoder(OutputStream outputStream, int width, int height, int bands, int bitDepth, float dpi) {
+            this.outputStream = outputStream;
+            this.width = width;
+            this.height = height;
+            this.bands = bands;
+            this.bitDepth = bitDepth;
+            this.dpi = dpi;
+            this.rowBytes = TiffEncoder.getRowBytes(width, bands, bitDepth);
+        }
+
+        /**
+         * 写入行
+         *
+         * @param samples 行样本（每个样本一个字节）
+         * @throws IOException IO异常
+         */
+        protected abstract void writeRow(byte[] samples) throws IOException;
+
+        /**
+         * 结束写入
+         *
+         * @throws IOException IO异常
+         */
+        protected abstract void finish() throws IOException;
+
+        /**
+         * 打包行数据
+         *
+         * @param samples 行样本
+         * @param target  目标数据
+         * @param offset  目标偏移
+         */
+        protected void pack(byte[] samples, byte[] target, int offset) {
+            if (this.bitDepth == 1) {
+                Arrays.fill(target, offset, offset + this.rowBytes, (byte) 0);
+                for (int i = 0; i < this.width; i++) {
+                    if (samples[i] != 0) {
+                        target[offset + (i >> 3)] |= (byte) (0x80 >>> (i & 7));
+                    }
+                }
+            } else {
+                System.arraycopy(samples, 0, target, offset, this.rowBytes);
+            }
+        }
+    }
+
+    /**
+     * PNG行编码器
+     */
+    protected static class PngRowEncoder extends RowEncoder {
+
+        /**
+         * 行写入器
+         */
+        protected final PngEncoder.RowWriter writer;
+
+        /**
+         * 有参构造
+         *
+         * @param outputStream 输出流
+         * @param width        图像宽度
+         * @param height       图像高度
+         * @param bands        每像素样本数
+         * @param bitDepth     样本位数
+         * @param dpi          图像DPI
+         * @param pngEncoder   PNG编码器
+         */
+        protected PngRowEncoder(OutputStream outputStream, int width, int height, int bands, int bitDepth, float dpi, PngEncoder pngEncoder) throws IOException {
+            super(outputStream, width, height, bands, bitDepth, dpi);
+            this.writer = pngEncoder.createRowWriter(outputStream, width, height, bands, bitDepth, dpi);
+        }
+
+        /**
+         * 写入行
+         *
+         * @param samples 行样本
+         */
+        @Override
+        protected void writeRow(byte[] samples) throws IOException {
+            this.writer.writeRow(samples);
+        }
+
+        /**
+         * 结束写入
+         */
+        @Override
+        protected void finish() throws IOException {
+            this.writer.finish();
+        }
+    }
+
+    /**
+     * TIFF行编码器（无压缩条带）
+     */
+    protected static class TiffRowEncoder extends RowEncoder {
+
+        /**
+         * 条带目标大小
+         */
+        protected static final int STRIP_SIZE = 1 << 16;
+
+        /**
+         * 每条带行数
+         */
+        protected final int rowsPerStrip;
+        /**
+         * 行数据
+         */
+        protected final byte[] packed;
+
+        /**
+         * 有参构造
+         *
+         * @param outputStream 输出流
+         * @param width        图像宽度
+         * @param height       图像高度
+         * @param bands        每像素样本数
+         * @param bitDepth     样本位数
+         * @param dpi          图像DPI
+         */
+        protected TiffRowEncoder(OutputStream outputStream, int width, int height, int bands, int bitDepth, float dpi) throws IOException {
+            super(outputStream, width, height, bands, bitDepth, dpi);
+            this.rowsPerStrip = Math.max(1, Math.min(height, STRIP_SIZE / this.rowBytes));
+            this.packed = new byte[this.rowBytes];
+            TiffEncoder.writeStripHeader(outputStream, width, height, bands, bitDepth, this.rowsPerStrip, dpi);
+        }
+
+        /**
+         * 写入行
+         *
+         * @param samples 行样本
+         */
+        @Override
+        protected void writeRow(byte[] samples) throws IOException {
+            this.pack(samples, this.packed, 0);
+            this.outputStream.write(this.packed);
+        }
+
+        /**
+         * 结束写入
+         */
+        @Override
+        protected void finish() throws IOException {
+            this.outputStream.flush();
+        }
+    }
+}
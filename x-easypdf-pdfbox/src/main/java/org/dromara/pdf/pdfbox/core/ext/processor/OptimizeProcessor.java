@@ -0,0 +1,750 @@
+package org.dromara.pdf.pdfbox.core.ext.processor;
+
+import lombok.EqualsAndHashCode;
+import lombok.SneakyThrows;
+import org.dromara.pdf.pdfbox.core.base.Document;
+import org.dromara.pdf.pdfbox.core.enums.ImageType;
+import org.dromara.pdf.pdfbox.support.ImageEncoder;
+import org.dromara.pdf.pdfbox.support.OrderedExecutor;
+import org.dromara.pdf.pdfbox.util.ImageUtil;
+import org.dromara.pdf.shade.org.apache.pdfbox.contentstream.PDFStreamEngine;
+import org.dromara.pdf.shade.org.apache.pdfbox.contentstream.operator.DrawObject;
+import org.dromara.pdf.shade.org.apache.pdfbox.contentstream.operator.Operator;
+import org.dromara.pdf.shade.org.apache.pdfbox.contentstream.operator.OperatorName;
+import org.dromara.pdf.shade.org.apache.pdfbox.contentstream.operator.state.*;
+import org.dromara.pdf.shade.org.apache.pdfbox.cos.*;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPage;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.graphics.PDXObject;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.graphics.form.PDFormXObject;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotation;
+import org.dromara.pdf.shade.org.apache.pdfbox.util.Matrix;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * 优化处理器
+ * <p>注：移除页面资源中未使用的字体、外部对象与图形状态，按目标DPI降采样图像，并将无损压缩图像重新压缩为JPEG</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+@EqualsAndHashCode(callSuper = true)
+public class OptimizeProcessor extends AbstractProcessor {
+
+    /**
+     * 默认JPEG质量（未设置质量时，降采样的JPEG图像使用）
+     */
+    protected static final float DEFAULT_JPEG_QUALITY = 0.8F;
+    /**
+     * 可移除的资源类型
+     */
+    protected static final COSName[] REMOVABLE_KEYS = {COSName.FONT, COSName.XOBJECT, COSName.EXT_G_STATE};
+    /**
+     * 无损过滤器
+     */
+    protected static final Set<COSName> LOSSLESS_FILTERS = new HashSet<>(
+            Arrays.asList(
+                    COSName.FLATE_DECODE,
+                    COSName.FLATE_DECODE_ABBREVIATION,
+                    COSName.LZW_DECODE,
+                    COSName.LZW_DECODE_ABBREVIATION,
+                    COSName.RUN_LENGTH_DECODE,
+                    COSName.RUN_LENGTH_DECODE_ABBREVIATION,
+                    COSName.ASCII85_DECODE,
+                    COSName.ASCII85_DECODE_ABBREVIATION,
+                    COSName.ASCII_HEX_DECODE,
+                    COSName.ASCII_HEX_DECODE_ABBREVIATION
+            )
+    );
+
+    /**
+     * 目标DPI（为空时不降采样）
+     */
+    protected Float targetDpi;
+    /**
+     * JPEG质量（为空时不重新压缩无损图像）
+     */
+    protected Float jpegQuality;
+    /**
+     * 并行数量（工作线程数量，大于1时开启并行压缩）
+     */
+    protected Integer parallelism;
+
+    /**
+     * 有参构造
+     *
+     * @param document 文档
+     */
+    public OptimizeProcessor(Document document) {
+        super(document);
+    }
+
+    /**
+     * 设置目标DPI
+     * <p>注：显示分辨率高于目标DPI的图像将被降采样（按图像在页面中的最大显示尺寸计算）</p>
+     *
+     * @param targetDpi 目标DPI
+     */
+    public void setTargetDpi(float targetDpi) {
+        if (targetDpi <= 0) {
+            throw new IllegalArgumentException("the target dpi must be greater than 0");
+        }
+        this.targetDpi = targetDpi;
+    }
+
+    /**
+     * 设置JPEG质量
+     * <p>注：设置后无损压缩（flate等）或未压缩的图像将重新压缩为JPEG，压缩后未变小的图像保持不变</p>
+     *
+     * @param jpegQuality JPEG质量（0~1）
+     */
+    public void setJpegQuality(float jpegQuality) {
+        if (jpegQuality <= 0 || jpegQuality > 1) {
+            throw new IllegalArgumentException("the jpeg quality must be greater than 0 and less than or equal to 1");
+        }
+        this.jpegQuality = jpegQuality;
+    }
+
+    /**
+     * 设置并行数量
+     * <p>注：大于1时由工作线程并行降采样与编码图像（图像在调用线程中解码并写回），同时存活的解码图像不超过并行数量</p>
+     *
+     * @param parallelism 并行数量（工作线程数量）
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("the parallelism must be greater than 0");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * 优化文档
+     * <p>注：先移除未使用的资源，再优化图像</p>
+     */
+    public void optimize() {
+        this.removeUnusedResources();
+        this.optimizeImages();
+    }
+
+    /**
+     * 移除未使用的资源
+     * <p>注：移除页面（含表单、图案、注释外观与type3字体）资源中内容流未引用的字体、外部对象与图形状态，内容流解析失败的资源保持不变</p>
+     *
+     * @return 返回移除的资源数量
+     */
+    public int removeUnusedResources() {
+        // 定义资源使用名称（值为空时保留全部资源）
+        Map<COSDictionary, Set<COSName>> usages = new IdentityHashMap<>();
+        // 定义已访问对象
+        Set<COSBase> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        // 遍历页面
+        for (PDPage page : this.getDocument().getPages()) {
+            // 收集页面使用名称
+            COSDictionary resources = page.getResources().getCOSObject();
+            this.addUsedNames(usages, resources, ParallelSplitter.getUsedNames(page));
+            this.collectChildren(usages, visited, resources);
+            // 收集注释外观使用名称
+            COSArray annotations = page.getCOSObject().getCOSArray(COSName.ANNOTS);
+            if (Objects.nonNull(annotations)) {
+                for (COSBase annotation : annotations) {
+                    COSBase base = resolve(annotation);
+                    if (base instanceof COSDictionary) {
+                        this.collectAppearance(usages, visited, resolve(((COSDictionary) base).getItem(COSName.AP)));
+                    }
+                }
+            }
+        }
+        // 合并类型字典使用名称（类型字典可能被多个资源字典共享）
+        Map<COSDictionary, Set<COSName>> categories = new IdentityHashMap<>();
+        for (Map.Entry<COSDictionary, Set<COSName>> entry : usages.entrySet()) {
+            for (COSName key : REMOVABLE_KEYS) {
+                COSBase category = resolve(entry.getKey().getItem(key));
+                if (category instanceof COSDictionary) {
+                    this.addUsedNames(categories, (COSDictionary) category, entry.getValue());
+                }
+            }
+        }
+        // 移除未使用的资源
+        int count = 0;
+        for (Map.Entry<COSDictionary, Set<COSName>> entry : categories.entrySet()) {
+            Set<COSName> names = entry.getValue();
+            if (Objects.nonNull(names)) {
+                List<COSName> keys = new ArrayList<>(entry.getKey().keySet());
+                for (COSName key : keys) {
+                    if (!names.contains(key)) {
+                        entry.getKey().removeItem(key);
+                        count++;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 优化图像
+     * <p>注：仅处理页面（含表单与注释外观）中绘制的图像，跳过模板图像、二值图像、颜色键遮罩图像与JPEG2000/CCITT/JBIG2图像</p>
+     *
+     * @return 返回替换的图像数量
+     */
+    @SneakyThrows
+    public int optimizeImages() {
+        // 未设置目标DPI与JPEG质量时，无需处理
+        if (Objects.isNull(this.targetDpi) && Objects.isNull(this.jpegQuality)) {
+            return 0;
+        }
+        // 收集图像显示尺寸
+        ImageUsageEngine engine = new ImageUsageEngine();
+        for (PDPage page : this.getDocument().getPages()) {
+            engine.processPageWithAnnotations(page);
+        }
+        // 定义图像列表
+        List<ImageUsage> usages = new ArrayList<>(engine.getUsages().values());
+        // 定义替换数量
+        AtomicInteger replaced = new AtomicInteger();
+        // 编码图像（限制同时存活的解码图像数量）
+        try (OrderedExecutor executor = new OrderedExecutor("optimize", Optional.ofNullable(this.parallelism).orElse(1))) {
+            executor.execute(
+                    usages.size(),
+                    index -> this.createTask(usages.get(index)),
+                    (index, image) -> replaced.addAndGet(this.writeBack(image))
+            );
+        }
+        return replaced.get();
+    }
+
+    /**
+     * 添加使用名称
+     *
+     * @param usages    资源使用名称
+     * @param resources 资源字典
+     * @param names     使用名称（为空时保留全部资源）
+     */
+    protected void addUsedNames(Map<COSDictionary, Set<COSName>> usages, COSDictionary resources, Set<COSName> names) {
+        if (usages.containsKey(resources)) {
+            Set<COSName> current = usages.get(resources);
+            if (Objects.isNull(current)) {
+                return;
+            }
+            if (Objects.isNull(names)) {
+                usages.put(resources, null);
+            } else {
+                current.addAll(names);
+            }
+        } else {
+            usages.put(resources, Objects.isNull(names) ? null : new HashSet<>(names));
+        }
+    }
+
+    /**
+     * 收集子内容流使用名称（表单、图案、type3字体与软遮罩）
+     * <p>注：子内容流无独立资源时，使用名称计入当前资源字典</p>
+     *
+     * @param usages    资源使用名称
+     * @param visited   已访问对象
+     * @param resources 资源字典
+     */
+    protected void collectChildren(Map<COSDictionary, Set<COSName>> usages, Set<COSBase> visited, COSDictionary resources) {
+        if (!visited.add(resources)) {
+            return;
+        }
+        for (COSName key : new COSName[]{COSName.XOBJECT, COSName.PATTERN, COSName.EXT_G_STATE, COSName.FONT}) {
+            COSBase category = resolve(resources.getItem(key));
+            if (!(category instanceof COSDictionary)) {
+                continue;
+            }
+            for (COSBase item : ((COSDictionary) category).getValues()) {
+                COSBase value = resolve(item);
+                if (value instanceof COSStream) {
+                    // 表单或图案
+                    COSStream stream = (COSStream) value;
+                    if (COSName.FORM.equals(stream.getCOSName(COSName.SUBTYPE)) || stream.containsKey(COSName.PATTERN_TYPE)) {
+                        this.collectStream(usages, visited, stream, stream.getCOSDictionary(COSName.RESOURCES), resources);
+                    }
+                } else if (value instanceof COSDictionary) {
+                    COSDictionary dictionary = (COSDictionary) value;
+                    // 软遮罩
+                    COSBase softMask = resolve(dictionary.getItem(COSName.SMASK));
+                    if (softMask instanceof COSDictionary) {
+                        COSBase group = resolve(((COSDictionary) softMask).getItem(COSName.G));
+                        if (group instanceof COSStream) {
+                            COSStream stream = (COSStream) group;
+                            this.collectStream(usages, visited, stream, stream.getCOSDictionary(COSName.RESOURCES), resources);
+                        }
+                    }
+                    // type3字体
+                    COSDictionary charProcs = dictionary.getCOSDictionary(COSName.CHAR_PROCS);
+                    if (Objects.nonNull(charProcs)) {
+                        COSDictionary fontResources = dictionary.getCOSDictionary(COSName.RESOURCES);
+                        for (COSBase charProc : charProcs.getValues()) {
+                            COSBase stream = resolve(charProc);
+                            if (stream instanceof COSStream) {
+                                this.collectStream(usages, visited, (COSStream) stream, fontResources, resources);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 收集内容流使用名称
+     *
+     * @param usages          资源使用名称
+     * @param visited         已访问对象
+     * @param stream          内容流
+     * @param ownResources    内容流资源字典
+     * @param parentResources 上级资源字典（内容流资源字典为空时使用）
+     */
+    protected void collectStream(
+            Map<COSDictionary, Set<COSName>> usages,
+            Set<COSBase> visited,
+            COSStream stream,
+            COSDictionary ownResources,
+            COSDictionary parentResources
+    ) {
+        if (!visited.add(stream)) {
+            return;
+        }
+        COSDictionary resources = Optional.ofNullable(ownResources).orElse(parentResources);
+        if (Objects.isNull(resources)) {
+            return;
+        }
+        this.addUsedNames(usages, resources, ParallelSplitter.getUsedNames(new PDFormXObject(stream)));
+        this.collectChildren(usages, visited, resources);
+    }
+
+    /**
+     * 收集注释外观使用名称
+     *
+     * @param usages     资源使用名称
+     * @param visited    已访问对象
+     * @param appearance 外观字典
+     */
+    protected void collectAppearance(Map<COSDictionary, Set<COSName>> usages, Set<COSBase> visited, COSBase appearance) {
+        if (appearance instanceof COSStream) {
+            COSStream stream = (COSStream) appearance;
+            this.collectStream(usages, visited, stream, stream.getCOSDictionary(COSName.RESOURCES), null);
+        } else if (appearance instanceof COSDictionary) {
+            for (COSBase value : ((COSDictionary) appearance).getValues()) {
+                COSBase base = resolve(value);
+                if (base instanceof COSStream || base instanceof COSDictionary) {
+                    this.collectAppearance(usages, visited, base);
+                }
+            }
+        }
+    }
+
+    /**
+     * 创建图像任务
+     *
+     * @param usage 图像使用信息
+     * @return 返回图像任务，无需处理时返回null
+     */
+    @SneakyThrows
+    protected ImageTask createTask(ImageUsage usage) {
+        PDImageXObject image = usage.image;
+        COSStream stream = image.getCOSObject();
+        // 跳过模板图像、二值图像与颜色键遮罩图像
+        if (image.isStencil() || image.getBitsPerComponent() <= 1 || Objects.nonNull(image.getColorKeyMask())) {
+            return null;
+        }
+        // 检查过滤器
+        boolean isLossless = true;
+        boolean isJpeg = false;
+        for (COSName filter : this.getFilters(stream)) {
+            if (COSName.DCT_DECODE.equals(filter) || COSName.DCT_DECODE_ABBREVIATION.equals(filter)) {
+                isJpeg = true;
+                isLossless = false;
+            } else if (!LOSSLESS_FILTERS.contains(filter)) {
+                return null;
+            }
+        }
+        // 计算降采样比例
+        float scale = 1.0F;
+        if (Objects.nonNull(this.targetDpi) && !usage.isUnknownSize && usage.width > 0 && usage.height > 0) {
+            float dpi = Math.max(image.getWidth() * 72F / usage.width, image.getHeight() * 72F / usage.height);
+            if (dpi > this.targetDpi) {
+                scale = this.targetDpi / dpi;
+            }
+        }
+        int width = Math.max(1, Math.round(image.getWidth() * scale));
+        int height = Math.max(1, Math.round(image.getHeight() * scale));
+        boolean isDownsample = width < image.getWidth() || height < image.getHeight();
+        boolean isRecompress = isLossless && Objects.nonNull(this.jpegQuality);
+        if (!isDownsample && !isRecompress) {
+            return null;
+        }
+        // 确定编码质量（为空时使用flate无损压缩）
+        Float quality = Objects.nonNull(this.jpegQuality) ? this.jpegQuality : (isJpeg ? DEFAULT_JPEG_QUALITY : null);
+        // 解码图像（在调用线程中读取文档）
+        return new ImageTask(stream, image.getOpaqueImage(), width, height, quality);
+    }
+
+    /**
+     * 写回图像
+     *
+     * @param encoded 编码图像
+     * @return 返回替换数量
+     */
+    @SneakyThrows
+    protected int writeBack(EncodedImage encoded) {
+        COSStream stream = encoded.stream;
+        // 未变小时保持不变
+        if (encoded.data.length >= stream.getLength()) {
+            return 0;
+        }
+        try (OutputStream outputStream = stream.createRawOutputStream()) {
+            outputStream.write(encoded.data);
+        }
+        stream.setItem(COSName.FILTER, encoded.filter);
+        stream.removeItem(COSName.DECODE_PARMS);
+        stream.removeItem(COSName.DECODE);
+        stream.setInt(COSName.WIDTH, encoded.width);
+        stream.setInt(COSName.HEIGHT, encoded.height);
+        stream.setInt(COSName.BITS_PER_COMPONENT, 8);
+        stream.setItem(COSName.COLORSPACE, encoded.colorSpace);
+        return 1;
+    }
+
+    /**
+     * 获取过滤器列表
+     *
+     * @param stream 流
+     * @return 返回过滤器列表
+     */
+    protected List<COSName> getFilters(COSStream stream) {
+        COSBase filters = resolve(stream.getItem(COSName.FILTER));
+        if (filters instanceof COSName) {
+            return Collections.singletonList((COSName) filters);
+        }
+        List<COSName> list = new ArrayList<>();
+        if (filters instanceof COSArray) {
+            for (COSBase filter : (COSArray) filters) {
+                COSBase base = resolve(filter);
+                if (base instanceof COSName) {
+                    list.add((COSName) base);
+                }
+            }
+        }
+        return list;
+    }
+
+    /**
+     * 解析间接对象
+     *
+     * @param base pdf对象
+     * @return 返回直接对象
+     */
+    protected static COSBase resolve(COSBase base) {
+        return base instanceof COSObject ? ((COSObject) base).getObject() : base;
+    }
+
+    /**
+     * 图像使用信息
+     */
+    protected static class ImageUsage {
+
+        /**
+         * 图像
+         */
+        protected final PDImageXObject image;
+        /**
+         * 最大显示宽度（单位：磅）
+         */
+        protected float width;
+        /**
+         * 最大显示高度（单位：磅）
+         */
+        protected float height;
+        /**
+         * 是否未知显示尺寸（未知时不降采样）
+         */
+        protected boolean isUnknownSize;
+
+        /**
+         * 有参构造
+         *
+         * @param image 图像
+         */
+        protected ImageUsage(PDImageXObject image) {
+            this.image = image;
+        }
+    }
+
+    /**
+     * 图像使用流引擎（记录图像最大显示尺寸）
+     */
+    protected static class ImageUsageEngine extends PDFStreamEngine {
+
+        /**
+         * 图像使用信息
+         */
+        protected final Map<COSStream, ImageUsage> usages = new LinkedHashMap<>();
+
+        /**
+         * 无参构造
+         */
+        protected ImageUsageEngine() {
+            this.addOperator(new Concatenate(this));
+            this.addOperator(new DrawObject(this));
+            this.addOperator(new SetGraphicsStateParameters(this));
+            this.addOperator(new Save(this));
+            this.addOperator(new Restore(this));
+            this.addOperator(new SetMatrix(this));
+        }
+
+        /**
+         * 获取图像使用信息
+         *
+         * @return 返回图像使用信息
+         */
+        protected Map<COSStream, ImageUsage> getUsages() {
+            return this.usages;
+        }
+
+        /**
+         * 处理页面与注释外观
+         * <p>注：解析失败时，页面资源中的图像标记为未知显示尺寸</p>
+         *
+         * @param page pdfbox页面
+         */
+        @SneakyThrows
+        protected void processPageWithAnnotations(PDPage page) {
+            try {
+                this.processPage(page);
+                for (PDAnnotation annotation : page.getAnnotations()) {
+                    this.showAnnotation(annotation);
+                }
+            } catch (Exception e) {
+                for (COSName name : page.getResources().getXObjectNames()) {
+                    PDXObject xObject = page.getResources().getXObject(name);
+                    if (xObject instanceof PDImageXObject) {
+                        this.getUsage((PDImageXObject) xObject).isUnknownSize = true;
+                    }
+                }
+            }
+        }
+
+        /**
+         * 处理操作标记
+         *
+         * @param operator 操作标记
+         * @param operands 标记列表
+         */
+        @SneakyThrows
+        @Override
+        protected void processOperator(Operator operator, List<COSBase> operands) {
+            // 如果操作标记名称为绘制对象，则记录图像显示尺寸
+            if (OperatorName.DRAW_OBJECT.equals(operator.getName()) && !operands.isEmpty() && operands.get(0) instanceof COSName) {
+                PDXObject xObject = this.getResources().getXObject((COSName) operands.get(0));
+                if (xObject instanceof PDImageXObject) {
+                    Matrix matrix = this.getGraphicsState().getCurrentTransformationMatrix();
+                    ImageUsage usage = this.getUsage((PDImageXObject) xObject);
+                    usage.width = Math.max(usage.width, Math.abs(matrix.getScalingFactorX()));
+                    usage.height = Math.max(usage.height, Math.abs(matrix.getScalingFactorY()));
+                } else if (xObject instanceof PDFormXObject) {
+                    this.showForm((PDFormXObject) xObject);
+                }
+            } else {
+                super.processOperator(operator, operands);
+            }
+        }
+
+        /**
+         * 获取图像使用信息
+         *
+         * @param image 图像
+         * @return 返回图像使用信息
+         */
+        protected ImageUsage getUsage(PDImageXObject image) {
+            return this.usages.computeIfAbsent(image.getCOSObject(), k -> new ImageUsage(image));
+        }
+    }
+
+    /**
+     * 图像任务（降采样与编码，不访问文档）
+     */
+    protected static class ImageTask implements Callable<EncodedImage> {
+
+        /**
+         * 图像流
+         */
+        protected final COSStream stream;
+        /**
+         * 解码图像
+         */
+        protected final BufferedImage image;
+        /**
+         * 目标宽度
+         */
+        protected final int width;
+        /**
+         * 目标高度
+         */
+        protected final int height;
+        /**
+         * JPEG质量（为空时使用flate压缩）
+         */
+        protected final Float quality;
+
+        /**
+         * 有参构造
+         *
+         * @param stream  图像流
+         * @param image   解码图像
+         * @param width   目标宽度
+         * @param height  目标高度
+         * @param quality JPEG质量
+         */
+        protected ImageTask(COSStream stream, BufferedImage image, int width, int height, Float quality) {
+            this.stream = stream;
+            this.image = image;
+            this.width = width;
+            this.height = height;
+            this.quality = quality;
+        }
+
+        /**
+         * 执行任务
+         *
+         * @return 返回编码图像
+         */
+        @Override
+        public EncodedImage call() throws Exception {
+            // 转换为灰度或RGB图像
+            boolean isGray = this.image.getColorModel().getNumColorComponents() == 1 && !this.image.getColorModel().hasAlpha()
+                    && this.image.getType() != BufferedImage.TYPE_BYTE_INDEXED && this.image.getType() != BufferedImage.TYPE_BYTE_BINARY;
+            BufferedImage target = this.convert(this.image, isGray ? BufferedImage.TYPE_BYTE_GRAY : BufferedImage.TYPE_INT_RGB);
+            // 降采样
+            if (this.width != target.getWidth() || this.height != target.getHeight()) {
+                target = ImageUtil.scale(target, this.width, this.height, Image.SCALE_AREA_AVERAGING);
+            }
+            COSName colorSpace = isGray ? COSName.DEVICEGRAY : COSName.DEVICERGB;
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            // 编码为JPEG
+            if (Objects.nonNull(this.quality)) {
+                ImageEncoder.DEFAULT.withJpegQuality(this.quality).encode(target, ImageType.JPEG, outputStream, 0);
+                return new EncodedImage(this.stream, outputStream.toByteArray(), COSName.DCT_DECODE, this.width, this.height, colorSpace);
+            }
+            // 编码为flate
+            Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+            try (DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(outputStream, deflater, 8192)) {
+                if (isGray) {
+                    byte[] row = new byte[this.width];
+                    for (int y = 0; y < this.height; y++) {
+                        target.getRaster().getDataElements(0, y, this.width, 1, row);
+                        deflaterOutputStream.write(row);
+                    }
+                } else {
+                    int[] pixels = new int[this.width];
+                    byte[] row = new byte[this.width * 3];
+                    for (int y = 0; y < this.height; y++) {
+                        target.getRGB(0, y, this.width, 1, pixels, 0, this.width);
+                        for (int x = 0, i = 0; x < this.width; x++) {
+                            row[i++] = (byte) (pixels[x] >> 16);
+                            row[i++] = (byte) (pixels[x] >> 8);
+                            row[i++] = (byte) pixels[x];
+                        }
+                        deflaterOutputStream.write(row);
+                    }
+                }
+            } finally {
+                deflater.end();
+            }
+            return new EncodedImage(this.stream, outputStream.toByteArray(), COSName.FLATE_DECODE, this.width, this.height, colorSpace);
+        }
+
+        /**
+         * 转换图像类型
+         *
+         * @param source 源图像
+         * @param type   图像类型
+         * @return 返回图像
+         */
+        protected BufferedImage convert(BufferedImage source, int type) {
+            if (source.getType() == type) {
+                return source;
+            }
+            BufferedImage target = new BufferedImage(source.getWidth(), source.getHeight(), type);
+            Graphics2D graphics = target.createGraphics();
+            graphics.drawImage(source, 0, 0, null);
+            graphics.dispose();
+            return target;
+        }
+    }
+
+    /**
+     * 编码图像
+     */
+    protected static class EncodedImage {
+
+        /**
+         * 图像流
+         */
+        protected final COSStream stream;
+        /**
+         * 编码数据
+         */
+        protected final byte[] data;
+        /**
+         * 过滤器
+         */
+        protected final COSName filter;
+        /**
+         * 宽度
+         */
+        protected final int width;
+        /**
+         * 高度
+         */
+        protected final int height;
+        /**
+         * 颜色空间
+         */
+        protected final COSName colorSpace;
+
+        /**
+         * 有参构造
+         *
+         * @param stream     图像流
+         * @param data       编码数据
+         * @param filter     过滤器
+         * @param width      宽度
+         * @param height     高度
+         * @param colorSpace 颜色空间
+         */
+        protected EncodedImage(COSStream stream, byte[] data, COSName filter, int width, int height, COSName colorSpace) {
+            this.stream = stream;
+            this.data = data;
+            this.filter = filter;
+            this.width = width;
+            this.height = height;
+            this.colorSpace = colorSpace;
+        }
+    }
+}
@@ -3,12 +3,14 @@ package org.dromara.pdf.pdfbox.core.ext.processor;
 import lombok.EqualsAndHashCode;
 import lombok.SneakyThrows;
 import org.dromara.pdf.pdfbox.core.base.Document;
+import org.dromara.pdf.pdfbox.core.base.LazyPageList;
 import org.dromara.pdf.pdfbox.core.base.Page;
 import org.dromara.pdf.pdfbox.core.base.PageSize;
 import org.dromara.pdf.pdfbox.core.enums.PageJoinType;
 import org.dromara.pdf.pdfbox.core.enums.RotationAngle;
 import org.dromara.pdf.pdfbox.util.IdUtil;
 import org.dromara.pdf.shade.org.apache.pdfbox.multipdf.LayerUtility;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPage;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPageTree;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.graphics.form.PDFormXObject;
 
@@ -379,16 +381,54 @@ public class PageProcessor extends AbstractProcessor {
      * 刷新页面
      */
     public void flush() {
+        // 获取页面列表
+        List<Page> pages = this.document.getPages();
+        // 延迟页面列表
+        if (pages instanceof LazyPageList) {
+            // 刷新延迟页面
+            this.flush((LazyPageList) pages);
+            return;
+        }
         // 遍历页面
-        for (int i = 0; i < this.document.getPages().size(); i++) {
+        for (int i = 0; i < pages.size(); i++) {
+            // 设置索引
+            pages.get(i).setIndex(i);
+        }
+        // 获取pdfbox页面树
+        PDPageTree pageTree = this.getDocument().getPages();
+        // 移除页面
+        pageTree.forEach(pageTree::remove);
+        // 重新添加
+        pages.forEach(page -> this.getDocument().addPage(page.getTarget()));
+    }
+
+    /**
+     * 刷新页面（不创建未访问的页面）
+     *
+     * @param pages 延迟页面列表
+     */
+    protected void flush(LazyPageList pages) {
+        // 遍历已创建页面
+        for (int i = 0; i < pages.size(); i++) {
+            // 获取页面
+            Page page = pages.getIfCreated(i);
             // 设置索引
-            this.document.getPages().get(i).setIndex(i);
+            if (Objects.nonNull(page)) {
+                page.setIndex(i);
+            }
+        }
+        // 定义页面快照（移除页面前获取，未创建的页面需从原页面树中查找）
+        List<PDPage> targets = new ArrayList<>(pages.size());
+        // 遍历页面
+        for (int i = 0; i < pages.size(); i++) {
+            // 添加pdfbox页面
+            targets.add(pages.getTarget(i));
         }
         // 获取pdfbox页面树
         PDPageTree pageTree = this.getDocument().getPages();
         // 移除页面
         pageTree.forEach(pageTree::remove);
         // 重新添加
-        this.document.getPages().forEach(page -> this.getDocument().addPage(page.getTarget()));
+        targets.forEach(this.getDocument()::addPage);
     }
 }
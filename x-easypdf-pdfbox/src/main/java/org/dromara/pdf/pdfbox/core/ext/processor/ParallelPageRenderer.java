@@ -0,0 +1,177 @@
+package org.dromara.pdf.pdfbox.core.ext.processor;
+
+import lombok.SneakyThrows;
+import org.dromara.pdf.pdfbox.support.OrderedExecutor;
+import org.dromara.pdf.shade.org.apache.pdfbox.Loader;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDDocument;
+import org.dromara.pdf.shade.org.apache.pdfbox.rendering.ImageType;
+import org.dromara.pdf.shade.org.apache.pdfbox.rendering.PDFRenderer;
+
+import java.awt.image.BufferedImage;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * 并行页面渲染器
+ * <p>注：每个工作线程从同一份文档字节各自加载一个只读文档并持有独立的渲染器，渲染结果按页面顺序依次交给处理器</p>
+ * <p>注：同时存活的渲染图像（渲染中与待处理）不超过工作线程数量</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class ParallelPageRenderer implements Closeable {
+
+    /**
+     * 文档字节
+     */
+    protected final byte[] source;
+    /**
+     * 渲染器初始化函数
+     */
+    protected final Consumer<PDFRenderer> initializer;
+    /**
+     * 执行器
+     */
+    protected final OrderedExecutor executor;
+    /**
+     * 工作线程渲染器
+     */
+    protected final ThreadLocal<PDFRenderer> renderers = new ThreadLocal<>();
+    /**
+     * 工作线程文档（关闭时释放）
+     */
+    protected final Queue<PDDocument> documents = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 有参构造
+     *
+     * @param source      文档字节
+     * @param parallelism 工作线程数量
+     * @param initializer 渲染器初始化函数
+     */
+    public ParallelPageRenderer(byte[] source, int parallelism, Consumer<PDFRenderer> initializer) {
+        Objects.requireNonNull(source, "the source can not be null");
+        Objects.requireNonNull(initializer, "the initializer can not be null");
+        this.source = source;
+        this.initializer = initializer;
+        this.executor = new OrderedExecutor("render", parallelism);
+    }
+
+    /**
+     * 渲染页面
+     * <p>注：按页面索引顺序调用处理器，处理器在调用线程中执行</p>
+     *
+     * @param pageIndexes 页面索引
+     * @param dpi         图像DPI
+     * @param colorType   颜色类型
+     * @param handler     图像处理器
+     */
+    public void render(int[] pageIndexes, float dpi, ImageType colorType, PageImageHandler handler) {
+        Objects.requireNonNull(pageIndexes, "the page indexes can not be null");
+        Objects.requireNonNull(colorType, "the color type can not be null");
+        Objects.requireNonNull(handler, "the handler can not be null");
+        this.render(
+                pageIndexes.length,
+                (renderer, index) -> renderer.renderImageWithDPI(pageIndexes[index], dpi, colorType),
+                (index, image) -> handler.handle(pageIndexes[index], image)
+        );
+    }
+
+    /**
+     * 渲染任务
+     * <p>注：按任务索引顺序调用处理器，处理器在调用线程中执行</p>
+     *
+     * @param count   任务数量
+     * @param task    渲染任务
+     * @param handler 图像处理器（参数为任务索引）
+     */
+    public void render(int count, RenderTask task, PageImageHandler handler) {
+        Objects.requireNonNull(task, "the task can not be null");
+        Objects.requireNonNull(handler, "the handler can not be null");
+        // 提交渲染任务（限制同时存活的图像数量）
+        this.executor.execute(count, index -> () -> task.render(this.getRenderer(), index), handler::handle);
+    }
+
+    /**
+     * 关闭（停止工作线程并释放文档）
+     */
+    @Override
+    public void close() {
+        this.executor.close();
+        PDDocument document;
+        while (Objects.nonNull(document = this.documents.poll())) {
+            try {
+                document.close();
+            } catch (IOException ignored) {
+                // ignore
+            }
+        }
+    }
+
+    /**
+     * 获取当前工作线程渲染器（首次获取时加载文档）
+     *
+     * @return 返回渲染器
+     */
+    @SneakyThrows
+    protected PDFRenderer getRenderer() {
+        PDFRenderer renderer = this.renderers.get();
+        if (Objects.isNull(renderer)) {
+            PDDocument document = Loader.loadPDF(this.source);
+            this.documents.add(document);
+            renderer = new PDFRenderer(document);
+            this.initializer.accept(renderer);
+            this.renderers.set(renderer);
+        }
+        return renderer;
+    }
+
+    /**
+     * 页面图像处理器
+     */
+    @FunctionalInterface
+    public interface PageImageHandler {
+
+        /**
+         * 处理
+         *
+         * @param pageIndex 页面索引
+         * @param image     图像
+         * @throws IOException IO异常
+         */
+        void handle(int pageIndex, BufferedImage image) throws IOException;
+    }
+
+    /**
+     * 渲染任务
+     */
+    @FunctionalInterface
+    public interface RenderTask {
+
+        /**
+         * 渲染
+         *
+         * @param renderer 当前工作线程渲染器
+         * @param index    任务索引
+         * @return 返回图像
+         * @throws IOException IO异常
+         */
+        BufferedImage render(PDFRenderer renderer, int index) throws IOException;
+    }
+}
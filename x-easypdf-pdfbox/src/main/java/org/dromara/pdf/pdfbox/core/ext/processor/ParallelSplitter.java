@@ -0,0 +1,385 @@
+package org.dromara.pdf.pdfbox.core.ext.processor;
+
+import org.dromara.pdf.pdfbox.core.base.Document;
+import org.dromara.pdf.pdfbox.support.OrderedExecutor;
+import org.dromara.pdf.shade.org.apache.pdfbox.contentstream.PDContentStream;
+import org.dromara.pdf.shade.org.apache.pdfbox.contentstream.operator.Operator;
+import org.dromara.pdf.shade.org.apache.pdfbox.cos.*;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdfparser.PDFStreamParser;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdfwriter.compress.CompressParameters;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDDocument;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.*;
+
+/**
+ * 并行拆分器
+ * <p>注：在调用线程中将每个输出文档的页面及其引用的对象复制为独立对象（源文档仅在调用线程中读取），保存（序列化与压缩）由工作线程并行执行，同时存活的输出文档不超过并行数量</p>
+ * <p>注：复制页面时移除内容流未使用的资源（字体、外部对象、图形状态、颜色空间、图案、着色与属性），引用输出文档以外页面的对象替换为空对象</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class ParallelSplitter implements Closeable {
+
+    /**
+     * 可移除的资源类型
+     */
+    protected static final COSName[] PRUNABLE_KEYS = {
+            COSName.FONT,
+            COSName.XOBJECT,
+            COSName.EXT_G_STATE,
+            COSName.COLORSPACE,
+            COSName.PATTERN,
+            COSName.SHADING,
+            COSName.PROPERTIES
+    };
+
+    /**
+     * 文档
+     */
+    protected final Document document;
+    /**
+     * 执行器
+     */
+    protected final OrderedExecutor executor;
+    /**
+     * 是否移除未使用的资源
+     */
+    protected boolean isPruneResources = true;
+
+    /**
+     * 有参构造
+     *
+     * @param document    文档
+     * @param parallelism 工作线程数量
+     */
+    public ParallelSplitter(Document document, int parallelism) {
+        Objects.requireNonNull(document, "the document can not be null");
+        this.document = document;
+        this.executor = new OrderedExecutor("split", parallelism);
+    }
+
+    /**
+     * 设置是否移除未使用的资源
+     *
+     * @param isPruneResources 是否移除未使用的资源
+     */
+    public void setPruneResources(boolean isPruneResources) {
+        this.isPruneResources = isPruneResources;
+    }
+
+    /**
+     * 拆分文档
+     * <p>注：按分组顺序复制页面，输出流由工作线程创建并在保存后关闭</p>
+     *
+     * @param pageGroups 页面分组（每组为一个输出文档的页面索引）
+     * @param factory    输出流工厂（参数为分组索引）
+     */
+    public void split(List<int[]> pageGroups, OutputStreamFactory factory) {
+        Objects.requireNonNull(pageGroups, "the page groups can not be null");
+        Objects.requireNonNull(factory, "the factory can not be null");
+        // 复制页面后提交保存任务（限制同时存活的输出文档数量）
+        this.executor.execute(
+                pageGroups.size(),
+                index -> {
+                    PDDocument target = this.createTarget(pageGroups.get(index));
+                    return () -> this.save(target, factory, index);
+                },
+                (index, result) -> {
+                    // 保存任务无返回结果
+                }
+        );
+    }
+
+    /**
+     * 关闭（停止工作线程）
+     */
+    @Override
+    public void close() {
+        this.executor.close();
+    }
+
+    /**
+     * 创建输出文档（复制页面及其引用的对象）
+     *
+     * @param pageIndexes 页面索引
+     * @return 返回输出文档
+     */
+    protected PDDocument createTarget(int[] pageIndexes) throws IOException {
+        PDDocument source = this.document.getTarget();
+        PDDocument target = new PDDocument();
+        try {
+            target.setVersion(this.document.getVersion());
+            Map<COSBase, COSBase> copies = new IdentityHashMap<>();
+            // 预先创建页面（页面间的引用可正确指向）
+            List<PDPage> sourcePages = new ArrayList<>(pageIndexes.length);
+            List<COSDictionary> targetPages = new ArrayList<>(pageIndexes.length);
+            for (int index : pageIndexes) {
+                PDPage page = source.getPage(index);
+                if (!copies.containsKey(page.getCOSObject())) {
+                    COSDictionary dictionary = new COSDictionary();
+                    copies.put(page.getCOSObject(), dictionary);
+                    sourcePages.add(page);
+                    targetPages.add(dictionary);
+                }
+            }
+            // 复制页面
+            for (int i = 0; i < sourcePages.size(); i++) {
+                target.addPage(this.copyPage(sourcePages.get(i), targetPages.get(i), copies, target));
+            }
+            // 复制元数据
+            COSBase metadata = source.getDocumentCatalog().getCOSObject().getDictionaryObject(COSName.METADATA);
+            if (metadata instanceof COSStream) {
+                target.getDocumentCatalog().getCOSObject().setItem(COSName.METADATA, this.copy(metadata, copies, target));
+            }
+            return target;
+        } catch (IOException | RuntimeException e) {
+            target.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 复制页面
+     *
+     * @param sourcePage 源页面
+     * @param dictionary 目标页面字典
+     * @param copies     已复制对象
+     * @param target     输出文档
+     * @return 返回目标页面
+     */
+    protected PDPage copyPage(PDPage sourcePage, COSDictionary dictionary, Map<COSBase, COSBase> copies, PDDocument target) throws IOException {
+        COSDictionary source = sourcePage.getCOSObject();
+        for (Map.Entry<COSName, COSBase> entry : source.entrySet()) {
+            COSName key = entry.getKey();
+            if (!COSName.PARENT.equals(key) && !COSName.RESOURCES.equals(key)) {
+                dictionary.setItem(key, this.copy(entry.getValue(), copies, target));
+            }
+        }
+        PDPage page = new PDPage(dictionary);
+        // 继承属性
+        if (!source.containsKey(COSName.MEDIA_BOX)) {
+            page.setMediaBox(sourcePage.getMediaBox());
+        }
+        if (!source.containsKey(COSName.CROP_BOX)) {
+            page.setCropBox(sourcePage.getCropBox());
+        }
+        if (!source.containsKey(COSName.ROTATE) && sourcePage.getRotation() != 0) {
+            page.setRotation(sourcePage.getRotation());
+        }
+        // 资源（含继承资源）
+        COSDictionary resources = sourcePage.getResources().getCOSObject();
+        Set<COSName> names = this.isPruneResources ? getUsedNames(sourcePage) : null;
+        dictionary.setItem(COSName.RESOURCES, this.copyResources(resources, names, copies, target));
+        return page;
+    }
+
+    /**
+     * 复制资源字典
+     *
+     * @param resources 资源字典
+     * @param names     内容流使用的名称（为空时复制全部资源）
+     * @param copies    已复制对象
+     * @param target    输出文档
+     * @return 返回资源字典
+     */
+    protected COSDictionary copyResources(COSDictionary resources, Set<COSName> names, Map<COSBase, COSBase> copies, PDDocument target) throws IOException {
+        if (Objects.isNull(names)) {
+            return (COSDictionary) this.copy(resources, copies, target);
+        }
+        COSDictionary dictionary = new COSDictionary();
+        for (Map.Entry<COSName, COSBase> entry : resources.entrySet()) {
+            COSBase value = entry.getValue() instanceof COSObject ? ((COSObject) entry.getValue()).getObject() : entry.getValue();
+            if (isPrunable(entry.getKey()) && value instanceof COSDictionary) {
+                // 仅复制使用的资源
+                COSDictionary category = new COSDictionary();
+                for (Map.Entry<COSName, COSBase> item : ((COSDictionary) value).entrySet()) {
+                    if (names.contains(item.getKey()) || (COSName.COLORSPACE.equals(entry.getKey()) && isDefaultColorSpace(item.getKey()))) {
+                        category.setItem(item.getKey(), this.copy(item.getValue(), copies, target));
+                    }
+                }
+                if (category.size() > 0) {
+                    category.setDirect(true);
+                    dictionary.setItem(entry.getKey(), category);
+                }
+            } else {
+                dictionary.setItem(entry.getKey(), this.copy(entry.getValue(), copies, target));
+            }
+        }
+        return dictionary;
+    }
+
+    /**
+     * 获取内容流使用的名称
+     * <p>注：收集全部名称操作数（含内联图像参数），解析失败时返回null（保留全部资源）</p>
+     *
+     * @param contentStream 内容流（页面、表单等）
+     * @return 返回名称集合
+     */
+    protected static Set<COSName> getUsedNames(PDContentStream contentStream) {
+        Set<COSName> names = new HashSet<>();
+        if (contentStream instanceof PDPage && !((PDPage) contentStream).hasContents()) {
+            return names;
+        }
+        try {
+            PDFStreamParser parser = new PDFStreamParser(contentStream);
+            Object token;
+            while (Objects.nonNull(token = parser.parseNextToken())) {
+                if (token instanceof COSName) {
+                    names.add((COSName) token);
+                } else if (token instanceof Operator && Objects.nonNull(((Operator) token).getImageParameters())) {
+                    for (COSBase value : ((Operator) token).getImageParameters().getValues()) {
+                        if (value instanceof COSName) {
+                            names.add((COSName) value);
+                        }
+                    }
+                }
+            }
+            return names;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 复制对象（间接对象与字典按对象标识仅复制一次）
+     *
+     * @param base   pdf对象
+     * @param copies 已复制对象
+     * @param target 输出文档
+     * @return 返回复制对象
+     */
+    protected COSBase copy(COSBase base, Map<COSBase, COSBase> copies, PDDocument target) throws IOException {
+        if (base instanceof COSObject) {
+            base = ((COSObject) base).getObject();
+        }
+        if (Objects.isNull(base) || base instanceof COSNull) {
+            return COSNull.NULL;
+        }
+        COSBase copy = copies.get(base);
+        if (Objects.nonNull(copy)) {
+            return copy;
+        }
+        if (base instanceof COSStream) {
+            COSStream source = (COSStream) base;
+            COSStream stream = target.getDocument().createCOSStream();
+            copies.put(source, stream);
+            for (Map.Entry<COSName, COSBase> entry : source.entrySet()) {
+                if (!COSName.LENGTH.equals(entry.getKey())) {
+                    stream.setItem(entry.getKey(), this.copy(entry.getValue(), copies, target));
+                }
+            }
+            try (InputStream inputStream = source.createRawInputStream(); OutputStream outputStream = stream.createRawOutputStream()) {
+                byte[] buffer = new byte[8192];
+                int length;
+                while ((length = inputStream.read(buffer)) != -1) {
+                    outputStream.write(buffer, 0, length);
+                }
+            }
+            return stream;
+        }
+        if (base instanceof COSDictionary) {
+            // 输出文档以外的页面树节点
+            COSName type = ((COSDictionary) base).getCOSName(COSName.TYPE);
+            if (COSName.PAGE.equals(type) || COSName.PAGES.equals(type)) {
+                return COSNull.NULL;
+            }
+            COSDictionary dictionary = new COSDictionary();
+            dictionary.setDirect(base.isDirect());
+            copies.put(base, dictionary);
+            for (Map.Entry<COSName, COSBase> entry : ((COSDictionary) base).entrySet()) {
+                dictionary.setItem(entry.getKey(), this.copy(entry.getValue(), copies, target));
+            }
+            return dictionary;
+        }
+        if (base instanceof COSArray) {
+            COSArray source = (COSArray) base;
+            COSArray array = new COSArray();
+            array.setDirect(base.isDirect());
+            copies.put(base, array);
+            for (int i = 0; i < source.size(); i++) {
+                array.add(this.copy(source.get(i), copies, target));
+            }
+            return array;
+        }
+        if (base instanceof COSString) {
+            COSString source = (COSString) base;
+            return new COSString(source.getBytes(), source.getForceHexForm());
+        }
+        // 名称、数字与布尔值不可变
+        return base;
+    }
+
+    /**
+     * 保存输出文档
+     *
+     * @param target  输出文档
+     * @param factory 输出流工厂
+     * @param index   分组索引
+     * @return 返回空
+     */
+    protected Void save(PDDocument target, OutputStreamFactory factory, int index) throws IOException {
+        try (PDDocument document = target; OutputStream outputStream = factory.create(index)) {
+            document.save(outputStream, new CompressParameters(Integer.MAX_VALUE));
+        }
+        return null;
+    }
+
+    /**
+     * 是否可移除的资源类型
+     *
+     * @param key 资源类型
+     * @return 返回布尔值，true为是，false为否
+     */
+    protected static boolean isPrunable(COSName key) {
+        for (COSName name : PRUNABLE_KEYS) {
+            if (name.equals(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 是否默认颜色空间（隐式使用，不出现在内容流中）
+     *
+     * @param name 资源名称
+     * @return 返回布尔值，true为是，false为否
+     */
+    protected static boolean isDefaultColorSpace(COSName name) {
+        return COSName.DEFAULT_GRAY.equals(name) || COSName.DEFAULT_RGB.equals(name) || COSName.DEFAULT_CMYK.equals(name);
+    }
+
+    /**
+     * 输出流工厂
+     */
+    @FunctionalInterface
+    public interface OutputStreamFactory {
+
+        /**
+         * 创建输出流
+         *
+         * @param index 分组索引
+         * @return 返回输出流
+         * @throws IOException IO异常
+         */
+        OutputStream create(int index) throws IOException;
+    }
+}
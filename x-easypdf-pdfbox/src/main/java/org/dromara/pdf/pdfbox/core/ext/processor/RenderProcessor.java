@@ -5,17 +5,19 @@ import lombok.SneakyThrows;
 import org.dromara.pdf.pdfbox.core.base.Document;
 import org.dromara.pdf.pdfbox.core.enums.ImageType;
 import org.dromara.pdf.pdfbox.core.enums.RenderType;
+import org.dromara.pdf.pdfbox.support.DocumentSnapshot;
+import org.dromara.pdf.pdfbox.support.ImageEncoder;
+import org.dromara.pdf.pdfbox.support.RenderCache;
 import org.dromara.pdf.pdfbox.util.FileUtil;
 import org.dromara.pdf.pdfbox.util.ImageUtil;
 import org.dromara.pdf.pdfbox.util.RenderingHintUtil;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDDocument;
 import org.dromara.pdf.shade.org.apache.pdfbox.rendering.PDFRenderer;
 import org.dromara.pdf.shade.org.apache.pdfbox.tools.imageio.ImageIOUtil;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.BufferedOutputStream;
-import java.io.File;
-import java.io.OutputStream;
+import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -75,6 +77,18 @@ public class RenderProcessor extends AbstractProcessor {
      * 合并类型
      */
     protected MergeType mergeType;
+    /**
+     * 并行数量（工作线程数量，大于1时开启并行渲染）
+     */
+    protected Integer parallelism;
+    /**
+     * 图像编码器（为空时使用pdfbox图像工具）
+     */
+    protected ImageEncoder imageEncoder;
+    /**
+     * 渲染缓存（为空时不缓存）
+     */
+    protected RenderCache renderCache;
 
     /**
      * 有参构造
@@ -162,6 +176,42 @@ public class RenderProcessor extends AbstractProcessor {
         this.mergeType = MergeType.VERTICAL;
     }
 
+    /**
+     * 设置并行数量
+     * <p>注：大于1时开启并行渲染，每个工作线程加载独立的文档副本（渲染前复制并序列化一次当前文档，不执行保存流程），同时存活的渲染图像不超过并行数量</p>
+     * <p>注：加密文档及仍在编辑的文档（存在待子集化字体，即写入文本后尚未保存）不支持并行渲染，将使用串行渲染</p>
+     *
+     * @param parallelism 并行数量（工作线程数量）
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("the parallelism must be greater than 0");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * 设置图像编码器
+     * <p>注：PNG可配置压缩级别、过滤类型与分块并行压缩，JPEG可配置质量，编码器在各页面间复用压缩器与写入器</p>
+     *
+     * @param imageEncoder 图像编码器
+     */
+    public void setImageEncoder(ImageEncoder imageEncoder) {
+        Objects.requireNonNull(imageEncoder, "the image encoder can not be null");
+        this.imageEncoder = imageEncoder;
+    }
+
+    /**
+     * 设置渲染缓存
+     * <p>注：单页输出（非合并）时以页面内容摘要与渲染参数为键缓存编码后的图片，重复渲染时直接读取缓存文件</p>
+     *
+     * @param renderCache 渲染缓存
+     */
+    public void setRenderCache(RenderCache renderCache) {
+        Objects.requireNonNull(renderCache, "the render cache can not be null");
+        this.renderCache = renderCache;
+    }
+
     /**
      * 转为图片（整个文档）
      *
@@ -192,12 +242,20 @@ public class RenderProcessor extends AbstractProcessor {
             // 初始化文档名称前缀
             prefix = "x-easypdf";
         }
+        // 并行渲染
+        if (this.isParallel()) {
+            // 合并图片
+            if (Objects.nonNull(this.mergeType)) {
+                // 合并保存图片
+                this.writeImageByMergeParallel(imageType, outputPath, prefix);
+            } else {
+                // 单页保存图片
+                this.writeImageBySingleParallel(imageType, outputPath, prefix);
+            }
+            return;
+        }
         // 初始化pdfBox文档渲染器
-        PDFRenderer renderer = new PDFRenderer(this.getDocument());
-        // 设置二次采样
-        renderer.setSubsamplingAllowed(this.isMemoryOptimization);
-        // 设置渲染目的
-        renderer.setDefaultDestination(this.renderType.getDestination());
+        PDFRenderer renderer = this.createRenderer(this.getDocument());
         // 合并图片
         if (Objects.nonNull(this.mergeType)) {
             // 合并保存图片
@@ -210,6 +268,7 @@ public class RenderProcessor extends AbstractProcessor {
 
     /**
      * 转为图片（根据页面索引）
+     * <p>注：开启渲染缓存时以无损的PNG编码缓存（与图像类型无关），命中时还原为渲染时的图像类型，与未命中时像素一致</p>
      *
      * @param imageType 图像类型
      * @param pageIndex 页面索引
@@ -221,17 +280,50 @@ public class RenderProcessor extends AbstractProcessor {
         // 初始化
         this.init();
         // 初始化pdfBox文档渲染器
-        PDFRenderer renderer = new PDFRenderer(this.getDocument());
-        // 设置二次采样
-        renderer.setSubsamplingAllowed(this.isMemoryOptimization);
-        // 设置渲染目的
-        renderer.setDefaultDestination(this.renderType.getDestination());
+        PDFRenderer renderer = this.createRenderer(this.getDocument());
+        // 修正页面索引
+        int index = Math.min(Math.max(pageIndex, 0), this.getDocument().getNumberOfPages() - 1);
+        // 未开启缓存
+        if (Objects.isNull(this.renderCache)) {
+            // 返回图片
+            return renderer.renderImageWithDPI(index, this.dpi, this.getColorType());
+        }
+        // 读取缓存（无损编码）
+        String key = this.createCacheKey(index, ImageType.PNG);
+        byte[] bytes = this.renderCache.get(key);
+        if (Objects.nonNull(bytes)) {
+            // 返回缓存图片
+            return this.toRenderedImage(ImageUtil.read(bytes));
+        }
+        // 渲染图片
+        BufferedImage image = renderer.renderImageWithDPI(index, this.dpi, this.getColorType());
+        // 添加缓存
+        this.renderCache.put(key, this.encodeImage(image, ImageType.PNG, ImageType.PNG.getType()));
         // 返回图片
-        return renderer.renderImageWithDPI(
-                Math.min(Math.max(pageIndex, 0), this.getDocument().getNumberOfPages() - 1),
-                this.dpi,
-                this.getColorType()
-        );
+        return image;
+    }
+
+    /**
+     * 转为渲染图像类型
+     * <p>注：PNG解码后的图像类型可能与渲染时不同（如RGB解码为3字节BGR），按原像素复制为渲染时的图像类型</p>
+     *
+     * @param image 解码图像
+     * @return 返回图像
+     */
+    protected BufferedImage toRenderedImage(BufferedImage image) {
+        int type = this.getBufferedImageType();
+        if (image.getType() == type) {
+            return image;
+        }
+        BufferedImage target = new BufferedImage(image.getWidth(), image.getHeight(), type);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setComposite(AlphaComposite.Src);
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
     }
 
     /**
@@ -263,14 +355,18 @@ public class RenderProcessor extends AbstractProcessor {
         Objects.requireNonNull(pageIndexes, "the page indexes can not be null");
         // 初始化
         this.init();
+        // 并行渲染
+        if (this.isParallel()) {
+            this.writeImageByParallel(outputStream, imageType, pageIndexes);
+            return;
+        }
         // 初始化pdfBox文档渲染器
-        PDFRenderer renderer = new PDFRenderer(this.getDocument());
-        // 设置二次采样
-        renderer.setSubsamplingAllowed(this.isMemoryOptimization);
-        // 设置渲染目的
-        renderer.setDefaultDestination(this.renderType.getDestination());
-        // 合并图片
-        if (Objects.nonNull(this.mergeType)) {
+        PDFRenderer renderer = this.createRenderer(this.getDocument());
+        // 合并图片（流式）
+        if (Objects.nonNull(this.mergeType) && MergedImageWriter.isSupported(imageType)) {
+            // 逐页写入合并图片
+            this.writeMergedImage(outputStream, imageType, this.fixPageIndexes(pageIndexes), renderer);
+        } else if (Objects.nonNull(this.mergeType)) {
             // 定义图片列表
             List<BufferedImage> imageList = new ArrayList<>(pageIndexes.length);
             // 遍历页面索引
@@ -287,22 +383,68 @@ public class RenderProcessor extends AbstractProcessor {
             // 拼接图片
             BufferedImage bufferedImage = this.mergeType == MergeType.HORIZONTAL ? ImageUtil.joinForHorizontal(imageList) : ImageUtil.joinForVertical(imageList);
             // 写出图片
-            ImageIOUtil.writeImage(bufferedImage, imageType.name().toLowerCase(), outputStream, this.dpi.intValue());
+            this.writeImage(bufferedImage, imageType, imageType.name().toLowerCase(), outputStream);
         } else {
+            // 修正页面索引
+            int[] indexes = this.fixPageIndexes(pageIndexes);
+            // 创建缓存键
+            String[] keys = this.createCacheKeys(indexes, imageType);
             // 遍历页面索引
-            for (int index : pageIndexes) {
-                // 渲染图片
-                BufferedImage bufferedImage = renderer.renderImageWithDPI(
-                        Math.min(Math.max(index, 0), this.getDocument().getNumberOfPages() - 1),
-                        this.dpi,
-                        this.getColorType()
-                );
-                // 写出图片
-                ImageIOUtil.writeImage(bufferedImage, imageType.name(), outputStream, this.dpi.intValue());
+            for (int i = 0; i < indexes.length; i++) {
+                // 渲染并写出图片
+                this.writePageImage(renderer, indexes[i], Objects.nonNull(keys) ? keys[i] : null, null, imageType, imageType.name(), outputStream);
             }
         }
     }
 
+    /**
+     * 分块渲染（单个页面）
+     * <p>注：按图块尺寸逐块渲染页面并按行优先顺序交给处理器（调用线程中执行），内存占用仅与图块尺寸及并行数量相关，适用于超大页面或高DPI渲染</p>
+     *
+     * @param pageIndex 页面索引
+     * @param tileSize  图块尺寸（宽度与高度）
+     * @param handler   图块处理器
+     */
+    public void imageByTile(int pageIndex, int tileSize, TiledPageRenderer.TileHandler handler) {
+        // 检查参数
+        Objects.requireNonNull(handler, "the handler can not be null");
+        // 初始化
+        this.init();
+        // 渲染图块
+        this.renderTiles(this.createTiledRenderer(pageIndex, tileSize), handler);
+    }
+
+    /**
+     * 分块渲染为TIFF图片（单个页面）
+     * <p>注：输出无压缩分块TIFF，图块逐个渲染并写入输出流，内存占用仅与图块尺寸及并行数量相关</p>
+     *
+     * @param outputStream 输出流
+     * @param pageIndex    页面索引
+     * @param tileSize     图块尺寸（宽度与高度，16的倍数）
+     */
+    public void imageByTile(OutputStream outputStream, int pageIndex, int tileSize) {
+        // 检查参数
+        Objects.requireNonNull(outputStream, "the output stream can not be null");
+        // 初始化
+        this.init();
+        // 创建分块页面渲染器
+        TiledPageRenderer tiledRenderer = this.createTiledRenderer(pageIndex, tileSize);
+        // 创建分块TIFF写入器
+        TiledTiffWriter writer = new TiledTiffWriter(
+                outputStream,
+                this.getColorType(),
+                tiledRenderer.getImageWidth(),
+                tiledRenderer.getImageHeight(),
+                tileSize,
+                tileSize,
+                this.dpi
+        );
+        // 渲染并写入图块
+        this.renderTiles(tiledRenderer, (x, y, image) -> writer.write(image));
+        // 结束写入
+        writer.finish();
+    }
+
     /**
      * 初始化
      */
@@ -335,6 +477,215 @@ public class RenderProcessor extends AbstractProcessor {
         if (Objects.isNull(this.isAlpha)) {
             this.isAlpha = Boolean.FALSE;
         }
+        // 初始化并行数量
+        if (Objects.isNull(this.parallelism)) {
+            this.parallelism = 1;
+        }
+    }
+
+    /**
+     * 创建pdfBox文档渲染器
+     *
+     * @param document pdfBox文档
+     * @return 返回渲染器
+     */
+    protected PDFRenderer createRenderer(PDDocument document) {
+        // 初始化pdfBox文档渲染器
+        PDFRenderer renderer = new PDFRenderer(document);
+        // 初始化渲染器
+        this.initRenderer(renderer);
+        // 返回渲染器
+        return renderer;
+    }
+
+    /**
+     * 初始化pdfBox文档渲染器
+     *
+     * @param renderer 渲染器
+     */
+    protected void initRenderer(PDFRenderer renderer) {
+        // 设置二次采样
+        renderer.setSubsamplingAllowed(this.isMemoryOptimization);
+        // 设置渲染目的
+        renderer.setDefaultDestination(this.renderType.getDestination());
+    }
+
+    /**
+     * 是否并行渲染
+     * <p>注：加密文档不支持并行渲染（文档副本需重新解密）</p>
+     * <p>注：存在待子集化字体的文档（仍在编辑）不支持并行渲染，文档副本中缺少尚未嵌入的字体文件，且不能提前子集化（后续写入的文本将缺少字形）</p>
+     *
+     * @return 返回布尔值，true为是，false为否
+     */
+    protected boolean isParallel() {
+        return this.isParallel(this.getDocument().getNumberOfPages());
+    }
+
+    /**
+     * 是否并行渲染
+     * <p>注：加密文档不支持并行渲染（文档副本需重新解密）</p>
+     * <p>注：存在待子集化字体的文档（仍在编辑）不支持并行渲染，文档副本中缺少尚未嵌入的字体文件，且不能提前子集化（后续写入的文本将缺少字形）</p>
+     *
+     * @param taskCount 渲染任务数量（页面或图块数量）
+     * @return 返回布尔值，true为是，false为否
+     */
+    protected boolean isParallel(int taskCount) {
+        if (this.parallelism <= 1 || taskCount <= 1) {
+            return false;
+        }
+        if (this.getDocument().isEncrypted()) {
+            this.log.warn("the encrypted document does not support parallel rendering, use serial rendering");
+            return false;
+        }
+        if (this.document.getContext().hasPendingSubsetFonts()) {
+            this.log.warn("the document with fonts waiting to be subset does not support parallel rendering, use serial rendering");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 创建并行页面渲染器
+     *
+     * @return 返回并行页面渲染器
+     */
+    protected ParallelPageRenderer createParallelRenderer() {
+        return new ParallelPageRenderer(this.getSnapshot(), this.parallelism, this::initRenderer);
+    }
+
+    /**
+     * 获取文档快照
+     * <p>注：复制当前文档后序列化副本，不执行保存流程（字体子集化、元数据刷新、流压缩等），不修改当前文档</p>
+     *
+     * @return 返回文档字节数组
+     */
+    protected byte[] getSnapshot() {
+        return DocumentSnapshot.getBytes(this.getDocument());
+    }
+
+    /**
+     * 获取页面索引（整个文档）
+     *
+     * @return 返回页面索引
+     */
+    protected int[] getAllPageIndexes() {
+        int[] pageIndexes = new int[this.getDocument().getNumberOfPages()];
+        for (int i = 0; i < pageIndexes.length; i++) {
+            pageIndexes[i] = i;
+        }
+        return pageIndexes;
+    }
+
+    /**
+     * 修正页面索引
+     *
+     * @param pageIndexes 页面索引
+     * @return 返回页面索引
+     */
+    protected int[] fixPageIndexes(int... pageIndexes) {
+        int[] indexes = new int[pageIndexes.length];
+        int max = this.getDocument().getNumberOfPages() - 1;
+        for (int i = 0; i < pageIndexes.length; i++) {
+            indexes[i] = Math.min(Math.max(pageIndexes[i], 0), max);
+        }
+        return indexes;
+    }
+
+    /**
+     * 渲染图片列表（并行）
+     *
+     * @param pageIndexes 页面索引
+     * @return 返回图片列表（页面顺序）
+     */
+    protected List<BufferedImage> renderImagesByParallel(int[] pageIndexes) {
+        // 定义图片列表
+        List<BufferedImage> imageList = new ArrayList<>(pageIndexes.length);
+        // 并行渲染
+        try (ParallelPageRenderer renderer = this.createParallelRenderer()) {
+            renderer.render(pageIndexes, this.dpi, this.getColorType(), (index, image) -> imageList.add(image));
+        }
+        // 返回图片列表
+        return imageList;
+    }
+
+    /**
+     * 写入（并行）
+     *
+     * @param outputStream 输出流
+     * @param imageType    图像类型
+     * @param pageIndexes  页面索引
+     */
+    @SneakyThrows
+    protected void writeImageByParallel(OutputStream outputStream, ImageType imageType, int... pageIndexes) {
+        // 修正页面索引
+        int[] indexes = this.fixPageIndexes(pageIndexes);
+        // 合并图片（流式）
+        if (Objects.nonNull(this.mergeType) && MergedImageWriter.isSupported(imageType)) {
+            // 逐页写入合并图片
+            this.writeMergedImage(outputStream, imageType, indexes, null);
+        } else if (Objects.nonNull(this.mergeType)) {
+            // 渲染图片
+            List<BufferedImage> imageList = this.renderImagesByParallel(indexes);
+            // 拼接图片
+            BufferedImage bufferedImage = this.mergeType == MergeType.HORIZONTAL ? ImageUtil.joinForHorizontal(imageList) : ImageUtil.joinForVertical(imageList);
+            // 写出图片
+            this.writeImage(bufferedImage, imageType, imageType.name().toLowerCase(), outputStream);
+        } else {
+            // 并行渲染并按页面顺序写出图片
+            this.writePageImagesByParallel(indexes, imageType, imageType.name(), index -> outputStream, false);
+        }
+    }
+
+    /**
+     * 合并写入（并行）
+     *
+     * @param imageType  图像类型
+     * @param outputPath 输出路径
+     * @param prefix     前缀
+     */
+    @SneakyThrows
+    protected void writeImageByMergeParallel(ImageType imageType, String outputPath, String prefix) {
+        // 图片格式名称
+        String imageTypeName = imageType.getType();
+        // 流式合并
+        if (MergedImageWriter.isSupported(imageType)) {
+            // 获取输出流
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(FileUtil.createDirectories(Paths.get(outputPath + File.separator + prefix + '.' + imageTypeName))))) {
+                // 逐页写入合并图片
+                this.writeMergedImage(outputStream, imageType, this.getAllPageIndexes(), null);
+            }
+            return;
+        }
+        // 渲染图片
+        List<BufferedImage> imageList = this.renderImagesByParallel(this.getAllPageIndexes());
+        // 拼接图片
+        BufferedImage bufferedImage = this.mergeType == MergeType.HORIZONTAL ? ImageUtil.joinForHorizontal(imageList) : ImageUtil.joinForVertical(imageList);
+        // 获取输出流
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(FileUtil.createDirectories(Paths.get(outputPath + File.separator + prefix + '.' + imageTypeName))))) {
+            // 写出图片
+            this.writeImage(bufferedImage, imageType, imageTypeName, outputStream);
+        }
+    }
+
+    /**
+     * 单个写入（并行）
+     *
+     * @param imageType  图像类型
+     * @param outputPath 输出路径
+     * @param prefix     前缀
+     */
+    protected void writeImageBySingleParallel(ImageType imageType, String outputPath, String prefix) {
+        // 定义图片格式名称
+        String imageTypeName = imageType.getType();
+        // 并行渲染并按页面顺序写出图片
+        this.writePageImagesByParallel(
+                this.getAllPageIndexes(),
+                imageType,
+                imageTypeName,
+                // 构建文件名称并获取输出流
+                index -> new BufferedOutputStream(Files.newOutputStream(FileUtil.createDirectories(Paths.get(outputPath + File.separator + prefix + (index + 1) + '.' + imageTypeName)))),
+                true
+        );
     }
 
     /**
@@ -349,6 +700,15 @@ public class RenderProcessor extends AbstractProcessor {
     protected void writeImageByMerge(PDFRenderer renderer, ImageType imageType, String outputPath, String prefix) {
         // 图片格式名称
         String imageTypeName = imageType.getType();
+        // 流式合并
+        if (MergedImageWriter.isSupported(imageType)) {
+            // 获取输出流
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(FileUtil.createDirectories(Paths.get(outputPath + File.separator + prefix + '.' + imageTypeName))))) {
+                // 逐页写入合并图片
+                this.writeMergedImage(outputStream, imageType, this.getAllPageIndexes(), renderer);
+            }
+            return;
+        }
         // 任务文档页面总数
         int pageCount = this.getDocument().getNumberOfPages();
         // 定义图片列表
@@ -363,7 +723,55 @@ public class RenderProcessor extends AbstractProcessor {
         // 获取输出流
         try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(FileUtil.createDirectories(Paths.get(outputPath + File.separator + prefix + '.' + imageTypeName))))) {
             // 写出图片
-            ImageIOUtil.writeImage(bufferedImage, imageTypeName, outputStream, this.dpi.intValue());
+            this.writeImage(bufferedImage, imageType, imageTypeName, outputStream);
+        }
+    }
+
+    /**
+     * 写入合并图片（流式）
+     * <p>注：逐页渲染并写入编码器，内存中仅保留当前页面图像（并行时不超过并行数量）</p>
+     *
+     * @param outputStream 输出流
+     * @param imageType    图像类型
+     * @param pageIndexes  页面索引
+     * @param renderer     pdf渲染器，为空时并行渲染
+     */
+    @SneakyThrows
+    protected void writeMergedImage(OutputStream outputStream, ImageType imageType, int[] pageIndexes, PDFRenderer renderer) {
+        // 定义页面图像尺寸
+        int[][] pageSizes = new int[pageIndexes.length][];
+        // 遍历页面索引
+        for (int i = 0; i < pageIndexes.length; i++) {
+            // 计算页面图像尺寸
+            pageSizes[i] = MergedImageWriter.getImageSize(this.getDocument().getPage(pageIndexes[i]), this.dpi);
+        }
+        // 创建合并图像写入器
+        try (
+                MergedImageWriter writer = new MergedImageWriter(
+                        outputStream,
+                        imageType,
+                        this.getColorType(),
+                        this.mergeType == MergeType.VERTICAL,
+                        pageSizes,
+                        this.dpi,
+                        this.imageEncoder
+                )
+        ) {
+            // 串行渲染
+            if (Objects.nonNull(renderer)) {
+                // 遍历页面索引
+                for (int index : pageIndexes) {
+                    // 渲染并写入图片
+                    writer.write(renderer.renderImageWithDPI(index, this.dpi, this.getColorType()));
+                }
+            } else {
+                // 并行渲染并按页面顺序写入图片
+                try (ParallelPageRenderer parallelRenderer = this.createParallelRenderer()) {
+                    parallelRenderer.render(pageIndexes, this.dpi, this.getColorType(), (index, image) -> writer.write(image));
+                }
+            }
+            // 结束写入
+            writer.finish();
         }
     }
 
@@ -383,6 +791,8 @@ public class RenderProcessor extends AbstractProcessor {
         StringBuilder fileNameBuilder;
         // 任务文档页面总数
         int pageCount = this.getDocument().getNumberOfPages();
+        // 创建缓存键
+        String[] keys = this.createCacheKeys(this.getAllPageIndexes(), imageType);
         // 遍历页面索引
         for (int index = 0; index < pageCount; index++) {
             // 重置名称构造器
@@ -391,11 +801,188 @@ public class RenderProcessor extends AbstractProcessor {
             fileNameBuilder.append(outputPath).append(File.separator).append(prefix).append(index + 1).append('.').append(imageTypeName);
             // 获取输出流
             try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(FileUtil.createDirectories(Paths.get(fileNameBuilder.toString()))))) {
-                // 渲染图片
-                BufferedImage bufferedImage = renderer.renderImageWithDPI(index, this.dpi, this.getColorType());
-                // 写出图片
-                ImageIOUtil.writeImage(bufferedImage, imageTypeName, outputStream, this.dpi.intValue());
+                // 渲染并写出图片
+                this.writePageImage(renderer, index, Objects.nonNull(keys) ? keys[index] : null, null, imageType, imageTypeName, outputStream);
+            }
+        }
+    }
+
+    /**
+     * 并行渲染并按页面顺序写出图片
+     * <p>注：开启缓存时已缓存的页面不渲染，按页面顺序直接写出缓存文件</p>
+     *
+     * @param pageIndexes   页面索引
+     * @param imageType     图像类型
+     * @param imageTypeName 图像格式名称
+     * @param outputFactory 输出流工厂（参数为页面索引）
+     * @param isClose       是否写出后关闭输出流
+     */
+    protected void writePageImagesByParallel(int[] pageIndexes, ImageType imageType, String imageTypeName, OutputStreamFactory outputFactory, boolean isClose) {
+        // 创建缓存键
+        String[] keys = this.createCacheKeys(pageIndexes, imageType);
+        // 串行渲染器（缓存被并发淘汰时使用）
+        PDFRenderer serialRenderer = this.createRenderer(this.getDocument());
+        // 并行渲染（已缓存页面跳过）
+        try (ParallelPageRenderer renderer = this.createParallelRenderer()) {
+            renderer.render(
+                    pageIndexes.length,
+                    (pdfRenderer, i) -> Objects.nonNull(keys) && this.renderCache.contains(keys[i]) ? null : pdfRenderer.renderImageWithDPI(pageIndexes[i], this.dpi, this.getColorType()),
+                    (i, image) -> {
+                        // 获取输出流
+                        OutputStream outputStream = outputFactory.create(pageIndexes[i]);
+                        try {
+                            // 写出图片
+                            this.writePageImage(serialRenderer, pageIndexes[i], Objects.nonNull(keys) ? keys[i] : null, image, imageType, imageTypeName, outputStream);
+                        } finally {
+                            outputStream.flush();
+                            if (isClose) {
+                                outputStream.close();
+                            }
+                        }
+                    }
+            );
+        }
+    }
+
+    /**
+     * 写出页面图片
+     * <p>注：缓存键不为空时优先写出缓存文件，未命中时渲染（图像为空时）、编码并添加缓存</p>
+     *
+     * @param renderer      pdf渲染器
+     * @param pageIndex     页面索引
+     * @param key           缓存键，为空时不使用缓存
+     * @param image         已渲染图像，为空时使用渲染器渲染
+     * @param imageType     图像类型
+     * @param imageTypeName 图像格式名称
+     * @param outputStream  输出流
+     */
+    @SneakyThrows
+    protected void writePageImage(PDFRenderer renderer, int pageIndex, String key, BufferedImage image, ImageType imageType, String imageTypeName, OutputStream outputStream) {
+        // 写出缓存
+        if (Objects.nonNull(key) && this.renderCache.copyTo(key, outputStream)) {
+            return;
+        }
+        // 渲染图片
+        if (Objects.isNull(image)) {
+            image = renderer.renderImageWithDPI(pageIndex, this.dpi, this.getColorType());
+        }
+        // 未使用缓存
+        if (Objects.isNull(key)) {
+            // 写出图片
+            this.writeImage(image, imageType, imageTypeName, outputStream);
+            return;
+        }
+        // 编码图片
+        byte[] bytes = this.encodeImage(image, imageType, imageTypeName);
+        // 添加缓存
+        this.renderCache.put(key, bytes);
+        // 写出图片
+        outputStream.write(bytes);
+    }
+
+    /**
+     * 编码图片
+     *
+     * @param image         图像
+     * @param imageType     图像类型
+     * @param imageTypeName 图像格式名称
+     * @return 返回图片字节
+     */
+    @SneakyThrows
+    protected byte[] encodeImage(BufferedImage image, ImageType imageType, String imageTypeName) {
+        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream(8192)) {
+            this.writeImage(image, imageType, imageTypeName, outputStream);
+            return outputStream.toByteArray();
+        }
+    }
+
+    /**
+     * 创建缓存键
+     *
+     * @param pageIndexes 页面索引
+     * @param imageType   图像类型
+     * @return 返回缓存键，未开启缓存时返回null
+     */
+    protected String[] createCacheKeys(int[] pageIndexes, ImageType imageType) {
+        if (Objects.isNull(this.renderCache)) {
+            return null;
+        }
+        String[] keys = new String[pageIndexes.length];
+        for (int i = 0; i < pageIndexes.length; i++) {
+            keys[i] = this.createCacheKey(pageIndexes[i], imageType);
+        }
+        return keys;
+    }
+
+    /**
+     * 创建缓存键
+     * <p>注：包含页面内容摘要、DPI、渲染类型、颜色类型、内存优化、图像类型与编码参数</p>
+     *
+     * @param pageIndex 页面索引
+     * @param imageType 图像类型
+     * @return 返回缓存键
+     */
+    protected String createCacheKey(int pageIndex, ImageType imageType) {
+        StringBuilder builder = new StringBuilder(128)
+                .append("dpi=").append(this.dpi)
+                .append(",renderType=").append(this.renderType)
+                .append(",colorType=").append(this.getColorType())
+                .append(",optimization=").append(this.isMemoryOptimization)
+                .append(",imageType=").append(imageType.getType());
+        if (Objects.nonNull(this.imageEncoder)) {
+            builder.append(",encoder=")
+                    .append(this.imageEncoder.getPngEncoder().getLevel()).append('/')
+                    .append(this.imageEncoder.getPngEncoder().getFilterType()).append('/')
+                    .append(this.imageEncoder.getJpegQuality());
+        }
+        return RenderCache.createKey(this.getDocument(), pageIndex, builder.toString());
+    }
+
+    /**
+     * 写出图片
+     *
+     * @param image         图像
+     * @param imageType     图像类型
+     * @param imageTypeName 图像格式名称
+     * @param outputStream  输出流
+     */
+    @SneakyThrows
+    protected void writeImage(BufferedImage image, ImageType imageType, String imageTypeName, OutputStream outputStream) {
+        if (Objects.nonNull(this.imageEncoder)) {
+            this.imageEncoder.encode(image, imageType, outputStream, this.dpi);
+        } else {
+            ImageIOUtil.writeImage(image, imageTypeName, outputStream, this.dpi.intValue());
+        }
+    }
+
+    /**
+     * 创建分块页面渲染器
+     *
+     * @param pageIndex 页面索引
+     * @param tileSize  图块尺寸
+     * @return 返回分块页面渲染器
+     */
+    protected TiledPageRenderer createTiledRenderer(int pageIndex, int tileSize) {
+        // 修正页面索引
+        int index = this.fixPageIndexes(pageIndex)[0];
+        // 返回分块页面渲染器
+        return new TiledPageRenderer(this.getDocument().getPage(index), index, this.dpi, this.getColorType(), tileSize, tileSize);
+    }
+
+    /**
+     * 渲染图块
+     *
+     * @param tiledRenderer 分块页面渲染器
+     * @param handler       图块处理器
+     */
+    protected void renderTiles(TiledPageRenderer tiledRenderer, TiledPageRenderer.TileHandler handler) {
+        // 并行渲染
+        if (this.isParallel(tiledRenderer.getTileCount())) {
+            try (ParallelPageRenderer renderer = this.createParallelRenderer()) {
+                tiledRenderer.render(renderer, handler);
             }
+        } else {
+            tiledRenderer.render(this.createRenderer(this.getDocument()), handler);
         }
     }
 
@@ -424,6 +1011,28 @@ public class RenderProcessor extends AbstractProcessor {
         return org.dromara.pdf.shade.org.apache.pdfbox.rendering.ImageType.RGB;
     }
 
+    /**
+     * 获取渲染图像类型（与颜色类型对应）
+     *
+     * @return 返回图像类型
+     */
+    protected int getBufferedImageType() {
+        // 如果黑白，则返回二值类型
+        if (this.isBinary) {
+            return BufferedImage.TYPE_BYTE_BINARY;
+        }
+        // 如果灰度，则返回灰度类型
+        if (this.isGray) {
+            return BufferedImage.TYPE_BYTE_GRAY;
+        }
+        // 如果透明，则返回ARGB类型
+        if (this.isAlpha) {
+            return BufferedImage.TYPE_INT_ARGB;
+        }
+        // 返回RGB类型
+        return BufferedImage.TYPE_INT_RGB;
+    }
+
     /**
      * 合并类型
      */
@@ -437,4 +1046,20 @@ public class RenderProcessor extends AbstractProcessor {
          */
         VERTICAL;
     }
+
+    /**
+     * 输出流工厂
+     */
+    @FunctionalInterface
+    protected interface OutputStreamFactory {
+
+        /**
+         * 创建输出流
+         *
+         * @param pageIndex 页面索引
+         * @return 返回输出流
+         * @throws IOException IO异常
+         */
+        OutputStream create(int pageIndex) throws IOException;
+    }
 }
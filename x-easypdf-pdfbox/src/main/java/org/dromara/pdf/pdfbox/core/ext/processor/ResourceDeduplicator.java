@@ -0,0 +1,326 @@
+package org.dromara.pdf.pdfbox.core.ext.processor;
+
+import lombok.SneakyThrows;
+import org.dromara.pdf.pdfbox.util.DigestUtil;
+import org.dromara.pdf.shade.org.apache.pdfbox.cos.*;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDDocument;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPage;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.*;
+
+/**
+ * 资源去重器
+ * <p>注：按内容摘要（字典项排序后递归计算，流使用原始字节）识别相同的字体、字体文件与图像，将引用替换为同一规范对象，保存时仅写入一次</p>
+ * <p>注：遍历页面、表单、Type3字体与注释外观的资源字典；去重会直接修改资源字典（合并时资源字典可能与源文档共享，替换对象内容相同，不影响源文档显示）</p>
+ * <p>注：含循环引用或引用页面的对象不参与去重</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class ResourceDeduplicator {
+
+    /**
+     * 字体文件名称
+     */
+    protected static final COSName[] FONT_FILE_KEYS = {COSName.FONT_FILE, COSName.FONT_FILE2, COSName.FONT_FILE3};
+
+    /**
+     * 规范对象（摘要 -> 字典项）
+     */
+    protected final Map<String, COSBase> canonicals = new HashMap<>();
+    /**
+     * 对象摘要（按对象标识）
+     */
+    protected final Map<COSBase, String> digests = new IdentityHashMap<>();
+    /**
+     * 摘要计算中的对象
+     */
+    protected final Set<COSBase> computing = Collections.newSetFromMap(new IdentityHashMap<>());
+    /**
+     * 已遍历的资源字典
+     */
+    protected final Set<COSBase> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    /**
+     * 不可去重标记次数（循环引用或引用页面）
+     */
+    protected int unstableCount;
+    /**
+     * 已替换引用数量
+     */
+    protected int replacedCount;
+
+    /**
+     * 文档去重
+     *
+     * @param document pdfbox文档
+     * @return 返回本次替换的引用数量
+     */
+    public int deduplicate(PDDocument document) {
+        Objects.requireNonNull(document, "the document can not be null");
+        int count = this.replacedCount;
+        for (PDPage page : document.getPages()) {
+            this.deduplicate(page);
+        }
+        return this.replacedCount - count;
+    }
+
+    /**
+     * 页面去重
+     *
+     * @param page pdfbox页面
+     */
+    public void deduplicate(PDPage page) {
+        Objects.requireNonNull(page, "the page can not be null");
+        // 页面资源（含继承资源）
+        this.deduplicateResources(page.getResources().getCOSObject());
+        // 注释外观资源
+        COSArray annotations = page.getCOSObject().getCOSArray(COSName.ANNOTS);
+        if (Objects.nonNull(annotations)) {
+            for (int i = 0; i < annotations.size(); i++) {
+                COSBase annotation = annotations.getObject(i);
+                if (annotation instanceof COSDictionary) {
+                    this.deduplicateAppearance(((COSDictionary) annotation).getDictionaryObject(COSName.AP));
+                }
+            }
+        }
+    }
+
+    /**
+     * 是否可去重对象
+     * <p>注：字体字典、字体文件与图像</p>
+     *
+     * @param base pdf对象
+     * @return 返回布尔值，true为是，false为否
+     */
+    public boolean isDeduplicable(COSBase base) {
+        if (base instanceof COSObject) {
+            base = ((COSObject) base).getObject();
+        }
+        if (base instanceof COSStream) {
+            COSStream stream = (COSStream) base;
+            COSName subtype = stream.getCOSName(COSName.SUBTYPE);
+            return COSName.IMAGE.equals(subtype)
+                    || stream.containsKey(COSName.LENGTH1)
+                    || stream.containsKey(COSName.LENGTH2)
+                    || COSName.getPDFName("Type1C").equals(subtype)
+                    || COSName.getPDFName("CIDFontType0C").equals(subtype)
+                    || COSName.getPDFName("OpenType").equals(subtype);
+        }
+        return base instanceof COSDictionary && COSName.FONT.equals(((COSDictionary) base).getCOSName(COSName.TYPE));
+    }
+
+    /**
+     * 获取对象摘要
+     *
+     * @param base pdf对象
+     * @return 返回摘要，含循环引用或引用页面时返回null
+     */
+    public String getDigest(COSBase base) {
+        if (base instanceof COSObject) {
+            base = ((COSObject) base).getObject();
+        }
+        return Objects.isNull(base) || base instanceof COSNull ? null : this.computeDigest(base);
+    }
+
+    /**
+     * 清理对象摘要（保留规范对象，源文档关闭后调用）
+     */
+    public void clearDigests() {
+        this.digests.clear();
+        this.visited.clear();
+    }
+
+    /**
+     * 获取已替换引用数量
+     *
+     * @return 返回替换数量
+     */
+    public int getReplacedCount() {
+        return this.replacedCount;
+    }
+
+    /**
+     * 获取规范对象数量
+     *
+     * @return 返回规范对象数量
+     */
+    public int getCanonicalCount() {
+        return this.canonicals.size();
+    }
+
+    /**
+     * 资源字典去重
+     *
+     * @param resources 资源字典
+     */
+    protected void deduplicateResources(COSDictionary resources) {
+        if (Objects.isNull(resources) || !this.visited.add(resources)) {
+            return;
+        }
+        // 字体
+        COSDictionary fonts = resources.getCOSDictionary(COSName.FONT);
+        if (Objects.nonNull(fonts)) {
+            for (COSName name : new ArrayList<>(fonts.keySet())) {
+                COSBase font = fonts.getDictionaryObject(name);
+                if (font instanceof COSDictionary) {
+                    this.deduplicateFont((COSDictionary) font);
+                    this.replace(fonts, name);
+                }
+            }
+        }
+        // 外部对象
+        COSDictionary xObjects = resources.getCOSDictionary(COSName.XOBJECT);
+        if (Objects.nonNull(xObjects)) {
+            for (COSName name : new ArrayList<>(xObjects.keySet())) {
+                COSBase xObject = xObjects.getDictionaryObject(name);
+                if (xObject instanceof COSStream) {
+                    COSStream stream = (COSStream) xObject;
+                    if (COSName.IMAGE.equals(stream.getCOSName(COSName.SUBTYPE))) {
+                        this.replace(xObjects, name);
+                    } else if (COSName.FORM.equals(stream.getCOSName(COSName.SUBTYPE))) {
+                        this.deduplicateResources(stream.getCOSDictionary(COSName.RESOURCES));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 字体去重（字体文件、子字体与Type3字体资源）
+     *
+     * @param font 字体字典
+     */
+    protected void deduplicateFont(COSDictionary font) {
+        // 字体描述
+        COSDictionary descriptor = font.getCOSDictionary(COSName.FONT_DESC);
+        if (Objects.nonNull(descriptor)) {
+            for (COSName key : FONT_FILE_KEYS) {
+                if (descriptor.getDictionaryObject(key) instanceof COSStream) {
+                    this.replace(descriptor, key);
+                }
+            }
+        }
+        // 子字体
+        COSArray descendants = font.getCOSArray(COSName.DESCENDANT_FONTS);
+        if (Objects.nonNull(descendants)) {
+            for (int i = 0; i < descendants.size(); i++) {
+                COSBase descendant = descendants.getObject(i);
+                if (descendant instanceof COSDictionary) {
+                    this.deduplicateFont((COSDictionary) descendant);
+                }
+            }
+        }
+        // Type3字体资源
+        this.deduplicateResources(font.getCOSDictionary(COSName.RESOURCES));
+    }
+
+    /**
+     * 注释外观去重
+     *
+     * @param appearance 外观字典或外观流
+     */
+    protected void deduplicateAppearance(COSBase appearance) {
+        if (appearance instanceof COSStream) {
+            this.deduplicateResources(((COSStream) appearance).getCOSDictionary(COSName.RESOURCES));
+        } else if (appearance instanceof COSDictionary && this.visited.add(appearance)) {
+            for (COSBase value : ((COSDictionary) appearance).getValues()) {
+                this.deduplicateAppearance(value instanceof COSObject ? ((COSObject) value).getObject() : value);
+            }
+        }
+    }
+
+    /**
+     * 替换为规范对象
+     *
+     * @param dictionary 字典
+     * @param key        名称
+     */
+    protected void replace(COSDictionary dictionary, COSName key) {
+        COSBase item = dictionary.getItem(key);
+        String digest = this.getDigest(item);
+        if (Objects.isNull(digest)) {
+            return;
+        }
+        COSBase canonical = this.canonicals.putIfAbsent(digest, item);
+        if (Objects.nonNull(canonical) && resolve(canonical) != resolve(item)) {
+            dictionary.setItem(key, canonical);
+            this.replacedCount++;
+        }
+    }
+
+    /**
+     * 计算摘要（递归，子对象使用子对象摘要，相同内容的对象摘要相同）
+     *
+     * @param base pdf对象
+     * @return 返回摘要，含循环引用或引用页面时返回null
+     */
+    @SneakyThrows
+    protected String computeDigest(COSBase base) {
+        String value = this.digests.get(base);
+        if (Objects.nonNull(value)) {
+            return value;
+        }
+        // 循环引用或引用页面
+        if (this.computing.contains(base) || DigestUtil.isPageNode(base)) {
+            this.unstableCount++;
+            return null;
+        }
+        int count = this.unstableCount;
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        this.computing.add(base);
+        try {
+            if (base instanceof COSDictionary || base instanceof COSArray) {
+                DigestUtil.updateContainer(digest, base, this::updateChild);
+            } else {
+                DigestUtil.update(digest, base, this::updateChild);
+            }
+        } finally {
+            this.computing.remove(base);
+        }
+        // 摘要与访问路径相关时不缓存且不参与去重
+        if (count != this.unstableCount) {
+            return null;
+        }
+        value = DigestUtil.toHex(digest.digest());
+        this.digests.put(base, value);
+        return value;
+    }
+
+    /**
+     * 更新摘要（子对象，写入子对象摘要）
+     *
+     * @param digest    摘要
+     * @param container 字典、流或数组
+     */
+    protected void updateChild(MessageDigest digest, COSBase container) {
+        String child = this.computeDigest(container);
+        digest.update((byte) 'h');
+        if (Objects.nonNull(child)) {
+            digest.update(child.getBytes(StandardCharsets.ISO_8859_1));
+        }
+    }
+
+    /**
+     * 获取pdf对象（解引用）
+     *
+     * @param base pdf对象
+     * @return 返回pdf对象
+     */
+    protected static COSBase resolve(COSBase base) {
+        return base instanceof COSObject ? ((COSObject) base).getObject() : base;
+    }
+}
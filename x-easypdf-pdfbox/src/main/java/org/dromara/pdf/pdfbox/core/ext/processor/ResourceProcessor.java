@@ -0,0 +1,45 @@
+package org.dromara.pdf.pdfbox.core.ext.processor;
+
+import lombok.EqualsAndHashCode;
+import org.dromara.pdf.pdfbox.core.base.Document;
+
+/**
+ * 资源处理器
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+@EqualsAndHashCode(callSuper = true)
+public class ResourceProcessor extends AbstractProcessor {
+
+    /**
+     * 有参构造
+     *
+     * @param document 文档
+     */
+    public ResourceProcessor(Document document) {
+        super(document);
+    }
+
+    /**
+     * 资源去重
+     * <p>注：相同的字体、字体文件与图像替换为同一对象，保存时仅写入一次</p>
+     *
+     * @return 返回替换的引用数量
+     */
+    public int deduplicate() {
+        return new ResourceDeduplicator().deduplicate(this.getDocument());
+    }
+}
@@ -8,16 +8,15 @@ import org.dromara.pdf.shade.org.apache.pdfbox.pdfwriter.compress.CompressParame
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDDocument;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPage;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPageTree;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDDocumentOutline;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDOutlineItem;
 
 import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.*;
 import java.util.stream.Collectors;
 
 /**
@@ -41,6 +40,11 @@ import java.util.stream.Collectors;
 @EqualsAndHashCode(callSuper = true)
 public class SplitProcessor extends AbstractProcessor {
 
+    /**
+     * 并行数量
+     */
+    protected Integer parallelism;
+
     /**
      * 有参构造
      *
@@ -127,37 +131,120 @@ public class SplitProcessor extends AbstractProcessor {
      * @param directory 目录
      * @param prefix    名称前缀
      */
-    @SneakyThrows
     public void splitAll(String directory, String prefix) {
         // 检查参数
         Objects.requireNonNull(directory, "the directory can not be null");
+        // 定义页面分组
+        int count = this.getDocument().getNumberOfPages();
+        List<int[]> pageGroups = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            pageGroups.add(new int[]{i});
+        }
+        // 拆分文档
+        this.split(directory, prefix, pageGroups);
+    }
+
+    /**
+     * 按范围拆分（每个范围拆分为独立文档）
+     *
+     * @param directory 目录
+     * @param prefix    名称前缀
+     * @param ranges    页面范围（开始索引与结束索引，包含结束索引）
+     */
+    public void splitByRanges(String directory, String prefix, int[]... ranges) {
+        // 检查参数
+        Objects.requireNonNull(directory, "the directory can not be null");
+        Objects.requireNonNull(ranges, "the ranges can not be null");
+        // 定义页面分组
+        int count = this.getDocument().getNumberOfPages();
+        List<int[]> pageGroups = new ArrayList<>(ranges.length);
+        for (int[] range : ranges) {
+            if (Objects.isNull(range) || range.length != 2 || range[0] < 0 || range[0] > range[1] || range[1] >= count) {
+                throw new IllegalArgumentException("the range must be [begin, end] and within the page count: " + Arrays.toString(range));
+            }
+            pageGroups.add(this.toPageIndexes(range[0], range[1]));
+        }
+        // 拆分文档
+        this.split(directory, prefix, pageGroups);
+    }
+
+    /**
+     * 按书签拆分（每个顶级书签至下一个顶级书签之间的页面拆分为独立文档）
+     * <p>注：第一个书签之前的页面归入第一个文档，无法定位页面的书签将被忽略</p>
+     *
+     * @param directory 目录
+     * @param prefix    名称前缀
+     */
+    @SneakyThrows
+    public void splitByBookmark(String directory, String prefix) {
+        // 检查参数
+        Objects.requireNonNull(directory, "the directory can not be null");
+        // 获取书签页面索引
+        TreeSet<Integer> beginIndexes = new TreeSet<>();
+        PDDocumentOutline outline = this.getDocument().getDocumentCatalog().getDocumentOutline();
+        if (Objects.nonNull(outline)) {
+            for (PDOutlineItem item : outline.children()) {
+                PDPage page = item.findDestinationPage(this.getDocument());
+                int index = Objects.nonNull(page) ? this.getDocument().getPages().indexOf(page) : -1;
+                if (index >= 0) {
+                    beginIndexes.add(index);
+                }
+            }
+        }
+        // 定义页面分组
+        int count = this.getDocument().getNumberOfPages();
+        List<int[]> pageGroups = new ArrayList<>(beginIndexes.size() + 1);
+        if (count > 0) {
+            beginIndexes.remove(0);
+            int begin = 0;
+            for (int index : beginIndexes) {
+                pageGroups.add(this.toPageIndexes(begin, index - 1));
+                begin = index;
+            }
+            pageGroups.add(this.toPageIndexes(begin, count - 1));
+        }
+        // 拆分文档
+        this.split(directory, prefix, pageGroups);
+    }
+
+    /**
+     * 设置并行数量
+     * <p>注：大于1时由工作线程并行保存拆分文档（源文档页面在调用线程中复制），同时存活的拆分文档不超过并行数量</p>
+     *
+     * @param parallelism 并行数量（工作线程数量）
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("the parallelism must be greater than 0");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * 拆分文档（每个分组拆分为独立文档）
+     * <p>注：元数据仅刷新一次，拆分文档移除未使用的资源</p>
+     *
+     * @param directory  目录
+     * @param prefix     名称前缀
+     * @param pageGroups 页面分组
+     */
+    @SneakyThrows
+    protected void split(String directory, String prefix, List<int[]> pageGroups) {
         // 定义文件名
         String name = Optional.ofNullable(prefix).orElse("x-easypdf-split");
-        // 文件名称构造器
-        StringBuilder fileNameBuilder;
-        // 定义拆分文档列表索引
-        int index = 1;
-        // 获取pdfbox页面树
-        PDPageTree pageTree = this.getDocument().getPages();
-        // 遍历页面树
-        for (PDPage sourcePage : pageTree) {
-            // 创建任务
-            PDDocument target = new PDDocument();
-            // 添加页面
-            PDPage importPage = target.importPage(sourcePage);
-            // 添加页面资源
-            importPage.setResources(sourcePage.getResources());
-            // 新建文件名称构造器
-            fileNameBuilder = new StringBuilder();
-            // 构建文件名称
-            fileNameBuilder.append(directory).append(File.separator).append(name).append(index).append(".pdf");
-            // 获取输出流
-            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(FileUtil.createDirectories(Paths.get(fileNameBuilder.toString()))))) {
-                // 保存任务
-                this.saveTarget(target, outputStream);
-            }
-            // 拆分文档列表索引自增
-            index++;
+        // 刷新元数据
+        this.flushMetadata();
+        // 创建并行拆分器
+        try (ParallelSplitter splitter = new ParallelSplitter(this.document, Optional.ofNullable(this.parallelism).orElse(1))) {
+            // 拆分文档（拆分文档列表索引从1开始）
+            splitter.split(
+                    pageGroups,
+                    index -> new BufferedOutputStream(
+                            Files.newOutputStream(
+                                    FileUtil.createDirectories(Paths.get(directory + File.separator + name + (index + 1) + ".pdf"))
+                            )
+                    )
+            );
         }
     }
 
@@ -170,9 +257,7 @@ public class SplitProcessor extends AbstractProcessor {
     @SneakyThrows
     protected void saveTarget(PDDocument target, OutputStream outputStream) {
         // 刷新元数据
-        if (Optional.ofNullable(this.document.getIsFlushMetadata()).orElse(Boolean.TRUE)) {
-            new MetadataProcessor(this.document).flush();
-        }
+        this.flushMetadata();
         // 设置文档版本
         target.setVersion(this.document.getVersion());
         // 设置元数据
@@ -183,6 +268,30 @@ public class SplitProcessor extends AbstractProcessor {
         target.close();
     }
 
+    /**
+     * 刷新元数据
+     */
+    protected void flushMetadata() {
+        if (Optional.ofNullable(this.document.getIsFlushMetadata()).orElse(Boolean.TRUE)) {
+            new MetadataProcessor(this.document).flush();
+        }
+    }
+
+    /**
+     * 获取页面索引
+     *
+     * @param begin 开始索引
+     * @param end   结束索引（包含）
+     * @return 返回页面索引
+     */
+    protected int[] toPageIndexes(int begin, int end) {
+        int[] pageIndexes = new int[end - begin + 1];
+        for (int i = 0; i < pageIndexes.length; i++) {
+            pageIndexes[i] = begin + i;
+        }
+        return pageIndexes;
+    }
+
     /**
      * 转为整形列表
      *
@@ -0,0 +1,664 @@
+package org.dromara.pdf.pdfbox.core.ext.processor;
+
+import lombok.SneakyThrows;
+import org.dromara.pdf.pdfbox.core.base.Document;
+import org.dromara.pdf.pdfbox.core.base.MemoryPolicy;
+import org.dromara.pdf.pdfbox.handler.PdfHandler;
+import org.dromara.pdf.pdfbox.support.Constants;
+import org.dromara.pdf.pdfbox.support.DocumentSnapshot;
+import org.dromara.pdf.shade.org.apache.pdfbox.cos.*;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdfwriter.COSWriter;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDDocument;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDDocumentInformation;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPage;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 流式合并写入器
+ * <p>注：逐个加载源文档，将页面及其引用的对象直接写入输出流（重新编号），写入后立即关闭源文档，最后写入页面树、目录、交叉引用表与尾部</p>
+ * <p>注：仅保留页面顺序写入一次，内存中仅保留当前源文档与对象偏移（每个对象8字节），不产生临时文件</p>
+ * <p>注：仅合并页面（继承的资源、页面尺寸与旋转角度写入页面），书签、表单、名称字典等目录级别内容不保留</p>
+ * <p>注：开启资源去重后，相同的字体、字体文件与图像仅写入一次（内存中额外保留每个规范对象的摘要）</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class StreamingMergeWriter implements Closeable {
+
+    /**
+     * 页面树对象编号
+     */
+    protected static final int PAGES_NUMBER = 1;
+    /**
+     * 目录对象编号
+     */
+    protected static final int CATALOG_NUMBER = 2;
+    /**
+     * 页面可继承属性
+     */
+    protected static final COSName[] INHERITABLE_KEYS = {COSName.RESOURCES, COSName.MEDIA_BOX, COSName.CROP_BOX, COSName.ROTATE};
+
+    /**
+     * 输出流
+     */
+    protected final CountingOutputStream outputStream;
+    /**
+     * 内存策略（加载源文档）
+     */
+    protected final MemoryPolicy policy;
+    /**
+     * 对象偏移（索引为对象编号）
+     */
+    protected long[] offsets = new long[64];
+    /**
+     * 下一个对象编号
+     */
+    protected int nextNumber = CATALOG_NUMBER + 1;
+    /**
+     * 页面对象编号
+     */
+    protected int[] pageNumbers = new int[64];
+    /**
+     * 页面数量
+     */
+    protected int pageCount;
+    /**
+     * 当前源文档对象编号（按对象标识）
+     */
+    protected final Map<COSBase, Integer> numbers = new IdentityHashMap<>();
+    /**
+     * 当前源文档页面
+     */
+    protected final Set<COSBase> pages = Collections.newSetFromMap(new IdentityHashMap<>());
+    /**
+     * 当前源文档待写入对象
+     */
+    protected final Deque<COSBase> pending = new ArrayDeque<>();
+    /**
+     * 资源去重器
+     */
+    protected ResourceDeduplicator deduplicator;
+    /**
+     * 规范对象编号（摘要 -> 对象编号，跨源文档保留）
+     */
+    protected final Map<String, Integer> canonicalNumbers = new HashMap<>();
+    /**
+     * 文档信息
+     */
+    protected PDDocumentInformation documentInformation;
+    /**
+     * 是否已结束
+     */
+    protected boolean isFinished;
+
+    /**
+     * 有参构造
+     *
+     * @param outputStream 输出流
+     */
+    public StreamingMergeWriter(OutputStream outputStream) {
+        this(outputStream, Constants.DEFAULT_VERSION, MemoryPolicy.setupTempFileOnly());
+    }
+
+    /**
+     * 有参构造
+     *
+     * @param outputStream 输出流
+     * @param version      文档版本
+     * @param policy       内存策略（加载源文档）
+     */
+    @SneakyThrows
+    public StreamingMergeWriter(OutputStream outputStream, float version, MemoryPolicy policy) {
+        Objects.requireNonNull(outputStream, "the output stream can not be null");
+        Objects.requireNonNull(policy, "the policy can not be null");
+        this.outputStream = new CountingOutputStream(outputStream);
+        this.policy = policy;
+        // 写入文件头
+        this.write(String.format(Locale.ROOT, "%%PDF-%.1f\n", version));
+        this.outputStream.write(new byte[]{'%', (byte) 0xE2, (byte) 0xE3, (byte) 0xCF, (byte) 0xD3, '\n'});
+    }
+
+    /**
+     * 添加文件
+     *
+     * @param file 文件
+     */
+    @SneakyThrows
+    public void append(File file) {
+        Objects.requireNonNull(file, "the file can not be null");
+        this.checkFinished();
+        try (Document source = PdfHandler.getDocumentHandler().load(file, this.policy)) {
+            this.append(source.getTarget());
+        }
+    }
+
+    /**
+     * 添加输入流
+     *
+     * @param inputStream 输入流
+     */
+    @SneakyThrows
+    public void append(InputStream inputStream) {
+        Objects.requireNonNull(inputStream, "the input stream can not be null");
+        this.checkFinished();
+        try (Document source = PdfHandler.getDocumentHandler().load(inputStream, this.policy)) {
+            this.append(source.getTarget());
+        }
+    }
+
+    /**
+     * 添加文档
+     * <p>注：从文档快照写入页面（待子集化字体仅在快照中子集化），文档不会被修改或关闭，后续可继续编辑与保存</p>
+     *
+     * @param document 文档
+     */
+    @SneakyThrows
+    public void append(Document document) {
+        Objects.requireNonNull(document, "the document can not be null");
+        this.checkFinished();
+        // 加载快照并写入页面
+        try (PDDocument snapshot = DocumentSnapshot.load(document)) {
+            this.append(snapshot);
+        }
+    }
+
+    /**
+     * 开启资源去重
+     * <p>注：相同的字体、字体文件与图像（跨源文档）仅写入一次，其余引用指向首次写入的对象</p>
+     */
+    public void enableResourceDeduplication() {
+        if (Objects.isNull(this.deduplicator)) {
+            this.deduplicator = new ResourceDeduplicator();
+        }
+    }
+
+    /**
+     * 设置文档信息
+     *
+     * @param documentInformation 文档信息
+     */
+    public void setDocumentInformation(PDDocumentInformation documentInformation) {
+        this.documentInformation = documentInformation;
+    }
+
+    /**
+     * 获取已写入页面数量
+     *
+     * @return 返回页面数量
+     */
+    public int getPageCount() {
+        return this.pageCount;
+    }
+
+    /**
+     * 结束写入
+     * <p>注：写入页面树、目录、文档信息、交叉引用表与尾部</p>
+     */
+    @SneakyThrows
+    public void finish() {
+        this.checkFinished();
+        this.isFinished = true;
+        // 写入页面树
+        this.beginObject(PAGES_NUMBER);
+        this.write("<</Type /Pages /Kids [");
+        for (int i = 0; i < this.pageCount; i++) {
+            if (i > 0) {
+                this.write(i % 16 == 0 ? "\n" : " ");
+            }
+            this.writeReference(this.pageNumbers[i]);
+        }
+        this.write("] /Count " + this.pageCount + ">>");
+        this.endObject();
+        // 写入目录
+        this.beginObject(CATALOG_NUMBER);
+        this.write("<</Type /Catalog /Pages " + PAGES_NUMBER + " 0 R>>");
+        this.endObject();
+        // 写入文档信息
+        int infoNumber = 0;
+        if (Objects.nonNull(this.documentInformation)) {
+            infoNumber = this.nextNumber++;
+            this.writeObject(infoNumber, this.documentInformation.getCOSObject());
+            this.writePending();
+            this.clearSource();
+        }
+        // 写入交叉引用表
+        long startxref = this.outputStream.getCount();
+        StringBuilder builder = new StringBuilder(64);
+        builder.append("xref\n0 ").append(this.nextNumber).append('\n').append("0000000000 65535 f\r\n");
+        this.write(builder.toString());
+        for (int i = 1; i < this.nextNumber; i++) {
+            builder.setLength(0);
+            String offset = String.valueOf(this.offsets[i]);
+            for (int j = offset.length(); j < 10; j++) {
+                builder.append('0');
+            }
+            builder.append(offset).append(" 00000 n\r\n");
+            this.write(builder.toString());
+        }
+        // 写入尾部
+        builder.setLength(0);
+        builder.append("trailer\n<</Size ").append(this.nextNumber).append(" /Root ").append(CATALOG_NUMBER).append(" 0 R");
+        if (infoNumber > 0) {
+            builder.append(" /Info ").append(infoNumber).append(" 0 R");
+        }
+        builder.append(">>\nstartxref\n").append(startxref).append("\n%%EOF\n");
+        this.write(builder.toString());
+        this.outputStream.flush();
+    }
+
+    /**
+     * 是否已结束
+     *
+     * @return 返回布尔值，true为是，false为否
+     */
+    public boolean isFinished() {
+        return this.isFinished;
+    }
+
+    /**
+     * 关闭（未结束时结束写入，不关闭输出流）
+     */
+    @Override
+    public void close() {
+        if (!this.isFinished) {
+            this.finish();
+        }
+    }
+
+    /**
+     * 添加pdfbox文档（写入全部页面）
+     *
+     * @param source pdfbox文档
+     */
+    protected void append(PDDocument source) throws IOException {
+        try {
+            // 预先分配页面编号（源文档内部对页面的引用可正确指向）
+            List<COSDictionary> sourcePages = new ArrayList<>(source.getNumberOfPages());
+            for (PDPage page : source.getPages()) {
+                COSDictionary dictionary = page.getCOSObject();
+                if (this.pages.add(dictionary)) {
+                    sourcePages.add(dictionary);
+                    this.numbers.put(dictionary, this.nextNumber++);
+                }
+            }
+            // 逐页写入页面及其引用的对象
+            for (COSDictionary page : sourcePages) {
+                this.writePage(page);
+                this.writePending();
+            }
+        } finally {
+            this.clearSource();
+        }
+    }
+
+    /**
+     * 写入页面
+     *
+     * @param page 页面字典
+     */
+    protected void writePage(COSDictionary page) throws IOException {
+        int number = this.numbers.get(page);
+        this.addPageNumber(number);
+        this.beginObject(number);
+        this.write("<<");
+        for (Map.Entry<COSName, COSBase> entry : page.entrySet()) {
+            if (!COSName.PARENT.equals(entry.getKey())) {
+                this.writeEntry(entry.getKey(), entry.getValue());
+            }
+        }
+        // 写入继承属性
+        for (COSName key : INHERITABLE_KEYS) {
+            if (!page.containsKey(key)) {
+                COSBase value = this.getInheritableAttribute(page, key);
+                if (Objects.nonNull(value)) {
+                    this.writeEntry(key, value);
+                }
+            }
+        }
+        this.write("/Parent " + PAGES_NUMBER + " 0 R>>");
+        this.endObject();
+    }
+
+    /**
+     * 获取继承属性
+     *
+     * @param page 页面字典
+     * @param key  属性名称
+     * @return 返回属性值
+     */
+    protected COSBase getInheritableAttribute(COSDictionary page, COSName key) {
+        COSDictionary parent = page.getCOSDictionary(COSName.PARENT);
+        Set<COSDictionary> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        while (Objects.nonNull(parent) && visited.add(parent)) {
+            COSBase value = parent.getItem(key);
+            if (Objects.nonNull(value)) {
+                return value;
+            }
+            parent = parent.getCOSDictionary(COSName.PARENT);
+        }
+        return null;
+    }
+
+    /**
+     * 写入待写入对象
+     */
+    protected void writePending() throws IOException {
+        COSBase object;
+        while (Objects.nonNull(object = this.pending.poll())) {
+            this.writeObject(this.numbers.get(object), object);
+        }
+    }
+
+    /**
+     * 写入间接对象
+     *
+     * @param number 对象编号
+     * @param object 对象
+     */
+    protected void writeObject(int number, COSBase object) throws IOException {
+        if (object instanceof COSStream) {
+            this.writeStream(number, (COSStream) object);
+        } else {
+            this.beginObject(number);
+            this.writeDirect(object);
+            this.endObject();
+        }
+    }
+
+    /**
+     * 写入流对象（长度使用间接对象，数据无需缓冲）
+     *
+     * @param number 对象编号
+     * @param stream 流
+     */
+    protected void writeStream(int number, COSStream stream) throws IOException {
+        int lengthNumber = this.nextNumber++;
+        this.beginObject(number);
+        this.write("<<");
+        for (Map.Entry<COSName, COSBase> entry : stream.entrySet()) {
+            if (!COSName.LENGTH.equals(entry.getKey())) {
+                this.writeEntry(entry.getKey(), entry.getValue());
+            }
+        }
+        this.write("/Length " + lengthNumber + " 0 R>>\nstream\r\n");
+        long begin = this.outputStream.getCount();
+        if (stream.hasData()) {
+            try (InputStream inputStream = stream.createRawInputStream()) {
+                byte[] buffer = new byte[8192];
+                int length;
+                while ((length = inputStream.read(buffer)) != -1) {
+                    this.outputStream.write(buffer, 0, length);
+                }
+            }
+        }
+        long length = this.outputStream.getCount() - begin;
+        this.write("\r\nendstream");
+        this.endObject();
+        // 写入长度
+        this.beginObject(lengthNumber);
+        this.write(String.valueOf(length));
+        this.endObject();
+    }
+
+    /**
+     * 写入字典项
+     *
+     * @param key   名称
+     * @param value 值
+     */
+    protected void writeEntry(COSName key, COSBase value) throws IOException {
+        key.writePDF(this.outputStream);
+        this.outputStream.write(' ');
+        this.writeValue(value);
+        this.outputStream.write('\n');
+    }
+
+    /**
+     * 写入值（间接对象写入引用）
+     *
+     * @param value 值
+     */
+    protected void writeValue(COSBase value) throws IOException {
+        if (value instanceof COSObject) {
+            this.writeIndirect(((COSObject) value).getObject());
+        } else if (value instanceof COSStream || (value instanceof COSDictionary && !value.isDirect())) {
+            this.writeIndirect(value);
+        } else {
+            this.writeDirect(value);
+        }
+    }
+
+    /**
+     * 写入间接对象引用（未分配编号时分配编号并加入待写入队列）
+     *
+     * @param object 对象
+     */
+    protected void writeIndirect(COSBase object) throws IOException {
+        if (Objects.isNull(object) || object instanceof COSNull) {
+            this.write("null");
+            return;
+        }
+        Integer number = this.numbers.get(object);
+        if (Objects.isNull(number)) {
+            // 非当前源文档页面的页面树节点不写入
+            if (object instanceof COSDictionary && this.isPageTreeNode((COSDictionary) object)) {
+                this.write("null");
+                return;
+            }
+            // 相同资源指向规范对象
+            String digest = this.getCanonicalDigest(object);
+            number = Objects.nonNull(digest) ? this.canonicalNumbers.get(digest) : null;
+            if (Objects.isNull(number)) {
+                number = this.nextNumber++;
+                this.pending.add(object);
+                if (Objects.nonNull(digest)) {
+                    this.canonicalNumbers.put(digest, number);
+                }
+            }
+            this.numbers.put(object, number);
+        }
+        this.writeReference(number);
+    }
+
+    /**
+     * 获取规范对象摘要
+     *
+     * @param object 对象
+     * @return 返回摘要，未开启资源去重或不可去重时返回null
+     */
+    protected String getCanonicalDigest(COSBase object) {
+        if (Objects.isNull(this.deduplicator) || !this.deduplicator.isDeduplicable(object)) {
+            return null;
+        }
+        return this.deduplicator.getDigest(object);
+    }
+
+    /**
+     * 写入直接对象
+     *
+     * @param object 对象
+     */
+    protected void writeDirect(COSBase object) throws IOException {
+        if (object instanceof COSDictionary) {
+            this.write("<<");
+            for (Map.Entry<COSName, COSBase> entry : ((COSDictionary) object).entrySet()) {
+                this.writeEntry(entry.getKey(), entry.getValue());
+            }
+            this.write(">>");
+        } else if (object instanceof COSArray) {
+            this.outputStream.write('[');
+            COSArray array = (COSArray) object;
+            for (int i = 0, size = array.size(); i < size; i++) {
+                if (i > 0) {
+                    this.outputStream.write(i % 16 == 0 ? '\n' : ' ');
+                }
+                this.writeValue(array.get(i));
+            }
+            this.outputStream.write(']');
+        } else if (object instanceof COSString) {
+            COSWriter.writeString((COSString) object, this.outputStream);
+        } else if (object instanceof COSName) {
+            ((COSName) object).writePDF(this.outputStream);
+        } else if (object instanceof COSInteger) {
+            ((COSInteger) object).writePDF(this.outputStream);
+        } else if (object instanceof COSFloat) {
+            ((COSFloat) object).writePDF(this.outputStream);
+        } else if (object instanceof COSBoolean) {
+            ((COSBoolean) object).writePDF(this.outputStream);
+        } else if (object instanceof COSObject) {
+            this.writeIndirect(((COSObject) object).getObject());
+        } else {
+            this.write("null");
+        }
+    }
+
+    /**
+     * 是否页面树节点
+     *
+     * @param dictionary 字典
+     * @return 返回布尔值，true为是，false为否
+     */
+    protected boolean isPageTreeNode(COSDictionary dictionary) {
+        COSName type = dictionary.getCOSName(COSName.TYPE);
+        return COSName.PAGE.equals(type) || COSName.PAGES.equals(type);
+    }
+
+    /**
+     * 添加页面编号
+     *
+     * @param number 对象编号
+     */
+    protected void addPageNumber(int number) {
+        if (this.pageCount == this.pageNumbers.length) {
+            this.pageNumbers = Arrays.copyOf(this.pageNumbers, this.pageCount << 1);
+        }
+        this.pageNumbers[this.pageCount++] = number;
+    }
+
+    /**
+     * 开始写入对象（记录偏移）
+     *
+     * @param number 对象编号
+     */
+    protected void beginObject(int number) throws IOException {
+        if (number >= this.offsets.length) {
+            this.offsets = Arrays.copyOf(this.offsets, Math.max(number + 1, this.offsets.length << 1));
+        }
+        this.offsets[number] = this.outputStream.getCount();
+        this.write(number + " 0 obj\n");
+    }
+
+    /**
+     * 结束写入对象
+     */
+    protected void endObject() throws IOException {
+        this.write("\nendobj\n");
+    }
+
+    /**
+     * 写入引用
+     *
+     * @param number 对象编号
+     */
+    protected void writeReference(int number) throws IOException {
+        this.write(number + " 0 R");
+    }
+
+    /**
+     * 写入字符串
+     *
+     * @param text 字符串
+     */
+    protected void write(String text) throws IOException {
+        this.outputStream.write(text.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * 清理当前源文档状态
+     */
+    protected void clearSource() {
+        this.numbers.clear();
+        this.pages.clear();
+        this.pending.clear();
+        if (Objects.nonNull(this.deduplicator)) {
+            this.deduplicator.clearDigests();
+        }
+    }
+
+    /**
+     * 检查状态
+     */
+    protected void checkFinished() {
+        if (this.isFinished) {
+            throw new IllegalStateException("the streaming merge writer has been finished");
+        }
+    }
+
+    /**
+     * 计数输出流
+     */
+    protected static class CountingOutputStream extends BufferedOutputStream {
+
+        /**
+         * 已写入字节数
+         */
+        protected long count;
+
+        /**
+         * 有参构造
+         *
+         * @param outputStream 输出流
+         */
+        protected CountingOutputStream(OutputStream outputStream) {
+            super(outputStream, 65536);
+        }
+
+        /**
+         * 写入字节
+         *
+         * @param b 字节
+         */
+        @Override
+        public synchronized void write(int b) throws IOException {
+            super.write(b);
+            this.count++;
+        }
+
+        /**
+         * 写入字节数组
+         *
+         * @param b   字节数组
+         * @param off 偏移
+         * @param len 长度
+         */
+        @Override
+        public synchronized void write(byte[] b, int off, int len) throws IOException {
+            super.write(b, off, len);
+            this.count += len;
+        }
+
+        /**
+         * 获取已写入字节数
+         *
+         * @return 返回字节数
+         */
+        protected long getCount() {
+            return this.count;
+        }
+    }
+}
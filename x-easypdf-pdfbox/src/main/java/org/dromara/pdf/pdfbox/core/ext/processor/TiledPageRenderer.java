@@ -0,0 +1,266 @@
+package org.dromara.pdf.pdfbox.core.ext.processor;
+
+import lombok.SneakyThrows;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPage;
+import org.dromara.pdf.shade.org.apache.pdfbox.rendering.ImageType;
+import org.dromara.pdf.shade.org.apache.pdfbox.rendering.PDFRenderer;
+import org.dromara.pdf.shade.org.apache.pdfbox.rendering.RenderDestination;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * 分块页面渲染器
+ * <p>注：将页面图像按固定尺寸划分为图块（行优先顺序），每个图块单独渲染（平移变换后渲染页面，超出图块的内容由图像边界裁剪），内存占用仅与图块尺寸相关</p>
+ * <p>注：图块拼接后与整页渲染结果基本一致（java2d按裁剪区域裁剪路径后再描边，曲线边缘的抗锯齿可能存在细微差异；使用混合模式的页面在非透明颜色类型下可能存在细微差异）</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class TiledPageRenderer {
+
+    /**
+     * 页面索引
+     */
+    protected final int pageIndex;
+    /**
+     * 图像DPI
+     */
+    protected final float dpi;
+    /**
+     * 颜色类型
+     */
+    protected final ImageType colorType;
+    /**
+     * 图像宽度
+     */
+    protected final int imageWidth;
+    /**
+     * 图像高度
+     */
+    protected final int imageHeight;
+    /**
+     * 图块宽度
+     */
+    protected final int tileWidth;
+    /**
+     * 图块高度
+     */
+    protected final int tileHeight;
+    /**
+     * 图块列数
+     */
+    protected final int columns;
+    /**
+     * 图块行数
+     */
+    protected final int rows;
+
+    /**
+     * 有参构造
+     *
+     * @param page       pdfbox页面
+     * @param pageIndex  页面索引
+     * @param dpi        图像DPI
+     * @param colorType  颜色类型
+     * @param tileWidth  图块宽度
+     * @param tileHeight 图块高度
+     */
+    public TiledPageRenderer(PDPage page, int pageIndex, float dpi, ImageType colorType, int tileWidth, int tileHeight) {
+        Objects.requireNonNull(page, "the page can not be null");
+        Objects.requireNonNull(colorType, "the color type can not be null");
+        if (tileWidth < 1 || tileHeight < 1) {
+            throw new IllegalArgumentException("the tile size must be greater than 0");
+        }
+        int[] size = MergedImageWriter.getImageSize(page, dpi);
+        this.pageIndex = pageIndex;
+        this.dpi = dpi;
+        this.colorType = colorType;
+        this.imageWidth = size[0];
+        this.imageHeight = size[1];
+        this.tileWidth = tileWidth;
+        this.tileHeight = tileHeight;
+        this.columns = (this.imageWidth + tileWidth - 1) / tileWidth;
+        this.rows = (this.imageHeight + tileHeight - 1) / tileHeight;
+    }
+
+    /**
+     * 渲染全部图块（串行）
+     *
+     * @param renderer pdfbox渲染器
+     * @param handler  图块处理器
+     */
+    @SneakyThrows
+    public void render(PDFRenderer renderer, TileHandler handler) {
+        Objects.requireNonNull(renderer, "the renderer can not be null");
+        Objects.requireNonNull(handler, "the handler can not be null");
+        for (int i = 0, count = this.getTileCount(); i < count; i++) {
+            handler.handle(this.getTileX(i), this.getTileY(i), this.renderTile(renderer, i));
+        }
+    }
+
+    /**
+     * 渲染全部图块（并行）
+     * <p>注：按图块顺序调用处理器，处理器在调用线程中执行</p>
+     *
+     * @param renderer 并行页面渲染器
+     * @param handler  图块处理器
+     */
+    public void render(ParallelPageRenderer renderer, TileHandler handler) {
+        Objects.requireNonNull(renderer, "the renderer can not be null");
+        Objects.requireNonNull(handler, "the handler can not be null");
+        renderer.render(
+                this.getTileCount(),
+                this::renderTile,
+                (index, image) -> handler.handle(this.getTileX(index), this.getTileY(index), image)
+        );
+    }
+
+    /**
+     * 渲染图块
+     *
+     * @param renderer  pdfbox渲染器
+     * @param tileIndex 图块索引（行优先）
+     * @return 返回图块图像（边缘图块按图像边界裁剪）
+     */
+    public BufferedImage renderTile(PDFRenderer renderer, int tileIndex) throws IOException {
+        // 计算图块区域
+        int x = this.getTileX(tileIndex);
+        int y = this.getTileY(tileIndex);
+        int width = Math.min(this.tileWidth, this.imageWidth - x);
+        int height = Math.min(this.tileHeight, this.imageHeight - y);
+        // 创建图块图像
+        BufferedImage image = new BufferedImage(width, height, getBufferedImageType(this.colorType));
+        Graphics2D graphics = image.createGraphics();
+        try {
+            // 设置背景（与pdfbox整页渲染一致）
+            graphics.setBackground(this.colorType == ImageType.ARGB ? new Color(0, 0, 0, 0) : Color.WHITE);
+            graphics.clearRect(0, 0, width, height);
+            // 平移至图块区域并渲染页面
+            graphics.translate(-x, -y);
+            float scale = this.dpi / 72F;
+            RenderDestination destination = renderer.getDefaultDestination();
+            renderer.renderPageToGraphics(this.pageIndex, graphics, scale, scale, Objects.nonNull(destination) ? destination : RenderDestination.EXPORT);
+        } finally {
+            graphics.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * 获取图像类型（与pdfbox颜色类型对应）
+     *
+     * @param colorType 颜色类型
+     * @return 返回图像类型
+     */
+    protected static int getBufferedImageType(ImageType colorType) {
+        switch (colorType) {
+            case BINARY:
+                return BufferedImage.TYPE_BYTE_BINARY;
+            case GRAY:
+                return BufferedImage.TYPE_BYTE_GRAY;
+            case ARGB:
+                return BufferedImage.TYPE_INT_ARGB;
+            case BGR:
+                return BufferedImage.TYPE_3BYTE_BGR;
+            default:
+                return BufferedImage.TYPE_INT_RGB;
+        }
+    }
+
+    /**
+     * 获取图块数量
+     *
+     * @return 返回图块数量
+     */
+    public int getTileCount() {
+        return this.columns * this.rows;
+    }
+
+    /**
+     * 获取图块横坐标
+     *
+     * @param tileIndex 图块索引
+     * @return 返回横坐标（像素）
+     */
+    public int getTileX(int tileIndex) {
+        return (tileIndex % this.columns) * this.tileWidth;
+    }
+
+    /**
+     * 获取图块纵坐标
+     *
+     * @param tileIndex 图块索引
+     * @return 返回纵坐标（像素）
+     */
+    public int getTileY(int tileIndex) {
+        return (tileIndex / this.columns) * this.tileHeight;
+    }
+
+    /**
+     * 获取图像宽度
+     *
+     * @return 返回图像宽度
+     */
+    public int getImageWidth() {
+        return this.imageWidth;
+    }
+
+    /**
+     * 获取图像高度
+     *
+     * @return 返回图像高度
+     */
+    public int getImageHeight() {
+        return this.imageHeight;
+    }
+
+    /**
+     * 获取图块宽度
+     *
+     * @return 返回图块宽度
+     */
+    public int getTileWidth() {
+        return this.tileWidth;
+    }
+
+    /**
+     * 获取图块高度
+     *
+     * @return 返回图块高度
+     */
+    public int getTileHeight() {
+        return this.tileHeight;
+    }
+
+    /**
+     * 图块处理器
+     */
+    @FunctionalInterface
+    public interface TileHandler {
+
+        /**
+         * 处理
+         *
+         * @param x     图块横坐标（像素）
+         * @param y     图块纵坐标（像素）
+         * @param image 图块图像
+         * @throws IOException IO异常
+         */
+        void handle(int x, int y, BufferedImage image) throws IOException;
+    }
+}
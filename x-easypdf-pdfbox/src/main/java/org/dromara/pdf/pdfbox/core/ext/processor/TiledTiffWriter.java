@@ -0,0 +1,176 @@
+package org.dromara.pdf.pdfbox.core.ext.processor;
+
+import lombok.SneakyThrows;
+import org.dromara.pdf.pdfbox.support.TiffEncoder;
+import org.dromara.pdf.shade.org.apache.pdfbox.rendering.ImageType;
+
+import java.awt.image.BufferedImage;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 分块TIFF写入器（无压缩图块）
+ * <p>注：图块按行优先顺序逐个写入，头部由{@link TiffEncoder}写入，输出流无需随机访问，内存中仅保留一个图块</p>
+ * <p>注：边缘图块按完整图块尺寸写入，超出图像的部分为0值像素</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class TiledTiffWriter {
+
+    /**
+     * 输出流
+     */
+    protected final OutputStream outputStream;
+    /**
+     * 图像宽度
+     */
+    protected final int width;
+    /**
+     * 图像高度
+     */
+    protected final int height;
+    /**
+     * 图块宽度
+     */
+    protected final int tileWidth;
+    /**
+     * 图块高度
+     */
+    protected final int tileHeight;
+    /**
+     * 每像素样本数
+     */
+    protected final int bands;
+    /**
+     * 样本位数（8或1）
+     */
+    protected final int bitDepth;
+    /**
+     * 图块数量
+     */
+    protected final int tileCount;
+    /**
+     * 图块行字节数
+     */
+    protected final int tileRowBytes;
+    /**
+     * 图块数据
+     */
+    protected final byte[] tile;
+    /**
+     * 像素样本缓冲
+     */
+    protected int[] pixels;
+    /**
+     * 已写入图块数量
+     */
+    protected int written;
+
+    /**
+     * 有参构造
+     *
+     * @param outputStream 输出流
+     * @param colorType    颜色类型
+     * @param width        图像宽度
+     * @param height       图像高度
+     * @param tileWidth    图块宽度（16的倍数）
+     * @param tileHeight   图块高度（16的倍数）
+     * @param dpi          图像DPI
+     */
+    @SneakyThrows
+    public TiledTiffWriter(OutputStream outputStream, ImageType colorType, int width, int height, int tileWidth, int tileHeight, float dpi) {
+        Objects.requireNonNull(outputStream, "the output stream can not be null");
+        Objects.requireNonNull(colorType, "the color type can not be null");
+        if (tileWidth < 16 || tileHeight < 16 || tileWidth % 16 != 0 || tileHeight % 16 != 0) {
+            throw new IllegalArgumentException("the tile size must be a multiple of 16");
+        }
+        this.outputStream = outputStream;
+        this.width = width;
+        this.height = height;
+        this.tileWidth = tileWidth;
+        this.tileHeight = tileHeight;
+        switch (colorType) {
+            case ARGB:
+                this.bands = 4;
+                this.bitDepth = 8;
+                break;
+            case GRAY:
+                this.bands = 1;
+                this.bitDepth = 8;
+                break;
+            case BINARY:
+                this.bands = 1;
+                this.bitDepth = 1;
+                break;
+            default:
+                this.bands = 3;
+                this.bitDepth = 8;
+        }
+        this.tileCount = ((width + tileWidth - 1) / tileWidth) * ((height + tileHeight - 1) / tileHeight);
+        this.tileRowBytes = TiffEncoder.getRowBytes(tileWidth, this.bands, this.bitDepth);
+        this.tile = new byte[this.tileRowBytes * tileHeight];
+        TiffEncoder.writeTileHeader(outputStream, width, height, this.bands, this.bitDepth, tileWidth, tileHeight, dpi);
+    }
+
+    /**
+     * 写入图块（按行优先顺序）
+     *
+     * @param image 图块图像（不超过图块尺寸）
+     */
+    @SneakyThrows
+    public void write(BufferedImage image) {
+        Objects.requireNonNull(image, "the image can not be null");
+        if (this.written >= this.tileCount) {
+            throw new IllegalStateException("all tiles have been written");
+        }
+        Arrays.fill(this.tile, (byte) 0);
+        int width = Math.min(image.getWidth(), this.tileWidth);
+        int height = Math.min(image.getHeight(), this.tileHeight);
+        int length = width * this.bands;
+        if (Objects.isNull(this.pixels) || this.pixels.length < length) {
+            this.pixels = new int[length];
+        }
+        for (int y = 0; y < height; y++) {
+            image.getRaster().getPixels(0, y, width, 1, this.pixels);
+            int offset = y * this.tileRowBytes;
+            if (this.bitDepth == 1) {
+                for (int i = 0; i < width; i++) {
+                    if (this.pixels[i] != 0) {
+                        this.tile[offset + (i >> 3)] |= (byte) (0x80 >>> (i & 7));
+                    }
+                }
+            } else {
+                for (int i = 0; i < length; i++) {
+                    this.tile[offset + i] = (byte) this.pixels[i];
+                }
+            }
+        }
+        this.outputStream.write(this.tile);
+        this.written++;
+    }
+
+    /**
+     * 结束写入
+     */
+    @SneakyThrows
+    public void finish() {
+        if (this.written != this.tileCount) {
+            throw new IllegalStateException("the tile count is not matched, expected " + this.tileCount + " but " + this.written);
+        }
+        this.outputStream.flush();
+    }
+}
@@ -6,6 +6,8 @@ import org.apache.commons.logging.LogFactory;
 import org.dromara.pdf.pdfbox.core.base.Document;
 import org.dromara.pdf.pdfbox.core.enums.FontType;
 import org.dromara.pdf.pdfbox.support.Constants;
+import org.dromara.pdf.pdfbox.support.LruCache;
+import org.dromara.pdf.pdfbox.support.PreparedFont;
 import org.dromara.pdf.shade.org.apache.fontbox.ttf.TrueTypeFont;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDDocument;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.font.*;
@@ -34,6 +36,10 @@ import java.util.*;
  */
 public class FontHandler {
 
+    /**
+     * 默认预处理字体缓存最大容量
+     */
+    public static final int DEFAULT_MAX_PREPARED_FONTS = 8;
     /**
      * 日志
      */
@@ -42,6 +48,10 @@ public class FontHandler {
      * 助手实例
      */
     private static final FontHandler INSTANCE = new FontHandler();
+    /**
+     * 预处理字体缓存（进程级，按最近最少使用淘汰）
+     */
+    private volatile LruCache<String, PreparedFont> preparedFonts = new LruCache<>(DEFAULT_MAX_PREPARED_FONTS);
 
     /**
      * 无参构造
@@ -126,16 +136,71 @@ public class FontHandler {
      */
     @SneakyThrows
     public PDFont getPDFont(PDDocument document, String fontName, boolean embedSubset) {
-        FontInfo fontInfo = FontMappers.getInstance().getFontInfoByName().get(fontName);
-        if (Objects.nonNull(fontInfo)) {
-            if (fontInfo.getFormat() == FontFormat.OTF) {
-                embedSubset = false;
-            }
-            return PDType0Font.load(document, (TrueTypeFont) fontInfo.getFont(), embedSubset);
-        } else {
+        PreparedFont preparedFont = this.getPreparedFont(fontName);
+        if (Objects.isNull(preparedFont)) {
             log.warn("Not found the font['" + fontName + "'], use default font");
-            return PDType0Font.load(document, this.getDefaultFont(), embedSubset);
+            preparedFont = this.getPreparedFont(Constants.DEFAULT_FONT_NAME);
         }
+        return PDType0Font.load(document, preparedFont.getFont(), embedSubset && preparedFont.isSubsetSupported());
+    }
+
+    /**
+     * 获取预处理字体
+     * <p>注：进程级缓存，首次获取时解析字体并预先解析字体表，后续各文档共享；超过最大容量时淘汰最近最少使用的字体</p>
+     *
+     * @param fontName 字体名称
+     * @return 返回预处理字体，字体不存在时返回null
+     */
+    public PreparedFont getPreparedFont(String fontName) {
+        Objects.requireNonNull(fontName, "the font name can not be null");
+        return this.preparedFonts.computeIfAbsent(
+                fontName,
+                k -> {
+                    FontInfo fontInfo = FontMappers.getInstance().getFontInfoByName().get(k);
+                    if (Objects.isNull(fontInfo)) {
+                        return null;
+                    }
+                    return PreparedFont.of(k, (TrueTypeFont) fontInfo.getFont(), fontInfo.getFormat() != FontFormat.OTF);
+                }
+        );
+    }
+
+    /**
+     * 设置预处理字体缓存最大容量
+     * <p>注：重建缓存，已缓存的预处理字体将被释放（已加载的文档字体不受影响）</p>
+     *
+     * @param maxSize 最大容量（0为不缓存）
+     */
+    public void setMaxPreparedFonts(int maxSize) {
+        this.preparedFonts = new LruCache<>(maxSize);
+    }
+
+    /**
+     * 获取预处理字体缓存
+     *
+     * @return 返回预处理字体缓存
+     */
+    public LruCache<String, PreparedFont> getPreparedFonts() {
+        return this.preparedFonts;
+    }
+
+    /**
+     * 移除预处理字体
+     * <p>注：释放已解析的字体，下次获取时重新解析</p>
+     *
+     * @param fontName 字体名称
+     * @return 返回移除的预处理字体，不存在时返回null
+     */
+    public PreparedFont removePreparedFont(String fontName) {
+        Objects.requireNonNull(fontName, "the font name can not be null");
+        return this.preparedFonts.remove(fontName);
+    }
+
+    /**
+     * 清理预处理字体缓存
+     */
+    public void clearPreparedFonts() {
+        this.preparedFonts.clear();
     }
 
     /**
@@ -155,8 +220,7 @@ public class FontHandler {
      * @return 返回字体
      */
     public TrueTypeFont getDefaultFont() {
-        FontInfo fontInfo = FontMappers.getInstance().getFontInfoByName().get(Constants.DEFAULT_FONT_NAME);
-        return (TrueTypeFont) fontInfo.getFont();
+        return this.getPreparedFont(Constants.DEFAULT_FONT_NAME).getFont();
     }
 
     /**
@@ -169,6 +233,7 @@ public class FontHandler {
     public void addFont(File file, String alias) {
         if (Objects.nonNull(file)) {
             FontMappers.getInstance().getProvider().addFont(file, alias);
+            this.preparedFonts.remove(alias);
             if (log.isDebugEnabled()) {
                 log.debug("Added font ['" + alias + "']");
             }
@@ -184,6 +249,7 @@ public class FontHandler {
     public void addFont(File... files) {
         if (Objects.nonNull(files)) {
             Arrays.stream(files).forEach(file -> FontMappers.getInstance().getProvider().addFont(file));
+            this.preparedFonts.clear();
         }
     }
 
@@ -196,6 +262,7 @@ public class FontHandler {
     public void addFont(Collection<File> files) {
         if (Objects.nonNull(files)) {
             files.forEach(file -> FontMappers.getInstance().getProvider().addFont(file));
+            this.preparedFonts.clear();
         }
     }
 
@@ -209,6 +276,7 @@ public class FontHandler {
      */
     public void addFont(InputStream inputStream, String alias, FontType type) {
         FontMappers.getInstance().getProvider().addFont(inputStream, alias, type.name().toLowerCase());
+        this.preparedFonts.remove(alias);
     }
 
     /**
@@ -0,0 +1,239 @@
+package org.dromara.pdf.pdfbox.support;
+
+import com.google.zxing.common.BitMatrix;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 条形码位矩阵缓存（进程级）
+ * <p>注：以完整编码配置（类型、内容、编码提示、图像尺寸）为键缓存编码结果，缓存的位矩阵被共享，不可修改</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class BarcodeMatrixCache {
+
+    /**
+     * 默认最大容量
+     */
+    public static final int DEFAULT_MAX_SIZE = 256;
+    /**
+     * 全局缓存
+     */
+    protected static volatile BarcodeMatrixCache globalCache;
+
+    /**
+     * 缓存
+     */
+    protected final LruCache<String, BitMatrix> cache;
+
+    /**
+     * 无参构造
+     */
+    public BarcodeMatrixCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * 有参构造
+     *
+     * @param maxSize 最大容量（0为不缓存）
+     */
+    public BarcodeMatrixCache(int maxSize) {
+        this.cache = new LruCache<>(maxSize);
+    }
+
+    /**
+     * 获取全局缓存
+     *
+     * @return 返回全局缓存
+     */
+    public static BarcodeMatrixCache getGlobalCache() {
+        if (Objects.isNull(globalCache)) {
+            synchronized (BarcodeMatrixCache.class) {
+                if (Objects.isNull(globalCache)) {
+                    globalCache = new BarcodeMatrixCache();
+                }
+            }
+        }
+        return globalCache;
+    }
+
+    /**
+     * 设置全局缓存
+     * <p>注：可替换为不同容量的缓存，容量为0时关闭全局缓存</p>
+     *
+     * @param cache 缓存
+     */
+    public static void setGlobalCache(BarcodeMatrixCache cache) {
+        Objects.requireNonNull(cache, "the cache can not be null");
+        synchronized (BarcodeMatrixCache.class) {
+            globalCache = cache;
+        }
+    }
+
+    /**
+     * 创建缓存键
+     * <p>注：各部分以长度前缀编码，不同配置不会产生相同的键；映射按键排序，颜色包含透明度</p>
+     *
+     * @param parts 配置项
+     * @return 返回缓存键
+     */
+    public static String createKey(Object... parts) {
+        StringBuilder builder = new StringBuilder(128);
+        for (Object part : parts) {
+            appendPart(builder, part);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 获取位矩阵
+     * <p>注：未命中时编码并缓存，并发未命中时可能重复编码</p>
+     *
+     * @param key     缓存键
+     * @param encoder 编码函数
+     * @return 返回位矩阵（不可修改）
+     */
+    public BitMatrix getMatrix(String key, Supplier<BitMatrix> encoder) {
+        Objects.requireNonNull(key, "the key can not be null");
+        Objects.requireNonNull(encoder, "the encoder can not be null");
+        return this.cache.computeIfAbsent(key, k -> encoder.get());
+    }
+
+    /**
+     * 清理缓存
+     */
+    public void clear() {
+        this.cache.clear();
+    }
+
+    /**
+     * 获取缓存数量
+     *
+     * @return 返回缓存数量
+     */
+    public int size() {
+        return this.cache.size();
+    }
+
+    /**
+     * 获取最大容量
+     *
+     * @return 返回最大容量
+     */
+    public int getMaxSize() {
+        return this.cache.getMaxSize();
+    }
+
+    /**
+     * 获取命中次数
+     *
+     * @return 返回命中次数
+     */
+    public long getHitCount() {
+        return this.cache.getHitCount();
+    }
+
+    /**
+     * 获取未命中次数
+     *
+     * @return 返回未命中次数
+     */
+    public long getMissCount() {
+        return this.cache.getMissCount();
+    }
+
+    /**
+     * 获取淘汰次数
+     *
+     * @return 返回淘汰次数
+     */
+    public long getEvictionCount() {
+        return this.cache.getEvictionCount();
+    }
+
+    /**
+     * 获取命中率
+     *
+     * @return 返回命中率（0~1）
+     */
+    public double getHitRate() {
+        return this.cache.getHitRate();
+    }
+
+    /**
+     * 重置统计
+     */
+    public void resetStats() {
+        this.cache.resetStats();
+    }
+
+    /**
+     * 字符串
+     *
+     * @return 返回字符串
+     */
+    @Override
+    public String toString() {
+        return "BarcodeMatrixCache{" +
+                "size=" + this.size() +
+                ", maxSize=" + this.getMaxSize() +
+                ", hitCount=" + this.getHitCount() +
+                ", missCount=" + this.getMissCount() +
+                ", hitRate=" + this.getHitRate() +
+                '}';
+    }
+
+    /**
+     * 添加配置项
+     *
+     * @param builder 构建器
+     * @param part    配置项
+     */
+    protected static void appendPart(StringBuilder builder, Object part) {
+        // 映射（按键排序）
+        if (part instanceof Map) {
+            List<String> entries = new ArrayList<>(((Map<?, ?>) part).size());
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) part).entrySet()) {
+                entries.add(createKey(entry.getKey(), entry.getValue()));
+            }
+            entries.sort(null);
+            appendValue(builder, 'M', createKey(entries.toArray()));
+        } else if (part instanceof Color) {
+            appendValue(builder, 'C', Integer.toHexString(((Color) part).getRGB()));
+        } else if (Objects.isNull(part)) {
+            builder.append('N');
+        } else {
+            appendValue(builder, 'V', part.getClass().getName() + '=' + part);
+        }
+    }
+
+    /**
+     * 添加值
+     *
+     * @param builder 构建器
+     * @param type    类型标识
+     * @param value   值
+     */
+    protected static void appendValue(StringBuilder builder, char type, String value) {
+        builder.append(type).append(value.length()).append(':').append(value);
+    }
+}
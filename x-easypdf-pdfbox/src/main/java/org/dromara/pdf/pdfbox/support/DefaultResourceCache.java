@@ -10,8 +10,12 @@ import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.graphics.pattern.PDAbstra
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.graphics.shading.PDShading;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.graphics.state.PDExtendedGraphicsState;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * 资源缓存
+ * <p>注：按类型分别维护有界LRU缓存，字体与XObject单独设置容量，其余资源共用同一容量</p>
  *
  * @author xsx
  * @date 2024/1/22
@@ -30,73 +34,262 @@ import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.graphics.state.PDExtended
  */
 public class DefaultResourceCache implements ResourceCache {
 
+    /**
+     * 默认字体缓存容量
+     */
+    public static final int DEFAULT_FONT_SIZE = 64;
+    /**
+     * 默认XObject缓存容量
+     */
+    public static final int DEFAULT_XOBJECT_SIZE = 32;
+    /**
+     * 默认其他资源缓存容量
+     */
+    public static final int DEFAULT_OTHER_SIZE = 128;
+
+    /**
+     * 字体缓存
+     */
+    protected final LruCache<COSObject, PDFont> fonts;
+    /**
+     * 颜色空间缓存
+     */
+    protected final LruCache<COSObject, PDColorSpace> colorSpaces;
+    /**
+     * 扩展图形状态缓存
+     */
+    protected final LruCache<COSObject, PDExtendedGraphicsState> extGStates;
+    /**
+     * 渐变缓存
+     */
+    protected final LruCache<COSObject, PDShading> shadings;
+    /**
+     * 图案缓存
+     */
+    protected final LruCache<COSObject, PDAbstractPattern> patterns;
+    /**
+     * 属性列表缓存
+     */
+    protected final LruCache<COSObject, PDPropertyList> properties;
+    /**
+     * XObject缓存
+     */
+    protected final LruCache<COSObject, PDXObject> xObjects;
+
+    /**
+     * 无参构造
+     */
+    public DefaultResourceCache() {
+        this(DEFAULT_FONT_SIZE, DEFAULT_XOBJECT_SIZE, DEFAULT_OTHER_SIZE);
+    }
+
+    /**
+     * 有参构造
+     *
+     * @param fontSize    字体缓存容量
+     * @param xObjectSize XObject缓存容量
+     * @param otherSize   其他资源（颜色空间、扩展图形状态、渐变、图案、属性列表）缓存容量
+     */
+    public DefaultResourceCache(int fontSize, int xObjectSize, int otherSize) {
+        this.fonts = new LruCache<>(fontSize);
+        this.xObjects = new LruCache<>(xObjectSize);
+        this.colorSpaces = new LruCache<>(otherSize);
+        this.extGStates = new LruCache<>(otherSize);
+        this.shadings = new LruCache<>(otherSize);
+        this.patterns = new LruCache<>(otherSize);
+        this.properties = new LruCache<>(otherSize);
+    }
+
     @Override
     public PDFont getFont(COSObject indirect) {
-        return null;
+        return this.fonts.get(indirect);
     }
 
     @Override
     public PDColorSpace getColorSpace(COSObject indirect) {
-        return null;
+        return this.colorSpaces.get(indirect);
     }
 
     @Override
     public PDExtendedGraphicsState getExtGState(COSObject indirect) {
-        return null;
+        return this.extGStates.get(indirect);
     }
 
     @Override
     public PDShading getShading(COSObject indirect) {
-        return null;
+        return this.shadings.get(indirect);
     }
 
     @Override
     public PDAbstractPattern getPattern(COSObject indirect) {
-        return null;
+        return this.patterns.get(indirect);
     }
 
     @Override
     public PDPropertyList getProperties(COSObject indirect) {
-        return null;
+        return this.properties.get(indirect);
     }
 
     @Override
     public PDXObject getXObject(COSObject indirect) {
-        return null;
+        return this.xObjects.get(indirect);
     }
 
     @Override
     public void put(COSObject indirect, PDFont font) {
-
+        this.fonts.put(indirect, font);
     }
 
     @Override
     public void put(COSObject indirect, PDColorSpace colorSpace) {
-
+        this.colorSpaces.put(indirect, colorSpace);
     }
 
     @Override
     public void put(COSObject indirect, PDExtendedGraphicsState extGState) {
-
+        this.extGStates.put(indirect, extGState);
     }
 
     @Override
     public void put(COSObject indirect, PDShading shading) {
-
+        this.shadings.put(indirect, shading);
     }
 
     @Override
     public void put(COSObject indirect, PDAbstractPattern pattern) {
-
+        this.patterns.put(indirect, pattern);
     }
 
     @Override
     public void put(COSObject indirect, PDPropertyList propertyList) {
-
+        this.properties.put(indirect, propertyList);
     }
 
     @Override
     public void put(COSObject indirect, PDXObject xobject) {
+        this.xObjects.put(indirect, xobject);
+    }
+
+    @Override
+    public PDFont removeFont(COSObject indirect) {
+        return this.fonts.remove(indirect);
+    }
+
+    @Override
+    public PDColorSpace removeColorSpace(COSObject indirect) {
+        return this.colorSpaces.remove(indirect);
+    }
+
+    @Override
+    public PDExtendedGraphicsState removeExtState(COSObject indirect) {
+        return this.extGStates.remove(indirect);
+    }
+
+    @Override
+    public PDShading removeShading(COSObject indirect) {
+        return this.shadings.remove(indirect);
+    }
+
+    @Override
+    public PDAbstractPattern removePattern(COSObject indirect) {
+        return this.patterns.remove(indirect);
+    }
+
+    @Override
+    public PDPropertyList removeProperties(COSObject indirect) {
+        return this.properties.remove(indirect);
+    }
 
+    @Override
+    public PDXObject removeXObject(COSObject indirect) {
+        return this.xObjects.remove(indirect);
+    }
+
+    /**
+     * 获取字体缓存
+     *
+     * @return 返回字体缓存
+     */
+    public LruCache<COSObject, PDFont> getFontCache() {
+        return this.fonts;
+    }
+
+    /**
+     * 获取XObject缓存
+     *
+     * @return 返回XObject缓存
+     */
+    public LruCache<COSObject, PDXObject> getXObjectCache() {
+        return this.xObjects;
+    }
+
+    /**
+     * 获取命中次数（全部资源）
+     *
+     * @return 返回命中次数
+     */
+    public long getHitCount() {
+        long count = 0L;
+        for (LruCache<COSObject, ?> cache : this.getCaches()) {
+            count += cache.getHitCount();
+        }
+        return count;
+    }
+
+    /**
+     * 获取未命中次数（全部资源）
+     *
+     * @return 返回未命中次数
+     */
+    public long getMissCount() {
+        long count = 0L;
+        for (LruCache<COSObject, ?> cache : this.getCaches()) {
+            count += cache.getMissCount();
+        }
+        return count;
+    }
+
+    /**
+     * 获取命中率（全部资源）
+     *
+     * @return 返回命中率（0~1）
+     */
+    public double getHitRate() {
+        long hit = this.getHitCount();
+        long total = hit + this.getMissCount();
+        return total == 0 ? 0D : (double) hit / total;
+    }
+
+    /**
+     * 清理缓存
+     */
+    public void clear() {
+        for (LruCache<COSObject, ?> cache : this.getCaches()) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * 获取全部缓存
+     *
+     * @return 返回缓存列表
+     */
+    protected List<LruCache<COSObject, ?>> getCaches() {
+        return Arrays.asList(this.fonts, this.colorSpaces, this.extGStates, this.shadings, this.patterns, this.properties, this.xObjects);
+    }
+
+    /**
+     * 字符串
+     *
+     * @return 返回字符串
+     */
+    @Override
+    public String toString() {
+        return "DefaultResourceCache{" +
+                "fonts=" + this.fonts +
+                ", xObjects=" + this.xObjects +
+                ", hitCount=" + this.getHitCount() +
+                ", missCount=" + this.getMissCount() +
+                '}';
     }
 }
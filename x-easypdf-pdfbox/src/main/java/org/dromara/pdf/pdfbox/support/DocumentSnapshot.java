@@ -0,0 +1,290 @@
+package org.dromara.pdf.pdfbox.support;
+
+import lombok.SneakyThrows;
+import org.dromara.pdf.pdfbox.core.base.Document;
+import org.dromara.pdf.pdfbox.handler.PdfHandler;
+import org.dromara.pdf.shade.org.apache.pdfbox.contentstream.PDContentStream;
+import org.dromara.pdf.shade.org.apache.pdfbox.contentstream.operator.Operator;
+import org.dromara.pdf.shade.org.apache.pdfbox.cos.*;
+import org.dromara.pdf.shade.org.apache.pdfbox.multipdf.PDFCloneUtility;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdfparser.PDFStreamParser;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdfwriter.compress.CompressParameters;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDDocument;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPage;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.font.PDFont;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.font.PDType0Font;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.graphics.form.PDFormXObject;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotation;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.interactive.annotation.PDAppearanceDictionary;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.interactive.annotation.PDAppearanceEntry;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.interactive.annotation.PDAppearanceStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * 文档快照
+ * <p>注：深度复制文档对象（流复制原始字节）到新文档，不序列化原文档，不执行保存流程（字体子集化、元数据刷新、流压缩等），不修改原文档</p>
+ * <p>注：原文档中待子集化的字体（尚未嵌入字体文件）在副本中按页面内容（含表单与注释外观）使用的字形重新加载并子集化</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class DocumentSnapshot {
+
+    /**
+     * 获取快照字节数组
+     * <p>注：pdfbox新建文档仅能序列化一次，故序列化副本而非原文档，原文档后续仍可正常保存</p>
+     * <p>注：待子集化的字体在快照中缺少字体文件，需要完整字体时使用{@link #load(Document)}</p>
+     *
+     * @param document pdfbox文档
+     * @return 返回字节数组
+     */
+    @SneakyThrows
+    public static byte[] getBytes(PDDocument document) {
+        Objects.requireNonNull(document, "the document can not be null");
+        try (
+                PDDocument snapshot = new PDDocument();
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream(8192)
+        ) {
+            copy(document, snapshot);
+            snapshot.save(outputStream, CompressParameters.DEFAULT_COMPRESSION);
+            return outputStream.toByteArray();
+        }
+    }
+
+    /**
+     * 加载快照
+     * <p>注：刷新内容流后复制文档，待子集化字体仅在副本中子集化，使用完毕后需关闭副本</p>
+     *
+     * @param document 文档
+     * @return 返回文档副本
+     */
+    @SneakyThrows
+    public static PDDocument load(Document document) {
+        Objects.requireNonNull(document, "the document can not be null");
+        // 刷新内容流
+        document.getContext().flushContentStreams();
+        PDDocument snapshot = new PDDocument();
+        try {
+            // 复制文档
+            PDFCloneUtility cloner = copy(document.getTarget(), snapshot);
+            // 定位副本中的待子集化字体字典（已复制对象返回同一副本）
+            Map<COSDictionary, String> targets = new IdentityHashMap<>(16);
+            for (Map.Entry<String, PDFont> entry : document.getContext().getPendingSubsetFonts().entrySet()) {
+                targets.put(cloner.cloneForNewDocument(entry.getValue().getCOSObject()), entry.getKey());
+            }
+            // 子集化字体
+            if (!targets.isEmpty()) {
+                subsetFonts(snapshot, targets);
+            }
+            return snapshot;
+        } catch (Exception e) {
+            snapshot.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 复制文档
+     *
+     * @param source 源文档
+     * @param target 目标文档（新文档）
+     * @return 返回复制工具（保留已复制对象）
+     * @throws IOException IO异常
+     */
+    protected static PDFCloneUtility copy(PDDocument source, PDDocument target) throws IOException {
+        PDFCloneUtility cloner = new PDFCloneUtility(target) {
+        };
+        COSDictionary sourceTrailer = source.getDocument().getTrailer();
+        COSDictionary targetTrailer = target.getDocument().getTrailer();
+        targetTrailer.setItem(COSName.ROOT, cloner.cloneForNewDocument(sourceTrailer.getCOSDictionary(COSName.ROOT)));
+        COSDictionary info = sourceTrailer.getCOSDictionary(COSName.INFO);
+        if (Objects.nonNull(info)) {
+            targetTrailer.setItem(COSName.INFO, cloner.cloneForNewDocument(info));
+        }
+        target.setVersion(source.getVersion());
+        return cloner;
+    }
+
+    /**
+     * 子集化字体（副本）
+     * <p>注：按原字体名称在副本中重新加载字体，添加页面内容使用的字形（CID即原字体字形编号）并子集化，再替换副本中原字体字典的内容（保留引用）</p>
+     *
+     * @param snapshot 文档副本
+     * @param targets  待子集化字体（副本字体字典：字体名称）
+     * @throws IOException IO异常
+     */
+    protected static void subsetFonts(PDDocument snapshot, Map<COSDictionary, String> targets) throws IOException {
+        // 收集字形
+        Map<COSDictionary, Set<Integer>> glyphs = new IdentityHashMap<>(targets.size());
+        for (COSDictionary dictionary : targets.keySet()) {
+            glyphs.put(dictionary, new HashSet<>(256));
+        }
+        Set<COSBase> visited = Collections.newSetFromMap(new IdentityHashMap<>(16));
+        for (PDPage page : snapshot.getPages()) {
+            collect(page, page.getResources().getCOSObject(), glyphs, visited);
+            for (PDAnnotation annotation : page.getAnnotations()) {
+                PDAppearanceDictionary appearance = annotation.getAppearance();
+                if (Objects.nonNull(appearance)) {
+                    collect(appearance.getNormalAppearance(), glyphs, visited);
+                    collect(appearance.getRolloverAppearance(), glyphs, visited);
+                    collect(appearance.getDownAppearance(), glyphs, visited);
+                }
+            }
+        }
+        // 子集化并替换字体字典内容
+        for (Map.Entry<COSDictionary, String> entry : targets.entrySet()) {
+            PDType0Font font = (PDType0Font) PdfHandler.getFontHandler().getPDFont(snapshot, entry.getValue(), true);
+            if (font.willBeSubset()) {
+                font.addGlyphsToSubset(glyphs.get(entry.getKey()));
+                font.subset();
+            }
+            COSDictionary dictionary = entry.getKey();
+            dictionary.clear();
+            dictionary.addAll(font.getCOSObject());
+        }
+    }
+
+    /**
+     * 收集字形（外观）
+     *
+     * @param entry   外观
+     * @param glyphs  字形（字体字典：字形编号）
+     * @param visited 已访问对象
+     * @throws IOException IO异常
+     */
+    protected static void collect(PDAppearanceEntry entry, Map<COSDictionary, Set<Integer>> glyphs, Set<COSBase> visited) throws IOException {
+        if (Objects.isNull(entry)) {
+            return;
+        }
+        if (entry.isStream()) {
+            collect(entry.getAppearanceStream(), glyphs, visited);
+        } else if (entry.isSubDictionary()) {
+            for (PDAppearanceStream stream : entry.getSubDictionary().values()) {
+                collect(stream, glyphs, visited);
+            }
+        }
+    }
+
+    /**
+     * 收集字形（表单）
+     *
+     * @param form    表单
+     * @param glyphs  字形（字体字典：字形编号）
+     * @param visited 已访问对象
+     * @throws IOException IO异常
+     */
+    protected static void collect(PDFormXObject form, Map<COSDictionary, Set<Integer>> glyphs, Set<COSBase> visited) throws IOException {
+        if (Objects.nonNull(form) && visited.add(form.getCOSObject())) {
+            collect(form, form.getCOSObject().getCOSDictionary(COSName.RESOURCES), glyphs, visited);
+        }
+    }
+
+    /**
+     * 收集字形（内容流）
+     * <p>注：跟踪字体（含图形状态保存与恢复），记录目标字体显示文本的双字节编码，递归处理引用的表单</p>
+     *
+     * @param stream    内容流
+     * @param resources 资源字典
+     * @param glyphs    字形（字体字典：字形编号）
+     * @param visited   已访问对象
+     * @throws IOException IO异常
+     */
+    protected static void collect(PDContentStream stream, COSDictionary resources, Map<COSDictionary, Set<Integer>> glyphs, Set<COSBase> visited) throws IOException {
+        PDFStreamParser parser = new PDFStreamParser(stream);
+        List<COSBase> operands = new ArrayList<>(8);
+        List<Set<Integer>> states = new ArrayList<>(8);
+        Set<Integer> current = null;
+        Object token;
+        while (Objects.nonNull(token = parser.parseNextToken())) {
+            if (token instanceof COSBase) {
+                operands.add((COSBase) token);
+                continue;
+            }
+            if (!(token instanceof Operator)) {
+                continue;
+            }
+            switch (((Operator) token).getName()) {
+                case "q":
+                    states.add(current);
+                    break;
+                case "Q":
+                    if (!states.isEmpty()) {
+                        current = states.remove(states.size() - 1);
+                    }
+                    break;
+                case "Tf":
+                    COSBase font = getResource(resources, COSName.FONT, operands.isEmpty() ? null : operands.get(0));
+                    current = font instanceof COSDictionary ? glyphs.get(font) : null;
+                    break;
+                case "Tj":
+                case "'":
+                case "\"":
+                case "TJ":
+                    if (Objects.nonNull(current) && !operands.isEmpty()) {
+                        addCodes(current, operands.get(operands.size() - 1));
+                    }
+                    break;
+                case "Do":
+                    COSBase xObject = getResource(resources, COSName.XOBJECT, operands.isEmpty() ? null : operands.get(0));
+                    if (xObject instanceof COSStream && COSName.FORM.equals(((COSStream) xObject).getCOSName(COSName.SUBTYPE)) && visited.add(xObject)) {
+                        COSDictionary formResources = ((COSStream) xObject).getCOSDictionary(COSName.RESOURCES);
+                        collect(new PDFormXObject((COSStream) xObject), Objects.nonNull(formResources) ? formResources : resources, glyphs, visited);
+                    }
+                    break;
+                default:
+                    break;
+            }
+            operands.clear();
+        }
+    }
+
+    /**
+     * 获取资源
+     *
+     * @param resources 资源字典
+     * @param type      资源类型
+     * @param name      资源名称
+     * @return 返回资源，不存在时返回null
+     */
+    protected static COSBase getResource(COSDictionary resources, COSName type, COSBase name) {
+        if (Objects.isNull(resources) || !(name instanceof COSName)) {
+            return null;
+        }
+        COSDictionary dictionary = resources.getCOSDictionary(type);
+        return Objects.nonNull(dictionary) ? dictionary.getDictionaryObject((COSName) name) : null;
+    }
+
+    /**
+     * 添加编码（双字节）
+     *
+     * @param codes   编码集合
+     * @param operand 文本或文本数组
+     */
+    protected static void addCodes(Set<Integer> codes, COSBase operand) {
+        if (operand instanceof COSString) {
+            byte[] bytes = ((COSString) operand).getBytes();
+            for (int i = 0; i + 1 < bytes.length; i = i + 2) {
+                codes.add(((bytes[i] & 0xFF) << 8) | (bytes[i + 1] & 0xFF));
+            }
+        } else if (operand instanceof COSArray) {
+            for (COSBase item : (COSArray) operand) {
+                addCodes(codes, item);
+            }
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package org.dromara.pdf.pdfbox.support;
+
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.font.PDFont;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 字形宽度表
+ * <p>注：按字体名称全局共享（不持有字体对象），以字符为索引延迟填充宽度（千分之一单位），同时记录字形覆盖情况，缺失字形仅解析一次</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class GlyphWidthTable {
+
+    /**
+     * 缺失字形宽度
+     */
+    public static final float MISSING = -1F;
+    /**
+     * 未解析宽度
+     */
+    protected static final float UNRESOLVED = Float.NaN;
+    /**
+     * 分页位数
+     */
+    protected static final int PAGE_BITS = 8;
+    /**
+     * 分页大小
+     */
+    protected static final int PAGE_SIZE = 1 << PAGE_BITS;
+    /**
+     * 分页掩码
+     */
+    protected static final int PAGE_MASK = PAGE_SIZE - 1;
+    /**
+     * 全局缓存
+     */
+    protected static final Map<String, GlyphWidthTable> CACHE = new ConcurrentHashMap<>(16);
+
+    /**
+     * 宽度分页（高8位为页码，低8位为页内索引）
+     */
+    protected final AtomicReferenceArray<float[]> pages = new AtomicReferenceArray<>(Character.MAX_VALUE / PAGE_SIZE + 1);
+
+    /**
+     * 无参构造
+     */
+    protected GlyphWidthTable() {
+
+    }
+
+    /**
+     * 获取宽度表
+     *
+     * @param font 字体
+     * @return 返回宽度表
+     */
+    public static GlyphWidthTable getInstance(PDFont font) {
+        Objects.requireNonNull(font, "the font can not be null");
+        String name = font.getName();
+        if (Objects.isNull(name)) {
+            return new GlyphWidthTable();
+        }
+        return CACHE.computeIfAbsent(name, k -> new GlyphWidthTable());
+    }
+
+    /**
+     * 清理全局缓存
+     */
+    public static void clear() {
+        CACHE.clear();
+    }
+
+    /**
+     * 获取字符宽度
+     *
+     * @param font      字体（与宽度表同名）
+     * @param character 字符
+     * @return 返回字符宽度（千分之一单位），字形缺失时返回{@link #MISSING}
+     */
+    public float getWidth(PDFont font, char character) {
+        float[] page = this.getPage(character);
+        int index = character & PAGE_MASK;
+        float width = page[index];
+        if (Float.isNaN(width)) {
+            width = this.resolve(font, character);
+            page[index] = width;
+        }
+        return width;
+    }
+
+    /**
+     * 是否包含字形
+     *
+     * @param font      字体（与宽度表同名）
+     * @param character 字符
+     * @return 返回布尔值，true为是，false为否
+     */
+    public boolean hasGlyph(PDFont font, char character) {
+        return this.getWidth(font, character) >= 0F;
+    }
+
+    /**
+     * 获取字符宽度
+     *
+     * @param font      字体
+     * @param character 字符
+     * @return 返回字符宽度（千分之一单位），字形缺失时返回{@link #MISSING}
+     */
+    public static float getCharacterWidth(PDFont font, char character) {
+        return getInstance(font).getWidth(font, character);
+    }
+
+    /**
+     * 是否包含字形
+     *
+     * @param font      字体
+     * @param character 字符
+     * @return 返回布尔值，true为是，false为否
+     */
+    public static boolean contains(PDFont font, char character) {
+        return getCharacterWidth(font, character) >= 0F;
+    }
+
+    /**
+     * 获取分页
+     *
+     * @param character 字符
+     * @return 返回分页
+     */
+    protected float[] getPage(char character) {
+        int pageIndex = character >>> PAGE_BITS;
+        float[] page = this.pages.get(pageIndex);
+        if (Objects.isNull(page)) {
+            page = new float[PAGE_SIZE];
+            Arrays.fill(page, UNRESOLVED);
+            if (!this.pages.compareAndSet(pageIndex, null, page)) {
+                page = this.pages.get(pageIndex);
+            }
+        }
+        return page;
+    }
+
+    /**
+     * 解析字符宽度
+     *
+     * @param font      字体
+     * @param character 字符
+     * @return 返回字符宽度
+     */
+    protected float resolve(PDFont font, char character) {
+        try {
+            return font.getCharacterWidth(character);
+        } catch (Exception e) {
+            return MISSING;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package org.dromara.pdf.pdfbox.support;
+
+import lombok.SneakyThrows;
+import org.dromara.pdf.pdfbox.core.enums.ImageType;
+import org.dromara.pdf.pdfbox.core.enums.PngFilterType;
+import org.dromara.pdf.shade.org.apache.pdfbox.tools.imageio.ImageIOUtil;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.zip.Deflater;
+
+/**
+ * 图像编码器（线程安全）
+ * <p>注：PNG使用内置编码器（可配置压缩级别、过滤类型，大图像分块并行压缩），JPEG复用线程内写入器（可配置质量），其余格式使用pdfbox图像工具</p>
+ * <p>注：编码器不可变，配置方法返回新的编码器</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class ImageEncoder {
+
+    /**
+     * 默认编码器（默认压缩级别、自适应过滤、JPEG最高质量）
+     */
+    public static final ImageEncoder DEFAULT = new ImageEncoder(
+            Deflater.DEFAULT_COMPRESSION,
+            PngFilterType.ADAPTIVE,
+            PngEncoder.DEFAULT_PARALLEL_THRESHOLD,
+            1.0F
+    );
+    /**
+     * 快速编码器（最快压缩级别、上方差值过滤）
+     */
+    public static final ImageEncoder FAST = new ImageEncoder(
+            Deflater.BEST_SPEED,
+            PngFilterType.UP,
+            PngEncoder.DEFAULT_PARALLEL_THRESHOLD,
+            1.0F
+    );
+
+    /**
+     * PNG编码器
+     */
+    protected final PngEncoder pngEncoder;
+    /**
+     * JPEG质量
+     */
+    protected final float jpegQuality;
+    /**
+     * JPEG写入器（线程复用）
+     */
+    protected final ThreadLocal<ImageWriter> jpegWriters = new ThreadLocal<>();
+
+    /**
+     * 有参构造
+     *
+     * @param pngCompressionLevel PNG压缩级别（0~9，-1为默认）
+     * @param pngFilterType       PNG过滤类型
+     * @param parallelThreshold   PNG并行压缩阈值（像素数量，小于等于0时不并行）
+     * @param jpegQuality         JPEG质量（0~1）
+     */
+    public ImageEncoder(int pngCompressionLevel, PngFilterType pngFilterType, int parallelThreshold, float jpegQuality) {
+        if (jpegQuality < 0 || jpegQuality > 1) {
+            throw new IllegalArgumentException("the jpeg quality must be between 0 and 1");
+        }
+        this.pngEncoder = new PngEncoder(pngCompressionLevel, pngFilterType, parallelThreshold);
+        this.jpegQuality = jpegQuality;
+    }
+
+    /**
+     * 设置PNG压缩级别
+     *
+     * @param level 压缩级别（0~9，-1为默认）
+     * @return 返回新的编码器
+     */
+    public ImageEncoder withPngCompressionLevel(int level) {
+        return new ImageEncoder(level, this.pngEncoder.getFilterType(), this.pngEncoder.getParallelThreshold(), this.jpegQuality);
+    }
+
+    /**
+     * 设置PNG过滤类型
+     *
+     * @param filterType 过滤类型
+     * @return 返回新的编码器
+     */
+    public ImageEncoder withPngFilterType(PngFilterType filterType) {
+        return new ImageEncoder(this.pngEncoder.getLevel(), filterType, this.pngEncoder.getParallelThreshold(), this.jpegQuality);
+    }
+
+    /**
+     * 设置PNG并行压缩阈值
+     *
+     * @param parallelThreshold 并行压缩阈值（像素数量，小于等于0时不并行）
+     * @return 返回新的编码器
+     */
+    public ImageEncoder withParallelThreshold(int parallelThreshold) {
+        return new ImageEncoder(this.pngEncoder.getLevel(), this.pngEncoder.getFilterType(), parallelThreshold, this.jpegQuality);
+    }
+
+    /**
+     * 设置JPEG质量
+     *
+     * @param quality 质量（0~1）
+     * @return 返回新的编码器
+     */
+    public ImageEncoder withJpegQuality(float quality) {
+        return new ImageEncoder(this.pngEncoder.getLevel(), this.pngEncoder.getFilterType(), this.pngEncoder.getParallelThreshold(), quality);
+    }
+
+    /**
+     * 获取PNG编码器
+     *
+     * @return 返回PNG编码器
+     */
+    public PngEncoder getPngEncoder() {
+        return this.pngEncoder;
+    }
+
+    /**
+     * 获取JPEG质量
+     *
+     * @return 返回JPEG质量
+     */
+    public float getJpegQuality() {
+        return this.jpegQuality;
+    }
+
+    /**
+     * 编码图像
+     *
+     * @param image        图像
+     * @param imageType    图像类型
+     * @param outputStream 输出流
+     * @param dpi          图像DPI（小于等于0时不写入）
+     */
+    @SneakyThrows
+    public void encode(BufferedImage image, ImageType imageType, OutputStream outputStream, float dpi) {
+        Objects.requireNonNull(image, "the image can not be null");
+        Objects.requireNonNull(imageType, "the image type can not be null");
+        Objects.requireNonNull(outputStream, "the output stream can not be null");
+        switch (imageType) {
+            case PNG:
+                this.pngEncoder.encode(image, dpi, outputStream);
+                break;
+            case JPEG:
+            case JPE:
+            case JPG:
+                this.encodeJpeg(image, outputStream, dpi);
+                break;
+            default:
+                ImageIOUtil.writeImage(image, imageType.getType(), outputStream, Math.max(0, Math.round(dpi)));
+        }
+    }
+
+    /**
+     * 编码JPEG图像
+     *
+     * @param image        图像
+     * @param outputStream 输出流
+     * @param dpi          图像DPI
+     */
+    @SneakyThrows
+    protected void encodeJpeg(BufferedImage image, OutputStream outputStream, float dpi) {
+        // 转换为无透明通道图像（白色背景）
+        if (image.getColorModel().hasAlpha()) {
+            BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = rgb.createGraphics();
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, rgb.getWidth(), rgb.getHeight());
+            graphics.drawImage(image, 0, 0, null);
+            graphics.dispose();
+            image = rgb;
+        }
+        ImageWriter writer = this.getJpegWriter();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(this.jpegQuality);
+        IIOMetadata metadata = writer.getDefaultImageMetadata(new ImageTypeSpecifier(image), param);
+        if (dpi > 0) {
+            this.setJpegDensity(metadata, Math.round(dpi));
+        }
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, metadata), param);
+            imageOutputStream.flush();
+        } finally {
+            writer.reset();
+        }
+    }
+
+    /**
+     * 获取JPEG写入器（线程复用）
+     *
+     * @return 返回写入器
+     */
+    protected ImageWriter getJpegWriter() {
+        ImageWriter writer = this.jpegWriters.get();
+        if (Objects.isNull(writer)) {
+            Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+            if (!writers.hasNext()) {
+                throw new IllegalStateException("the jpeg writer is not found");
+            }
+            writer = writers.next();
+            this.jpegWriters.set(writer);
+        }
+        return writer;
+    }
+
+    /**
+     * 设置JPEG密度
+     *
+     * @param metadata 元数据
+     * @param dpi      图像DPI
+     */
+    @SneakyThrows
+    protected void setJpegDensity(IIOMetadata metadata, int dpi) {
+        String format = "javax_imageio_jpeg_image_1.0";
+        Element root = (Element) metadata.getAsTree(format);
+        NodeList nodes = root.getElementsByTagName("app0JFIF");
+        if (nodes.getLength() > 0) {
+            Element jfif = (Element) nodes.item(0);
+            jfif.setAttribute("resUnits", "1");
+            jfif.setAttribute("Xdensity", String.valueOf(dpi));
+            jfif.setAttribute("Ydensity", String.valueOf(dpi));
+            metadata.setFromTree(format, root);
+        }
+    }
+}
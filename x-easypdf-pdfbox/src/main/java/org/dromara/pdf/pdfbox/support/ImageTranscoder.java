@@ -0,0 +1,322 @@
+package org.dromara.pdf.pdfbox.support;
+
+import lombok.SneakyThrows;
+import org.dromara.pdf.pdfbox.core.enums.ImageType;
+import org.dromara.pdf.pdfbox.util.CommonUtil;
+import org.dromara.pdf.pdfbox.util.ImageUtil;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDDocument;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.graphics.form.PDFormXObject;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.*;
+
+/**
+ * 图像转码器（进程级）
+ * <p>注：将svg/webp/j2k图像转码为png，并以内容摘要（SHA-256）为键缓存转码结果，其他格式原样返回</p>
+ * <p>注：svg可转换为矢量模板（表单对象），无法转换的svg同样缓存，避免重复解析</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class ImageTranscoder {
+
+    /**
+     * 默认最大容量
+     */
+    public static final int DEFAULT_MAX_SIZE = 256;
+    /**
+     * 默认最大转码结果字节数（超过时不缓存）
+     */
+    public static final int DEFAULT_MAX_RESULT_BYTES = 4 * 1024 * 1024;
+    /**
+     * 全局转码器
+     */
+    protected static volatile ImageTranscoder globalTranscoder;
+
+    /**
+     * 转码缓存
+     */
+    protected final LruCache<String, byte[]> rasterCache;
+    /**
+     * 矢量模板缓存（无法转换时为空）
+     */
+    protected final LruCache<String, Optional<SvgVectorTemplate>> vectorCache;
+    /**
+     * 最大转码结果字节数
+     */
+    protected final int maxResultBytes;
+
+    /**
+     * 无参构造
+     */
+    public ImageTranscoder() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_MAX_RESULT_BYTES);
+    }
+
+    /**
+     * 有参构造
+     *
+     * @param maxSize        最大容量（0为不缓存）
+     * @param maxResultBytes 最大转码结果字节数（超过时不缓存）
+     */
+    public ImageTranscoder(int maxSize, int maxResultBytes) {
+        if (maxResultBytes < 0) {
+            throw new IllegalArgumentException("the max result bytes can not be less than 0");
+        }
+        this.rasterCache = new LruCache<>(maxSize);
+        this.vectorCache = new LruCache<>(maxSize);
+        this.maxResultBytes = maxResultBytes;
+    }
+
+    /**
+     * 获取全局转码器
+     *
+     * @return 返回全局转码器
+     */
+    public static ImageTranscoder getGlobalTranscoder() {
+        if (Objects.isNull(globalTranscoder)) {
+            synchronized (ImageTranscoder.class) {
+                if (Objects.isNull(globalTranscoder)) {
+                    globalTranscoder = new ImageTranscoder();
+                }
+            }
+        }
+        return globalTranscoder;
+    }
+
+    /**
+     * 设置全局转码器
+     * <p>注：可替换为不同容量的转码器，容量为0时关闭转码缓存</p>
+     *
+     * @param transcoder 转码器
+     */
+    public static void setGlobalTranscoder(ImageTranscoder transcoder) {
+        Objects.requireNonNull(transcoder, "the transcoder can not be null");
+        synchronized (ImageTranscoder.class) {
+            globalTranscoder = transcoder;
+        }
+    }
+
+    /**
+     * 是否需要转码
+     *
+     * @param bytes 图像字节数组
+     * @return 返回布尔值，true为是，false为否
+     */
+    public static boolean isTranscodable(byte[] bytes) {
+        return ImageUtil.isSvgImage(bytes) || ImageUtil.isJ2kImage(bytes) || ImageUtil.isWebpImage(bytes);
+    }
+
+    /**
+     * 转码
+     * <p>注：svg/webp/j2k转码为png（结果缓存），其他格式原样返回</p>
+     * <p>注：返回的字节数组可能被共享，不可修改</p>
+     *
+     * @param bytes 图像字节数组
+     * @return 返回字节数组
+     */
+    public byte[] transcode(byte[] bytes) {
+        Objects.requireNonNull(bytes, "the bytes can not be null");
+        if (!isTranscodable(bytes)) {
+            return bytes;
+        }
+        String digest = CommonUtil.getImageDigest(bytes);
+        byte[] result = this.rasterCache.get(digest);
+        if (Objects.isNull(result)) {
+            result = this.convert(bytes);
+            if (result.length <= this.maxResultBytes) {
+                this.rasterCache.put(digest, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 获取svg矢量模板
+     *
+     * @param bytes svg字节数组
+     * @return 返回矢量模板，非svg或无法转换时返回null
+     */
+    public SvgVectorTemplate getVectorTemplate(byte[] bytes) {
+        Objects.requireNonNull(bytes, "the bytes can not be null");
+        if (!ImageUtil.isSvgImage(bytes)) {
+            return null;
+        }
+        return this.vectorCache.computeIfAbsent(
+                CommonUtil.getImageDigest(bytes),
+                key -> Optional.ofNullable(SvgVectorTemplate.create(bytes))
+        ).orElse(null);
+    }
+
+    /**
+     * 创建svg表单对象
+     *
+     * @param document pdfbox文档
+     * @param bytes    svg字节数组
+     * @return 返回表单对象，非svg或无法转换时返回null
+     */
+    public PDFormXObject createForm(PDDocument document, byte[] bytes) {
+        Objects.requireNonNull(document, "the document can not be null");
+        SvgVectorTemplate template = this.getVectorTemplate(bytes);
+        return Objects.isNull(template) ? null : template.createForm(document);
+    }
+
+    /**
+     * 预转码
+     * <p>注：布局前批量转码图像并写入缓存，大于1时由工作线程并行转码，无需转码或已缓存的图像跳过</p>
+     *
+     * @param images      图像字节数组列表
+     * @param parallelism 并行数量（工作线程数量）
+     * @return 返回转码数量
+     */
+    public int prefetch(Collection<byte[]> images, int parallelism) {
+        return this.prefetch(images, parallelism, false);
+    }
+
+    /**
+     * 预转换svg矢量模板
+     * <p>注：布局前批量转换svg并写入缓存，大于1时由工作线程并行转换，非svg或已缓存的图像跳过</p>
+     *
+     * @param images      图像字节数组列表
+     * @param parallelism 并行数量（工作线程数量）
+     * @return 返回转换数量
+     */
+    public int prefetchVector(Collection<byte[]> images, int parallelism) {
+        return this.prefetch(images, parallelism, true);
+    }
+
+    /**
+     * 清理缓存
+     */
+    public void clear() {
+        this.rasterCache.clear();
+        this.vectorCache.clear();
+    }
+
+    /**
+     * 获取转码缓存
+     *
+     * @return 返回转码缓存
+     */
+    public LruCache<String, byte[]> getRasterCache() {
+        return this.rasterCache;
+    }
+
+    /**
+     * 获取矢量模板缓存
+     *
+     * @return 返回矢量模板缓存
+     */
+    public LruCache<String, Optional<SvgVectorTemplate>> getVectorCache() {
+        return this.vectorCache;
+    }
+
+    /**
+     * 字符串
+     *
+     * @return 返回字符串
+     */
+    @Override
+    public String toString() {
+        return "ImageTranscoder{" +
+                "rasterCache=" + this.rasterCache +
+                ", vectorCache=" + this.vectorCache +
+                '}';
+    }
+
+    /**
+     * 预处理
+     *
+     * @param images      图像字节数组列表
+     * @param parallelism 并行数量
+     * @param isVector    是否矢量模板
+     * @return 返回处理数量
+     */
+    protected int prefetch(Collection<byte[]> images, int parallelism, boolean isVector) {
+        Objects.requireNonNull(images, "the images can not be null");
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("the parallelism must be greater than 0");
+        }
+        // 过滤无需处理的图像（同一批次中重复的图像只处理一次）
+        Map<String, byte[]> pending = new LinkedHashMap<>();
+        for (byte[] bytes : images) {
+            if (Objects.isNull(bytes) || (isVector ? !ImageUtil.isSvgImage(bytes) : !isTranscodable(bytes))) {
+                continue;
+            }
+            String digest = CommonUtil.getImageDigest(bytes);
+            if (!this.isCached(digest, isVector)) {
+                pending.putIfAbsent(digest, bytes);
+            }
+        }
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        // 转换图像（大于1时由工作线程并行转换）
+        List<byte[]> sources = new ArrayList<>(pending.values());
+        try (OrderedExecutor executor = new OrderedExecutor("transcode", Math.min(parallelism, sources.size()))) {
+            executor.execute(
+                    sources.size(),
+                    index -> () -> isVector ? this.getVectorTemplate(sources.get(index)) : this.transcode(sources.get(index)),
+                    (index, result) -> {
+                        // 结果已写入缓存
+                    }
+            );
+        }
+        return sources.size();
+    }
+
+    /**
+     * 是否已缓存
+     *
+     * @param digest   图像摘要
+     * @param isVector 是否矢量模板
+     * @return 返回布尔值，true为是，false为否
+     */
+    protected boolean isCached(String digest, boolean isVector) {
+        return isVector ? this.vectorCache.containsKey(digest) : this.rasterCache.containsKey(digest);
+    }
+
+    /**
+     * 转换图像
+     *
+     * @param bytes 图像字节数组
+     * @return 返回png字节数组
+     */
+    @SneakyThrows
+    protected byte[] convert(byte[] bytes) {
+        // svg格式
+        if (ImageUtil.isSvgImage(bytes)) {
+            try (
+                    // 定义输入流
+                    InputStream inputStream = new BufferedInputStream(new ByteArrayInputStream(bytes));
+                    // 定义输出流
+                    ByteArrayOutputStream outputStream = new ByteArrayOutputStream(8192)
+            ) {
+                // 转码svg
+                new org.apache.batik.transcoder.image.PNGTranscoder().transcode(new org.apache.batik.transcoder.TranscoderInput(inputStream), new org.apache.batik.transcoder.TranscoderOutput(outputStream));
+                // 返回字节数组
+                return outputStream.toByteArray();
+            }
+        }
+        // j2k格式或webp
+        try (InputStream inputStream = new BufferedInputStream(new ByteArrayInputStream(bytes))) {
+            // 返回字节数组
+            return ImageUtil.toBytes(ImageUtil.read(inputStream), ImageType.PNG.getType());
+        }
+    }
+}
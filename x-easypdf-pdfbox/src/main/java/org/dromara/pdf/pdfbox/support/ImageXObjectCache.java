@@ -0,0 +1,458 @@
+package org.dromara.pdf.pdfbox.support;
+
+import lombok.SneakyThrows;
+import org.dromara.pdf.pdfbox.util.ImageUtil;
+import org.dromara.pdf.shade.org.apache.pdfbox.cos.*;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDDocument;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.common.PDStream;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 图像对象缓存（进程级）
+ * <p>注：缓存与文档无关的图像载荷（编码后的流数据、过滤器、颜色空间、软遮罩等参数），以内容摘要（SHA-256）为键，命中时直接复制到新文档，无需重新转码与编码</p>
+ * <p>注：按数量与载荷总字节数限制容量，超出任一限制时淘汰最近最少使用的图像</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class ImageXObjectCache {
+
+    /**
+     * 默认最大容量
+     */
+    public static final int DEFAULT_MAX_SIZE = 128;
+    /**
+     * 默认最大载荷字节数（超过时不缓存）
+     */
+    public static final int DEFAULT_MAX_PAYLOAD_BYTES = 4 * 1024 * 1024;
+    /**
+     * 默认最大载荷总字节数
+     */
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+    /**
+     * 全局缓存
+     */
+    protected static volatile ImageXObjectCache globalCache;
+
+    /**
+     * 缓存
+     */
+    protected final LruCache<String, PreparedImage> cache;
+    /**
+     * 最大载荷字节数
+     */
+    protected final int maxPayloadBytes;
+
+    /**
+     * 无参构造
+     */
+    public ImageXObjectCache() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_MAX_PAYLOAD_BYTES);
+    }
+
+    /**
+     * 有参构造
+     *
+     * @param maxSize         最大容量（0为不缓存）
+     * @param maxPayloadBytes 最大载荷字节数（超过时不缓存）
+     */
+    public ImageXObjectCache(int maxSize, int maxPayloadBytes) {
+        this(maxSize, maxPayloadBytes, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * 有参构造
+     *
+     * @param maxSize         最大容量（0为不缓存）
+     * @param maxPayloadBytes 最大载荷字节数（超过时不缓存）
+     * @param maxBytes        最大载荷总字节数
+     */
+    public ImageXObjectCache(int maxSize, int maxPayloadBytes, long maxBytes) {
+        if (maxPayloadBytes < 0) {
+            throw new IllegalArgumentException("the max payload bytes can not be less than 0");
+        }
+        this.cache = new LruCache<>(maxSize, maxBytes, PreparedImage::getPayloadBytes);
+        this.maxPayloadBytes = maxPayloadBytes;
+    }
+
+    /**
+     * 获取全局缓存
+     *
+     * @return 返回全局缓存
+     */
+    public static ImageXObjectCache getGlobalCache() {
+        if (Objects.isNull(globalCache)) {
+            synchronized (ImageXObjectCache.class) {
+                if (Objects.isNull(globalCache)) {
+                    globalCache = new ImageXObjectCache();
+                }
+            }
+        }
+        return globalCache;
+    }
+
+    /**
+     * 设置全局缓存
+     * <p>注：可替换为不同容量的缓存，容量为0时关闭全局缓存</p>
+     *
+     * @param cache 缓存
+     */
+    public static void setGlobalCache(ImageXObjectCache cache) {
+        Objects.requireNonNull(cache, "the cache can not be null");
+        synchronized (ImageXObjectCache.class) {
+            globalCache = cache;
+        }
+    }
+
+    /**
+     * 获取图像
+     * <p>注：未命中时转码（svg/webp/j2k）并创建图像，随后缓存图像载荷，命中时将载荷复制到文档</p>
+     *
+     * @param document pdfbox文档
+     * @param bytes    图像字节数组
+     * @param digest   图像摘要
+     * @return 返回图像
+     */
+    public PDImageXObject getImage(PDDocument document, byte[] bytes, String digest) {
+        Objects.requireNonNull(bytes, "the bytes can not be null");
+        Objects.requireNonNull(digest, "the digest can not be null");
+        return this.getImage(document, digest, () -> bytes);
+    }
+
+    /**
+     * 获取图像
+     * <p>注：以自定义键（如条形码配置）缓存，未命中时才获取图像字节数组，适用于生成成本较高的图像</p>
+     *
+     * @param document pdfbox文档
+     * @param key      缓存键
+     * @param supplier 图像字节数组提供者
+     * @return 返回图像
+     */
+    @SneakyThrows
+    public PDImageXObject getImage(PDDocument document, String key, Supplier<byte[]> supplier) {
+        Objects.requireNonNull(document, "the document can not be null");
+        Objects.requireNonNull(key, "the key can not be null");
+        Objects.requireNonNull(supplier, "the supplier can not be null");
+        // 命中缓存
+        PreparedImage prepared = this.cache.get(key);
+        if (Objects.nonNull(prepared)) {
+            return new PDImageXObject(new PDStream((COSStream) prepared.materialize(document)), null);
+        }
+        // 创建图像
+        PDImageXObject image = PDImageXObject.createFromByteArray(document, ImageUtil.resetBytes(supplier.get()), "unknown");
+        // 缓存载荷
+        if (this.cache.getMaxSize() > 0) {
+            PreparedImage payload = PreparedImage.snapshot(image.getCOSObject());
+            if (payload.getPayloadBytes() <= this.maxPayloadBytes) {
+                this.cache.put(key, payload);
+            }
+        }
+        return image;
+    }
+
+    /**
+     * 清理缓存
+     */
+    public void clear() {
+        this.cache.clear();
+    }
+
+    /**
+     * 获取缓存数量
+     *
+     * @return 返回缓存数量
+     */
+    public int size() {
+        return this.cache.size();
+    }
+
+    /**
+     * 获取最大容量
+     *
+     * @return 返回最大容量
+     */
+    public int getMaxSize() {
+        return this.cache.getMaxSize();
+    }
+
+    /**
+     * 获取载荷总字节数
+     *
+     * @return 返回载荷总字节数
+     */
+    public long getBytes() {
+        return this.cache.getWeight();
+    }
+
+    /**
+     * 获取最大载荷总字节数
+     *
+     * @return 返回最大载荷总字节数
+     */
+    public long getMaxBytes() {
+        return this.cache.getMaxWeight();
+    }
+
+    /**
+     * 获取命中次数
+     *
+     * @return 返回命中次数
+     */
+    public long getHitCount() {
+        return this.cache.getHitCount();
+    }
+
+    /**
+     * 获取未命中次数
+     *
+     * @return 返回未命中次数
+     */
+    public long getMissCount() {
+        return this.cache.getMissCount();
+    }
+
+    /**
+     * 获取淘汰次数
+     *
+     * @return 返回淘汰次数
+     */
+    public long getEvictionCount() {
+        return this.cache.getEvictionCount();
+    }
+
+    /**
+     * 获取命中率
+     *
+     * @return 返回命中率（0~1）
+     */
+    public double getHitRate() {
+        return this.cache.getHitRate();
+    }
+
+    /**
+     * 重置统计
+     */
+    public void resetStats() {
+        this.cache.resetStats();
+    }
+
+    /**
+     * 字符串
+     *
+     * @return 返回字符串
+     */
+    @Override
+    public String toString() {
+        return "ImageXObjectCache{" +
+                "size=" + this.size() +
+                ", maxSize=" + this.getMaxSize() +
+                ", bytes=" + this.getBytes() +
+                ", maxBytes=" + this.getMaxBytes() +
+                ", hitCount=" + this.getHitCount() +
+                ", missCount=" + this.getMissCount() +
+                ", hitRate=" + this.getHitRate() +
+                '}';
+    }
+
+    /**
+     * 预备图像（与文档无关的对象模板，创建后不可修改，可在多线程间共享）
+     */
+    protected static class PreparedImage {
+
+        /**
+         * 对象模板（流对象以预备图像表示）
+         */
+        protected final COSBase template;
+        /**
+         * 流原始数据（非流对象为空）
+         */
+        protected final byte[] data;
+        /**
+         * 载荷字节数（含子对象）
+         */
+        protected final long payloadBytes;
+
+        /**
+         * 有参构造
+         *
+         * @param template     对象模板
+         * @param data         流原始数据
+         * @param payloadBytes 载荷字节数
+         */
+        protected PreparedImage(COSBase template, byte[] data, long payloadBytes) {
+            this.template = template;
+            this.data = data;
+            this.payloadBytes = payloadBytes;
+        }
+
+        /**
+         * 创建快照（复制对象树，流数据读取为字节数组）
+         *
+         * @param stream 图像流
+         * @return 返回预备图像
+         */
+        protected static PreparedImage snapshot(COSStream stream) {
+            long[] payloadBytes = {0L};
+            COSBase template = copyTemplate(stream, payloadBytes);
+            return new PreparedImage(template, null, payloadBytes[0]);
+        }
+
+        /**
+         * 复制模板
+         *
+         * @param base         pdf对象
+         * @param payloadBytes 载荷字节数
+         * @return 返回模板
+         */
+        @SneakyThrows
+        protected static COSBase copyTemplate(COSBase base, long[] payloadBytes) {
+            if (base instanceof COSObject) {
+                base = ((COSObject) base).getObject();
+            }
+            if (Objects.isNull(base)) {
+                return COSNull.NULL;
+            }
+            if (base instanceof COSStream) {
+                COSStream stream = (COSStream) base;
+                COSDictionary dictionary = new COSDictionary();
+                for (Map.Entry<COSName, COSBase> entry : stream.entrySet()) {
+                    if (!COSName.LENGTH.equals(entry.getKey())) {
+                        dictionary.setItem(entry.getKey(), copyTemplate(entry.getValue(), payloadBytes));
+                    }
+                }
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream((int) Math.max(64, stream.getLength()));
+                try (InputStream inputStream = stream.createRawInputStream()) {
+                    byte[] buffer = new byte[8192];
+                    int length;
+                    while ((length = inputStream.read(buffer)) != -1) {
+                        outputStream.write(buffer, 0, length);
+                    }
+                }
+                byte[] data = outputStream.toByteArray();
+                payloadBytes[0] += data.length;
+                return new StreamTemplate(new PreparedImage(dictionary, data, data.length));
+            }
+            if (base instanceof COSDictionary) {
+                COSDictionary dictionary = new COSDictionary();
+                for (Map.Entry<COSName, COSBase> entry : ((COSDictionary) base).entrySet()) {
+                    dictionary.setItem(entry.getKey(), copyTemplate(entry.getValue(), payloadBytes));
+                }
+                return dictionary;
+            }
+            if (base instanceof COSArray) {
+                COSArray source = (COSArray) base;
+                COSArray array = new COSArray();
+                for (int i = 0; i < source.size(); i++) {
+                    array.add(copyTemplate(source.get(i), payloadBytes));
+                }
+                return array;
+            }
+            if (base instanceof COSString) {
+                COSString source = (COSString) base;
+                return new COSString(source.getBytes(), source.getForceHexForm());
+            }
+            // 名称、数字与布尔值不可变
+            return base;
+        }
+
+        /**
+         * 复制到文档
+         *
+         * @param document pdfbox文档
+         * @return 返回图像流
+         */
+        protected COSBase materialize(PDDocument document) {
+            return materialize(this.template, document);
+        }
+
+        /**
+         * 复制模板到文档
+         *
+         * @param template 模板
+         * @param document pdfbox文档
+         * @return 返回pdf对象
+         */
+        @SneakyThrows
+        protected static COSBase materialize(COSBase template, PDDocument document) {
+            if (template instanceof StreamTemplate) {
+                PreparedImage prepared = ((StreamTemplate) template).prepared;
+                COSStream stream = document.getDocument().createCOSStream();
+                for (Map.Entry<COSName, COSBase> entry : ((COSDictionary) prepared.template).entrySet()) {
+                    stream.setItem(entry.getKey(), materialize(entry.getValue(), document));
+                }
+                try (OutputStream outputStream = stream.createRawOutputStream()) {
+                    outputStream.write(prepared.data);
+                }
+                return stream;
+            }
+            if (template instanceof COSDictionary) {
+                COSDictionary dictionary = new COSDictionary();
+                for (Map.Entry<COSName, COSBase> entry : ((COSDictionary) template).entrySet()) {
+                    dictionary.setItem(entry.getKey(), materialize(entry.getValue(), document));
+                }
+                return dictionary;
+            }
+            if (template instanceof COSArray) {
+                COSArray source = (COSArray) template;
+                COSArray array = new COSArray();
+                for (int i = 0; i < source.size(); i++) {
+                    array.add(materialize(source.get(i), document));
+                }
+                return array;
+            }
+            if (template instanceof COSString) {
+                COSString source = (COSString) template;
+                return new COSString(source.getBytes(), source.getForceHexForm());
+            }
+            return template;
+        }
+
+        /**
+         * 获取载荷字节数
+         *
+         * @return 返回载荷字节数
+         */
+        protected long getPayloadBytes() {
+            return this.payloadBytes;
+        }
+    }
+
+    /**
+     * 流模板（模板树中的流占位对象）
+     */
+    protected static class StreamTemplate extends COSDictionary {
+
+        /**
+         * 预备图像
+         */
+        protected final PreparedImage prepared;
+
+        /**
+         * 有参构造
+         *
+         * @param prepared 预备图像
+         */
+        protected StreamTemplate(PreparedImage prepared) {
+            this.prepared = prepared;
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package org.dromara.pdf.pdfbox.support;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * 有界LRU缓存（线程安全）
+ * <p>注：按数量限制容量，可选按权重（如字节数）限制总量，超出时淘汰最近最少使用的缓存</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class LruCache<K, V> {
+
+    /**
+     * 最大容量
+     */
+    protected final int maxSize;
+    /**
+     * 最大总权重
+     */
+    protected final long maxWeight;
+    /**
+     * 权重函数（为空时不计权重）
+     */
+    protected final ToLongFunction<? super V> weigher;
+    /**
+     * 缓存字典（访问顺序）
+     */
+    protected final Map<K, V> map;
+    /**
+     * 命中次数
+     */
+    protected final AtomicLong hitCount = new AtomicLong();
+    /**
+     * 未命中次数
+     */
+    protected final AtomicLong missCount = new AtomicLong();
+    /**
+     * 淘汰次数
+     */
+    protected final AtomicLong evictionCount = new AtomicLong();
+    /**
+     * 当前总权重
+     */
+    protected long weight;
+
+    /**
+     * 有参构造
+     *
+     * @param maxSize 最大容量
+     */
+    public LruCache(int maxSize) {
+        this(maxSize, Long.MAX_VALUE, null);
+    }
+
+    /**
+     * 有参构造
+     *
+     * @param maxSize   最大容量
+     * @param maxWeight 最大总权重（单个值超过时不缓存）
+     * @param weigher   权重函数（为空时不计权重）
+     */
+    public LruCache(int maxSize, long maxWeight, ToLongFunction<? super V> weigher) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("the max size can not be less than 0");
+        }
+        if (maxWeight < 0) {
+            throw new IllegalArgumentException("the max weight can not be less than 0");
+        }
+        this.maxSize = maxSize;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.map = new LinkedHashMap<K, V>(Math.min(maxSize, 1024) + 1, 0.75F, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                boolean isRemove = this.size() > LruCache.this.maxSize;
+                if (isRemove) {
+                    LruCache.this.weight -= LruCache.this.weigh(eldest.getValue());
+                    LruCache.this.evictionCount.incrementAndGet();
+                }
+                return isRemove;
+            }
+        };
+    }
+
+    /**
+     * 获取缓存
+     *
+     * @param key 键
+     * @return 返回值，未命中时返回null
+     */
+    public V get(K key) {
+        V value;
+        synchronized (this.map) {
+            value = this.map.get(key);
+        }
+        if (Objects.isNull(value)) {
+            this.missCount.incrementAndGet();
+        } else {
+            this.hitCount.incrementAndGet();
+        }
+        return value;
+    }
+
+    /**
+     * 添加缓存
+     *
+     * @param key   键
+     * @param value 值
+     */
+    public void put(K key, V value) {
+        if (Objects.isNull(key) || Objects.isNull(value) || this.maxSize == 0 || this.weigh(value) > this.maxWeight) {
+            return;
+        }
+        synchronized (this.map) {
+            this.weight += this.weigh(value) - this.weigh(this.map.put(key, value));
+            this.trim();
+        }
+    }
+
+    /**
+     * 获取缓存，未命中时计算并添加
+     * <p>注：计算过程不持有锁，并发未命中时可能重复计算，以先写入者为准</p>
+     *
+     * @param key      键
+     * @param function 计算函数
+     * @return 返回值
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> function) {
+        V value = this.get(key);
+        if (Objects.nonNull(value)) {
+            return value;
+        }
+        value = function.apply(key);
+        if (Objects.isNull(value) || this.maxSize == 0 || this.weigh(value) > this.maxWeight) {
+            return value;
+        }
+        synchronized (this.map) {
+            V old = this.map.putIfAbsent(key, value);
+            if (Objects.nonNull(old)) {
+                return old;
+            }
+            this.weight += this.weigh(value);
+            this.trim();
+            return value;
+        }
+    }
+
+    /**
+     * 是否包含缓存
+     * <p>注：不影响访问顺序与命中统计</p>
+     *
+     * @param key 键
+     * @return 返回布尔值，true为是，false为否
+     */
+    public boolean containsKey(K key) {
+        synchronized (this.map) {
+            return this.map.containsKey(key);
+        }
+    }
+
+    /**
+     * 移除缓存
+     *
+     * @param key 键
+     * @return 返回移除的值
+     */
+    public V remove(K key) {
+        synchronized (this.map) {
+            V value = this.map.remove(key);
+            this.weight -= this.weigh(value);
+            return value;
+        }
+    }
+
+    /**
+     * 移除缓存（仅当值相同时）
+     *
+     * @param key   键
+     * @param value 值
+     * @return 返回布尔值，true为已移除，false为未移除
+     */
+    public boolean remove(K key, V value) {
+        synchronized (this.map) {
+            boolean isRemoved = this.map.remove(key, value);
+            if (isRemoved) {
+                this.weight -= this.weigh(value);
+            }
+            return isRemoved;
+        }
+    }
+
+    /**
+     * 清理缓存
+     */
+    public void clear() {
+        synchronized (this.map) {
+            this.map.clear();
+            this.weight = 0L;
+        }
+    }
+
+    /**
+     * 获取缓存数量
+     *
+     * @return 返回缓存数量
+     */
+    public int size() {
+        synchronized (this.map) {
+            return this.map.size();
+        }
+    }
+
+    /**
+     * 获取最大容量
+     *
+     * @return 返回最大容量
+     */
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * 获取当前总权重
+     *
+     * @return 返回当前总权重
+     */
+    public long getWeight() {
+        synchronized (this.map) {
+            return this.weight;
+        }
+    }
+
+    /**
+     * 获取最大总权重
+     *
+     * @return 返回最大总权重
+     */
+    public long getMaxWeight() {
+        return this.maxWeight;
+    }
+
+    /**
+     * 获取命中次数
+     *
+     * @return 返回命中次数
+     */
+    public long getHitCount() {
+        return this.hitCount.get();
+    }
+
+    /**
+     * 获取未命中次数
+     *
+     * @return 返回未命中次数
+     */
+    public long getMissCount() {
+        return this.missCount.get();
+    }
+
+    /**
+     * 获取淘汰次数
+     *
+     * @return 返回淘汰次数
+     */
+    public long getEvictionCount() {
+        return this.evictionCount.get();
+    }
+
+    /**
+     * 获取命中率
+     *
+     * @return 返回命中率（0~1）
+     */
+    public double getHitRate() {
+        long hit = this.hitCount.get();
+        long total = hit + this.missCount.get();
+        return total == 0 ? 0D : (double) hit / total;
+    }
+
+    /**
+     * 重置统计
+     */
+    public void resetStats() {
+        this.hitCount.set(0);
+        this.missCount.set(0);
+        this.evictionCount.set(0);
+    }
+
+    /**
+     * 字符串
+     *
+     * @return 返回字符串
+     */
+    @Override
+    public String toString() {
+        return "LruCache{" +
+                "size=" + this.size() +
+                ", maxSize=" + this.maxSize +
+                ", hitCount=" + this.getHitCount() +
+                ", missCount=" + this.getMissCount() +
+                ", evictionCount=" + this.getEvictionCount() +
+                '}';
+    }
+
+    /**
+     * 计算权重
+     *
+     * @param value 值
+     * @return 返回权重，值或权重函数为空时返回0
+     */
+    protected long weigh(V value) {
+        return Objects.isNull(value) || Objects.isNull(this.weigher) ? 0L : this.weigher.applyAsLong(value);
+    }
+
+    /**
+     * 按权重淘汰（需持有锁）
+     */
+    protected void trim() {
+        Iterator<Map.Entry<K, V>> iterator = this.map.entrySet().iterator();
+        while (this.weight > this.maxWeight && iterator.hasNext()) {
+            this.weight -= this.weigh(iterator.next().getValue());
+            iterator.remove();
+            this.evictionCount.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package org.dromara.pdf.pdfbox.support;
+
+import lombok.SneakyThrows;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 有序并行执行器
+ * <p>注：任务在调用线程中按索引顺序创建并交给工作线程（守护线程）执行，结果按索引顺序在调用线程中处理</p>
+ * <p>注：同时存活的任务（执行中与待处理）不超过工作线程数量，工作线程数量为1时不创建线程池，任务在调用线程中直接执行</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class OrderedExecutor implements Closeable {
+
+    /**
+     * 工作线程数量
+     */
+    protected final int parallelism;
+    /**
+     * 线程池（工作线程数量为1时为空）
+     */
+    protected final ExecutorService executor;
+
+    /**
+     * 有参构造
+     *
+     * @param name        线程名称（x-easypdf-名称-编号）
+     * @param parallelism 工作线程数量
+     */
+    public OrderedExecutor(String name, int parallelism) {
+        Objects.requireNonNull(name, "the name can not be null");
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("the parallelism must be greater than 0");
+        }
+        this.parallelism = parallelism;
+        this.executor = parallelism > 1 ? Executors.newFixedThreadPool(parallelism, new WorkerThreadFactory(name)) : null;
+    }
+
+    /**
+     * 获取工作线程数量
+     *
+     * @return 返回工作线程数量
+     */
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    /**
+     * 执行任务
+     * <p>注：任务创建与结果处理均在调用线程中按索引顺序执行，任一任务失败时取消未完成的任务并抛出原始异常</p>
+     *
+     * @param count   任务数量
+     * @param factory 任务工厂（返回空时跳过该索引）
+     * @param handler 结果处理器
+     * @param <T>     结果类型
+     */
+    @SneakyThrows
+    public <T> void execute(int count, TaskFactory<T> factory, ResultHandler<T> handler) {
+        Objects.requireNonNull(factory, "the factory can not be null");
+        Objects.requireNonNull(handler, "the handler can not be null");
+        // 单线程直接执行
+        if (Objects.isNull(this.executor)) {
+            for (int i = 0; i < count; i++) {
+                Callable<T> task = factory.create(i);
+                if (Objects.nonNull(task)) {
+                    handler.handle(i, task.call());
+                }
+            }
+            return;
+        }
+        // 定义任务窗口（限制同时存活的任务数量）
+        Deque<Pending<T>> window = new ArrayDeque<>(this.parallelism);
+        try {
+            for (int i = 0; i < count; i++) {
+                // 创建任务
+                Callable<T> task = factory.create(i);
+                if (Objects.isNull(task)) {
+                    continue;
+                }
+                // 窗口已满，等待并处理最早的任务
+                if (window.size() >= this.parallelism) {
+                    this.handle(window.removeFirst(), handler);
+                }
+                // 提交任务
+                window.addLast(new Pending<>(i, this.executor.submit(task)));
+            }
+            // 处理剩余任务
+            while (!window.isEmpty()) {
+                this.handle(window.removeFirst(), handler);
+            }
+        } finally {
+            // 取消未完成的任务
+            for (Pending<T> pending : window) {
+                pending.future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * 关闭（停止工作线程）
+     */
+    @Override
+    public void close() {
+        if (Objects.nonNull(this.executor)) {
+            this.executor.shutdownNow();
+            try {
+                this.executor.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 处理任务结果
+     *
+     * @param pending 待处理任务
+     * @param handler 结果处理器
+     * @param <T>     结果类型
+     */
+    @SneakyThrows
+    protected <T> void handle(Pending<T> pending, ResultHandler<T> handler) {
+        T result;
+        try {
+            result = pending.future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+        handler.handle(pending.index, result);
+    }
+
+    /**
+     * 任务工厂
+     *
+     * @param <T> 结果类型
+     */
+    @FunctionalInterface
+    public interface TaskFactory<T> {
+
+        /**
+         * 创建任务
+         *
+         * @param index 任务索引
+         * @return 返回任务，为空时跳过
+         * @throws IOException IO异常
+         */
+        Callable<T> create(int index) throws IOException;
+    }
+
+    /**
+     * 结果处理器
+     *
+     * @param <T> 结果类型
+     */
+    @FunctionalInterface
+    public interface ResultHandler<T> {
+
+        /**
+         * 处理
+         *
+         * @param index  任务索引
+         * @param result 任务结果
+         * @throws IOException IO异常
+         */
+        void handle(int index, T result) throws IOException;
+    }
+
+    /**
+     * 待处理任务
+     *
+     * @param <T> 结果类型
+     */
+    protected static class Pending<T> {
+
+        /**
+         * 任务索引
+         */
+        protected final int index;
+        /**
+         * 任务
+         */
+        protected final Future<T> future;
+
+        /**
+         * 有参构造
+         *
+         * @param index  任务索引
+         * @param future 任务
+         */
+        protected Pending(int index, Future<T> future) {
+            this.index = index;
+            this.future = future;
+        }
+    }
+
+    /**
+     * 工作线程工厂（守护线程）
+     */
+    protected static class WorkerThreadFactory implements ThreadFactory {
+
+        /**
+         * 线程编号
+         */
+        protected static final AtomicInteger NUMBER = new AtomicInteger();
+
+        /**
+         * 线程名称前缀
+         */
+        protected final String prefix;
+
+        /**
+         * 有参构造
+         *
+         * @param name 线程名称
+         */
+        protected WorkerThreadFactory(String name) {
+            this.prefix = "x-easypdf-" + name + "-";
+        }
+
+        /**
+         * 创建线程
+         *
+         * @param runnable 任务
+         * @return 返回线程
+         */
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, this.prefix + NUMBER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,918 @@
+package org.dromara.pdf.pdfbox.support;
+
+import org.dromara.pdf.pdfbox.core.enums.PngFilterType;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.IndexColorModel;
+import java.awt.image.Raster;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * PNG编码器（线程安全）
+ * <p>注：支持压缩级别与过滤类型配置，压缩器与行缓冲按线程复用；大图像按行分块并行过滤与压缩（以前一块末尾数据作为预设字典），合并为单个压缩流</p>
+ * <p>注：RGB、ARGB、8位灰度与黑白图像按原始样本写入，其余类型按sRGB写入</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class PngEncoder {
+
+    /**
+     * 默认并行阈值（像素数量）
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 21;
+    /**
+     * 数据块大小
+     */
+    protected static final int CHUNK_SIZE = 1 << 16;
+    /**
+     * 并行分块大小（字节）
+     */
+    protected static final int BLOCK_SIZE = 1 << 18;
+    /**
+     * 预设字典大小
+     */
+    protected static final int DICTIONARY_SIZE = 1 << 15;
+    /**
+     * 签名
+     */
+    protected static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    /**
+     * 压缩级别
+     */
+    protected final int level;
+    /**
+     * 过滤类型
+     */
+    protected final PngFilterType filterType;
+    /**
+     * 并行阈值（像素数量，小于等于0时不并行）
+     */
+    protected final int parallelThreshold;
+    /**
+     * 线程缓存（压缩器与行缓冲）
+     */
+    protected final ThreadLocal<Buffers> buffers;
+
+    /**
+     * 有参构造
+     *
+     * @param level             压缩级别（0~9，-1为默认）
+     * @param filterType        过滤类型
+     * @param parallelThreshold 并行阈值（像素数量，小于等于0时不并行）
+     */
+    public PngEncoder(int level, PngFilterType filterType, int parallelThreshold) {
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("the level must be between -1 and 9");
+        }
+        Objects.requireNonNull(filterType, "the filter type can not be null");
+        this.level = level;
+        this.filterType = filterType;
+        this.parallelThreshold = parallelThreshold;
+        this.buffers = ThreadLocal.withInitial(() -> new Buffers(level));
+    }
+
+    /**
+     * 编码图像
+     *
+     * @param image        图像
+     * @param dpi          图像DPI（小于等于0时不写入）
+     * @param outputStream 输出流
+     * @throws IOException IO异常
+     */
+    public void encode(BufferedImage image, float dpi, OutputStream outputStream) throws IOException {
+        Objects.requireNonNull(image, "the image can not be null");
+        Objects.requireNonNull(outputStream, "the output stream can not be null");
+        RowReader reader = new RowReader(image);
+        Format format = reader.format;
+        this.writeHeader(outputStream, image.getWidth(), image.getHeight(), format, dpi);
+        long pixels = (long) image.getWidth() * image.getHeight();
+        if (this.parallelThreshold > 0 && pixels >= this.parallelThreshold && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            this.writeDataByParallel(outputStream, reader, image.getHeight());
+        } else {
+            RowWriter writer = new RowWriter(outputStream, format);
+            byte[] row = new byte[format.rowBytes];
+            for (int y = 0; y < image.getHeight(); y++) {
+                reader.read(y, row);
+                writer.writePackedRow(row);
+            }
+            writer.finishData();
+        }
+        writeChunk(outputStream, "IEND", new byte[0], 0);
+        outputStream.flush();
+    }
+
+    /**
+     * 创建行写入器（逐行写入）
+     *
+     * @param outputStream 输出流
+     * @param width        图像宽度
+     * @param height       图像高度
+     * @param bands        每像素样本数（1、3、4）
+     * @param bitDepth     样本位数（8，或单样本时为1）
+     * @param dpi          图像DPI（小于等于0时不写入）
+     * @return 返回行写入器
+     * @throws IOException IO异常
+     */
+    public RowWriter createRowWriter(OutputStream outputStream, int width, int height, int bands, int bitDepth, float dpi) throws IOException {
+        Objects.requireNonNull(outputStream, "the output stream can not be null");
+        Format format = new Format(width, bands, bitDepth);
+        this.writeHeader(outputStream, width, height, format, dpi);
+        return new RowWriter(outputStream, format);
+    }
+
+    /**
+     * 获取压缩级别
+     *
+     * @return 返回压缩级别
+     */
+    public int getLevel() {
+        return this.level;
+    }
+
+    /**
+     * 获取过滤类型
+     *
+     * @return 返回过滤类型
+     */
+    public PngFilterType getFilterType() {
+        return this.filterType;
+    }
+
+    /**
+     * 获取并行阈值
+     *
+     * @return 返回并行阈值（像素数量）
+     */
+    public int getParallelThreshold() {
+        return this.parallelThreshold;
+    }
+
+    /**
+     * 写入头部
+     *
+     * @param outputStream 输出流
+     * @param width        图像宽度
+     * @param height       图像高度
+     * @param format       格式
+     * @param dpi          图像DPI
+     */
+    protected void writeHeader(OutputStream outputStream, int width, int height, Format format, float dpi) throws IOException {
+        // 写入签名
+        outputStream.write(SIGNATURE);
+        // 写入头部
+        ByteArrayOutputStream header = new ByteArrayOutputStream(13);
+        DataOutputStream data = new DataOutputStream(header);
+        data.writeInt(width);
+        data.writeInt(height);
+        data.writeByte(format.bitDepth);
+        data.writeByte(format.colorType);
+        data.writeByte(0);
+        data.writeByte(0);
+        data.writeByte(0);
+        writeChunk(outputStream, "IHDR", header.toByteArray(), header.size());
+        // 写入物理尺寸
+        if (dpi > 0) {
+            ByteArrayOutputStream phys = new ByteArrayOutputStream(9);
+            data = new DataOutputStream(phys);
+            int ppm = Math.round(dpi / 0.0254F);
+            data.writeInt(ppm);
+            data.writeInt(ppm);
+            data.writeByte(1);
+            writeChunk(outputStream, "pHYs", phys.toByteArray(), phys.size());
+        }
+    }
+
+    /**
+     * 并行写入图像数据
+     *
+     * @param outputStream 输出流
+     * @param reader       行读取器
+     * @param height       图像高度
+     */
+    protected void writeDataByParallel(OutputStream outputStream, RowReader reader, int height) throws IOException {
+        Format format = reader.format;
+        int rowsPerBlock = Math.max(1, BLOCK_SIZE / (format.rowBytes + 1));
+        int blocks = (height + rowsPerBlock - 1) / rowsPerBlock;
+        // 提交分块任务
+        List<CompletableFuture<Block>> futures = new ArrayList<>(blocks);
+        for (int i = 0; i < blocks; i++) {
+            int begin = i * rowsPerBlock;
+            int end = Math.min(height, begin + rowsPerBlock);
+            boolean isLast = i == blocks - 1;
+            futures.add(CompletableFuture.supplyAsync(() -> this.compressBlock(reader, begin, end, isLast)));
+        }
+        // 按顺序写入（zlib头部 + 分块压缩数据 + 合并校验和）
+        IdatOutputStream idat = new IdatOutputStream(outputStream);
+        idat.write(0x78);
+        idat.write(this.getZlibFlag());
+        long adler = 1L;
+        for (CompletableFuture<Block> future : futures) {
+            Block block = future.join();
+            idat.write(block.data, 0, block.data.length);
+            adler = combineAdler32(adler, block.adler, block.length);
+        }
+        idat.write((int) (adler >>> 24));
+        idat.write((int) (adler >>> 16));
+        idat.write((int) (adler >>> 8));
+        idat.write((int) adler);
+        idat.flush();
+    }
+
+    /**
+     * 压缩分块
+     *
+     * @param reader 行读取器
+     * @param begin  起始行
+     * @param end    结束行（不包含）
+     * @param isLast 是否最后分块
+     * @return 返回分块
+     */
+    protected Block compressBlock(RowReader reader, int begin, int end, boolean isLast) {
+        Format format = reader.format;
+        int filteredRowBytes = format.rowBytes + 1;
+        Filter filter = new Filter(format, this.filterType);
+        Deflater deflater = new Deflater(this.level, true);
+        try {
+            // 设置预设字典（前一分块末尾数据）
+            if (begin > 0) {
+                int rows = Math.min(begin, (DICTIONARY_SIZE + filteredRowBytes - 1) / filteredRowBytes);
+                byte[] dictionary = new byte[rows * filteredRowBytes];
+                this.filterRows(reader, filter, begin - rows, begin, dictionary);
+                int length = Math.min(dictionary.length, DICTIONARY_SIZE);
+                deflater.setDictionary(dictionary, dictionary.length - length, length);
+            }
+            // 过滤分块
+            byte[] filtered = new byte[(end - begin) * filteredRowBytes];
+            this.filterRows(reader, filter, begin, end, filtered);
+            Adler32 adler32 = new Adler32();
+            adler32.update(filtered, 0, filtered.length);
+            // 压缩分块
+            ByteArrayOutputStream output = new ByteArrayOutputStream(filtered.length / 4 + 64);
+            byte[] buffer = new byte[CHUNK_SIZE];
+            deflater.setInput(filtered);
+            if (isLast) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    output.write(buffer, 0, deflater.deflate(buffer));
+                }
+            } else {
+                int count;
+                do {
+                    count = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                    output.write(buffer, 0, count);
+                } while (count == buffer.length || !deflater.needsInput());
+            }
+            return new Block(output.toByteArray(), adler32.getValue(), filtered.length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * 过滤行
+     *
+     * @param reader 行读取器
+     * @param filter 过滤器
+     * @param begin  起始行
+     * @param end    结束行（不包含）
+     * @param target 目标数据
+     */
+    protected void filterRows(RowReader reader, Filter filter, int begin, int end, byte[] target) {
+        Format format = reader.format;
+        byte[] previous = new byte[format.rowBytes];
+        byte[] current = new byte[format.rowBytes];
+        if (begin > 0) {
+            reader.read(begin - 1, previous);
+        }
+        int offset = 0;
+        for (int y = begin; y < end; y++) {
+            reader.read(y, current);
+            byte[] filtered = filter.apply(current, previous);
+            System.arraycopy(filtered, 0, target, offset, filtered.length);
+            offset = offset + filtered.length;
+            byte[] temp = previous;
+            previous = current;
+            current = temp;
+        }
+    }
+
+    /**
+     * 获取zlib标记（包含压缩级别与校验位）
+     *
+     * @return 返回zlib标记
+     */
+    protected int getZlibFlag() {
+        int flevel;
+        if (this.level >= 0 && this.level <= 1) {
+            flevel = 0;
+        } else if (this.level >= 2 && this.level <= 5) {
+            flevel = 1;
+        } else if (this.level == 6 || this.level == Deflater.DEFAULT_COMPRESSION) {
+            flevel = 2;
+        } else {
+            flevel = 3;
+        }
+        int flag = flevel << 6;
+        return flag + (31 - ((0x78 << 8) + flag) % 31);
+    }
+
+    /**
+     * 合并adler32校验和
+     *
+     * @param adler1 前段校验和
+     * @param adler2 后段校验和
+     * @param length 后段长度
+     * @return 返回校验和
+     */
+    protected static long combineAdler32(long adler1, long adler2, long length) {
+        final long base = 65521L;
+        long remainder = length % base;
+        long sum1 = adler1 & 0xFFFF;
+        long sum2 = (remainder * sum1) % base;
+        sum1 = sum1 + (adler2 & 0xFFFF) + base - 1;
+        sum2 = sum2 + ((adler1 >>> 16) & 0xFFFF) + ((adler2 >>> 16) & 0xFFFF) + base - remainder;
+        if (sum1 >= base) {
+            sum1 = sum1 - base;
+        }
+        if (sum1 >= base) {
+            sum1 = sum1 - base;
+        }
+        if (sum2 >= (base << 1)) {
+            sum2 = sum2 - (base << 1);
+        }
+        if (sum2 >= base) {
+            sum2 = sum2 - base;
+        }
+        return sum1 | (sum2 << 16);
+    }
+
+    /**
+     * 写入数据块
+     *
+     * @param outputStream 输出流
+     * @param type         类型
+     * @param data         数据
+     * @param length       数据长度
+     */
+    protected static void writeChunk(OutputStream outputStream, String type, byte[] data, int length) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data, 0, length);
+        DataOutputStream output = new DataOutputStream(outputStream);
+        output.writeInt(length);
+        output.write(typeBytes);
+        output.write(data, 0, length);
+        output.writeInt((int) crc.getValue());
+    }
+
+    /**
+     * 行写入器（顺序压缩）
+     */
+    public class RowWriter {
+
+        /**
+         * 输出流
+         */
+        protected final IdatOutputStream outputStream;
+        /**
+         * 格式
+         */
+        protected final Format format;
+        /**
+         * 压缩器
+         */
+        protected final Deflater deflater;
+        /**
+         * 过滤器
+         */
+        protected final Filter filter;
+        /**
+         * 打包行
+         */
+        protected final byte[] packed;
+        /**
+         * 当前行
+         */
+        protected byte[] current;
+        /**
+         * 上一行
+         */
+        protected byte[] previous;
+        /**
+         * 压缩缓冲
+         */
+        protected final byte[] buffer;
+
+        /**
+         * 有参构造
+         *
+         * @param outputStream 输出流
+         * @param format       格式
+         */
+        protected RowWriter(OutputStream outputStream, Format format) {
+            Buffers buffers = PngEncoder.this.buffers.get();
+            this.outputStream = new IdatOutputStream(outputStream);
+            this.format = format;
+            this.deflater = buffers.deflater;
+            this.deflater.reset();
+            this.filter = new Filter(format, PngEncoder.this.filterType);
+            this.packed = new byte[format.rowBytes];
+            this.current = new byte[format.rowBytes];
+            this.previous = new byte[format.rowBytes];
+            this.buffer = buffers.buffer;
+        }
+
+        /**
+         * 写入行（每个样本一个字节，黑白图像样本为0或1）
+         *
+         * @param samples 行样本
+         * @throws IOException IO异常
+         */
+        public void writeRow(byte[] samples) throws IOException {
+            this.format.pack(samples, this.packed);
+            this.writePackedRow(this.packed);
+        }
+
+        /**
+         * 结束写入
+         *
+         * @throws IOException IO异常
+         */
+        public void finish() throws IOException {
+            this.finishData();
+            writeChunk(this.outputStream.outputStream, "IEND", new byte[0], 0);
+            this.outputStream.outputStream.flush();
+        }
+
+        /**
+         * 写入打包行
+         *
+         * @param row 打包行
+         */
+        protected void writePackedRow(byte[] row) throws IOException {
+            System.arraycopy(row, 0, this.current, 0, this.format.rowBytes);
+            byte[] filtered = this.filter.apply(this.current, this.previous);
+            this.deflater.setInput(filtered);
+            while (!this.deflater.needsInput()) {
+                int count = this.deflater.deflate(this.buffer);
+                this.outputStream.write(this.buffer, 0, count);
+            }
+            byte[] temp = this.previous;
+            this.previous = this.current;
+            this.current = temp;
+        }
+
+        /**
+         * 结束图像数据
+         */
+        protected void finishData() throws IOException {
+            this.deflater.finish();
+            while (!this.deflater.finished()) {
+                int count = this.deflater.deflate(this.buffer);
+                this.outputStream.write(this.buffer, 0, count);
+            }
+            this.outputStream.flush();
+            this.deflater.reset();
+        }
+    }
+
+    /**
+     * 格式
+     */
+    protected static class Format {
+
+        /**
+         * 图像宽度
+         */
+        protected final int width;
+        /**
+         * 每像素样本数
+         */
+        protected final int bands;
+        /**
+         * 样本位数
+         */
+        protected final int bitDepth;
+        /**
+         * 颜色类型
+         */
+        protected final int colorType;
+        /**
+         * 行字节数
+         */
+        protected final int rowBytes;
+        /**
+         * 每像素字节数
+         */
+        protected final int bpp;
+
+        /**
+         * 有参构造
+         *
+         * @param width    图像宽度
+         * @param bands    每像素样本数
+         * @param bitDepth 样本位数
+         */
+        protected Format(int width, int bands, int bitDepth) {
+            if (bands != 1 && bands != 3 && bands != 4) {
+                throw new IllegalArgumentException("the bands must be 1, 3 or 4");
+            }
+            if (bitDepth != 8 && !(bitDepth == 1 && bands == 1)) {
+                throw new IllegalArgumentException("the bit depth must be 8, or 1 for single band");
+            }
+            this.width = width;
+            this.bands = bands;
+            this.bitDepth = bitDepth;
+            this.colorType = bands == 1 ? 0 : bands == 4 ? 6 : 2;
+            this.rowBytes = bitDepth == 1 ? (width + 7) / 8 : width * bands;
+            this.bpp = Math.max(1, bands * bitDepth / 8);
+        }
+
+        /**
+         * 打包行（每个样本一个字节转为行数据）
+         *
+         * @param samples 行样本
+         * @param target  目标数据
+         */
+        protected void pack(byte[] samples, byte[] target) {
+            if (this.bitDepth == 1) {
+                Arrays.fill(target, 0, this.rowBytes, (byte) 0);
+                for (int i = 0; i < this.width; i++) {
+                    if (samples[i] != 0) {
+                        target[i >> 3] |= (byte) (0x80 >>> (i & 7));
+                    }
+                }
+            } else {
+                System.arraycopy(samples, 0, target, 0, this.rowBytes);
+            }
+        }
+    }
+
+    /**
+     * 行读取器（线程安全，只读访问图像）
+     */
+    protected static class RowReader {
+
+        /**
+         * 图像
+         */
+        protected final BufferedImage image;
+        /**
+         * 格式
+         */
+        protected final Format format;
+        /**
+         * 是否按栅格样本读取
+         */
+        protected final boolean isRaster;
+
+        /**
+         * 有参构造
+         *
+         * @param image 图像
+         */
+        protected RowReader(BufferedImage image) {
+            this.image = image;
+            int width = image.getWidth();
+            if (image.getType() == BufferedImage.TYPE_BYTE_GRAY) {
+                this.format = new Format(width, 1, 8);
+                this.isRaster = true;
+            } else if (image.getType() == BufferedImage.TYPE_BYTE_BINARY && isBlackWhite(image)) {
+                this.format = new Format(width, 1, 1);
+                this.isRaster = true;
+            } else {
+                this.format = new Format(width, image.getColorModel().hasAlpha() ? 4 : 3, 8);
+                this.isRaster = false;
+            }
+        }
+
+        /**
+         * 读取行
+         *
+         * @param y      行索引
+         * @param target 目标数据（打包后）
+         */
+        protected void read(int y, byte[] target) {
+            int width = this.format.width;
+            if (this.isRaster) {
+                Raster raster = this.image.getRaster();
+                int[] samples = raster.getPixels(0, y, width, 1, (int[]) null);
+                if (this.format.bitDepth == 1) {
+                    Arrays.fill(target, 0, this.format.rowBytes, (byte) 0);
+                    for (int i = 0; i < width; i++) {
+                        if (samples[i] != 0) {
+                            target[i >> 3] |= (byte) (0x80 >>> (i & 7));
+                        }
+                    }
+                } else {
+                    for (int i = 0; i < width; i++) {
+                        target[i] = (byte) samples[i];
+                    }
+                }
+            } else {
+                int[] pixels = this.image.getRGB(0, y, width, 1, null, 0, width);
+                int offset = 0;
+                if (this.format.bands == 4) {
+                    for (int pixel : pixels) {
+                        target[offset++] = (byte) (pixel >>> 16);
+                        target[offset++] = (byte) (pixel >>> 8);
+                        target[offset++] = (byte) pixel;
+                        target[offset++] = (byte) (pixel >>> 24);
+                    }
+                } else {
+                    for (int pixel : pixels) {
+                        target[offset++] = (byte) (pixel >>> 16);
+                        target[offset++] = (byte) (pixel >>> 8);
+                        target[offset++] = (byte) pixel;
+                    }
+                }
+            }
+        }
+
+        /**
+         * 是否黑白调色板（0为黑，1为白）
+         *
+         * @param image 图像
+         * @return 返回布尔值，true为是，false为否
+         */
+        protected static boolean isBlackWhite(BufferedImage image) {
+            if (!(image.getColorModel() instanceof IndexColorModel)) {
+                return false;
+            }
+            IndexColorModel model = (IndexColorModel) image.getColorModel();
+            return model.getMapSize() == 2 &&
+                    image.getSampleModel().getSampleSize(0) == 1 &&
+                    (model.getRGB(0) & 0xFFFFFF) == 0 &&
+                    (model.getRGB(1) & 0xFFFFFF) == 0xFFFFFF &&
+                    !model.hasAlpha();
+        }
+    }
+
+    /**
+     * 过滤器
+     */
+    protected static class Filter {
+
+        /**
+         * 格式
+         */
+        protected final Format format;
+        /**
+         * 过滤类型
+         */
+        protected final PngFilterType filterType;
+        /**
+         * 过滤行（按过滤类型）
+         */
+        protected final byte[][] rows = new byte[5][];
+
+        /**
+         * 有参构造
+         *
+         * @param format     格式
+         * @param filterType 过滤类型
+         */
+        protected Filter(Format format, PngFilterType filterType) {
+            this.format = format;
+            // 1位图像不过滤
+            this.filterType = format.bitDepth == 1 ? PngFilterType.NONE : filterType;
+        }
+
+        /**
+         * 过滤行
+         *
+         * @param current  当前行
+         * @param previous 上一行
+         * @return 返回过滤行（首字节为过滤类型）
+         */
+        protected byte[] apply(byte[] current, byte[] previous) {
+            if (this.filterType != PngFilterType.ADAPTIVE) {
+                return this.apply(this.filterType.getType(), current, previous);
+            }
+            byte[] best = null;
+            long bestSum = Long.MAX_VALUE;
+            for (int type = 0; type < 5; type++) {
+                byte[] row = this.apply(type, current, previous);
+                long sum = 0L;
+                for (int i = 1; i < row.length; i++) {
+                    sum = sum + Math.abs(row[i]);
+                }
+                if (sum < bestSum) {
+                    bestSum = sum;
+                    best = row;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * 过滤行
+         *
+         * @param type     过滤类型
+         * @param current  当前行
+         * @param previous 上一行
+         * @return 返回过滤行
+         */
+        protected byte[] apply(int type, byte[] current, byte[] previous) {
+            int length = this.format.rowBytes;
+            int bpp = this.format.bpp;
+            byte[] row = this.rows[type];
+            if (Objects.isNull(row)) {
+                row = new byte[length + 1];
+                this.rows[type] = row;
+            }
+            row[0] = (byte) type;
+            switch (type) {
+                case 0:
+                    System.arraycopy(current, 0, row, 1, length);
+                    break;
+                case 1:
+                    for (int i = 0; i < length; i++) {
+                        int a = i >= bpp ? current[i - bpp] & 0xFF : 0;
+                        row[i + 1] = (byte) ((current[i] & 0xFF) - a);
+                    }
+                    break;
+                case 2:
+                    for (int i = 0; i < length; i++) {
+                        row[i + 1] = (byte) ((current[i] & 0xFF) - (previous[i] & 0xFF));
+                    }
+                    break;
+                case 3:
+                    for (int i = 0; i < length; i++) {
+                        int a = i >= bpp ? current[i - bpp] & 0xFF : 0;
+                        row[i + 1] = (byte) ((current[i] & 0xFF) - ((a + (previous[i] & 0xFF)) >>> 1));
+                    }
+                    break;
+                default:
+                    for (int i = 0; i < length; i++) {
+                        int a = i >= bpp ? current[i - bpp] & 0xFF : 0;
+                        int b = previous[i] & 0xFF;
+                        int c = i >= bpp ? previous[i - bpp] & 0xFF : 0;
+                        row[i + 1] = (byte) ((current[i] & 0xFF) - paeth(a, b, c));
+                    }
+            }
+            return row;
+        }
+
+        /**
+         * paeth预测
+         *
+         * @param a 左侧
+         * @param b 上方
+         * @param c 左上
+         * @return 返回预测值
+         */
+        protected static int paeth(int a, int b, int c) {
+            int p = a + b - c;
+            int pa = Math.abs(p - a);
+            int pb = Math.abs(p - b);
+            int pc = Math.abs(p - c);
+            if (pa <= pb && pa <= pc) {
+                return a;
+            }
+            return pb <= pc ? b : c;
+        }
+    }
+
+    /**
+     * 分块
+     */
+    protected static class Block {
+
+        /**
+         * 压缩数据
+         */
+        protected final byte[] data;
+        /**
+         * 校验和
+         */
+        protected final long adler;
+        /**
+         * 原始长度
+         */
+        protected final long length;
+
+        /**
+         * 有参构造
+         *
+         * @param data   压缩数据
+         * @param adler  校验和
+         * @param length 原始长度
+         */
+        protected Block(byte[] data, long adler, long length) {
+            this.data = data;
+            this.adler = adler;
+            this.length = length;
+        }
+    }
+
+    /**
+     * 线程缓存
+     */
+    protected static class Buffers {
+
+        /**
+         * 压缩器
+         */
+        protected final Deflater deflater;
+        /**
+         * 压缩缓冲
+         */
+        protected final byte[] buffer = new byte[CHUNK_SIZE];
+
+        /**
+         * 有参构造
+         *
+         * @param level 压缩级别
+         */
+        protected Buffers(int level) {
+            this.deflater = new Deflater(level);
+        }
+    }
+
+    /**
+     * IDAT输出流（缓冲为数据块写入）
+     */
+    protected static class IdatOutputStream extends OutputStream {
+
+        /**
+         * 输出流
+         */
+        protected final OutputStream outputStream;
+        /**
+         * 缓冲
+         */
+        protected final byte[] buffer = new byte[CHUNK_SIZE];
+        /**
+         * 缓冲数量
+         */
+        protected int count;
+
+        /**
+         * 有参构造
+         *
+         * @param outputStream 输出流
+         */
+        protected IdatOutputStream(OutputStream outputStream) {
+            this.outputStream = outputStream;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (this.count == this.buffer.length) {
+                this.flush();
+            }
+            this.buffer[this.count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (this.count == this.buffer.length) {
+                    this.flush();
+                }
+                int length = Math.min(len, this.buffer.length - this.count);
+                System.arraycopy(b, off, this.buffer, this.count, length);
+                this.count = this.count + length;
+                off = off + length;
+                len = len - length;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (this.count > 0) {
+                writeChunk(this.outputStream, "IDAT", this.buffer, this.count);
+                this.count = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.dromara.pdf.pdfbox.support;
+
+import lombok.SneakyThrows;
+import org.dromara.pdf.shade.org.apache.fontbox.ttf.TrueTypeFont;
+
+import java.util.Objects;
+
+/**
+ * 预处理字体（线程安全）
+ * <p>注：进程级共享，强引用已解析的字体并预先解析加载pdfbox字体所需的字体表（头部、度量、cmap、GSUB等），各文档加载字体时直接复用，不再重复解析</p>
+ * <p>注：pdfbox字体中的子集化状态与宽度数组属于文档，仍由各文档单独创建</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class PreparedFont {
+
+    /**
+     * 字体名称
+     */
+    protected final String name;
+    /**
+     * 字体
+     */
+    protected final TrueTypeFont font;
+    /**
+     * 是否支持子集
+     */
+    protected final boolean isSubsetSupported;
+
+    /**
+     * 有参构造
+     *
+     * @param name              字体名称
+     * @param font              字体
+     * @param isSubsetSupported 是否支持子集
+     */
+    @SneakyThrows
+    protected PreparedFont(String name, TrueTypeFont font, boolean isSubsetSupported) {
+        this.name = name;
+        this.font = font;
+        this.isSubsetSupported = isSubsetSupported;
+        // 预先解析字体表（字体表解析过程已加锁，解析后只读）
+        font.getHeader();
+        font.getHorizontalHeader();
+        font.getHorizontalMetrics();
+        font.getMaximumProfile();
+        font.getOS2Windows();
+        font.getPostScript();
+        font.getNaming();
+        font.getIndexToLocation();
+        font.getUnicodeCmapLookup();
+        font.getGsubData();
+    }
+
+    /**
+     * 创建预处理字体
+     *
+     * @param name              字体名称
+     * @param font              字体
+     * @param isSubsetSupported 是否支持子集
+     * @return 返回预处理字体
+     */
+    public static PreparedFont of(String name, TrueTypeFont font, boolean isSubsetSupported) {
+        Objects.requireNonNull(name, "the name can not be null");
+        Objects.requireNonNull(font, "the font can not be null");
+        return new PreparedFont(name, font, isSubsetSupported);
+    }
+
+    /**
+     * 获取字体名称
+     *
+     * @return 返回字体名称
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * 获取字体
+     *
+     * @return 返回字体
+     */
+    public TrueTypeFont getFont() {
+        return this.font;
+    }
+
+    /**
+     * 是否支持子集
+     *
+     * @return 返回布尔值，true为是，false为否
+     */
+    public boolean isSubsetSupported() {
+        return this.isSubsetSupported;
+    }
+}
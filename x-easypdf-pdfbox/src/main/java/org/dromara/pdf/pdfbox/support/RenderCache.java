@@ -0,0 +1,521 @@
+package org.dromara.pdf.pdfbox.support;
+
+import lombok.SneakyThrows;
+import org.dromara.pdf.pdfbox.util.DigestUtil;
+import org.dromara.pdf.shade.org.apache.pdfbox.cos.*;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDDocument;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPage;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.common.PDRectangle;
+
+import java.io.*;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 渲染缓存（磁盘，线程安全）
+ * <p>注：以页面内容摘要（内容流、资源、注释、页面尺寸与旋转、可选内容配置）与渲染参数为键，将编码后的图像保存在本地目录中，重复渲染时直接读取文件</p>
+ * <p>注：按总字节数与文件数量限制容量，超出时按最近最少使用顺序淘汰；目录中已有的缓存文件在创建时按修改时间加载，可跨进程复用</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class RenderCache {
+
+    /**
+     * 缓存文件后缀
+     */
+    protected static final String SUFFIX = ".cache";
+
+    /**
+     * 缓存目录
+     */
+    protected final Path directory;
+    /**
+     * 最大字节数
+     */
+    protected final long maxBytes;
+    /**
+     * 最大文件数量
+     */
+    protected final int maxEntries;
+    /**
+     * 缓存字典（访问顺序，值为文件字节数）
+     */
+    protected final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(64, 0.75F, true);
+    /**
+     * 当前字节数
+     */
+    protected long bytes;
+    /**
+     * 命中次数
+     */
+    protected final AtomicLong hitCount = new AtomicLong();
+    /**
+     * 未命中次数
+     */
+    protected final AtomicLong missCount = new AtomicLong();
+    /**
+     * 淘汰次数
+     */
+    protected final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * 有参构造
+     *
+     * @param directory  缓存目录
+     * @param maxBytes   最大字节数
+     * @param maxEntries 最大文件数量
+     */
+    @SneakyThrows
+    public RenderCache(Path directory, long maxBytes, int maxEntries) {
+        Objects.requireNonNull(directory, "the directory can not be null");
+        if (maxBytes < 1 || maxEntries < 1) {
+            throw new IllegalArgumentException("the max bytes and max entries must be greater than 0");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.maxBytes = maxBytes;
+        this.maxEntries = maxEntries;
+        this.load();
+    }
+
+    /**
+     * 创建缓存键
+     *
+     * @param document   pdfbox文档
+     * @param pageIndex  页面索引
+     * @param parameters 渲染参数
+     * @return 返回缓存键（十六进制摘要）
+     */
+    @SneakyThrows
+    public static String createKey(PDDocument document, int pageIndex, String parameters) {
+        Objects.requireNonNull(document, "the document can not be null");
+        Objects.requireNonNull(parameters, "the parameters can not be null");
+        PDPage page = document.getPage(pageIndex);
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        Map<COSBase, Integer> visited = new IdentityHashMap<>(64);
+        // 页面字典（父节点为页面树，继承属性单独写入）
+        COSDictionary dictionary = page.getCOSObject();
+        visited.put(dictionary, visited.size());
+        DigestUtil.update(digest, "page");
+        for (Map.Entry<COSName, COSBase> entry : sort(dictionary)) {
+            if (!COSName.PARENT.equals(entry.getKey())) {
+                DigestUtil.update(digest, entry.getKey().getName());
+                update(digest, entry.getValue(), visited);
+            }
+        }
+        // 继承属性
+        DigestUtil.update(digest, "resources");
+        update(digest, page.getResources().getCOSObject(), visited);
+        DigestUtil.update(digest, "box");
+        update(digest, page.getMediaBox());
+        update(digest, page.getCropBox());
+        DigestUtil.update(digest, String.valueOf(page.getRotation()));
+        // 可选内容配置
+        DigestUtil.update(digest, "oc");
+        update(digest, document.getDocumentCatalog().getCOSObject().getDictionaryObject(COSName.OCPROPERTIES), visited);
+        // 渲染参数
+        DigestUtil.update(digest, "parameters");
+        DigestUtil.update(digest, parameters);
+        return DigestUtil.toHex(digest.digest());
+    }
+
+    /**
+     * 写入缓存到输出流
+     *
+     * @param key          缓存键
+     * @param outputStream 输出流
+     * @return 返回布尔值，true为命中，false为未命中
+     */
+    @SneakyThrows
+    public boolean copyTo(String key, OutputStream outputStream) {
+        Objects.requireNonNull(outputStream, "the output stream can not be null");
+        Path path = this.touch(key);
+        if (Objects.nonNull(path)) {
+            try {
+                Files.copy(path, outputStream);
+                this.hitCount.incrementAndGet();
+                return true;
+            } catch (NoSuchFileException e) {
+                // 并发淘汰，视为未命中
+                this.remove(key);
+            }
+        }
+        this.missCount.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * 获取缓存
+     *
+     * @param key 缓存键
+     * @return 返回缓存字节，未命中时返回null
+     */
+    @SneakyThrows
+    public byte[] get(String key) {
+        Path path = this.touch(key);
+        if (Objects.nonNull(path)) {
+            try {
+                byte[] data = Files.readAllBytes(path);
+                this.hitCount.incrementAndGet();
+                return data;
+            } catch (NoSuchFileException e) {
+                // 并发淘汰，视为未命中
+                this.remove(key);
+            }
+        }
+        this.missCount.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * 是否包含缓存（不影响统计与访问顺序）
+     *
+     * @param key 缓存键
+     * @return 返回布尔值，true为是，false为否
+     */
+    public boolean contains(String key) {
+        synchronized (this.entries) {
+            return this.entries.containsKey(key);
+        }
+    }
+
+    /**
+     * 添加缓存
+     * <p>注：先写入临时文件再移动，读取方不会读到不完整的文件</p>
+     *
+     * @param key  缓存键
+     * @param data 缓存字节
+     */
+    @SneakyThrows
+    public void put(String key, byte[] data) {
+        Objects.requireNonNull(key, "the key can not be null");
+        Objects.requireNonNull(data, "the data can not be null");
+        if (data.length > this.maxBytes) {
+            return;
+        }
+        Path temp = Files.createTempFile(this.directory, key, ".tmp");
+        try {
+            Files.write(temp, data);
+            Files.move(temp, this.getPath(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        List<String> evicted = new ArrayList<>();
+        synchronized (this.entries) {
+            Long old = this.entries.put(key, (long) data.length);
+            this.bytes = this.bytes + data.length - (Objects.nonNull(old) ? old : 0L);
+            this.evict(evicted);
+        }
+        this.delete(evicted);
+    }
+
+    /**
+     * 移除缓存
+     *
+     * @param key 缓存键
+     */
+    @SneakyThrows
+    public void remove(String key) {
+        synchronized (this.entries) {
+            Long old = this.entries.remove(key);
+            if (Objects.nonNull(old)) {
+                this.bytes = this.bytes - old;
+            }
+        }
+        Files.deleteIfExists(this.getPath(key));
+    }
+
+    /**
+     * 清理缓存（删除全部缓存文件）
+     */
+    public void clear() {
+        List<String> keys;
+        synchronized (this.entries) {
+            keys = new ArrayList<>(this.entries.keySet());
+            this.entries.clear();
+            this.bytes = 0L;
+        }
+        this.delete(keys);
+    }
+
+    /**
+     * 获取缓存数量
+     *
+     * @return 返回缓存数量
+     */
+    public int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    /**
+     * 获取缓存字节数
+     *
+     * @return 返回缓存字节数
+     */
+    public long getBytes() {
+        synchronized (this.entries) {
+            return this.bytes;
+        }
+    }
+
+    /**
+     * 获取缓存目录
+     *
+     * @return 返回缓存目录
+     */
+    public Path getDirectory() {
+        return this.directory;
+    }
+
+    /**
+     * 获取最大字节数
+     *
+     * @return 返回最大字节数
+     */
+    public long getMaxBytes() {
+        return this.maxBytes;
+    }
+
+    /**
+     * 获取最大文件数量
+     *
+     * @return 返回最大文件数量
+     */
+    public int getMaxEntries() {
+        return this.maxEntries;
+    }
+
+    /**
+     * 获取命中次数
+     *
+     * @return 返回命中次数
+     */
+    public long getHitCount() {
+        return this.hitCount.get();
+    }
+
+    /**
+     * 获取未命中次数
+     *
+     * @return 返回未命中次数
+     */
+    public long getMissCount() {
+        return this.missCount.get();
+    }
+
+    /**
+     * 获取淘汰次数
+     *
+     * @return 返回淘汰次数
+     */
+    public long getEvictionCount() {
+        return this.evictionCount.get();
+    }
+
+    /**
+     * 获取命中率
+     *
+     * @return 返回命中率（0~1）
+     */
+    public double getHitRate() {
+        long hit = this.hitCount.get();
+        long total = hit + this.missCount.get();
+        return total == 0 ? 0D : (double) hit / total;
+    }
+
+    /**
+     * 重置统计
+     */
+    public void resetStats() {
+        this.hitCount.set(0);
+        this.missCount.set(0);
+        this.evictionCount.set(0);
+    }
+
+    /**
+     * 字符串
+     *
+     * @return 返回字符串
+     */
+    @Override
+    public String toString() {
+        return "RenderCache{" +
+                "directory=" + this.directory +
+                ", size=" + this.size() +
+                ", bytes=" + this.getBytes() +
+                ", maxEntries=" + this.maxEntries +
+                ", maxBytes=" + this.maxBytes +
+                ", hitCount=" + this.getHitCount() +
+                ", missCount=" + this.getMissCount() +
+                ", evictionCount=" + this.getEvictionCount() +
+                '}';
+    }
+
+    /**
+     * 加载目录中已有的缓存文件（按修改时间排序）
+     */
+    @SneakyThrows
+    protected void load() {
+        List<Path> paths = new ArrayList<>();
+        try (Stream<Path> stream = Files.list(this.directory)) {
+            stream.filter(path -> path.getFileName().toString().endsWith(SUFFIX)).forEach(paths::add);
+        }
+        Map<Path, FileTime> times = new HashMap<>(paths.size());
+        for (Path path : paths) {
+            times.put(path, Files.getLastModifiedTime(path));
+        }
+        paths.sort(Comparator.comparing(times::get));
+        List<String> evicted = new ArrayList<>();
+        synchronized (this.entries) {
+            for (Path path : paths) {
+                String name = path.getFileName().toString();
+                long size = Files.size(path);
+                this.entries.put(name.substring(0, name.length() - SUFFIX.length()), size);
+                this.bytes = this.bytes + size;
+            }
+            this.evict(evicted);
+        }
+        this.delete(evicted);
+    }
+
+    /**
+     * 访问缓存（更新访问顺序与文件修改时间）
+     *
+     * @param key 缓存键
+     * @return 返回缓存文件，不存在时返回null
+     */
+    protected Path touch(String key) {
+        Objects.requireNonNull(key, "the key can not be null");
+        synchronized (this.entries) {
+            if (Objects.isNull(this.entries.get(key))) {
+                return null;
+            }
+        }
+        Path path = this.getPath(key);
+        try {
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ignored) {
+            // ignore
+        }
+        return path;
+    }
+
+    /**
+     * 淘汰缓存（需持有锁）
+     *
+     * @param evicted 淘汰的缓存键
+     */
+    protected void evict(List<String> evicted) {
+        Iterator<Map.Entry<String, Long>> iterator = this.entries.entrySet().iterator();
+        while ((this.bytes > this.maxBytes || this.entries.size() > this.maxEntries) && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            iterator.remove();
+            this.bytes = this.bytes - eldest.getValue();
+            this.evictionCount.incrementAndGet();
+            evicted.add(eldest.getKey());
+        }
+    }
+
+    /**
+     * 删除缓存文件
+     *
+     * @param keys 缓存键
+     */
+    protected void delete(List<String> keys) {
+        for (String key : keys) {
+            try {
+                Files.deleteIfExists(this.getPath(key));
+            } catch (IOException ignored) {
+                // ignore
+            }
+        }
+    }
+
+    /**
+     * 获取缓存文件
+     *
+     * @param key 缓存键
+     * @return 返回缓存文件
+     */
+    protected Path getPath(String key) {
+        return this.directory.resolve(key + SUFFIX);
+    }
+
+    /**
+     * 排序字典项（按键名称）
+     *
+     * @param dictionary 字典
+     * @return 返回字典项
+     */
+    protected static List<Map.Entry<COSName, COSBase>> sort(COSDictionary dictionary) {
+        List<Map.Entry<COSName, COSBase>> list = new ArrayList<>(dictionary.entrySet());
+        list.sort(Comparator.comparing(entry -> entry.getKey().getName()));
+        return list;
+    }
+
+    /**
+     * 更新摘要（矩形）
+     *
+     * @param digest    摘要
+     * @param rectangle 矩形
+     */
+    protected static void update(MessageDigest digest, PDRectangle rectangle) {
+        DigestUtil.update(digest, Float.floatToIntBits(rectangle.getLowerLeftX()));
+        DigestUtil.update(digest, Float.floatToIntBits(rectangle.getLowerLeftY()));
+        DigestUtil.update(digest, Float.floatToIntBits(rectangle.getUpperRightX()));
+        DigestUtil.update(digest, Float.floatToIntBits(rectangle.getUpperRightY()));
+    }
+
+    /**
+     * 更新摘要（pdf对象，递归）
+     * <p>注：间接对象解引用，重复访问的对象仅写入首次访问序号（避免循环引用）；流写入原始（编码后）字节</p>
+     *
+     * @param digest  摘要
+     * @param base    pdf对象
+     * @param visited 已访问对象
+     */
+    protected static void update(MessageDigest digest, COSBase base, Map<COSBase, Integer> visited) throws IOException {
+        DigestUtil.update(digest, base, (d, container) -> updateContainer(d, container, visited));
+    }
+
+    /**
+     * 更新摘要（字典、流或数组，内联递归）
+     *
+     * @param digest    摘要
+     * @param container 字典、流或数组
+     * @param visited   已访问对象
+     */
+    protected static void updateContainer(MessageDigest digest, COSBase container, Map<COSBase, Integer> visited) throws IOException {
+        Integer order = visited.get(container);
+        // 其他页面（如链接目标）仅写入标记，避免摘要包含整个页面树
+        if (Objects.isNull(order) && DigestUtil.isPageNode(container)) {
+            digest.update((byte) 'p');
+            return;
+        }
+        if (Objects.nonNull(order)) {
+            digest.update((byte) 'r');
+            DigestUtil.update(digest, order);
+            return;
+        }
+        visited.put(container, visited.size());
+        DigestUtil.updateContainer(digest, container, (d, child) -> updateContainer(d, child, visited));
+    }
+}
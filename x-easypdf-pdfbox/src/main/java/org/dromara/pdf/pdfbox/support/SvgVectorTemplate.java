@@ -0,0 +1,463 @@
+package org.dromara.pdf.pdfbox.support;
+
+import lombok.SneakyThrows;
+import org.apache.batik.anim.dom.SAXSVGDocumentFactory;
+import org.apache.batik.bridge.BridgeContext;
+import org.apache.batik.bridge.DocumentLoader;
+import org.apache.batik.bridge.GVTBuilder;
+import org.apache.batik.bridge.UserAgentAdapter;
+import org.apache.batik.ext.awt.image.renderable.ClipRable;
+import org.apache.batik.gvt.*;
+import org.apache.batik.util.XMLResourceDescriptor;
+import org.dromara.pdf.shade.org.apache.pdfbox.cos.COSDictionary;
+import org.dromara.pdf.shade.org.apache.pdfbox.cos.COSFloat;
+import org.dromara.pdf.shade.org.apache.pdfbox.cos.COSName;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDDocument;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDResources;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.graphics.form.PDFormXObject;
+import org.w3c.dom.svg.SVGDocument;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Dimension2D;
+import java.awt.geom.PathIterator;
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * svg矢量模板
+ * <p>注：将svg转换为与文档无关的pdf绘制指令（表单对象内容），创建后不可修改，可在多线程间共享</p>
+ * <p>注：支持纯色填充与描边、变换、裁剪与单个图形的透明度，包含渐变、滤镜、遮罩、标记、文本、图像或组透明度的svg无法转换</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class SvgVectorTemplate {
+
+    /**
+     * 宽度
+     */
+    protected final float width;
+    /**
+     * 高度
+     */
+    protected final float height;
+    /**
+     * 绘制指令
+     */
+    protected final byte[] content;
+    /**
+     * 透明度列表（图形状态名称为GS+索引）
+     */
+    protected final float[][] alphas;
+
+    /**
+     * 有参构造
+     *
+     * @param width   宽度
+     * @param height  高度
+     * @param content 绘制指令
+     * @param alphas  透明度列表
+     */
+    protected SvgVectorTemplate(float width, float height, byte[] content, float[][] alphas) {
+        this.width = width;
+        this.height = height;
+        this.content = content;
+        this.alphas = alphas;
+    }
+
+    /**
+     * 创建模板
+     *
+     * @param bytes svg字节数组
+     * @return 返回模板，无法转换时返回null
+     */
+    public static SvgVectorTemplate create(byte[] bytes) {
+        Objects.requireNonNull(bytes, "the bytes can not be null");
+        try {
+            // 构建图形树
+            SAXSVGDocumentFactory factory = new SAXSVGDocumentFactory(XMLResourceDescriptor.getXMLParserClassName());
+            SVGDocument document = factory.createSVGDocument("file:/x-easypdf.svg", new ByteArrayInputStream(bytes));
+            UserAgentAdapter userAgent = new UserAgentAdapter();
+            BridgeContext context = new BridgeContext(userAgent, new DocumentLoader(userAgent));
+            context.setDynamicState(BridgeContext.STATIC);
+            GraphicsNode root = new GVTBuilder().build(context, document);
+            Dimension2D size = context.getDocumentSize();
+            if (size.getWidth() <= 0 || size.getHeight() <= 0) {
+                return null;
+            }
+            // 写入绘制指令（翻转Y轴）
+            Writer writer = new Writer();
+            writer.append("1 0 0 -1 0 ").number(size.getHeight()).append(" cm\n");
+            if (!writer.writeNode(root)) {
+                return null;
+            }
+            return new SvgVectorTemplate(
+                    (float) size.getWidth(),
+                    (float) size.getHeight(),
+                    writer.builder.toString().getBytes(StandardCharsets.US_ASCII),
+                    writer.alphas.toArray(new float[0][])
+            );
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 创建表单对象
+     *
+     * @param document pdfbox文档
+     * @return 返回表单对象
+     */
+    @SneakyThrows
+    public PDFormXObject createForm(PDDocument document) {
+        Objects.requireNonNull(document, "the document can not be null");
+        PDFormXObject form = new PDFormXObject(document);
+        try (OutputStream outputStream = form.getCOSObject().createOutputStream(COSName.FLATE_DECODE)) {
+            outputStream.write(this.content);
+        }
+        form.setBBox(new PDRectangle(this.width, this.height));
+        PDResources resources = new PDResources();
+        if (this.alphas.length > 0) {
+            COSDictionary states = new COSDictionary();
+            for (int i = 0; i < this.alphas.length; i++) {
+                COSDictionary state = new COSDictionary();
+                state.setItem(COSName.TYPE, COSName.EXT_G_STATE);
+                state.setItem(COSName.CA_NS, new COSFloat(this.alphas[i][0]));
+                state.setItem(COSName.CA, new COSFloat(this.alphas[i][1]));
+                states.setItem(COSName.getPDFName("GS" + i), state);
+            }
+            resources.getCOSObject().setItem(COSName.EXT_G_STATE, states);
+        }
+        form.setResources(resources);
+        return form;
+    }
+
+    /**
+     * 获取宽度
+     *
+     * @return 返回宽度
+     */
+    public float getWidth() {
+        return this.width;
+    }
+
+    /**
+     * 获取高度
+     *
+     * @return 返回高度
+     */
+    public float getHeight() {
+        return this.height;
+    }
+
+    /**
+     * 获取绘制指令字节数
+     *
+     * @return 返回字节数
+     */
+    public int getContentLength() {
+        return this.content.length;
+    }
+
+    /**
+     * 绘制指令写入器
+     */
+    protected static class Writer {
+
+        /**
+         * 指令构建器
+         */
+        protected final StringBuilder builder = new StringBuilder(4096);
+        /**
+         * 透明度列表（填充透明度、描边透明度）
+         */
+        protected final List<float[]> alphas = new java.util.ArrayList<>();
+
+        /**
+         * 写入节点
+         *
+         * @param node 图形节点
+         * @return 返回布尔值，false为无法转换
+         */
+        protected boolean writeNode(GraphicsNode node) {
+            // 滤镜与遮罩无法转换
+            if (Objects.nonNull(node.getFilter()) || Objects.nonNull(node.getMask())) {
+                return false;
+            }
+            // 透明度
+            float opacity = 1F;
+            Composite composite = node.getComposite();
+            if (Objects.nonNull(composite)) {
+                if (!(composite instanceof AlphaComposite) || ((AlphaComposite) composite).getRule() != AlphaComposite.SRC_OVER) {
+                    return false;
+                }
+                opacity = ((AlphaComposite) composite).getAlpha();
+                // 组透明度无法转换
+                if (opacity < 1F && !(node instanceof ShapeNode)) {
+                    return false;
+                }
+            }
+            this.append("q\n");
+            // 变换
+            AffineTransform transform = node.getTransform();
+            if (Objects.nonNull(transform) && !transform.isIdentity()) {
+                this.number(transform.getScaleX()).space().number(transform.getShearY()).space()
+                        .number(transform.getShearX()).space().number(transform.getScaleY()).space()
+                        .number(transform.getTranslateX()).space().number(transform.getTranslateY()).append(" cm\n");
+            }
+            // 裁剪
+            ClipRable clip = node.getClip();
+            if (Objects.nonNull(clip)) {
+                int rule = this.path(clip.getClipPath());
+                this.append(rule == PathIterator.WIND_EVEN_ODD ? "W* n\n" : "W n\n");
+            }
+            boolean isSupported;
+            if (node instanceof CompositeGraphicsNode) {
+                isSupported = this.writeComposite((CompositeGraphicsNode) node);
+            } else if (node instanceof ShapeNode) {
+                ShapeNode shapeNode = (ShapeNode) node;
+                isSupported = !shapeNode.isVisible() || Objects.isNull(shapeNode.getShape()) || this.writePainter(shapeNode.getShapePainter(), shapeNode.getShape(), opacity);
+            } else {
+                // 文本、图像等节点无法转换
+                isSupported = false;
+            }
+            this.append("Q\n");
+            return isSupported;
+        }
+
+        /**
+         * 写入组合节点
+         *
+         * @param node 组合节点
+         * @return 返回布尔值，false为无法转换
+         */
+        protected boolean writeComposite(CompositeGraphicsNode node) {
+            // 画布背景
+            if (node instanceof CanvasGraphicsNode && Objects.nonNull(((CanvasGraphicsNode) node).getBackgroundPaint())) {
+                return false;
+            }
+            for (Object child : node) {
+                if (!this.writeNode((GraphicsNode) child)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 写入绘制器
+         *
+         * @param painter 绘制器
+         * @param shape   图形
+         * @param opacity 透明度
+         * @return 返回布尔值，false为无法转换
+         */
+        protected boolean writePainter(ShapePainter painter, Shape shape, float opacity) {
+            if (Objects.isNull(painter)) {
+                return true;
+            }
+            if (painter instanceof CompositeShapePainter) {
+                CompositeShapePainter composite = (CompositeShapePainter) painter;
+                for (int i = 0; i < composite.getShapePainterCount(); i++) {
+                    if (!this.writePainter(composite.getShapePainter(i), shape, opacity)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            if (painter instanceof FillShapePainter) {
+                Paint paint = ((FillShapePainter) painter).getPaint();
+                if (Objects.isNull(paint)) {
+                    return true;
+                }
+                if (!(paint instanceof Color)) {
+                    return false;
+                }
+                Color color = (Color) paint;
+                this.append("q\n");
+                this.alpha(color.getAlpha() / 255F * opacity, 1F);
+                this.color(color).append(" rg\n");
+                int rule = this.path(shape);
+                this.append(rule == PathIterator.WIND_EVEN_ODD ? "f*\nQ\n" : "f\nQ\n");
+                return true;
+            }
+            if (painter instanceof StrokeShapePainter) {
+                StrokeShapePainter strokePainter = (StrokeShapePainter) painter;
+                Paint paint = strokePainter.getPaint();
+                Stroke stroke = strokePainter.getStroke();
+                if (Objects.isNull(paint) || Objects.isNull(stroke)) {
+                    return true;
+                }
+                if (!(paint instanceof Color) || !(stroke instanceof BasicStroke)) {
+                    return false;
+                }
+                Color color = (Color) paint;
+                BasicStroke basicStroke = (BasicStroke) stroke;
+                this.append("q\n");
+                this.alpha(1F, color.getAlpha() / 255F * opacity);
+                this.color(color).append(" RG\n");
+                this.number(basicStroke.getLineWidth()).append(" w ")
+                        .number(basicStroke.getEndCap()).append(" J ")
+                        .number(basicStroke.getLineJoin()).append(" j ")
+                        .number(basicStroke.getMiterLimit()).append(" M\n");
+                float[] dash = basicStroke.getDashArray();
+                if (Objects.nonNull(dash) && dash.length > 0) {
+                    this.append("[");
+                    for (float value : dash) {
+                        this.number(value).space();
+                    }
+                    this.append("] ").number(basicStroke.getDashPhase()).append(" d\n");
+                }
+                this.path(shape);
+                this.append("S\nQ\n");
+                return true;
+            }
+            // 标记等绘制器无法转换
+            return false;
+        }
+
+        /**
+         * 写入透明度
+         *
+         * @param fillAlpha   填充透明度
+         * @param strokeAlpha 描边透明度
+         */
+        protected void alpha(float fillAlpha, float strokeAlpha) {
+            if (fillAlpha >= 1F && strokeAlpha >= 1F) {
+                return;
+            }
+            int index = -1;
+            for (int i = 0; i < this.alphas.size(); i++) {
+                float[] alpha = this.alphas.get(i);
+                if (alpha[0] == fillAlpha && alpha[1] == strokeAlpha) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                index = this.alphas.size();
+                this.alphas.add(new float[]{fillAlpha, strokeAlpha});
+            }
+            this.append("/GS").append(String.valueOf(index)).append(" gs\n");
+        }
+
+        /**
+         * 写入颜色
+         *
+         * @param color 颜色
+         * @return 返回写入器
+         */
+        protected Writer color(Color color) {
+            return this.number(color.getRed() / 255D).space().number(color.getGreen() / 255D).space().number(color.getBlue() / 255D);
+        }
+
+        /**
+         * 写入路径
+         *
+         * @param shape 图形
+         * @return 返回环绕规则
+         */
+        protected int path(Shape shape) {
+            PathIterator iterator = shape.getPathIterator(null);
+            double[] coords = new double[6];
+            double x = 0, y = 0;
+            while (!iterator.isDone()) {
+                switch (iterator.currentSegment(coords)) {
+                    case PathIterator.SEG_MOVETO:
+                        x = coords[0];
+                        y = coords[1];
+                        this.number(x).space().number(y).append(" m\n");
+                        break;
+                    case PathIterator.SEG_LINETO:
+                        x = coords[0];
+                        y = coords[1];
+                        this.number(x).space().number(y).append(" l\n");
+                        break;
+                    case PathIterator.SEG_QUADTO:
+                        // 二次曲线转换为三次曲线
+                        this.number(x + 2D / 3D * (coords[0] - x)).space().number(y + 2D / 3D * (coords[1] - y)).space()
+                                .number(coords[2] + 2D / 3D * (coords[0] - coords[2])).space().number(coords[3] + 2D / 3D * (coords[1] - coords[3])).space()
+                                .number(coords[2]).space().number(coords[3]).append(" c\n");
+                        x = coords[2];
+                        y = coords[3];
+                        break;
+                    case PathIterator.SEG_CUBICTO:
+                        this.number(coords[0]).space().number(coords[1]).space()
+                                .number(coords[2]).space().number(coords[3]).space()
+                                .number(coords[4]).space().number(coords[5]).append(" c\n");
+                        x = coords[4];
+                        y = coords[5];
+                        break;
+                    default:
+                        this.append("h\n");
+                }
+                iterator.next();
+            }
+            return iterator.getWindingRule();
+        }
+
+        /**
+         * 写入数字（最多4位小数）
+         *
+         * @param value 数值
+         * @return 返回写入器
+         */
+        protected Writer number(double value) {
+            long scaled = Math.round(value * 10000D);
+            if (scaled < 0) {
+                this.builder.append('-');
+                scaled = -scaled;
+            }
+            this.builder.append(scaled / 10000);
+            long fraction = scaled % 10000;
+            if (fraction != 0) {
+                this.builder.append('.');
+                String digits = String.valueOf(fraction + 10000).substring(1);
+                int end = digits.length();
+                while (digits.charAt(end - 1) == '0') {
+                    end--;
+                }
+                this.builder.append(digits, 0, end);
+            }
+            return this;
+        }
+
+        /**
+         * 写入空格
+         *
+         * @return 返回写入器
+         */
+        protected Writer space() {
+            this.builder.append(' ');
+            return this;
+        }
+
+        /**
+         * 写入文本
+         *
+         * @param text 文本
+         * @return 返回写入器
+         */
+        protected Writer append(String text) {
+            this.builder.append(text);
+            return this;
+        }
+    }
+}
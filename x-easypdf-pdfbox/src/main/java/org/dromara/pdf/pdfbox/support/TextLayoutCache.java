@@ -0,0 +1,379 @@
+package org.dromara.pdf.pdfbox.support;
+
+import org.dromara.pdf.pdfbox.core.base.config.FontConfiguration;
+import org.dromara.pdf.pdfbox.core.component.TextLineInfo;
+import org.dromara.pdf.pdfbox.core.ext.handler.tokenizer.AbstractTokenizer;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.font.PDFont;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 文本布局缓存（线程安全）
+ * <p>注：以（分词器、字体、特殊字体、字体大小、字符间距、行宽、文本）为键，缓存拆分后的文本行，可按文档或全局共享</p>
+ * <p>注：缓存的文本行信息为共享对象，请勿修改</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class TextLayoutCache {
+
+    /**
+     * 默认最大容量
+     */
+    public static final int DEFAULT_MAX_SIZE = 4096;
+    /**
+     * 全局缓存
+     */
+    protected static volatile TextLayoutCache globalCache;
+
+    /**
+     * 缓存
+     */
+    protected final LruCache<Key, List<TextLineInfo>> cache;
+
+    /**
+     * 无参构造
+     */
+    public TextLayoutCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * 有参构造
+     *
+     * @param maxSize 最大容量
+     */
+    public TextLayoutCache(int maxSize) {
+        this.cache = new LruCache<>(maxSize);
+    }
+
+    /**
+     * 获取全局缓存
+     *
+     * @return 返回全局缓存
+     */
+    public static TextLayoutCache getGlobalCache() {
+        if (Objects.isNull(globalCache)) {
+            synchronized (TextLayoutCache.class) {
+                if (Objects.isNull(globalCache)) {
+                    globalCache = new TextLayoutCache();
+                }
+            }
+        }
+        return globalCache;
+    }
+
+    /**
+     * 获取文本行（单行）
+     *
+     * @param tokenizer         分词器
+     * @param fontConfiguration 字体配置
+     * @param font              字体
+     * @param text              文本
+     * @param lineWidth         行宽
+     * @param supplier          未命中时的拆分函数
+     * @return 返回文本行
+     */
+    public TextLineInfo getLine(
+            AbstractTokenizer tokenizer,
+            FontConfiguration fontConfiguration,
+            PDFont font,
+            String text,
+            float lineWidth,
+            Supplier<TextLineInfo> supplier
+    ) {
+        // 创建键
+        Key key = new Key(true, tokenizer, fontConfiguration, font, text, lineWidth);
+        // 获取缓存
+        List<TextLineInfo> lines = this.cache.get(key);
+        // 未命中
+        if (Objects.isNull(lines)) {
+            // 拆分文本
+            TextLineInfo line = supplier.get();
+            // 添加缓存（空结果以空列表表示）
+            lines = Objects.isNull(line) ? Collections.emptyList() : Collections.singletonList(line);
+            this.cache.put(key.copy(), lines);
+        }
+        // 返回文本行
+        return lines.isEmpty() ? null : lines.get(0);
+    }
+
+    /**
+     * 获取文本行（多行）
+     *
+     * @param tokenizer         分词器
+     * @param fontConfiguration 字体配置
+     * @param font              字体
+     * @param text              文本
+     * @param lineWidth         行宽
+     * @param supplier          未命中时的拆分函数
+     * @return 返回文本行列表（副本）
+     */
+    public List<TextLineInfo> getLines(
+            AbstractTokenizer tokenizer,
+            FontConfiguration fontConfiguration,
+            PDFont font,
+            String text,
+            float lineWidth,
+            Supplier<List<TextLineInfo>> supplier
+    ) {
+        // 创建键
+        Key key = new Key(false, tokenizer, fontConfiguration, font, text, lineWidth);
+        // 获取缓存
+        List<TextLineInfo> lines = this.cache.get(key);
+        // 未命中
+        if (Objects.isNull(lines)) {
+            // 拆分文本
+            lines = supplier.get();
+            // 添加缓存
+            this.cache.put(key.copy(), new ArrayList<>(lines));
+            // 返回文本行列表
+            return lines;
+        }
+        // 返回副本
+        return new ArrayList<>(lines);
+    }
+
+    /**
+     * 清理缓存
+     */
+    public void clear() {
+        this.cache.clear();
+    }
+
+    /**
+     * 获取缓存数量
+     *
+     * @return 返回缓存数量
+     */
+    public int size() {
+        return this.cache.size();
+    }
+
+    /**
+     * 获取最大容量
+     *
+     * @return 返回最大容量
+     */
+    public int getMaxSize() {
+        return this.cache.getMaxSize();
+    }
+
+    /**
+     * 获取命中次数
+     *
+     * @return 返回命中次数
+     */
+    public long getHitCount() {
+        return this.cache.getHitCount();
+    }
+
+    /**
+     * 获取未命中次数
+     *
+     * @return 返回未命中次数
+     */
+    public long getMissCount() {
+        return this.cache.getMissCount();
+    }
+
+    /**
+     * 获取淘汰次数
+     *
+     * @return 返回淘汰次数
+     */
+    public long getEvictionCount() {
+        return this.cache.getEvictionCount();
+    }
+
+    /**
+     * 获取命中率
+     *
+     * @return 返回命中率（0~1）
+     */
+    public double getHitRate() {
+        return this.cache.getHitRate();
+    }
+
+    /**
+     * 重置统计
+     */
+    public void resetStats() {
+        this.cache.resetStats();
+    }
+
+    /**
+     * 字符串
+     *
+     * @return 返回字符串
+     */
+    @Override
+    public String toString() {
+        return "TextLayoutCache" + this.cache.toString().substring("LruCache".length());
+    }
+
+    /**
+     * 缓存键
+     */
+    protected static class Key {
+        /**
+         * 是否单行
+         */
+        protected final boolean isSingle;
+        /**
+         * 分词器类型
+         */
+        protected final Class<?> tokenizerType;
+        /**
+         * 字体名称
+         */
+        protected final String fontName;
+        /**
+         * 特殊字体名称
+         */
+        protected final List<String> specialFontNames;
+        /**
+         * 字体大小
+         */
+        protected final float fontSize;
+        /**
+         * 字符间距
+         */
+        protected final float characterSpacing;
+        /**
+         * 行宽
+         */
+        protected final float lineWidth;
+        /**
+         * 文本
+         */
+        protected final String text;
+        /**
+         * 哈希值
+         */
+        protected final int hash;
+
+        /**
+         * 有参构造
+         *
+         * @param isSingle          是否单行
+         * @param tokenizer         分词器
+         * @param fontConfiguration 字体配置
+         * @param font              字体
+         * @param text              文本
+         * @param lineWidth         行宽
+         */
+        protected Key(boolean isSingle, AbstractTokenizer tokenizer, FontConfiguration fontConfiguration, PDFont font, String text, float lineWidth) {
+            this(
+                    isSingle,
+                    tokenizer.getClass(),
+                    Objects.nonNull(font.getName()) ? font.getName() : font.getClass().getName() + '@' + System.identityHashCode(font),
+                    fontConfiguration.getSpecialFontNames(),
+                    fontConfiguration.getFontSize(),
+                    fontConfiguration.getCharacterSpacing(),
+                    lineWidth,
+                    text
+            );
+        }
+
+        /**
+         * 有参构造
+         *
+         * @param isSingle         是否单行
+         * @param tokenizerType    分词器类型
+         * @param fontName         字体名称
+         * @param specialFontNames 特殊字体名称
+         * @param fontSize         字体大小
+         * @param characterSpacing 字符间距
+         * @param lineWidth        行宽
+         * @param text             文本
+         */
+        protected Key(
+                boolean isSingle,
+                Class<?> tokenizerType,
+                String fontName,
+                List<String> specialFontNames,
+                float fontSize,
+                float characterSpacing,
+                float lineWidth,
+                String text
+        ) {
+            this.isSingle = isSingle;
+            this.tokenizerType = tokenizerType;
+            this.fontName = fontName;
+            this.specialFontNames = specialFontNames;
+            this.fontSize = fontSize;
+            this.characterSpacing = characterSpacing;
+            this.lineWidth = lineWidth;
+            this.text = text;
+            int result = Boolean.hashCode(isSingle);
+            result = 31 * result + tokenizerType.hashCode();
+            result = 31 * result + fontName.hashCode();
+            result = 31 * result + Objects.hashCode(specialFontNames);
+            result = 31 * result + Float.floatToIntBits(fontSize);
+            result = 31 * result + Float.floatToIntBits(characterSpacing);
+            result = 31 * result + Float.floatToIntBits(lineWidth);
+            result = 31 * result + text.hashCode();
+            this.hash = result;
+        }
+
+        /**
+         * 复制（固定特殊字体名称，避免外部修改影响缓存）
+         *
+         * @return 返回键
+         */
+        protected Key copy() {
+            return new Key(
+                    this.isSingle,
+                    this.tokenizerType,
+                    this.fontName,
+                    Objects.isNull(this.specialFontNames) ? null : new ArrayList<>(this.specialFontNames),
+                    this.fontSize,
+                    this.characterSpacing,
+                    this.lineWidth,
+                    this.text
+            );
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return this.hash == key.hash &&
+                    this.isSingle == key.isSingle &&
+                    Float.floatToIntBits(this.fontSize) == Float.floatToIntBits(key.fontSize) &&
+                    Float.floatToIntBits(this.characterSpacing) == Float.floatToIntBits(key.characterSpacing) &&
+                    Float.floatToIntBits(this.lineWidth) == Float.floatToIntBits(key.lineWidth) &&
+                    this.tokenizerType == key.tokenizerType &&
+                    this.fontName.equals(key.fontName) &&
+                    Objects.equals(this.specialFontNames, key.specialFontNames) &&
+                    this.text.equals(key.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+}
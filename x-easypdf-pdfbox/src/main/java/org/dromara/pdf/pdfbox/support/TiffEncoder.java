@@ -0,0 +1,260 @@
+package org.dromara.pdf.pdfbox.support;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * TIFF编码器（无压缩）
+ * <p>注：写入头部与图像文件目录，支持条带与图块两种布局；数据块偏移在写入头部时预先计算，数据随后按顺序写入，输出流无需随机访问</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class TiffEncoder {
+
+    /**
+     * 最大文件大小
+     */
+    protected static final long MAX_FILE_SIZE = 0xFFFFFFFFL;
+
+    /**
+     * 获取行字节数
+     *
+     * @param width    宽度
+     * @param bands    每像素样本数
+     * @param bitDepth 样本位数（8或1）
+     * @return 返回行字节数
+     */
+    public static int getRowBytes(int width, int bands, int bitDepth) {
+        return bitDepth == 1 ? (width + 7) / 8 : width * bands;
+    }
+
+    /**
+     * 写入条带头部
+     * <p>注：数据按行连续写入，最后一个条带可不足指定行数</p>
+     *
+     * @param outputStream 输出流
+     * @param width        图像宽度
+     * @param height       图像高度
+     * @param bands        每像素样本数
+     * @param bitDepth     样本位数（8或1）
+     * @param rowsPerStrip 每条带行数
+     * @param dpi          图像DPI
+     * @throws IOException IO异常
+     */
+    public static void writeStripHeader(OutputStream outputStream, int width, int height, int bands, int bitDepth, int rowsPerStrip, float dpi) throws IOException {
+        if (rowsPerStrip < 1) {
+            throw new IllegalArgumentException("the rows per strip must be greater than 0");
+        }
+        writeHeader(outputStream, width, height, bands, bitDepth, dpi, new Layout(false, width, rowsPerStrip, width, height, bands, bitDepth));
+    }
+
+    /**
+     * 写入图块头部
+     * <p>注：图块按行优先顺序写入，边缘图块按完整图块尺寸写入</p>
+     *
+     * @param outputStream 输出流
+     * @param width        图像宽度
+     * @param height       图像高度
+     * @param bands        每像素样本数
+     * @param bitDepth     样本位数（8或1）
+     * @param tileWidth    图块宽度（16的倍数）
+     * @param tileHeight   图块高度（16的倍数）
+     * @param dpi          图像DPI
+     * @throws IOException IO异常
+     */
+    public static void writeTileHeader(OutputStream outputStream, int width, int height, int bands, int bitDepth, int tileWidth, int tileHeight, float dpi) throws IOException {
+        if (tileWidth < 16 || tileHeight < 16 || tileWidth % 16 != 0 || tileHeight % 16 != 0) {
+            throw new IllegalArgumentException("the tile size must be a multiple of 16");
+        }
+        writeHeader(outputStream, width, height, bands, bitDepth, dpi, new Layout(true, tileWidth, tileHeight, width, height, bands, bitDepth));
+    }
+
+    /**
+     * 写入头部与图像文件目录
+     *
+     * @param outputStream 输出流
+     * @param width        图像宽度
+     * @param height       图像高度
+     * @param bands        每像素样本数
+     * @param bitDepth     样本位数
+     * @param dpi          图像DPI
+     * @param layout       数据块布局
+     * @throws IOException IO异常
+     */
+    protected static void writeHeader(OutputStream outputStream, int width, int height, int bands, int bitDepth, float dpi, Layout layout) throws IOException {
+        Objects.requireNonNull(outputStream, "the output stream can not be null");
+        boolean hasAlpha = bands == 4;
+        boolean hasBlocks = layout.count > 1;
+        int entryCount = (hasAlpha ? 14 : 13) + (layout.isTiled ? 1 : 0);
+        // 计算偏移
+        long ifdOffset = 8L;
+        long bitsOffset = ifdOffset + 2 + 12L * entryCount + 4;
+        long next = bands > 2 ? bitsOffset + 2L * bands : bitsOffset;
+        long offsetsOffset = next;
+        next = hasBlocks ? offsetsOffset + 4L * layout.count : offsetsOffset;
+        long countsOffset = next;
+        next = hasBlocks ? countsOffset + 4L * layout.count : countsOffset;
+        long xResolutionOffset = next;
+        long yResolutionOffset = xResolutionOffset + 8;
+        long dataOffset = yResolutionOffset + 8;
+        if (dataOffset + layout.dataSize > MAX_FILE_SIZE) {
+            throw new IllegalArgumentException("the image is too large for tiff: " + (dataOffset + layout.dataSize) + " bytes");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) dataOffset).order(ByteOrder.LITTLE_ENDIAN);
+        // 写入头部
+        buffer.put((byte) 'I').put((byte) 'I').putShort((short) 42).putInt((int) ifdOffset);
+        // 写入图像文件目录（标签升序）
+        buffer.putShort((short) entryCount);
+        putEntry(buffer, 254, 4, 1, 0);
+        putEntry(buffer, 256, 4, 1, width);
+        putEntry(buffer, 257, 4, 1, height);
+        if (bands > 2) {
+            putEntry(buffer, 258, 3, bands, bitsOffset);
+        } else {
+            putShortEntry(buffer, 258, bands, bitDepth);
+        }
+        putShortEntry(buffer, 259, 1, 1);
+        putShortEntry(buffer, 262, 1, bands >= 3 ? 2 : 1);
+        if (!layout.isTiled) {
+            putEntry(buffer, 273, 4, layout.count, hasBlocks ? offsetsOffset : dataOffset);
+        }
+        putShortEntry(buffer, 277, 1, bands);
+        if (!layout.isTiled) {
+            putEntry(buffer, 278, 4, 1, layout.blockHeight);
+            putEntry(buffer, 279, 4, layout.count, hasBlocks ? countsOffset : layout.dataSize);
+        }
+        putEntry(buffer, 282, 5, 1, xResolutionOffset);
+        putEntry(buffer, 283, 5, 1, yResolutionOffset);
+        putShortEntry(buffer, 296, 1, 2);
+        if (layout.isTiled) {
+            putEntry(buffer, 322, 4, 1, layout.blockWidth);
+            putEntry(buffer, 323, 4, 1, layout.blockHeight);
+            putEntry(buffer, 324, 4, layout.count, hasBlocks ? offsetsOffset : dataOffset);
+            putEntry(buffer, 325, 4, layout.count, hasBlocks ? countsOffset : layout.dataSize);
+        }
+        if (hasAlpha) {
+            putShortEntry(buffer, 338, 1, 2);
+        }
+        buffer.putInt(0);
+        // 写入样本位数
+        if (bands > 2) {
+            for (int i = 0; i < bands; i++) {
+                buffer.putShort((short) bitDepth);
+            }
+        }
+        // 写入数据块偏移与字节数
+        if (hasBlocks) {
+            for (int i = 0; i < layout.count; i++) {
+                buffer.putInt((int) (dataOffset + layout.blockBytes * i));
+            }
+            for (int i = 0; i < layout.count; i++) {
+                buffer.putInt((int) Math.min(layout.blockBytes, layout.dataSize - layout.blockBytes * i));
+            }
+        }
+        // 写入分辨率
+        int resolution = Math.max(1, Math.round(dpi));
+        buffer.putInt(resolution).putInt(1);
+        buffer.putInt(resolution).putInt(1);
+        outputStream.write(buffer.array(), 0, buffer.position());
+    }
+
+    /**
+     * 写入目录项
+     *
+     * @param buffer 缓冲
+     * @param tag    标签
+     * @param type   类型
+     * @param count  数量
+     * @param value  值或偏移
+     */
+    protected static void putEntry(ByteBuffer buffer, int tag, int type, int count, long value) {
+        buffer.putShort((short) tag).putShort((short) type).putInt(count).putInt((int) value);
+    }
+
+    /**
+     * 写入短整型目录项（值左对齐）
+     *
+     * @param buffer 缓冲
+     * @param tag    标签
+     * @param count  数量
+     * @param value  值
+     */
+    protected static void putShortEntry(ByteBuffer buffer, int tag, int count, int value) {
+        buffer.putShort((short) tag).putShort((short) 3).putInt(count);
+        for (int i = 0; i < 2; i++) {
+            buffer.putShort((short) (i < count ? value : 0));
+        }
+    }
+
+    /**
+     * 数据块布局
+     */
+    protected static class Layout {
+
+        /**
+         * 是否图块
+         */
+        protected final boolean isTiled;
+        /**
+         * 数据块宽度
+         */
+        protected final int blockWidth;
+        /**
+         * 数据块高度
+         */
+        protected final int blockHeight;
+        /**
+         * 数据块数量
+         */
+        protected final int count;
+        /**
+         * 数据块字节数（完整数据块）
+         */
+        protected final long blockBytes;
+        /**
+         * 数据总字节数
+         */
+        protected final long dataSize;
+
+        /**
+         * 有参构造
+         *
+         * @param isTiled     是否图块
+         * @param blockWidth  数据块宽度（条带为图像宽度）
+         * @param blockHeight 数据块高度
+         * @param width       图像宽度
+         * @param height      图像高度
+         * @param bands       每像素样本数
+         * @param bitDepth    样本位数
+         */
+        protected Layout(boolean isTiled, int blockWidth, int blockHeight, int width, int height, int bands, int bitDepth) {
+            this.isTiled = isTiled;
+            this.blockWidth = blockWidth;
+            this.blockHeight = blockHeight;
+            this.blockBytes = (long) getRowBytes(blockWidth, bands, bitDepth) * blockHeight;
+            if (isTiled) {
+                this.count = ((width + blockWidth - 1) / blockWidth) * ((height + blockHeight - 1) / blockHeight);
+                this.dataSize = this.blockBytes * this.count;
+            } else {
+                this.count = (height + blockHeight - 1) / blockHeight;
+                this.dataSize = (long) getRowBytes(width, bands, bitDepth) * height;
+            }
+        }
+    }
+}
@@ -160,17 +160,11 @@ public class BorderUtil {
         // 获取上下文
         Context context = data.getContext();
         // 初始化内容流
-        PDPageContentStream stream = new PDPageContentStream(
-                context.getTargetDocument(),
-                context.getTargetPage(),
-                data.getContentMode().getMode(),
-                true,
-                data.getIsResetContentStream()
-        );
+        PDPageContentStream stream = context.getContentStream(data.getContentMode(), data.getIsResetContentStream());
         // 绘制常规边框
         drawNormalBorder(stream, rectangle, data, backgroundColor);
         // 关闭内容流
-        stream.close();
+        context.closeContentStream(stream);
         // 绘制加粗边框
         drawBolderBorder(rectangle, data);
     }
@@ -269,13 +263,7 @@ public class BorderUtil {
             float endY
     ) {
         // 初始化内容流
-        PDPageContentStream stream = new PDPageContentStream(
-                context.getTargetDocument(),
-                context.getTargetPage(),
-                data.getContentMode().getMode(),
-                true,
-                data.getIsResetContentStream()
-        );
+        PDPageContentStream stream = context.getContentStream(data.getContentMode(), data.getIsResetContentStream());
         // 设置线宽
         stream.setLineWidth(width);
         // 设置线帽样式
@@ -285,7 +273,7 @@ public class BorderUtil {
         // 描边
         stream.stroke();
         // 关闭
-        stream.close();
+        context.closeContentStream(stream);
     }
 
     /**
@@ -316,13 +304,7 @@ public class BorderUtil {
             float endY
     ) {
         // 初始化内容流
-        PDPageContentStream stream = new PDPageContentStream(
-                context.getTargetDocument(),
-                context.getTargetPage(),
-                data.getContentMode().getMode(),
-                true,
-                data.getIsResetContentStream()
-        );
+        PDPageContentStream stream = context.getContentStream(data.getContentMode(), data.getIsResetContentStream());
         // 设置线宽
         stream.setLineWidth(width);
         // 设置线帽样式
@@ -332,7 +314,7 @@ public class BorderUtil {
         // 描边
         stream.stroke();
         // 关闭
-        stream.close();
+        context.closeContentStream(stream);
     }
 
     /**
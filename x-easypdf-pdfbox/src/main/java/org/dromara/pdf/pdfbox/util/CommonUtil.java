@@ -6,6 +6,7 @@ import org.dromara.pdf.pdfbox.core.base.Context;
 import org.dromara.pdf.pdfbox.core.component.TableRow;
 import org.dromara.pdf.pdfbox.core.enums.ContentMode;
 import org.dromara.pdf.pdfbox.core.enums.FontStyle;
+import org.dromara.pdf.pdfbox.support.ImageXObjectCache;
 import org.dromara.pdf.shade.org.apache.pdfbox.cos.COSName;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDDocument;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPage;
@@ -27,7 +28,6 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.zip.CRC32;
 
 
 /**
@@ -219,6 +219,19 @@ public class CommonUtil {
         return PDImageXObject.createFromByteArray(document, ImageUtil.resetBytes(imageBytes), "unknown");
     }
 
+    /**
+     * 创建图像对象
+     * <p>注：使用全局图像对象缓存，相同图像在进程内仅转码与编码一次</p>
+     *
+     * @param document   文档
+     * @param imageBytes 图像
+     * @param digest     图像摘要
+     * @return 返回图像对象
+     */
+    public static PDImageXObject createImage(PDDocument document, byte[] imageBytes, String digest) {
+        return ImageXObjectCache.getGlobalCache().getImage(document, imageBytes, digest);
+    }
+
     /**
      * 添加背景颜色
      *
@@ -239,13 +252,7 @@ public class CommonUtil {
         // 添加背景颜色
         if (Objects.nonNull(backgroundColor)) {
             // 初始化内容流
-            PDPageContentStream stream = new PDPageContentStream(
-                    context.getTargetDocument(),
-                    context.getTargetPage(),
-                    mode.getMode(),
-                    true,
-                    isResetContentStream
-            );
+            PDPageContentStream stream = context.getContentStream(mode, isResetContentStream);
             // 添加矩形
             stream.addRect(rectangle);
             // 设置矩形颜色
@@ -253,7 +260,7 @@ public class CommonUtil {
             // 填充矩形
             stream.fill();
             // 关闭内容流
-            stream.close();
+            context.closeContentStream(stream);
         }
     }
 
@@ -460,14 +467,12 @@ public class CommonUtil {
     }
 
     /**
-     * 获取图像摘要
+     * 获取图像摘要（SHA-256）
      *
      * @param bytes 字节数组
      * @return 返回摘要
      */
     public static String getImageDigest(byte[] bytes) {
-        CRC32 crc32 = new CRC32();
-        crc32.update(bytes);
-        return Long.toHexString(crc32.getValue());
+        return DigestUtil.sha256(bytes);
     }
 }
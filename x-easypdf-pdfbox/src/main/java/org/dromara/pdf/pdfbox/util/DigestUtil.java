@@ -0,0 +1,225 @@
+package org.dromara.pdf.pdfbox.util;
+
+import lombok.SneakyThrows;
+import org.dromara.pdf.shade.org.apache.pdfbox.cos.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 摘要工具
+ * <p>注：pdf对象按规范形式写入摘要（字典项按键名称排序，流写入原始字节，间接对象解引用），字典与数组的处理方式由调用方决定（如内联递归或写入子对象摘要）</p>
+ *
+ * @author xsx
+ * @date 2026/10/18
+ * @since 1.8
+ * <p>
+ * Copyright (c) 2020 xsx All Rights Reserved.
+ * x-easypdf-pdfbox is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ * http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND,
+ * EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ * </p>
+ */
+public class DigestUtil {
+
+    /**
+     * 获取摘要（SHA-256）
+     *
+     * @param bytes 字节数组
+     * @return 返回摘要（十六进制）
+     */
+    @SneakyThrows
+    public static String sha256(byte[] bytes) {
+        Objects.requireNonNull(bytes, "the bytes can not be null");
+        return toHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    }
+
+    /**
+     * 转为十六进制字符串（小写）
+     *
+     * @param bytes 字节数组
+     * @return 返回十六进制字符串
+     */
+    public static String toHex(byte[] bytes) {
+        Objects.requireNonNull(bytes, "the bytes can not be null");
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(Character.forDigit((b >>> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 更新摘要（整数）
+     *
+     * @param digest 摘要
+     * @param value  整数
+     */
+    public static void update(MessageDigest digest, long value) {
+        for (int i = 56; i >= 0; i = i - 8) {
+            digest.update((byte) (value >>> i));
+        }
+    }
+
+    /**
+     * 更新摘要（字节数组，长度前缀）
+     *
+     * @param digest 摘要
+     * @param bytes  字节数组
+     */
+    public static void update(MessageDigest digest, byte[] bytes) {
+        update(digest, bytes.length);
+        digest.update(bytes);
+    }
+
+    /**
+     * 更新摘要（字符串，长度前缀）
+     *
+     * @param digest 摘要
+     * @param value  字符串
+     */
+    public static void update(MessageDigest digest, String value) {
+        update(digest, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 更新摘要（pdf对象）
+     * <p>注：间接对象解引用，字典、流与数组交给容器处理器</p>
+     *
+     * @param digest  摘要
+     * @param base    pdf对象
+     * @param handler 容器处理器
+     * @throws IOException IO异常
+     */
+    public static void update(MessageDigest digest, COSBase base, ContainerHandler handler) throws IOException {
+        if (base instanceof COSObject) {
+            base = ((COSObject) base).getObject();
+        }
+        if (Objects.isNull(base) || base instanceof COSNull) {
+            digest.update((byte) 'n');
+        } else if (base instanceof COSDictionary || base instanceof COSArray) {
+            handler.update(digest, base);
+        } else if (base instanceof COSName) {
+            digest.update((byte) '/');
+            update(digest, ((COSName) base).getName());
+        } else if (base instanceof COSString) {
+            digest.update((byte) '(');
+            update(digest, ((COSString) base).getBytes());
+        } else if (base instanceof COSInteger) {
+            digest.update((byte) 'i');
+            update(digest, ((COSInteger) base).longValue());
+        } else if (base instanceof COSFloat) {
+            digest.update((byte) 'f');
+            update(digest, Float.floatToIntBits(((COSFloat) base).floatValue()));
+        } else if (base instanceof COSBoolean) {
+            digest.update((byte) (((COSBoolean) base).getValue() ? 't' : 'b'));
+        } else {
+            update(digest, base.toString());
+        }
+    }
+
+    /**
+     * 更新摘要（字典、流或数组的内容）
+     * <p>注：字典项按键名称排序，流忽略长度项并写入原始（编码后）字节与长度，子对象由{@link #update(MessageDigest, COSBase, ContainerHandler)}写入</p>
+     *
+     * @param digest    摘要
+     * @param container 字典、流或数组
+     * @param handler   容器处理器（子对象）
+     * @throws IOException IO异常
+     */
+    public static void updateContainer(MessageDigest digest, COSBase container, ContainerHandler handler) throws IOException {
+        if (container instanceof COSStream) {
+            COSStream stream = (COSStream) container;
+            digest.update((byte) 's');
+            update(digest, stream, handler);
+            try (InputStream inputStream = stream.createRawInputStream()) {
+                byte[] buffer = new byte[8192];
+                int count;
+                long length = 0L;
+                while ((count = inputStream.read(buffer)) != -1) {
+                    digest.update(buffer, 0, count);
+                    length = length + count;
+                }
+                update(digest, length);
+            }
+        } else if (container instanceof COSDictionary) {
+            digest.update((byte) 'd');
+            update(digest, (COSDictionary) container, handler);
+        } else if (container instanceof COSArray) {
+            COSArray array = (COSArray) container;
+            digest.update((byte) 'a');
+            update(digest, array.size());
+            for (int i = 0; i < array.size(); i++) {
+                update(digest, array.get(i), handler);
+            }
+        } else {
+            throw new IllegalArgumentException("the container must be a dictionary or an array");
+        }
+    }
+
+    /**
+     * 是否页面树节点
+     *
+     * @param base pdf对象
+     * @return 返回布尔值，true为是，false为否
+     */
+    public static boolean isPageNode(COSBase base) {
+        if (!(base instanceof COSDictionary) || base instanceof COSStream) {
+            return false;
+        }
+        COSName type = ((COSDictionary) base).getCOSName(COSName.TYPE);
+        return COSName.PAGE.equals(type) || COSName.PAGES.equals(type);
+    }
+
+    /**
+     * 更新摘要（字典项，按键名称排序）
+     *
+     * @param digest     摘要
+     * @param dictionary 字典
+     * @param handler    容器处理器
+     * @throws IOException IO异常
+     */
+    protected static void update(MessageDigest digest, COSDictionary dictionary, ContainerHandler handler) throws IOException {
+        List<Map.Entry<COSName, COSBase>> entries = new ArrayList<>(dictionary.size());
+        for (Map.Entry<COSName, COSBase> entry : dictionary.entrySet()) {
+            // 流长度由数据决定
+            if (!(dictionary instanceof COSStream && COSName.LENGTH.equals(entry.getKey()))) {
+                entries.add(entry);
+            }
+        }
+        entries.sort(Comparator.comparing(entry -> entry.getKey().getName()));
+        update(digest, entries.size());
+        for (Map.Entry<COSName, COSBase> entry : entries) {
+            update(digest, entry.getKey().getName());
+            update(digest, entry.getValue(), handler);
+        }
+    }
+
+    /**
+     * 容器处理器
+     */
+    @FunctionalInterface
+    public interface ContainerHandler {
+
+        /**
+         * 更新摘要
+         *
+         * @param digest    摘要
+         * @param container 字典、流或数组（已解引用）
+         * @throws IOException IO异常
+         */
+        void update(MessageDigest digest, COSBase container) throws IOException;
+    }
+}
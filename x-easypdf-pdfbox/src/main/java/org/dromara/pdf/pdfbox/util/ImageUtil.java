@@ -2,6 +2,8 @@ package org.dromara.pdf.pdfbox.util;
 
 import lombok.SneakyThrows;
 import org.dromara.pdf.pdfbox.core.enums.ImageType;
+import org.dromara.pdf.pdfbox.support.ImageEncoder;
+import org.dromara.pdf.pdfbox.support.ImageTranscoder;
 import org.dromara.pdf.shade.org.apache.pdfbox.tools.imageio.ImageIOUtil;
 
 import javax.imageio.ImageIO;
@@ -135,6 +137,19 @@ public class ImageUtil {
         }
     }
 
+    /**
+     * 写入文件
+     *
+     * @param image        图片对象
+     * @param imageType    图片类型
+     * @param outputStream 输出流
+     * @param imageEncoder 图像编码器
+     */
+    public static void write(BufferedImage image, ImageType imageType, OutputStream outputStream, ImageEncoder imageEncoder) {
+        Objects.requireNonNull(imageEncoder, "the image encoder can not be null");
+        imageEncoder.encode(image, imageType, outputStream, 0);
+    }
+
     /**
      * 写入文件
      *
@@ -176,40 +191,13 @@ public class ImageUtil {
 
     /**
      * 重置图像字节数组
+     * <p>注：svg/webp/j2k转码为png，转码结果由全局转码器缓存，其他格式原样返回</p>
      *
      * @param bytes 字节数组
      * @return 返回字节数组
      */
-    @SneakyThrows
     public static byte[] resetBytes(byte[] bytes) {
-        // 字节数组校验
-        Objects.requireNonNull(bytes, "the bytes can not be null");
-        // 定义字节数组
-        byte[] byteArray = bytes;
-        // svg格式
-        if (isSvgImage(byteArray)) {
-            try (
-                    // 定义输入流
-                    InputStream inputStream = new BufferedInputStream(new ByteArrayInputStream(bytes));
-                    // 定义输出流
-                    ByteArrayOutputStream outputStream = new ByteArrayOutputStream(8192)
-            ) {
-                // 转码svg
-                new org.apache.batik.transcoder.image.PNGTranscoder().transcode(new org.apache.batik.transcoder.TranscoderInput(inputStream), new org.apache.batik.transcoder.TranscoderOutput(outputStream));
-                // 重置字节数组
-                byteArray = outputStream.toByteArray();
-            }
-        }
-        // j2k格式或webp
-        else if (isJ2kImage(bytes) || isWebpImage(bytes)) {
-            // 定义输入流
-            try (InputStream inputStream = new BufferedInputStream(new ByteArrayInputStream(bytes));) {
-                // 重置字节数组
-                byteArray = toBytes(read(inputStream), ImageType.PNG.getType());
-            }
-        }
-        // 返回字节数组
-        return byteArray;
+        return ImageTranscoder.getGlobalTranscoder().transcode(bytes);
     }
 
     /**
@@ -241,6 +229,29 @@ public class ImageUtil {
         }
     }
 
+    /**
+     * 转为字节数组
+     *
+     * @param sourceImage  源图片
+     * @param imageType    图片类型
+     * @param imageEncoder 图像编码器
+     * @return 返回字节数组
+     */
+    @SneakyThrows
+    public static byte[] toBytes(BufferedImage sourceImage, ImageType imageType, ImageEncoder imageEncoder) {
+        // 如果源图片为空，则提示错误信息
+        Objects.requireNonNull(sourceImage, "the source image can not be null");
+        // 如果编码器为空，则提示错误信息
+        Objects.requireNonNull(imageEncoder, "the image encoder can not be null");
+        // 创建字节数组输出流
+        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream(8192)) {
+            // 编码图片
+            imageEncoder.encode(sourceImage, imageType, outputStream, 0);
+            // 返回字节数组
+            return outputStream.toByteArray();
+        }
+    }
+
     /**
      * 转为base64
      *
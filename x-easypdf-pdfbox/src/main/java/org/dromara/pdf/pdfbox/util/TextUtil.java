@@ -3,6 +3,7 @@ package org.dromara.pdf.pdfbox.util;
 import lombok.SneakyThrows;
 import org.dromara.pdf.pdfbox.core.base.Context;
 import org.dromara.pdf.pdfbox.support.Constants;
+import org.dromara.pdf.pdfbox.support.GlyphWidthTable;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.font.PDFont;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.font.PDFontDescriptor;
 
@@ -46,35 +47,12 @@ public class TextUtil {
         // 参数检查
         Objects.requireNonNull(context, "the context can not be null");
         Objects.requireNonNull(font, "the font can not be null");
-        // 定义字符宽度
-        float width = 0F;
-        try {
-            // 计算字符宽度
-            width = font.getCharacterWidth(character);
-        } catch (Exception e) {
-            // 定义异常标识
-            boolean flag = true;
-            // 特殊字体名称不为空
-            if (Objects.nonNull(specialFontNames)) {
-                // 遍历特殊字体
-                for (String specialFontName : specialFontNames) {
-                    try {
-                        // 再次计算字符宽度
-                        width = context.getFont(specialFontName).getCharacterWidth(character);
-                        // 重置异常标识
-                        flag = false;
-                        // 结束
-                        break;
-                    } catch (Exception ignore) {
-                        // ignore
-                    }
-                }
-            }
-            // 未解析成功
-            if (flag) {
-                // 使用未知字符代替
-                width = font.getCharacterWidth(Constants.DEFAULT_UNKNOWN_CHARACTER);
-            }
+        // 计算字符宽度
+        float width = getGlyphWidth(character, context, font, specialFontNames);
+        // 未解析成功
+        if (width < 0F) {
+            // 使用未知字符代替
+            width = getUnknownCharacterWidth(font);
         }
         // 返回真实字符宽度
         return width == 0F ? 0F : fontSize * width / 1000;
@@ -91,85 +69,131 @@ public class TextUtil {
      * @param characterSpacing 字符间距
      * @return 返回文本宽度
      */
-    @SneakyThrows
     public static float getTextWidth(String text, Context context, PDFont font, List<String> specialFontNames, float fontSize, float characterSpacing) {
         // 返回空宽度
         if (Objects.isNull(text)) {
             return 0F;
         }
+        // 返回文本宽度
+        return getTextWidth(text, 0, text.length(), context, font, specialFontNames, fontSize, characterSpacing);
+    }
+
+    /**
+     * 获取文本宽度（指定范围）
+     * <p>注：直接按索引计算，不截取子字符串</p>
+     *
+     * @param text             文本
+     * @param beginIndex       起始索引（包含）
+     * @param endIndex         结束索引（不包含）
+     * @param context          上下文
+     * @param font             字体
+     * @param specialFontNames 获取特殊字体名称
+     * @param fontSize         字体大小
+     * @param characterSpacing 字符间距
+     * @return 返回文本宽度
+     */
+    @SneakyThrows
+    public static float getTextWidth(CharSequence text, int beginIndex, int endIndex, Context context, PDFont font, List<String> specialFontNames, float fontSize, float characterSpacing) {
         // 参数检查
         Objects.requireNonNull(context, "the context can not be null");
         Objects.requireNonNull(font, "the font can not be null");
         // 定义文本宽度
         float width = 0F;
-        // 定义临时字符串
-        String str;
-        // 获取文本长度
-        int length = text.length();
+        // 定义字符宽度
+        float characterWidth;
         // 遍历文本
-        for (int i = 0; i < length; i++) {
+        for (int i = beginIndex; i < endIndex; i++) {
             // 获取字符
             char character = text.charAt(i);
-            try {
-                // 计算文本宽度
-                width = width + font.getCharacterWidth(character);
-            } catch (Exception e) {
-                // 定义异常标识
-                boolean flag = true;
-                // 特殊字体名称不为空
-                if (Objects.nonNull(specialFontNames)) {
-                    // 遍历特殊字体
-                    for (String specialFontName : specialFontNames) {
-                        try {
-                            // 再次计算文本宽度
-                            width = width + context.getFont(specialFontName).getCharacterWidth(character);
-                            // 重置异常标识
-                            flag = false;
-                            // 结束
-                            break;
-                        } catch (Exception ignore) {
-                            // ignore
-                        }
-                    }
-                    // 未解析成功
-                    if (flag) {
-                        // 有下一个字符
-                        if (i + 1 < length) {
-                            // 获取下一个字符
-                            char next = text.charAt(i + 1);
-                            // 重置字符串
-                            str = String.valueOf(new char[]{character, next});
-                            // 遍历特殊字体
-                            for (String specialFontName : specialFontNames) {
-                                try {
-                                    // 再次计算文本宽度
-                                    width = width + context.getFont(specialFontName).getStringWidth(str);
-                                    // 重置异常标识
-                                    flag = false;
-                                    // 结束
-                                    break;
-                                } catch (Exception ignore) {
-                                    // ignore
-                                }
-                            }
-                            // 解析成功
-                            if (!flag) {
-                                // 跳过下一个
-                                i++;
-                            }
-                        }
-                    }
+            // 计算字符宽度
+            characterWidth = getGlyphWidth(character, context, font, specialFontNames);
+            // 未解析成功，且为代理对（特殊字体）
+            if (characterWidth < 0F && Objects.nonNull(specialFontNames) && Character.isHighSurrogate(character) && i + 1 < endIndex) {
+                // 计算代理对宽度
+                characterWidth = getSurrogateWidth(character, text.charAt(i + 1), context, specialFontNames);
+                // 解析成功
+                if (characterWidth >= 0F) {
+                    // 跳过下一个
+                    i++;
                 }
-                // 未解析成功
-                if (flag) {
-                    // 使用未知字符代替
-                    width = width + font.getCharacterWidth(Constants.DEFAULT_UNKNOWN_CHARACTER);
+            }
+            // 未解析成功
+            if (characterWidth < 0F) {
+                // 使用未知字符代替
+                characterWidth = getUnknownCharacterWidth(font);
+            }
+            // 累计文本宽度
+            width = width + characterWidth;
+        }
+        // 返回真实文本宽度
+        return width == 0F ? 0F : fontSize * width / 1000 + (endIndex - beginIndex - 1) * characterSpacing;
+    }
+
+    /**
+     * 获取字形宽度（千分之一单位）
+     * <p>注：依次查找字体与特殊字体的字形宽度表，均不包含时返回{@link GlyphWidthTable#MISSING}</p>
+     *
+     * @param character        字符
+     * @param context          上下文
+     * @param font             字体
+     * @param specialFontNames 获取特殊字体名称
+     * @return 返回字形宽度
+     */
+    public static float getGlyphWidth(char character, Context context, PDFont font, List<String> specialFontNames) {
+        // 计算字符宽度
+        float width = GlyphWidthTable.getCharacterWidth(font, character);
+        // 未包含字形且特殊字体名称不为空
+        if (width < 0F && Objects.nonNull(specialFontNames)) {
+            // 遍历特殊字体
+            for (String specialFontName : specialFontNames) {
+                // 再次计算字符宽度
+                width = GlyphWidthTable.getCharacterWidth(context.getFont(specialFontName), character);
+                // 解析成功
+                if (width >= 0F) {
+                    // 结束
+                    break;
                 }
             }
         }
+        return width;
+    }
 
-        // 返回真实文本宽度
-        return width == 0F ? 0F : fontSize * width / 1000 + (text.length() - 1) * characterSpacing;
+    /**
+     * 获取代理对宽度（千分之一单位）
+     *
+     * @param character        字符
+     * @param next             下一个字符
+     * @param context          上下文
+     * @param specialFontNames 获取特殊字体名称
+     * @return 返回宽度，未解析成功时返回{@link GlyphWidthTable#MISSING}
+     */
+    protected static float getSurrogateWidth(char character, char next, Context context, List<String> specialFontNames) {
+        // 定义字符串
+        String str = String.valueOf(new char[]{character, next});
+        // 遍历特殊字体
+        for (String specialFontName : specialFontNames) {
+            try {
+                // 计算文本宽度
+                return context.getFont(specialFontName).getStringWidth(str);
+            } catch (Exception ignore) {
+                // ignore
+            }
+        }
+        return GlyphWidthTable.MISSING;
+    }
+
+    /**
+     * 获取未知字符宽度（千分之一单位）
+     *
+     * @param font 字体
+     * @return 返回宽度
+     */
+    @SneakyThrows
+    protected static float getUnknownCharacterWidth(PDFont font) {
+        // 计算未知字符宽度
+        float width = GlyphWidthTable.getCharacterWidth(font, Constants.DEFAULT_UNKNOWN_CHARACTER);
+        // 字体不包含未知字符时，沿用字体自身的异常
+        return width < 0F ? font.getCharacterWidth(Constants.DEFAULT_UNKNOWN_CHARACTER) : width;
     }
 
     /**
@@ -313,6 +337,16 @@ public class TextUtil {
      * @return 返回布尔值，true为是，false为否
      */
     public static boolean isEnglishCharacter(Character character) {
+        return isEnglishCharacter(character.charValue());
+    }
+
+    /**
+     * 是否英文字符
+     *
+     * @param character 字符
+     * @return 返回布尔值，true为是，false为否
+     */
+    public static boolean isEnglishCharacter(char character) {
         // 检查字符是否在大写字母范围内
         if (character >= 'A' && character <= 'Z') {
             return true;
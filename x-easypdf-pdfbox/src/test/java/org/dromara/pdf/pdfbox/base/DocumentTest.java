@@ -1,5 +1,6 @@
 package org.dromara.pdf.pdfbox.base;
 
+import org.dromara.pdf.shade.org.apache.pdfbox.cos.COSBase;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDDocument;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPage;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDPageContentStream;
@@ -9,14 +10,20 @@ import org.dromara.pdf.pdfbox.core.base.*;
 import org.dromara.pdf.pdfbox.core.component.Line;
 import org.dromara.pdf.pdfbox.core.component.Textarea;
 import org.dromara.pdf.pdfbox.core.enums.LineStyle;
+import org.dromara.pdf.pdfbox.core.enums.ImageType;
 import org.dromara.pdf.pdfbox.core.enums.PWLength;
+import org.dromara.pdf.pdfbox.core.ext.processor.RenderProcessor;
 import org.dromara.pdf.pdfbox.core.info.CatalogInfo;
 import org.dromara.pdf.pdfbox.handler.PdfHandler;
+import org.dromara.pdf.pdfbox.support.DefaultResourceCache;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Arrays;
@@ -149,6 +156,20 @@ public class DocumentTest extends BaseTest {
         });
     }
 
+    /**
+     * 测试保存选项
+     */
+    @Test
+    public void saveOptionsTest() {
+        this.test(() -> {
+            Document document = this.create(2);
+            document.save("E:\\PDF\\pdfbox\\document\\saveOptionsTest1.pdf", SaveOptions.compact().setParallelism(4));
+            document.save("E:\\PDF\\pdfbox\\document\\saveOptionsTest2.pdf", SaveOptions.defaults().enableStreamCompression().setDeflateLevel(1).setObjectStreamSize(0));
+            document.encryption(true, PWLength.LENGTH_128, "123456", "123456");
+            document.saveAndClose("E:\\PDF\\pdfbox\\document\\saveOptionsTest3.pdf", SaveOptions.compact().setParallelism(4));
+        });
+    }
+
     /**
      * 测试解密
      */
@@ -345,6 +366,92 @@ public class DocumentTest extends BaseTest {
         });
     }
 
+    /**
+     * 测试资源缓存
+     */
+    @Test
+    public void resourceCacheTest() {
+        this.test(() -> {
+            MemoryPolicy policy = MemoryPolicy.setupMainMemoryOnly().enableResourceCache(32, 16, 64);
+            Document document = PdfHandler.getDocumentHandler().load("E:\\PDF\\pdfbox\\document\\test.pdf", policy);
+            RenderProcessor processor = PdfHandler.getDocumentProcessor(document).getRenderProcessor();
+            processor.image("E:\\PDF\\pdfbox\\document\\image", ImageType.PNG);
+            processor.image("E:\\PDF\\pdfbox\\document\\image", ImageType.PNG);
+            DefaultResourceCache cache = (DefaultResourceCache) document.getResourceCache();
+            log.info(cache);
+            Assert.assertTrue(cache.getHitCount() > 0);
+            document.close();
+        });
+    }
+
+    /**
+     * 测试延迟页面
+     */
+    @Test
+    public void lazyPagesTest() {
+        this.test(() -> {
+            Document document = PdfHandler.getDocumentHandler().load("E:\\PDF\\pdfbox\\document\\test.pdf");
+            LazyPageList pages = (LazyPageList) document.getPages();
+            log.info("created pages: " + pages.getCreatedCount() + "/" + pages.size());
+            Assert.assertEquals(document.getTotalPageNumber(), pages.size());
+            Assert.assertEquals(0, (int) document.getPage(0).getIndex());
+            document.close();
+        });
+    }
+
+    /**
+     * 测试延迟页面设置页面（多页文档，未创建的页面需保留）
+     */
+    @Test
+    public void lazyPagesSetPageTest() {
+        this.test(() -> {
+            // 创建多页文档
+            Document source = PdfHandler.getDocumentHandler().create();
+            for (int i = 0; i < 5; i++) {
+                source.appendPage(new Page(source));
+            }
+            byte[] bytes = source.getBytes();
+            source.close();
+
+            Document document = PdfHandler.getDocumentHandler().load(new ByteArrayInputStream(bytes));
+            int count = document.getTarget().getNumberOfPages();
+            Assert.assertEquals(5, count);
+            COSBase last = document.getTarget().getPage(count - 1).getCOSObject();
+            Page page = new Page(document);
+            document.setPage(0, page);
+            Assert.assertEquals(count, document.getTarget().getNumberOfPages());
+            Assert.assertSame(page.getTarget().getCOSObject(), document.getTarget().getPage(0).getCOSObject());
+            Assert.assertSame(last, document.getTarget().getPage(count - 1).getCOSObject());
+            document.save("E:\\PDF\\pdfbox\\document\\lazyPagesSetPageTest.pdf");
+            document.close();
+        });
+    }
+
+    /**
+     * 测试渐进式保存
+     */
+    @Test
+    public void progressiveSaveTest() {
+        this.test(() -> {
+            Document document = PdfHandler.getDocumentHandler().create();
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(Paths.get("E:\\PDF\\pdfbox\\document\\progressiveSaveTest.pdf")))) {
+                ProgressiveWriter writer = document.createProgressiveWriter(outputStream);
+                for (int i = 0; i < 20000; i++) {
+                    Page page = new Page(document);
+                    Textarea textarea = new Textarea(page);
+                    textarea.setText("第" + (i + 1) + "页");
+                    textarea.render();
+                    document.appendPage(page);
+                    // 写出已完成页面
+                    writer.flushCompletedPages();
+                }
+                log.info("flushed pages: " + writer.getFlushedPageCount());
+                writer.finish();
+            }
+            document.close();
+        });
+    }
+
     /**
      * 创建文档
      */
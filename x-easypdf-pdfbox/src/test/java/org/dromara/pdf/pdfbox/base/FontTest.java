@@ -3,10 +3,15 @@ package org.dromara.pdf.pdfbox.base;
 import org.dromara.pdf.pdfbox.core.base.Document;
 import org.dromara.pdf.pdfbox.core.enums.FontType;
 import org.dromara.pdf.pdfbox.handler.PdfHandler;
+import org.dromara.pdf.pdfbox.support.Constants;
+import org.dromara.pdf.pdfbox.support.GlyphWidthTable;
+import org.dromara.pdf.pdfbox.support.PreparedFont;
 import org.dromara.pdf.shade.org.apache.fontbox.ttf.TrueTypeFont;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.PDDocument;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.font.FontInfo;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.font.PDCIDFontType2;
 import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.font.PDFont;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.font.PDType0Font;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -129,4 +134,42 @@ public class FontTest extends BaseTest {
             }
         });
     }
+
+    /**
+     * 测试字形宽度表
+     */
+    @Test
+    public void glyphWidthTableTest() {
+        this.test(() -> {
+            try (Document document = PdfHandler.getDocumentHandler().create()) {
+                PDFont font = PdfHandler.getFontHandler().getPDFont(document.getTarget(), Constants.DEFAULT_FONT_NAME, true);
+                Assert.assertEquals(font.getCharacterWidth('A'), GlyphWidthTable.getCharacterWidth(font, 'A'), 0F);
+                Assert.assertTrue(GlyphWidthTable.contains(font, '测'));
+                Assert.assertFalse(GlyphWidthTable.contains(font, '\uFFFF'));
+                Assert.assertEquals(GlyphWidthTable.MISSING, GlyphWidthTable.getCharacterWidth(font, '\uFFFF'), 0F);
+            }
+        });
+    }
+
+    /**
+     * 测试预处理字体
+     */
+    @Test
+    public void preparedFontTest() {
+        this.test(() -> {
+            PreparedFont preparedFont = PdfHandler.getFontHandler().getPreparedFont(Constants.DEFAULT_FONT_NAME);
+            Assert.assertSame(preparedFont, PdfHandler.getFontHandler().getPreparedFont(Constants.DEFAULT_FONT_NAME));
+            try (PDDocument doc1 = new PDDocument(); PDDocument doc2 = new PDDocument()) {
+                PDType0Font font1 = (PDType0Font) PdfHandler.getFontHandler().getPDFont(doc1, Constants.DEFAULT_FONT_NAME, true);
+                PDType0Font font2 = (PDType0Font) PdfHandler.getFontHandler().getPDFont(doc2, Constants.DEFAULT_FONT_NAME, true);
+                Assert.assertNotSame(font1, font2);
+                Assert.assertSame(preparedFont.getFont(), ((PDCIDFontType2) font1.getDescendantFont()).getTrueTypeFont());
+                Assert.assertSame(preparedFont.getFont(), ((PDCIDFontType2) font2.getDescendantFont()).getTrueTypeFont());
+            }
+            log.info("prepared font: " + preparedFont.getName());
+            Assert.assertSame(preparedFont, PdfHandler.getFontHandler().removePreparedFont(Constants.DEFAULT_FONT_NAME));
+            Assert.assertNotSame(preparedFont, PdfHandler.getFontHandler().getPreparedFont(Constants.DEFAULT_FONT_NAME));
+            log.info("prepared fonts: " + PdfHandler.getFontHandler().getPreparedFonts());
+        });
+    }
 }
@@ -9,6 +9,8 @@ import org.dromara.pdf.pdfbox.core.enums.LineStyle;
 import org.dromara.pdf.pdfbox.core.enums.HorizontalAlignment;
 import org.dromara.pdf.pdfbox.core.enums.VerticalAlignment;
 import org.dromara.pdf.pdfbox.handler.PdfHandler;
+import org.dromara.pdf.pdfbox.support.BarcodeMatrixCache;
+import org.dromara.pdf.pdfbox.support.ImageXObjectCache;
 import org.junit.Test;
 
 /**
@@ -147,4 +149,98 @@ public class BarcodeTest extends BaseTest {
         });
     }
 
+    /**
+     * 测试矢量条形码
+     */
+    @Test
+    public void vectorTest() {
+        this.test(() -> {
+            // 创建文档
+            Document document = PdfHandler.getDocumentHandler().create();
+            // 设置页边距
+            document.setMargin(50F);
+
+            // 创建一个 A4 大小的页面
+            Page page = new Page(document);
+
+            // 创建一个条形码对象
+            Barcode barcode = new Barcode(document.getCurrentPage());
+            // 设置编码类型为 CODE_128
+            barcode.setCodeType(BarcodeType.CODE_128);
+            // 设置条形码宽度为 250
+            barcode.setWidth(250);
+            // 设置条形码高度为 80
+            barcode.setHeight(80);
+            // 设置条形码内容为 "123456789"
+            barcode.setContent("123456789");
+            // 设置条形码下方文字是否显示
+            barcode.setIsShowWords(true);
+            // 设置条形码是否矢量
+            barcode.setIsVector(true);
+            // 渲染条形码
+            barcode.render();
+
+            // 创建二维码对象
+            Barcode qrcode = new Barcode(document.getCurrentPage());
+            // 设置编码类型为 QR_CODE
+            qrcode.setCodeType(BarcodeType.QR_CODE);
+            // 设置宽度
+            qrcode.setWidth(150);
+            // 设置高度
+            qrcode.setHeight(150);
+            // 设置二维码内容
+            qrcode.setContent("https://x-easypdf.cn");
+            // 设置二维码是否矢量
+            qrcode.setIsVector(true);
+            // 渲染二维码
+            qrcode.render();
+
+            // 添加页面
+            document.appendPage(page);
+            // 保存文档
+            document.save("E:\\PDF\\pdfbox\\barcode\\vectorTest.pdf");
+            // 关闭文档
+            document.close();
+        });
+    }
+
+    /**
+     * 测试全局缓存
+     */
+    @Test
+    public void globalCacheTest() {
+        this.test(() -> {
+            for (int i = 0; i < 10; i++) {
+                // 创建文档
+                Document document = PdfHandler.getDocumentHandler().create();
+
+                // 创建一个 A4 大小的页面
+                Page page = new Page(document);
+
+                // 创建一个条形码对象
+                Barcode barcode = new Barcode(document.getCurrentPage());
+                // 设置编码类型为 CODE_128
+                barcode.setCodeType(BarcodeType.CODE_128);
+                // 设置条形码宽度为 250
+                barcode.setWidth(250);
+                // 设置条形码高度为 50
+                barcode.setHeight(50);
+                // 设置条形码内容为 "123456789"
+                barcode.setContent("123456789");
+                // 设置条形码是否缓存
+                barcode.setIsCache(Boolean.TRUE);
+                // 渲染条形码
+                barcode.render();
+
+                // 添加页面
+                document.appendPage(page);
+                // 保存文档
+                document.save("E:\\PDF\\pdfbox\\barcode\\globalCacheTest" + i + ".pdf");
+                // 关闭文档
+                document.close();
+            }
+            log.info(BarcodeMatrixCache.getGlobalCache().toString());
+            log.info(ImageXObjectCache.getGlobalCache().toString());
+        });
+    }
 }
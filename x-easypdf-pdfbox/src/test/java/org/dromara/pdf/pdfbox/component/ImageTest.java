@@ -1,5 +1,6 @@
 package org.dromara.pdf.pdfbox.component;
 
+import org.apache.commons.io.IOUtils;
 import org.dromara.pdf.pdfbox.base.BaseTest;
 import org.dromara.pdf.pdfbox.core.base.Document;
 import org.dromara.pdf.pdfbox.core.base.MemoryPolicy;
@@ -9,12 +10,15 @@ import org.dromara.pdf.pdfbox.core.component.Textarea;
 import org.dromara.pdf.pdfbox.core.enums.HorizontalAlignment;
 import org.dromara.pdf.pdfbox.core.enums.VerticalAlignment;
 import org.dromara.pdf.pdfbox.handler.PdfHandler;
+import org.dromara.pdf.pdfbox.support.ImageTranscoder;
+import org.dromara.pdf.pdfbox.support.ImageXObjectCache;
 import org.junit.Test;
 
 import java.awt.*;
 import java.io.File;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 
 /**
  * @author xsx
@@ -109,6 +113,59 @@ public class ImageTest extends BaseTest {
         });
     }
 
+    /**
+     * 测试全局图像缓存
+     */
+    @Test
+    public void globalCacheTest() {
+        this.test(() -> {
+            for (int i = 0; i < 10; i++) {
+                Document document = PdfHandler.getDocumentHandler().create();
+                document.setMargin(50F);
+
+                Page page = new Page(document);
+
+                Image image = new Image(page);
+                image.setWidth(100);
+                image.setHeight(100);
+                image.setImage(new File("E:\\PDF\\pdfbox\\image\\test.svg"));
+                image.render();
+
+                document.appendPage(page);
+                document.save("E:\\PDF\\pdfbox\\image\\globalCacheTest" + i + ".pdf");
+                document.close();
+            }
+            log.info(ImageXObjectCache.getGlobalCache().toString());
+        });
+    }
+
+    /**
+     * 测试矢量图片
+     */
+    @Test
+    public void vectorTest() {
+        this.test(() -> {
+            File file = new File("E:\\PDF\\pdfbox\\image\\test.svg");
+            ImageTranscoder.getGlobalTranscoder().prefetchVector(Collections.singletonList(IOUtils.toByteArray(file.toURI())), 4);
+
+            Document document = PdfHandler.getDocumentHandler().create();
+            document.setMargin(50F);
+
+            Page page = new Page(document);
+
+            Image image = new Image(page);
+            image.setWidth(200);
+            image.setHeight(200);
+            image.setVectorImage(file);
+            image.render();
+
+            document.appendPage(page);
+            document.save("E:\\PDF\\pdfbox\\image\\vectorTest.pdf");
+            document.close();
+            log.info(ImageTranscoder.getGlobalTranscoder().toString());
+        });
+    }
+
     /**
      * 测试jpeg2000图片
      */
@@ -2,6 +2,7 @@ package org.dromara.pdf.pdfbox.component;
 
 import org.dromara.pdf.pdfbox.base.BaseTest;
 import org.dromara.pdf.pdfbox.core.base.Document;
+import org.dromara.pdf.pdfbox.core.base.MemoryPolicy;
 import org.dromara.pdf.pdfbox.core.base.Page;
 import org.dromara.pdf.pdfbox.core.base.PageHeader;
 import org.dromara.pdf.pdfbox.core.component.*;
@@ -20,6 +21,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.stream.IntStream;
 
 /**
  * @author xsx
@@ -126,6 +128,257 @@ public class TableTest extends BaseTest {
         });
     }
 
+    /**
+     * 合并内容流测试
+     */
+    @Test
+    public void mergeContentStreamTest() {
+        this.test(() -> {
+            // 创建文档
+            Document document = PdfHandler.getDocumentHandler().create();
+            // 开启合并内容流
+            document.setIsMergeContentStream(true);
+
+            // 创建页面
+            Page page = new Page(document);
+
+            // 创建表格
+            Table table = new Table(document.getCurrentPage());
+            // 设置列宽（4列）
+            table.setCellWidths(100F, 100F, 100F, 100F);
+            // 设置显示边框
+            table.setIsBorder(true);
+
+            // 添加行
+            for (int i = 0; i < 2000; i++) {
+                // 创建行
+                TableRow tableRow = new TableRow(table);
+                // 设置行高
+                tableRow.setHeight(20F);
+                // 添加列
+                for (int j = 0; j < 4; j++) {
+                    // 创建文本域
+                    Textarea textarea = new Textarea(table.getPage());
+                    // 设置文本
+                    textarea.setText("第" + i + "行" + "第" + j + "列");
+                    // 创建单元格
+                    TableCell cell = new TableCell(tableRow);
+                    // 设置背景颜色
+                    cell.setBackgroundColor(i % 2 == 0 ? Color.LIGHT_GRAY : Color.WHITE);
+                    // 添加组件
+                    cell.addComponents(textarea);
+                    // 添加单元格
+                    tableRow.addCells(cell);
+                }
+                // 添加行
+                table.addRows(tableRow);
+            }
+
+            // 绘制
+            table.render();
+
+            // 添加页面
+            document.appendPage(page);
+            // 保存文档
+            document.save("E:\\PDF\\pdfbox\\table\\mergeContentStreamTest.pdf");
+            // 关闭文档
+            document.close();
+        });
+    }
+
+    /**
+     * 文本布局缓存测试
+     */
+    @Test
+    public void textLayoutCacheTest() {
+        this.test(() -> {
+            // 创建文档（开启文本布局缓存）
+            Document document = PdfHandler.getDocumentHandler().create(MemoryPolicy.setupMainMemoryOnly().enableTextLayoutCache());
+
+            // 创建页面
+            Page page = new Page(document);
+
+            // 创建表格
+            Table table = new Table(document.getCurrentPage());
+            // 设置列宽（4列）
+            table.setCellWidths(100F, 100F, 100F, 100F);
+            // 设置显示边框
+            table.setIsBorder(true);
+
+            // 重复内容
+            String[] texts = {"N/A", "CNY", "贵州茅台", "爽爽的贵阳，避暑的天堂"};
+            // 添加行
+            for (int i = 0; i < 2000; i++) {
+                // 创建行
+                TableRow tableRow = new TableRow(table);
+                // 设置行高
+                tableRow.setHeight(40F);
+                // 添加列
+                for (int j = 0; j < 4; j++) {
+                    // 创建文本域
+                    Textarea textarea = new Textarea(table.getPage());
+                    // 设置文本
+                    textarea.setText(texts[(i + j) % texts.length]);
+                    // 创建单元格
+                    TableCell cell = new TableCell(tableRow);
+                    // 添加组件
+                    cell.addComponents(textarea);
+                    // 添加单元格
+                    tableRow.addCells(cell);
+                }
+                // 添加行
+                table.addRows(tableRow);
+            }
+
+            // 绘制
+            table.render();
+            // 打印缓存统计
+            log.info(document.getTextLayoutCache());
+
+            // 添加页面
+            document.appendPage(page);
+            // 保存文档
+            document.save("E:\\PDF\\pdfbox\\table\\textLayoutCacheTest.pdf");
+            // 关闭文档
+            document.close();
+        });
+    }
+
+    /**
+     * 虚拟渲染后渲染测试
+     */
+    @Test
+    public void virtualRenderTest() {
+        this.test(() -> {
+            // 创建文档
+            Document document = PdfHandler.getDocumentHandler().create();
+
+            // 创建页面
+            Page page = new Page(document);
+
+            // 创建表格
+            Table table = new Table(document.getCurrentPage());
+            // 设置列宽（3列）
+            table.setCellWidths(100F, 100F, 100F);
+            // 设置显示边框
+            table.setIsBorder(true);
+
+            // 添加行
+            for (int i = 0; i < 500; i++) {
+                // 创建行
+                TableRow tableRow = new TableRow(table);
+                // 设置行高
+                tableRow.setHeight(40F);
+                // 添加列
+                for (int j = 0; j < 3; j++) {
+                    // 创建文本域
+                    Textarea textarea = new Textarea(table.getPage());
+                    // 设置文本
+                    textarea.setText("爽爽的贵阳，避暑的天堂" + i);
+                    // 创建单元格
+                    TableCell cell = new TableCell(tableRow);
+                    // 添加组件
+                    cell.addComponents(textarea);
+                    // 添加单元格
+                    tableRow.addCells(cell);
+                }
+                // 添加行
+                table.addRows(tableRow);
+            }
+
+            // 虚拟渲染（计算高度）
+            table.virtualRender();
+            // 绘制（复用虚拟渲染的文本布局）
+            table.render();
+
+            // 添加页面
+            document.appendPage(page);
+            // 保存文档
+            document.save("E:\\PDF\\pdfbox\\table\\virtualRenderTest.pdf");
+            // 关闭文档
+            document.close();
+        });
+    }
+
+    /**
+     * 流式表格测试
+     */
+    @Test
+    public void streamingTest() {
+        this.test(() -> {
+            // 创建文档
+            Document document = PdfHandler.getDocumentHandler().create();
+
+            // 创建页面
+            Page page = new Page(document);
+
+            // 创建表格
+            Table table = new Table(document.getCurrentPage());
+            // 设置列宽（3列）
+            table.setCellWidths(100F, 100F, 100F);
+            // 设置显示边框
+            table.setIsBorder(true);
+
+            // 创建表头
+            TableHeader header = new TableHeader(table);
+            // 创建表头行
+            TableRow headerRow = new TableRow(table);
+            // 设置行高
+            headerRow.setHeight(40F);
+            // 添加列
+            for (int j = 0; j < 3; j++) {
+                // 创建文本域
+                Textarea textarea = new Textarea(table.getPage());
+                // 设置文本
+                textarea.setText("表头" + j);
+                // 创建单元格
+                TableCell cell = new TableCell(headerRow);
+                // 添加组件
+                cell.addComponents(textarea);
+                // 添加单元格
+                headerRow.addCells(cell);
+            }
+            // 设置表头行
+            header.setRows(headerRow);
+            // 设置表头（分页时重复）
+            table.setHeader(header);
+
+            // 设置行映射（渲染时逐行生成并释放）
+            table.setRowMapper(
+                    IntStream.range(0, 100000).iterator(),
+                    i -> {
+                        // 创建行
+                        TableRow tableRow = new TableRow(table);
+                        // 设置行高
+                        tableRow.setHeight(40F);
+                        // 添加列
+                        for (int j = 0; j < 3; j++) {
+                            // 创建文本域
+                            Textarea textarea = new Textarea(table.getPage());
+                            // 设置文本
+                            textarea.setText("爽爽的贵阳，避暑的天堂" + i);
+                            // 创建单元格
+                            TableCell cell = new TableCell(tableRow);
+                            // 添加组件
+                            cell.addComponents(textarea);
+                            // 添加单元格
+                            tableRow.addCells(cell);
+                        }
+                        return tableRow;
+                    }
+            );
+            // 绘制
+            table.render();
+
+            // 添加页面
+            document.appendPage(page);
+            // 保存文档
+            document.save("E:\\PDF\\pdfbox\\table\\streamingTest.pdf");
+            // 关闭文档
+            document.close();
+        });
+    }
+
     /**
      * 表格测试
      */
@@ -5,15 +5,24 @@ import org.dromara.pdf.pdfbox.core.base.Document;
 import org.dromara.pdf.pdfbox.core.base.InnerDest;
 import org.dromara.pdf.pdfbox.core.base.OuterDest;
 import org.dromara.pdf.pdfbox.core.base.Page;
+import org.dromara.pdf.pdfbox.core.base.config.FontConfiguration;
+import org.dromara.pdf.pdfbox.core.component.TextLineInfo;
 import org.dromara.pdf.pdfbox.core.component.Textarea;
 import org.dromara.pdf.pdfbox.core.enums.FontStyle;
 import org.dromara.pdf.pdfbox.core.enums.HighlightMode;
+import org.dromara.pdf.pdfbox.core.ext.handler.tokenizer.AbstractTokenizer;
+import org.dromara.pdf.pdfbox.core.ext.handler.tokenizer.LineBreaks;
 import org.dromara.pdf.pdfbox.handler.PdfHandler;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.font.PDFont;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.dromara.pdf.shade.org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.Assert;
 import org.junit.Test;
 
 import java.awt.*;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * @author xsx
@@ -637,4 +646,56 @@ public class TextareaTest extends BaseTest {
         });
     }
 
+    /**
+     * 断行测试（标准14字体，宽度取自AFM度量，期望值与原逐行截取算法一致）
+     */
+    @Test
+    public void lineBreaksTest() {
+        this.test(() -> {
+            try (Document document = PdfHandler.getDocumentHandler().create()) {
+                PDFont font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+                FontConfiguration fontConfiguration = new FontConfiguration();
+                fontConfiguration.setFontName(document.getFontName());
+                fontConfiguration.setFontSize(12F);
+                fontConfiguration.setCharacterSpacing(0F);
+                String text = "Hello world, easy pdf! Line breaking keeps words-together where possible.";
+                AbstractTokenizer[] tokenizers = {
+                        PdfHandler.getDocumentTokenizer().standardTokenizer(),
+                        PdfHandler.getDocumentTokenizer().wordsTokenizer(),
+                        PdfHandler.getDocumentTokenizer().characterTokenizer()
+                };
+                String[][] expectedTexts = {
+                        {"Hello ", "world, ", "easy pdf! ", "Line ", "breaking ", "keeps ", "words-together", " where possible."},
+                        {"Hello", "world, easy", "pdf! Line", "breaking", "keeps", "words-together", "where", "possible."},
+                        {"Hello world", ", easy pdf! ", "Line breaki", "ng keeps ", "words-toge", "ther where", " possible."}
+                };
+                float[][] expectedWidths = {
+                        {30.672F, 35.34F, 52.032F, 26.016F, 49.356F, 35.352F, 35.352F, 39.348F},
+                        {27.336F, 57.348F, 42.696F, 42.696F, 42.696F, 42.696F, 42.696F, 47.352F},
+                        {59.34F, 58.704F, 58.692F, 52.032F, 59.352F, 56.688F, 50.688F}
+                };
+                LineBreaks breaks = new LineBreaks();
+                for (int t = 0; t < tokenizers.length; t++) {
+                    AbstractTokenizer tokenizer = tokenizers[t];
+                    tokenizer.setContext(document.getContext());
+                    // 按行拆分
+                    List<TextLineInfo> lines = tokenizer.splitLines(fontConfiguration, font, text, 60F);
+                    Assert.assertEquals(expectedTexts[t].length, lines.size());
+                    for (int i = 0; i < lines.size(); i++) {
+                        Assert.assertEquals(expectedTexts[t][i], lines.get(i).getText());
+                        Assert.assertEquals(expectedWidths[t][i], lines.get(i).getWidth(), 0.001F);
+                    }
+                    // 按偏移断行
+                    breaks.clear();
+                    tokenizer.breakLines(fontConfiguration, font, text, 0, text.length(), 60F, breaks);
+                    Assert.assertEquals(expectedTexts[t].length, breaks.size());
+                    for (int i = 0; i < breaks.size(); i++) {
+                        Assert.assertEquals(expectedTexts[t][i], text.substring(breaks.getBeginIndex(i), breaks.getEndIndex(i)));
+                        Assert.assertEquals(expectedWidths[t][i], breaks.getWidth(i), 0.001F);
+                    }
+                    log.info(tokenizer.getClass().getSimpleName() + ": " + breaks);
+                }
+            }
+        });
+    }
 }
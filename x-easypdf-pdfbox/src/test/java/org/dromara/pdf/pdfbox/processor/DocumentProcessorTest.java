@@ -23,6 +23,7 @@ import org.junit.Test;
 
 import java.awt.*;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
@@ -83,6 +84,93 @@ public class DocumentProcessorTest extends BaseTest {
         });
     }
 
+    /**
+     * 测试文档流式合并
+     */
+    @Test
+    public void streamingMergeTest() {
+        this.test(() -> {
+            try (Document document = PdfHandler.getDocumentHandler().create()) {
+                MergeProcessor processor = PdfHandler.getDocumentProcessor(document).getMergeProcessor();
+                processor.mergeTo(
+                        new File("E:\\PDF\\pdfbox\\processor\\streamingMergeTest.pdf"),
+                        new File("E:\\PDF\\pdfbox\\processor\\2.pdf"),
+                        new File("E:\\PDF\\pdfbox\\processor\\3.pdf")
+                );
+            }
+        });
+    }
+
+    /**
+     * 测试文档流式合并后继续编辑并保存
+     */
+    @Test
+    public void streamingMergeAndSaveTest() {
+        this.test(() -> {
+            try (Document document = PdfHandler.getDocumentHandler().create()) {
+                Page page = new Page(document);
+                Textarea textarea = new Textarea(page);
+                textarea.setText("合并前写入的文本");
+                textarea.render();
+                document.appendPage(page);
+
+                MergeProcessor processor = PdfHandler.getDocumentProcessor(document).getMergeProcessor();
+                processor.mergeTo(
+                        new File("E:\\PDF\\pdfbox\\processor\\streamingMergeAndSaveTest1.pdf"),
+                        new File("E:\\PDF\\pdfbox\\processor\\2.pdf")
+                );
+
+                Page newPage = new Page(document);
+                Textarea newTextarea = new Textarea(newPage);
+                newTextarea.setText("合并后写入的文本");
+                newTextarea.render();
+                document.appendPage(newPage);
+                document.save("E:\\PDF\\pdfbox\\processor\\streamingMergeAndSaveTest2.pdf");
+            }
+        });
+    }
+
+    /**
+     * 测试资源去重
+     */
+    @Test
+    public void deduplicateTest() {
+        this.test(() -> {
+            try (Document document = PdfHandler.getDocumentHandler().create()) {
+                MergeProcessor processor = PdfHandler.getDocumentProcessor(document).getMergeProcessor();
+                processor.enableResourceDeduplication();
+                processor.mergeTo(
+                        new File("E:\\PDF\\pdfbox\\processor\\deduplicateTest1.pdf"),
+                        new File("E:\\PDF\\pdfbox\\processor\\2.pdf"),
+                        new File("E:\\PDF\\pdfbox\\processor\\2.pdf")
+                );
+            }
+            try (Document document = PdfHandler.getDocumentHandler().load("E:\\PDF\\pdfbox\\processor\\mergeTest0.pdf")) {
+                ResourceProcessor processor = PdfHandler.getDocumentProcessor(document).getResourceProcessor();
+                log.info("替换数量：" + processor.deduplicate());
+                document.save("E:\\PDF\\pdfbox\\processor\\deduplicateTest2.pdf");
+            }
+        });
+    }
+
+    /**
+     * 测试文档优化
+     */
+    @Test
+    public void optimizeTest() {
+        this.test(() -> {
+            try (Document document = PdfHandler.getDocumentHandler().load("E:\\PDF\\pdfbox\\processor\\scan.pdf")) {
+                OptimizeProcessor processor = PdfHandler.getDocumentProcessor(document).getOptimizeProcessor();
+                processor.setTargetDpi(150);
+                processor.setJpegQuality(0.7F);
+                processor.setParallelism(4);
+                log.info("移除资源数量：" + processor.removeUnusedResources());
+                log.info("替换图像数量：" + processor.optimizeImages());
+                document.save("E:\\PDF\\pdfbox\\processor\\optimizeTest.pdf");
+            }
+        });
+    }
+
     /**
      * 测试文档拆分
      */
@@ -102,6 +190,22 @@ public class DocumentProcessorTest extends BaseTest {
         });
     }
 
+    /**
+     * 测试文档并行拆分
+     */
+    @Test
+    public void parallelSplitTest() {
+        this.test(() -> {
+            try (Document document = PdfHandler.getDocumentHandler().load("E:\\PDF\\pdfbox\\Pdf1.7.pdf")) {
+                SplitProcessor processor = PdfHandler.getDocumentProcessor(document).getSplitProcessor();
+                processor.setParallelism(4);
+                processor.splitAll("E:\\PDF\\pdfbox\\processor\\split\\all", "page");
+                processor.splitByRanges("E:\\PDF\\pdfbox\\processor\\split\\ranges", "range", new int[]{0, 9}, new int[]{682, 702});
+                processor.splitByBookmark("E:\\PDF\\pdfbox\\processor\\split\\bookmark", "chapter");
+            }
+        });
+    }
+
     /**
      * 测试文档转图片
      */
@@ -4,8 +4,11 @@ import org.dromara.pdf.pdfbox.base.BaseTest;
 import org.dromara.pdf.pdfbox.core.base.Document;
 import org.dromara.pdf.pdfbox.core.base.MemoryPolicy;
 import org.dromara.pdf.pdfbox.core.enums.ImageType;
+import org.dromara.pdf.pdfbox.core.enums.PngFilterType;
 import org.dromara.pdf.pdfbox.core.ext.processor.RenderProcessor;
 import org.dromara.pdf.pdfbox.handler.PdfHandler;
+import org.dromara.pdf.pdfbox.support.ImageEncoder;
+import org.dromara.pdf.pdfbox.support.RenderCache;
 import org.dromara.pdf.pdfbox.util.FileUtil;
 import org.junit.Test;
 
@@ -66,4 +69,100 @@ public class RenderProcessorTest extends BaseTest {
             }
         });
     }
+
+    /**
+     * 测试并行转图片
+     */
+    @Test
+    public void parallelTest() {
+        this.test(() -> {
+            try (
+                    Document document = PdfHandler.getDocumentHandler().load("E:\\PDF\\pdfbox\\document\\bigDataTest2.pdf", MemoryPolicy.setupTempFileOnly())
+            ) {
+                RenderProcessor imager = PdfHandler.getDocumentProcessor(document).getRenderProcessor();
+                imager.setDpi(150F);
+                imager.setParallelism(Runtime.getRuntime().availableProcessors());
+                imager.image("E:\\PDF\\pdfbox\\document\\imager\\parallel", ImageType.PNG);
+            }
+        });
+    }
+
+    /**
+     * 测试合并转图片（流式）
+     */
+    @Test
+    public void mergeTest() {
+        this.test(() -> {
+            try (
+                    Document document = PdfHandler.getDocumentHandler().load("E:\\PDF\\pdfbox\\document\\bigDataTest2.pdf", MemoryPolicy.setupTempFileOnly())
+            ) {
+                RenderProcessor imager = PdfHandler.getDocumentProcessor(document).getRenderProcessor();
+                imager.setDpi(150F);
+                imager.enableVerticalMerge();
+                imager.image("E:\\PDF\\pdfbox\\document\\imager", ImageType.PNG, "vertical");
+                imager.enableHorizontalMerge();
+                imager.image("E:\\PDF\\pdfbox\\document\\imager", ImageType.TIFF, "horizontal");
+            }
+        });
+    }
+
+    /**
+     * 测试图像编码器转图片
+     */
+    @Test
+    public void encoderTest() {
+        this.test(() -> {
+            try (
+                    Document document = PdfHandler.getDocumentHandler().load("E:\\PDF\\pdfbox\\document\\bigDataTest2.pdf", MemoryPolicy.setupTempFileOnly())
+            ) {
+                RenderProcessor imager = PdfHandler.getDocumentProcessor(document).getRenderProcessor();
+                imager.setDpi(150F);
+                imager.setImageEncoder(ImageEncoder.FAST);
+                imager.image("E:\\PDF\\pdfbox\\document\\imager\\fast", ImageType.PNG);
+                imager.setImageEncoder(ImageEncoder.DEFAULT.withPngCompressionLevel(9).withPngFilterType(PngFilterType.PAETH).withJpegQuality(0.8F));
+                imager.image("E:\\PDF\\pdfbox\\document\\imager\\best", ImageType.PNG);
+                imager.image("E:\\PDF\\pdfbox\\document\\imager\\jpeg", ImageType.JPEG);
+            }
+        });
+    }
+
+    /**
+     * 测试分块转图片
+     */
+    @Test
+    public void tileTest() {
+        this.test(() -> {
+            try (
+                    Document document = PdfHandler.getDocumentHandler().load("E:\\PDF\\pdfbox\\document\\bigDataTest2.pdf", MemoryPolicy.setupTempFileOnly());
+                    OutputStream outputStream = Files.newOutputStream(FileUtil.createDirectories(Paths.get("E:\\PDF\\pdfbox\\document\\imager\\tile.tiff")))
+            ) {
+                RenderProcessor imager = PdfHandler.getDocumentProcessor(document).getRenderProcessor();
+                imager.setDpi(600F);
+                imager.setParallelism(Runtime.getRuntime().availableProcessors());
+                imager.imageByTile(0, 512, (x, y, image) -> log.info("tile: " + x + ", " + y + ", " + image.getWidth() + " * " + image.getHeight()));
+                imager.imageByTile(outputStream, 0, 1024);
+            }
+        });
+    }
+
+    /**
+     * 测试渲染缓存
+     */
+    @Test
+    public void cacheTest() {
+        this.test(() -> {
+            RenderCache cache = new RenderCache(Paths.get("E:\\PDF\\pdfbox\\document\\imager\\cache"), 512L * 1024 * 1024, 1000);
+            for (int i = 0; i < 2; i++) {
+                try (
+                        Document document = PdfHandler.getDocumentHandler().load("E:\\PDF\\pdfbox\\document\\bigDataTest2.pdf", MemoryPolicy.setupTempFileOnly())
+                ) {
+                    RenderProcessor imager = PdfHandler.getDocumentProcessor(document).getRenderProcessor();
+                    imager.setDpi(150F);
+                    imager.setRenderCache(cache);
+                    imager.image("E:\\PDF\\pdfbox\\document\\imager\\cache" + i, ImageType.PNG);
+                }
+                log.info(cache);
+            }
+        });
+    }
 }